@@ -49,6 +49,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.jessemull.microflexbiginteger.plate.Plate;
 import com.github.jessemull.microflexbiginteger.plate.Stack;
 import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
 /**
@@ -435,10 +436,6 @@ public class PlateWriter extends PrintWriter {
 	
 	/*---------------------------- Private Fields ----------------------------*/
 	
-	/* Number of character types available for the row ID */
-
-	private int ALPHA_BASE = 26;
-    
     /* The delimiter for delimiter separated values */
     
     private String delimiter = "\t";
@@ -2118,15 +2115,7 @@ public class PlateWriter extends PrintWriter {
      * @return    String    row ID
      */
     private String rowString(int row) {
-
-        String rowString = "";
-        
-        while (row >=  0) {
-            rowString = (char) (row % ALPHA_BASE + 65) + rowString;
-            row = (row  / ALPHA_BASE) - 1;
-        }
-        
-        return rowString;
+        return WellIDCodec.rowString(row);
     }
 	
     /**
@@ -24,11 +24,12 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs addition operations with two arguments for BigInteger 
  * plate stacks, plates, wells and well sets.
@@ -248,10 +249,10 @@ public class Addition extends MathOperationBinary {
 			largest = list2;
 		}
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(smallest.get(i).add(largest.get(i)));
+			this.add(smallest, largest, i, result);
 		}
 
 		for(int i = smallest.size(); i < largest.size(); i++) {
@@ -272,10 +273,10 @@ public class Addition extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
 		
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(list1.get(i).add(list2.get(i)));
+			this.add(list1, list2, i, result);
 		}
 		
 		return result;
@@ -296,7 +297,7 @@ public class Addition extends MathOperationBinary {
 		
 		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		int end1 = begin + length;
 		int end2 = end1;
@@ -306,7 +307,7 @@ public class Addition extends MathOperationBinary {
 		}
 
 		for(int i = begin; i < end1; i++) {
-			result.add(list1.get(i).add(list2.get(i)));
+			this.add(list1, list2, i, result);
 		}
 		
 		for(int i = end1; i < end2; i++) {
@@ -329,10 +330,10 @@ public class Addition extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1,
 			List<BigInteger> list2, int begin, int length) {
 
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < begin + length; i++) {
-			result.add(list1.get(i).add(list2.get(i)));
+			this.add(list1, list2, i, result);
 		}
 		
 		return result;
@@ -347,10 +348,10 @@ public class Addition extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
-		for(BigInteger bd : list) {
-			result.add(bd.add(constant));
+		for(int i = 0; i < list.size(); i++) {
+			this.add(list, i, constant, result);
 		}
 		
 		return result;
@@ -368,10 +369,10 @@ public class Addition extends MathOperationBinary {
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
 		
 		int index;
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < array.length; index++) {
-			result.add(list.get(index).add(array[index]));
+			this.add(list, index, array[index], result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -400,11 +401,11 @@ public class Addition extends MathOperationBinary {
 			int begin, int length) {
 		
 		int index;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(index = begin; index < list.size() && index < array.length && 
 				index < begin + length; index++) {
-			result.add(list.get(index).add(array[index]));
+			this.add(list, index, array[index], result);
 		}
 		
 		for(int i = index; i < list.size() && i < begin + length; i++) {
@@ -431,10 +432,10 @@ public class Addition extends MathOperationBinary {
 		
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < collection.size(); index++) {
-			result.add(list.get(index).add(iter.next()));
+			this.add(list, index, iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -463,14 +464,14 @@ public class Addition extends MathOperationBinary {
 
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 
 	    for(int i = 0; i < begin; i++) {
 	    	iter.next();
 	    }
 
 	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
-			result.add(list.get(index).add(iter.next()));
+			this.add(list, index, iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size() && index < begin + length; i++) {
@@ -495,10 +496,10 @@ public class Addition extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
 
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < array.length; i++) {
-			result.add(list.get(i).add(array[i]));
+			this.add(list, i, array[i], result);
 		}
 		
 		return result;
@@ -518,11 +519,11 @@ public class Addition extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
 			int begin, int length) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < list.size() && i < array.length && 
 				i < begin + length; i++) {
-			result.add(list.get(i).add(array[i]));
+			this.add(list, i, array[i], result);
 		}
 		
 		return result;
@@ -540,10 +541,10 @@ public class Addition extends MathOperationBinary {
 			Collection<BigInteger> collection) {
 	
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < collection.size(); i++) {
-			result.add(list.get(i).add(iter.next()));
+			this.add(list, i, iter.next(), result);
 		}
 		
 		return result;
@@ -563,7 +564,7 @@ public class Addition extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list,
 			Collection<BigInteger> collection, int begin, int length) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
 		Iterator<BigInteger> iter = collection.iterator();
 		
 		for(int i = 0; i < begin; i++) {
@@ -572,10 +573,138 @@ public class Addition extends MathOperationBinary {
 		
 		for(int i = begin; i < list.size() && iter.hasNext() && 
 				i < begin + length; i++) {
-			result.add(list.get(i).add(iter.next()));
+			this.add(list, i, iter.next(), result);
 		} 
 
 		return result;
 	}
+
+	/**
+	 * Adds the two values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.add(value2);
+	}
+
+	/**
+	 * Adds the values in the long arrays. Results outside the range of a long
+	 * are flagged.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			long sum = values1[i] + values2[i];
+			overflow[i] = ((values1[i] ^ sum) & (values2[i] ^ sum)) < 0;
+			result[i] = sum;
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Adds the constant to the values in the long array. Results outside the
+	 * range of a long are flagged.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			long sum = values[i] + constant;
+			overflow[i] = ((values[i] ^ sum) & (constant ^ sum)) < 0;
+			result[i] = sum;
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Appends the sum of the two values to the result. Values that fit in a 
+	 * long are added using primitive arithmetic and the sum is stored as a long
+	 * without creating a big integer. Sums outside the range of a long are 
+	 * calculated using the big integer values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @param    WellData result      the result
+	 */
+	private void add(BigInteger value1, BigInteger value2, WellData result) {
+		
+		if(WellData.fitsLong(value1) && WellData.fitsLong(value2)) {
+			this.add(value1.longValue(), value2.longValue(), result);
+			return;
+		}
+		
+		result.add(value1.add(value2));
+	}
+
+	/**
+	 * Appends the sum of the list values at the index to the result. Values
+	 * held as longs by a hybrid data set are read without creating a big 
+	 * integer.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int index                 the index
+	 * @param    WellData result           the result
+	 */
+	private void add(List<BigInteger> list1, List<BigInteger> list2, int index, WellData result) {
+		
+		if(WellData.isLong(list1, index) && WellData.isLong(list2, index)) {
+			this.add(WellData.getLong(list1, index), WellData.getLong(list2, index), result);
+		} else {
+			this.add(list1.get(index), list2.get(index), result);
+		}
+	}
+
+	/**
+	 * Appends the sum of the list value at the index and the value to the 
+	 * result. List values held as longs by a hybrid data set are read without 
+	 * creating a big integer.
+	 * @param    List<BigInteger> list    the list
+	 * @param    int index                the index
+	 * @param    BigInteger value         the second value
+	 * @param    WellData result          the result
+	 */
+	private void add(List<BigInteger> list, int index, BigInteger value, WellData result) {
+		
+		if(WellData.isLong(list, index) && WellData.fitsLong(value)) {
+			this.add(WellData.getLong(list, index), value.longValue(), result);
+		} else {
+			this.add(list.get(index), value, result);
+		}
+	}
+
+	/**
+	 * Appends the sum of the two longs to the result. Results outside the
+	 * range of a long are calculated using big integers.
+	 * @param    long long1          the first value
+	 * @param    long long2          the second value
+	 * @param    WellData result     the result
+	 */
+	private void add(long long1, long long2, WellData result) {
+		
+		long sum = long1 + long2;
+		
+		if(((long1 ^ sum) & (long2 ^ sum)) >= 0) {
+			result.addLong(sum);
+		} else {
+			result.add(BigInteger.valueOf(long1).add(BigInteger.valueOf(long2)));
+		}
+	}
     
 }
@@ -24,9 +24,10 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs compliment operations with a single argument for BigInteger 
  * plate stacks, plates, wells and well sets. Unary operations can also be 
@@ -46,10 +47,10 @@ public class Compliment extends MathOperationUnary {
      */
     public List<BigInteger> calculate(List<BigInteger> list) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
         
         for(BigInteger bd : list) {
-            result.add(bd.not());
+            this.not(bd, result);
         }
         
         return result;
@@ -62,13 +63,57 @@ public class Compliment extends MathOperationUnary {
      */
     public List<BigInteger> calculate(List<BigInteger> list, int begin, int length) {
         
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
         
         for(int i = begin; i < begin + length; i++) {
-            result.add(list.get(i).not());
+            this.not(list.get(i), result);
         }
         
         return result;
     }
     
+    /**
+     * Returns the compliment of the value.
+     * @param    BigInteger    the value
+     * @return                 the result
+     */
+    public BigInteger calculate(BigInteger value) {
+        return value.not();
+    }
+    
+    /**
+     * Returns the compliment of the values in the long array. The results
+     * cannot overflow.
+     * @param    long[]       the values
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true
+     */
+    protected boolean calculate(long[] values, long[] result, boolean[] overflow, int length) {
+        
+        for(int i = 0; i < length; i++) {
+            result[i] = ~values[i];
+            overflow[i] = false;
+        }
+        
+        return true;
+    }
+
+    /**
+     * Appends the compliment of the value to the result. Values that fit in a
+     * long are complimented using the primitive operator and stored as a long
+     * without creating a big integer.
+     * @param    BigInteger    the value
+     * @param    WellData      the result
+     */
+    private void not(BigInteger value, WellData result) {
+        
+        if(WellData.fitsLong(value)) {
+            result.addLong(~value.longValue());
+        } else {
+            result.add(value.not());
+        }
+    }
+    
 }
@@ -0,0 +1,115 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.github.jessemull.microflexbiginteger.plate.ValueDictionary;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * Applies a single value operation to wells using the dictionary storage mode.
+ * The operation is calculated once for each distinct value used by the wells
+ * and the result codes are stored in a new dictionary shared by every result
+ * well. A translation is used for wells sharing a single source dictionary.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+abstract class DictionaryTranslation {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private ValueDictionary source;                            // Input dictionary
+    private ValueDictionary result = new ValueDictionary();    // Result dictionary
+    private int[] translated = new int[0];                     // Result code + 1 for each input code
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new translation for the dictionary.
+     * @param    ValueDictionary    the input dictionary
+     */
+    DictionaryTranslation(ValueDictionary source) {
+        this.source = source;
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns a new well holding the results for the values between the
+     * indices.
+     * @param    Well    the well
+     * @param    int     beginning index of the subset
+     * @param    int     length of the subset
+     * @return           the result well
+     */
+    Well translate(Well well, int begin, int length) {
+
+        int[] codes = well.codes();
+
+        if(begin < 0 || length < 0 || begin + length > codes.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + begin +
+                    " to " + (begin + length) + " for " + codes.length + " values.");
+        }
+
+        int[] results = new int[length];
+
+        for(int i = 0; i < length; i++) {
+            results[i] = this.translate(codes[begin + i]);
+        }
+
+        return new Well(well.row(), well.column(), this.result, results);
+    }
+
+    /**
+     * Returns the result code for the input code, calculating the result on
+     * the first use of the code.
+     * @param    int    the input code
+     * @return          the result code
+     */
+    private int translate(int code) {
+
+        if(code >= this.translated.length) {
+            this.translated = Arrays.copyOf(this.translated, this.source.size());
+        }
+
+        if(this.translated[code] == 0) {
+            this.translated[code] = this.result.encode(this.calculate(this.source.get(code))) + 1;
+        }
+
+        return this.translated[code] - 1;
+    }
+
+    /**
+     * Performs the operation for a single value.
+     * @param    BigInteger    the value
+     * @return                 the result
+     */
+    protected abstract BigInteger calculate(BigInteger value);
+
+}
@@ -24,11 +24,12 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs division operations with two arguments for BigInteger 
  * plate stacks, plates, wells and well sets.
@@ -249,10 +250,10 @@ public class Division extends MathOperationBinary {
 			largest = list2;
 		}
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(smallest.get(i).divide(largest.get(i)));
+			Divisor.divide(smallest.get(i), largest.get(i), result);
 		}
 
 		for(int i = smallest.size(); i < largest.size(); i++) {
@@ -274,10 +275,10 @@ public class Division extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
 		
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(list1.get(i).divide(list2.get(i)));
+			Divisor.divide(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -299,7 +300,7 @@ public class Division extends MathOperationBinary {
 		
 		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		int end1 = begin + length;
 		int end2 = end1;
@@ -309,7 +310,7 @@ public class Division extends MathOperationBinary {
 		}
 
 		for(int i = begin; i < end1; i++) {
-			result.add(list1.get(i).divide(list2.get(i)));
+			Divisor.divide(list1.get(i), list2.get(i), result);
 		}
 		
 		for(int i = end1; i < end2; i++) {
@@ -332,10 +333,10 @@ public class Division extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1,
 			List<BigInteger> list2, int begin, int length) {
 
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < begin + length; i++) {
-			result.add(list1.get(i).divide(list2.get(i)));
+			Divisor.divide(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -350,10 +351,11 @@ public class Division extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData(list.size());
+		Divisor divisor = new Divisor(constant);
 		
 		for(BigInteger bd : list) {
-			result.add(bd.divide(constant));
+			divisor.divide(bd, result);
 		}
 		
 		return result;
@@ -371,10 +373,10 @@ public class Division extends MathOperationBinary {
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
 		
 		int index;
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < array.length; index++) {
-			result.add(list.get(index).divide(array[index]));
+			Divisor.divide(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -402,11 +404,11 @@ public class Division extends MathOperationBinary {
 			int begin, int length) {
 		
 		int index;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(index = begin; index < list.size() && index < array.length && 
 				index < begin + length; index++) {
-			result.add(list.get(index).divide(array[index]));
+			Divisor.divide(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size() && i < begin + length; i++) {
@@ -433,10 +435,10 @@ public class Division extends MathOperationBinary {
 		
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < collection.size(); index++) {
-			result.add(list.get(index).divide(iter.next()));
+			Divisor.divide(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -465,14 +467,14 @@ public class Division extends MathOperationBinary {
 
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 
 	    for(int i = 0; i < begin; i++) {
 	    	iter.next();
 	    }
 
 	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
-			result.add(list.get(index).divide(iter.next()));
+			Divisor.divide(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size() && index < begin + length; i++) {
@@ -497,10 +499,10 @@ public class Division extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
 
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < array.length; i++) {
-			result.add(list.get(i).divide(array[i]));
+			Divisor.divide(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -519,11 +521,11 @@ public class Division extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
 			int begin, int length) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < list.size() && i < array.length && 
 				i < begin + length; i++) {
-			result.add(list.get(i).divide(array[i]));
+			Divisor.divide(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -541,10 +543,10 @@ public class Division extends MathOperationBinary {
 			Collection<BigInteger> collection) {
 	
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < collection.size(); i++) {
-			result.add(list.get(i).divide(iter.next()));
+			Divisor.divide(list.get(i), iter.next(), result);
 		}
 		
 		return result;
@@ -564,7 +566,7 @@ public class Division extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list,
 			Collection<BigInteger> collection, int begin, int length) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
 		Iterator<BigInteger> iter = collection.iterator();
 		
 		for(int i = 0; i < begin; i++) {
@@ -573,10 +575,58 @@ public class Division extends MathOperationBinary {
 		
 		for(int i = begin; i < list.size() && iter.hasNext() && 
 				i < begin + length; i++) {
-			result.add(list.get(i).divide(iter.next()));
+			Divisor.divide(list.get(i), iter.next(), result);
 		} 
 
 		return result;
 	}
+
+	/**
+	 * Divides the first value by the second value.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.divide(value2);
+	}
+
+	/**
+	 * Divides the values in the first long array by the values in the second
+	 * long array. Results outside the range of a long and results of a division
+	 * by zero are flagged.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			overflow[i] = values2[i] == 0 || (values1[i] == Long.MIN_VALUE && values2[i] == -1);
+			result[i] = overflow[i] ? 0 : values1[i] / values2[i];
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Divides the values in the long array by the constant. Results outside the
+	 * range of a long are flagged. Returns false for a zero constant.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true if the results were calculated
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		return new Divisor(BigInteger.valueOf(constant)).divide(values, result, overflow, length);
+	}
     
 }
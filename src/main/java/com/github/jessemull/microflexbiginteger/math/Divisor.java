@@ -0,0 +1,238 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * Divides values by a divisor that is reused for many dividends, such as the
+ * constant of a division or modulus operation. The divisor is examined once.
+ * Dividends and divisors that fit in a long are divided using primitive
+ * arithmetic and divisors whose magnitude is a power of two are applied using
+ * shifts. All other values are divided using the big integer values. Quotients
+ * are truncated toward zero and remainders take the sign of the dividend, as
+ * for BigInteger.divide() and BigInteger.remainder().
+ *
+ * The results are appended to a hybrid data set, so results within the range
+ * of a long are stored without creating big integers. Division by zero throws
+ * an arithmetic exception for the first dividend.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+final class Divisor {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private final BigInteger divisor;    // The divisor
+    private final boolean primitive;     // True for non-zero divisors fitting in a long
+    private final long value;            // The divisor as a long
+    private final int shift;             // The exponent for powers of two or -1
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new divisor.
+     * @param    BigInteger    the divisor
+     */
+    Divisor(BigInteger divisor) {
+
+        if(divisor == null) {
+            throw new NullPointerException("Divisor is null.");
+        }
+
+        this.divisor = divisor;
+        this.primitive = WellData.fitsLong(divisor) && divisor.signum() != 0;
+        this.value = divisor.longValue();
+
+        long magnitude = Math.abs(this.value);
+
+        this.shift = this.primitive && magnitude > 1 && (magnitude & (magnitude - 1)) == 0 ?
+                Long.numberOfTrailingZeros(magnitude) : -1;
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Appends the quotient of the dividend and the divisor to the result.
+     * @param    BigInteger    the dividend
+     * @param    WellData      the result
+     */
+    void divide(BigInteger dividend, WellData result) {
+
+        if(this.primitive && WellData.fitsLong(dividend)) {
+
+            long value = dividend.longValue();
+
+            if(this.shift > 0) {
+                long quotient = this.shiftQuotient(value);
+                result.addLong(this.value < 0 ? -quotient : quotient);
+                return;
+            }
+
+            if(value != Long.MIN_VALUE || this.value != -1) {
+                result.addLong(value / this.value);
+                return;
+            }
+        }
+
+        result.add(dividend.divide(this.divisor));
+    }
+
+    /**
+     * Appends the remainder of the dividend and the divisor to the result.
+     * @param    BigInteger    the dividend
+     * @param    WellData      the result
+     */
+    void remainder(BigInteger dividend, WellData result) {
+
+        if(this.primitive && WellData.fitsLong(dividend)) {
+
+            long value = dividend.longValue();
+
+            if(this.shift > 0) {
+                result.addLong(value - (this.shiftQuotient(value) << this.shift));
+            } else {
+                result.addLong(value % this.value);
+            }
+
+            return;
+        }
+
+        result.add(dividend.remainder(this.divisor));
+    }
+
+    /**
+     * Divides the values in the long array by the divisor and stores the 
+     * quotients in the result array. The overflow flag is set for each result
+     * that cannot be represented as a long. Returns false and leaves the result
+     * array untouched if the divisor is zero or does not fit in a long.
+     * @param    long[]       the dividends
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    boolean divide(long[] values, long[] result, boolean[] overflow, int length) {
+
+        if(!this.primitive) {
+            return false;
+        }
+
+        for(int i = 0; i < length; i++) {
+
+            if(this.shift > 0) {
+                long quotient = this.shiftQuotient(values[i]);
+                result[i] = this.value < 0 ? -quotient : quotient;
+                overflow[i] = false;
+            } else {
+                overflow[i] = values[i] == Long.MIN_VALUE && this.value == -1;
+                result[i] = overflow[i] ? 0 : values[i] / this.value;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Stores the remainders of the values in the long array and the divisor in
+     * the result array. Returns false and leaves the result array untouched if 
+     * the divisor is zero or does not fit in a long.
+     * @param    long[]       the dividends
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    boolean remainder(long[] values, long[] result, boolean[] overflow, int length) {
+
+        if(!this.primitive) {
+            return false;
+        }
+
+        for(int i = 0; i < length; i++) {
+            result[i] = this.shift > 0 ? values[i] - (this.shiftQuotient(values[i]) << this.shift) :
+                                         values[i] % this.value;
+            overflow[i] = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends the quotient of the dividend and the divisor to the result. Used
+     * for divisors that change with every dividend.
+     * @param    BigInteger    the dividend
+     * @param    BigInteger    the divisor
+     * @param    WellData      the result
+     */
+    static void divide(BigInteger dividend, BigInteger divisor, WellData result) {
+
+        if(WellData.fitsLong(dividend) && WellData.fitsLong(divisor) && divisor.signum() != 0) {
+
+            long value1 = dividend.longValue();
+            long value2 = divisor.longValue();
+
+            if(value1 != Long.MIN_VALUE || value2 != -1) {
+                result.addLong(value1 / value2);
+                return;
+            }
+        }
+
+        result.add(dividend.divide(divisor));
+    }
+
+    /**
+     * Appends the remainder of the dividend and the divisor to the result. Used
+     * for divisors that change with every dividend.
+     * @param    BigInteger    the dividend
+     * @param    BigInteger    the divisor
+     * @param    WellData      the result
+     */
+    static void remainder(BigInteger dividend, BigInteger divisor, WellData result) {
+
+        if(WellData.fitsLong(dividend) && WellData.fitsLong(divisor) && divisor.signum() != 0) {
+            result.addLong(dividend.longValue() % divisor.longValue());
+            return;
+        }
+
+        result.add(dividend.remainder(divisor));
+    }
+
+    /**
+     * Returns the quotient of the value and the magnitude of a power of two
+     * divisor rounded toward zero. Negative values are biased by the divisor
+     * minus one before the arithmetic shift.
+     * @param    long    the value
+     * @return           the quotient
+     */
+    private long shiftQuotient(long value) {
+        return (value + ((value >> 63) >>> (64 - this.shift))) >> this.shift;
+    }
+
+}
@@ -0,0 +1,976 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
+import com.github.jessemull.microflexbiginteger.plate.WellSet;
+
+/**
+ * This class builds lazy expressions over BigInteger plate stacks, plates and
+ * well sets using the existing math operations. Building an expression performs
+ * no arithmetic. Evaluating an expression walks the wells once and calculates
+ * every operation in the expression for each value of a well before moving on
+ * to the next value, so only the wells of the final result are allocated:
+ *
+ * <pre>
+ *    Plate normalized = Expression.of(plate)
+ *                                 .subtract(Expression.of(blank))
+ *                                 .multiply(scale)
+ *                                 .divide(Expression.of(control))
+ *                                 .plates();
+ * </pre>
+ *
+ * Standard evaluation is equal to applying each operation in turn using the
+ * standard methods of the operations. Values of the longer well without a
+ * match in the shorter well are calculated as by the list methods of the
+ * operation and wells missing from one of the operands are passed through
+ * unchanged. Strict evaluation omits missing values and wells and is equal to
+ * applying each operation in turn using the strict methods of the operations.
+ * Expressions are immutable and a sub expression can be shared by several
+ * expressions.
+ *
+ * Expressions holding a stack are evaluated one plate at a time using the
+ * stacks methods. Plates and well sets in an expression holding a stack are
+ * combined with every plate in the stack.
+ *
+ * Operations without a single value implementation fall back to the list
+ * implementation for every value. All the operations in the library provide a
+ * single value implementation.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public abstract class Expression {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Operations used by the convenience methods */
+
+    private static final Addition ADDITION = new Addition();
+    private static final Subtraction SUBTRACTION = new Subtraction();
+    private static final Multiplication MULTIPLICATION = new Multiplication();
+    private static final Division DIVISION = new Division();
+    private static final Modulus MODULUS = new Modulus();
+    private static final AND AND = new AND();
+    private static final OR OR = new OR();
+    private static final XOR XOR = new XOR();
+    private static final LeftShift LEFT_SHIFT = new LeftShift();
+    private static final RightShift RIGHT_SHIFT = new RightShift();
+    private static final Increment INCREMENT = new Increment();
+    private static final Decrement DECREMENT = new Decrement();
+    private static final Compliment COMPLIMENT = new Compliment();
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Expressions are created using the factory and operation methods.
+     */
+    private Expression() {}
+
+    /* --------------------------- Factory Methods -------------------------- */
+
+    /**
+     * Returns an expression holding the wells of the plate.
+     * @param    Plate    the plate
+     * @return            the expression
+     */
+    public static Expression of(Plate plate) {
+
+        if(plate == null) {
+            throw new NullPointerException("Plate is null.");
+        }
+
+        return new Source(plate, null, null);
+    }
+
+    /**
+     * Returns an expression holding the wells of the well set.
+     * @param    WellSet    the well set
+     * @return              the expression
+     */
+    public static Expression of(WellSet set) {
+
+        if(set == null) {
+            throw new NullPointerException("Well set is null.");
+        }
+
+        return new Source(null, set, null);
+    }
+
+    /**
+     * Returns an expression holding the plates of the stack.
+     * @param    Stack    the stack
+     * @return            the expression
+     */
+    public static Expression of(Stack stack) {
+
+        if(stack == null) {
+            throw new NullPointerException("Stack is null.");
+        }
+
+        return new Source(null, null, stack);
+    }
+
+    /* -------------------------- Operation Methods ------------------------- */
+
+    /**
+     * Returns an expression applying the operation to this expression and the
+     * input expression.
+     * @param    MathOperationBinary    the operation
+     * @param    Expression             the second operand
+     * @return                          the expression
+     */
+    public Expression apply(MathOperationBinary operation, Expression expression) {
+
+        if(operation == null) {
+            throw new NullPointerException("Operation is null.");
+        }
+
+        if(expression == null) {
+            throw new NullPointerException("Expression is null.");
+        }
+
+        return new Binary(operation, this, expression);
+    }
+
+    /**
+     * Returns an expression applying the operation to this expression and the
+     * constant.
+     * @param    MathOperationBinary    the operation
+     * @param    BigInteger             the constant
+     * @return                          the expression
+     */
+    public Expression apply(MathOperationBinary operation, BigInteger constant) {
+
+        if(operation == null) {
+            throw new NullPointerException("Operation is null.");
+        }
+
+        if(constant == null) {
+            throw new NullPointerException("Constant is null.");
+        }
+
+        return new Constant(operation, this, constant);
+    }
+
+    /**
+     * Returns an expression applying the operation to this expression.
+     * @param    MathOperationUnary    the operation
+     * @return                         the expression
+     */
+    public Expression apply(MathOperationUnary operation) {
+
+        if(operation == null) {
+            throw new NullPointerException("Operation is null.");
+        }
+
+        return new Unary(operation, this);
+    }
+
+    /**
+     * Returns an expression applying the shift operation to this expression.
+     * @param    MathOperationShift    the operation
+     * @param    int                   number of bits to shift
+     * @return                         the expression
+     */
+    public Expression apply(MathOperationShift operation, int n) {
+
+        if(operation == null) {
+            throw new NullPointerException("Operation is null.");
+        }
+
+        return new Shift(operation, this, n);
+    }
+
+    /**
+     * Adds the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression add(Expression expression) {
+        return this.apply(ADDITION, expression);
+    }
+
+    /**
+     * Adds the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression add(BigInteger constant) {
+        return this.apply(ADDITION, constant);
+    }
+
+    /**
+     * Subtracts the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression subtract(Expression expression) {
+        return this.apply(SUBTRACTION, expression);
+    }
+
+    /**
+     * Subtracts the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression subtract(BigInteger constant) {
+        return this.apply(SUBTRACTION, constant);
+    }
+
+    /**
+     * Multiplies by the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression multiply(Expression expression) {
+        return this.apply(MULTIPLICATION, expression);
+    }
+
+    /**
+     * Multiplies by the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression multiply(BigInteger constant) {
+        return this.apply(MULTIPLICATION, constant);
+    }
+
+    /**
+     * Divides by the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression divide(Expression expression) {
+        return this.apply(DIVISION, expression);
+    }
+
+    /**
+     * Divides by the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression divide(BigInteger constant) {
+        return this.apply(DIVISION, constant);
+    }
+
+    /**
+     * Returns the modulus using the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression mod(Expression expression) {
+        return this.apply(MODULUS, expression);
+    }
+
+    /**
+     * Returns the modulus using the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression mod(BigInteger constant) {
+        return this.apply(MODULUS, constant);
+    }
+
+    /**
+     * Returns the logical AND with the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression and(Expression expression) {
+        return this.apply(AND, expression);
+    }
+
+    /**
+     * Returns the logical AND with the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression and(BigInteger constant) {
+        return this.apply(AND, constant);
+    }
+
+    /**
+     * Returns the logical OR with the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression or(Expression expression) {
+        return this.apply(OR, expression);
+    }
+
+    /**
+     * Returns the logical OR with the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression or(BigInteger constant) {
+        return this.apply(OR, constant);
+    }
+
+    /**
+     * Returns the logical XOR with the input expression.
+     * @param    Expression    the expression
+     * @return                 the expression
+     */
+    public Expression xor(Expression expression) {
+        return this.apply(XOR, expression);
+    }
+
+    /**
+     * Returns the logical XOR with the constant.
+     * @param    BigInteger    the constant
+     * @return                 the expression
+     */
+    public Expression xor(BigInteger constant) {
+        return this.apply(XOR, constant);
+    }
+
+    /**
+     * Shifts the values n bits to the left.
+     * @param    int    number of bits to shift
+     * @return          the expression
+     */
+    public Expression leftShift(int n) {
+        return this.apply(LEFT_SHIFT, n);
+    }
+
+    /**
+     * Shifts the values n bits to the right.
+     * @param    int    number of bits to shift
+     * @return          the expression
+     */
+    public Expression rightShift(int n) {
+        return this.apply(RIGHT_SHIFT, n);
+    }
+
+    /**
+     * Increments the values.
+     * @return    the expression
+     */
+    public Expression increment() {
+        return this.apply(INCREMENT);
+    }
+
+    /**
+     * Decrements the values.
+     * @return    the expression
+     */
+    public Expression decrement() {
+        return this.apply(DECREMENT);
+    }
+
+    /**
+     * Returns the compliment of the values.
+     * @return    the expression
+     */
+    public Expression compliment() {
+        return this.apply(COMPLIMENT);
+    }
+
+    /* -------------------------- Evaluation Methods ------------------------ */
+
+    /**
+     * Evaluates an expression holding plates and well sets. Missing values and
+     * wells are treated as described for the standard operation methods.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds a stack
+     */
+    public WellSet sets() {
+        return new Program(this, false).sets();
+    }
+
+    /**
+     * Evaluates an expression holding plates and well sets. Missing values and
+     * wells are omitted.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds a stack
+     */
+    public WellSet setsStrict() {
+        return new Program(this, true).sets();
+    }
+
+    /**
+     * Evaluates an expression holding at least one plate. The result has the
+     * dimensions of the first plate in the expression and the groups of every
+     * plate in the expression.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds a stack or no plates
+     */
+    public Plate plates() {
+        return new Program(this, false).plates();
+    }
+
+    /**
+     * Evaluates an expression holding at least one plate. Missing values and
+     * wells are omitted.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds a stack or no plates
+     */
+    public Plate platesStrict() {
+        return new Program(this, true).plates();
+    }
+
+    /**
+     * Evaluates an expression holding at least one stack. Plates missing from
+     * the shorter stacks are treated as empty plates.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds no stacks
+     */
+    public Stack stacks() {
+        return new Program(this, false).stacks();
+    }
+
+    /**
+     * Evaluates an expression holding at least one stack. Plates missing from
+     * one of the stacks are omitted.
+     * @return    the result
+     * @throws    IllegalStateException    the expression holds no stacks
+     */
+    public Stack stacksStrict() {
+        return new Program(this, true).stacks();
+    }
+
+    /* ---------------------------- Node Classes ---------------------------- */
+
+    /**
+     * Returns the operands of the expression.
+     * @return    the operands
+     */
+    abstract Expression[] operands();
+
+    /**
+     * A plate, well set or stack.
+     */
+    private static final class Source extends Expression {
+
+        private final Plate plate;
+        private final WellSet set;
+        private final Stack stack;
+
+        Source(Plate plate, WellSet set, Stack stack) {
+            this.plate = plate;
+            this.set = set;
+            this.stack = stack;
+        }
+
+        Expression[] operands() {
+            return new Expression[0];
+        }
+    }
+
+    /**
+     * A binary operation using two expressions.
+     */
+    private static final class Binary extends Expression {
+
+        private final MathOperationBinary operation;
+        private final Expression left;
+        private final Expression right;
+
+        Binary(MathOperationBinary operation, Expression left, Expression right) {
+            this.operation = operation;
+            this.left = left;
+            this.right = right;
+        }
+
+        Expression[] operands() {
+            return new Expression[]{ this.left, this.right };
+        }
+    }
+
+    /**
+     * A binary operation using an expression and a constant.
+     */
+    private static final class Constant extends Expression {
+
+        private final MathOperationBinary operation;
+        private final Expression operand;
+        private final BigInteger constant;
+
+        Constant(MathOperationBinary operation, Expression operand, BigInteger constant) {
+            this.operation = operation;
+            this.operand = operand;
+            this.constant = constant;
+        }
+
+        Expression[] operands() {
+            return new Expression[]{ this.operand };
+        }
+    }
+
+    /**
+     * A unary operation.
+     */
+    private static final class Unary extends Expression {
+
+        private final MathOperationUnary operation;
+        private final Expression operand;
+
+        Unary(MathOperationUnary operation, Expression operand) {
+            this.operation = operation;
+            this.operand = operand;
+        }
+
+        Expression[] operands() {
+            return new Expression[]{ this.operand };
+        }
+    }
+
+    /**
+     * A shift operation.
+     */
+    private static final class Shift extends Expression {
+
+        private final MathOperationShift operation;
+        private final Expression operand;
+        private final int n;
+
+        Shift(MathOperationShift operation, Expression operand, int n) {
+            this.operation = operation;
+            this.operand = operand;
+            this.n = n;
+        }
+
+        Expression[] operands() {
+            return new Expression[]{ this.operand };
+        }
+    }
+
+    /* ---------------------------- Program Class --------------------------- */
+
+    /**
+     * The expression flattened into an array of nodes ordered so that every
+     * node follows its operands. Shared sub expressions appear once. For each
+     * well the program calculates the length of every node and then the value
+     * of every node one index at a time. A node length of -1 marks a missing
+     * well and a null value marks a missing data point.
+     */
+    private static final class Program {
+
+        /* Binary node modes for a single well */
+
+        private static final byte BOTH = 0;    // Both operands hold the well
+        private static final byte LEFT = 1;    // Only the left operand holds the well
+        private static final byte RIGHT = 2;   // Only the right operand holds the well
+        private static final byte SWAP = 3;    // Both hold the well, the shorter right operand first
+
+        private final boolean strict;
+        private final List<Expression> nodes = new ArrayList<Expression>();
+        private final List<Source> sources = new ArrayList<Source>();
+        private final int[][] operands;
+        private final int[] sourceIndex;
+
+        /* Per well state */
+
+        private final List<List<BigInteger>> data;
+        private final int[] lengths;
+        private final byte[] modes;
+        private final BigInteger[] values;
+
+        /**
+         * Flattens the expression.
+         * @param    Expression    the expression
+         * @param    boolean       true for strict evaluation
+         */
+        Program(Expression root, boolean strict) {
+
+            this.strict = strict;
+
+            Map<Expression, Integer> ids = new IdentityHashMap<Expression, Integer>();
+            this.flatten(root, ids);
+
+            int size = this.nodes.size();
+
+            this.operands = new int[size][];
+            this.sourceIndex = new int[size];
+
+            for(int i = 0; i < size; i++) {
+
+                Expression node = this.nodes.get(i);
+                Expression[] children = node.operands();
+
+                this.operands[i] = new int[children.length];
+
+                for(int j = 0; j < children.length; j++) {
+                    this.operands[i][j] = ids.get(children[j]);
+                }
+
+                this.sourceIndex[i] = node instanceof Source ? this.sources.indexOf(node) : -1;
+            }
+
+            this.data = new ArrayList<List<BigInteger>>(
+                    Collections.nCopies(this.sources.size(), (List<BigInteger>) null));
+            this.lengths = new int[size];
+            this.modes = new byte[size];
+            this.values = new BigInteger[size];
+        }
+
+        /**
+         * Adds the node and its operands to the program in post order.
+         * @param    Expression                  the node
+         * @param    Map<Expression, Integer>    the node ids
+         */
+        private void flatten(Expression node, Map<Expression, Integer> ids) {
+
+            if(ids.containsKey(node)) {
+                return;
+            }
+
+            for(Expression operand : node.operands()) {
+                this.flatten(operand, ids);
+            }
+
+            ids.put(node, this.nodes.size());
+            this.nodes.add(node);
+
+            if(node instanceof Source) {
+                this.sources.add((Source) node);
+            }
+        }
+
+        /**
+         * Evaluates an expression holding plates and well sets.
+         * @return    the result
+         */
+        WellSet sets() {
+
+            WellSet[] sets = new WellSet[this.sources.size()];
+
+            for(int i = 0; i < sets.length; i++) {
+
+                Source source = this.sources.get(i);
+
+                if(source.stack != null) {
+                    throw new IllegalStateException("Expressions holding a stack must be " +
+                            "evaluated using the stack methods.");
+                }
+
+                sets[i] = source.plate != null ? source.plate.dataSet() : source.set;
+            }
+
+            return this.evaluate(sets);
+        }
+
+        /**
+         * Evaluates an expression holding plates and well sets.
+         * @return    the result
+         */
+        Plate plates() {
+
+            WellSet set = this.sets();
+            Plate result = null;
+
+            for(Source source : this.sources) {
+
+                if(source.plate == null) {
+                    continue;
+                }
+
+                if(result == null) {
+                    result = new Plate(source.plate.rows(), source.plate.columns());
+                }
+
+                for(WellSet group : source.plate.allGroups()) {
+                    result.addGroups(group.wellList());
+                }
+            }
+
+            if(result == null) {
+                throw new IllegalStateException("The expression does not hold a plate.");
+            }
+
+            result.addWells(set);
+
+            return result;
+        }
+
+        /**
+         * Evaluates an expression holding stacks one plate at a time.
+         * @return    the result
+         */
+        Stack stacks() {
+
+            List<List<Plate>> stacks = new ArrayList<List<Plate>>();
+            Stack result = null;
+            int count = -1;
+
+            for(Source source : this.sources) {
+
+                if(source.stack == null) {
+                    stacks.add(null);
+                    continue;
+                }
+
+                List<Plate> plates = new ArrayList<Plate>(source.stack.size());
+
+                for(Plate plate : source.stack) {
+                    plates.add(plate);
+                }
+
+                stacks.add(plates);
+
+                if(result == null) {
+                    result = new Stack(source.stack.rows(), source.stack.columns());
+                    count = plates.size();
+                } else {
+                    count = this.strict ? Math.min(count, plates.size()) : Math.max(count, plates.size());
+                }
+            }
+
+            if(result == null) {
+                throw new IllegalStateException("The expression does not hold a stack.");
+            }
+
+            for(int i = 0; i < count; i++) {
+
+                WellSet[] sets = new WellSet[this.sources.size()];
+                Plate first = null;
+                List<Plate> plates = new ArrayList<Plate>();
+
+                for(int j = 0; j < sets.length; j++) {
+
+                    Source source = this.sources.get(j);
+                    List<Plate> stack = stacks.get(j);
+                    Plate plate = source.plate;
+
+                    if(stack != null) {
+                        plate = i < stack.size() ? stack.get(i) : null;
+                    }
+
+                    if(plate != null) {
+                        plates.add(plate);
+                        first = first == null && stack != null ? plate : first;
+                    }
+
+                    sets[j] = plate != null ? plate.dataSet() : source.set != null ? source.set : new WellSet();
+                }
+
+                first = first == null ? plates.get(0) : first;
+
+                Plate resultPlate = new Plate(first.rows(), first.columns());
+
+                for(Plate plate : plates) {
+                    for(WellSet group : plate.allGroups()) {
+                        resultPlate.addGroups(group.wellList());
+                    }
+                }
+
+                resultPlate.addWells(this.evaluate(sets));
+                result.add(resultPlate);
+            }
+
+            return result;
+        }
+
+        /**
+         * Evaluates the program for every well index found in the sets.
+         * @param    WellSet[]    the well set for each source
+         * @return                the result
+         */
+        private WellSet evaluate(WellSet[] sets) {
+
+            Map<Long, Well[]> wells = new TreeMap<Long, Well[]>();
+
+            for(int i = 0; i < sets.length; i++) {
+
+                for(Well well : sets[i]) {
+
+                    Long key = WellIDCodec.key(well.row(), well.column());
+                    Well[] row = wells.get(key);
+
+                    if(row == null) {
+                        row = new Well[sets.length];
+                        wells.put(key, row);
+                    }
+
+                    row[i] = well;
+                }
+            }
+
+            WellSet result = new WellSet();
+
+            for(Well[] row : wells.values()) {
+
+                Well index = null;
+
+                for(int i = 0; i < row.length; i++) {
+                    this.data.set(i, row[i] == null ? null : row[i].data());
+                    index = index == null ? row[i] : index;
+                }
+
+                List<BigInteger> list = this.evaluate();
+
+                if(list != null) {
+                    result.add(new Well(index.row(), index.column(), list));
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * Evaluates the program for the current well.
+         * @return    the result values or null if the result well is missing
+         */
+        private List<BigInteger> evaluate() {
+
+            int size = this.nodes.size();
+
+            for(int i = 0; i < size; i++) {
+                this.lengths[i] = this.length(i);
+            }
+
+            int length = this.lengths[size - 1];
+
+            if(length < 0) {
+                return null;
+            }
+
+            List<BigInteger> result = new ArrayList<BigInteger>(length);
+
+            for(int index = 0; index < length; index++) {
+
+                for(int i = 0; i < size; i++) {
+                    this.values[i] = index < this.lengths[i] ? this.value(i, index) : null;
+                }
+
+                result.add(this.values[size - 1]);
+            }
+
+            return result;
+        }
+
+        /**
+         * Returns the length of the node for the current well or -1 if the node
+         * is missing. Sets the mode of binary nodes.
+         * @param    int    the node
+         * @return          the length
+         */
+        private int length(int node) {
+
+            int[] operands = this.operands[node];
+
+            if(operands.length == 0) {
+                List<BigInteger> list = this.data.get(this.sourceIndex[node]);
+                return list == null ? -1 : list.size();
+            }
+
+            int left = this.lengths[operands[0]];
+
+            if(operands.length == 1) {
+                return left;
+            }
+
+            int right = this.lengths[operands[1]];
+
+            if(left < 0 || right < 0) {
+
+                if(this.strict) {
+                    return -1;
+                }
+
+                this.modes[node] = left < 0 ? RIGHT : LEFT;
+
+                return Math.max(left, right);
+            }
+
+            /* The list operations may apply the shorter data set first */
+
+            MathOperationBinary operation = ((Binary) this.nodes.get(node)).operation;
+            this.modes[node] = !this.strict && left > right && operation.shorterFirst() ? SWAP : BOTH;
+
+            return this.strict ? Math.min(left, right) : Math.max(left, right);
+        }
+
+        /**
+         * Returns the value of the node at the index for the current well.
+         * @param    int    the node
+         * @param    int    the index
+         * @return          the value
+         */
+        private BigInteger value(int node, int index) {
+
+            Expression expression = this.nodes.get(node);
+            int[] operands = this.operands[node];
+
+            if(expression instanceof Source) {
+                return this.data.get(this.sourceIndex[node]).get(index);
+            }
+
+            BigInteger operand = this.values[operands[0]];
+
+            if(expression instanceof Constant) {
+                Constant constant = (Constant) expression;
+                return constant.operation.calculate(operand, constant.constant);
+            }
+
+            if(expression instanceof Unary) {
+                return ((Unary) expression).operation.calculate(operand);
+            }
+
+            if(expression instanceof Shift) {
+                Shift shift = (Shift) expression;
+                return shift.operation.calculate(operand, shift.n);
+            }
+
+            BigInteger right = this.values[operands[1]];
+
+            if(this.modes[node] == LEFT) {
+                return operand;
+            }
+
+            if(this.modes[node] == RIGHT) {
+                return right;
+            }
+
+            MathOperationBinary operation = ((Binary) expression).operation;
+
+            if(right == null) {
+                return operation.calculateUnmatched(operand);
+            }
+
+            if(operand == null) {
+                return operation.calculateUnmatched(right);
+            }
+
+            return this.modes[node] == SWAP ? 
+                   operation.calculate(right, operand) : operation.calculate(operand, right);
+        }
+    }
+
+}
@@ -0,0 +1,730 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * This class calculates the greatest common divisor of two arguments for 
+ * BigInteger plate stacks, plates, wells and well sets. The result is always
+ * non-negative and the greatest common divisor of zero and zero is zero.
+ * 
+ * Values that fit in a long are reduced using the binary GCD algorithm without
+ * creating big integers. Values wider than a long combined with a constant that
+ * fits in a long are first reduced modulo the constant, so only one big integer
+ * operation is needed. The results are identical to BigInteger.gcd().
+ * 
+ * Operations can be performed on stacks, plates, sets or wells of uneven length
+ * using standard or strict functions. Standard functions treat all values missing
+ * from a data set as zeroes and combine all stacks, plates, sets and wells from 
+ * both input objects. Strict functions omit all values, stacks, plates, wells 
+ * and sets missing from one of the input objects:
+ * 
+ * <table cellspacing="10px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Operation<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Output</div></th>
+ *    <tr>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Standard</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Treats missing values as zeroes</td>
+ *             </tr>
+ *             <tr>
+ *                <td>Combines stacks, plates, sets, wells and values from both input objects</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *    </tr>
+ *    <tr>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Strict</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Omits all missing values</td>
+ *             </tr>
+ *              <tr>
+ *                <td>Combines stacks, plates, sets, wells and values present in both input objects only</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *    </tr>
+ * </table>
+ * 
+ * The functions within the MicroFlex library are designed to be flexible and classes 
+ * extending the math operation binary object support operations using two stacks, 
+ * plates, sets and well objects as input. In addition, they support operations using 
+ * a single stack, plate, set or well object and a collection, array or constant, and
+ * also allow the developer to limit the operation to a subset of data:
+ * 
+ * <table cellspacing="10px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Input 1<br><div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Input 2</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Beginning<br>Index</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Length of<br>Subset</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Operation</div></th>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Well</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the two wells</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in the well</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in the well</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant value and each value in the well</td>
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Set</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in the two sets</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of the set</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of the set</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of the set</td> 
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Plate</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in the two plates</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of the plate</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of the plate</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of the plate</td>
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Stack</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in each matching plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of each plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of each plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of each plate in the stack</td>
+ *    </tr>
+ * </table>
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class GCD extends MathOperationBinary {
+	
+	/**
+	 * Calculates the greatest common divisors of the values in the first list
+	 * and the values in the second list and returns the result. Missing data
+	 * points due to uneven list lengths are treated as zeroes.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		List<BigInteger> largest = null;
+		List<BigInteger> smallest = null;
+		
+		if(list1.size() != list2.size()) {
+			largest = list1.size() > list2.size() ? list1 : list2;
+			smallest = list1.size() < list2.size() ? list1 : list2;
+		} else {
+			smallest = list1;
+			largest = list2;
+		}
+		
+		WellData result = new WellData();
+
+		for(int i = 0; i < smallest.size(); i++) {
+			this.gcd(smallest.get(i), largest.get(i), result);
+		}
+
+		for(int i = smallest.size(); i < largest.size(); i++) {
+			result.add(this.calculateUnmatched(largest.get(i)));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the first list
+	 * and the values in the second list and returns the result. Missing data
+	 * points due to uneven list lengths are omitted.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
+		WellData result = new WellData();
+		
+		for(int i = 0; i < smallest.size(); i++) {
+			this.gcd(list1.get(i), list2.get(i), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the first list
+	 * and the values in the second list using the values between the indices.
+	 * Missing data points due to uneven list lengths are treated as zeroes.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int begin                 beginning index of the subset
+	 * @param    int length                length of the subset
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list1, List<BigInteger> list2, int begin, int length) {
+
+		
+		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
+		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
+		WellData result = new WellData();
+
+		int end1 = begin + length;
+		int end2 = end1;
+		
+		if(end1 > smallest.size()) {
+			end1 = smallest.size();
+		}
+
+		for(int i = begin; i < end1; i++) {
+			this.gcd(list1.get(i), list2.get(i), result);
+		}
+		
+		for(int i = end1; i < end2; i++) {
+			result.add(this.calculateUnmatched(largest.get(i)));
+	    }
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the first list
+	 * and the values in the second list using the values between the indices.
+	 * Missing data points due to uneven list lengths are omitted.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int begin                 beginning index of the subset
+	 * @param    int length                length of the subset
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list1,
+			List<BigInteger> list2, int begin, int length) {
+
+		WellData result = new WellData();
+		
+		for(int i = begin; i < begin + length; i++) {
+			this.gcd(list1.get(i), list2.get(i), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the list and the
+	 * constant. Values wider than a long are reduced modulo a constant that fits
+	 * in a long first.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger constant      the constant value
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
+		
+		WellData result = new WellData(list.size());
+		BigInteger divisor = constant.abs();
+		boolean primitive = WellData.fitsLong(divisor) && divisor.signum() != 0;
+		
+		for(BigInteger bd : list) {
+			this.gcd(primitive && !WellData.fitsLong(bd) ? bd.mod(divisor) : bd, divisor, result);
+		}
+		
+		return result;
+		
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the array. Missing data points due to uneven list and array sizes
+	 * are treated as zeroes.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
+		
+		int index;
+	    WellData result = new WellData();
+	
+		for(index = 0; index < list.size() && index < array.length; index++) {
+			this.gcd(list.get(index), array[index], result);
+		}
+		
+		for(int i = index; i < list.size(); i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		for(int i = index; i < array.length; i++) {
+			result.add(this.calculateUnmatched(array[i]));
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the array between the indices. Missing data points due to uneven
+	 * list and array sizes are treated as zeroes.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @param    int begin                beginning index of the subset
+	 * @param    int length               length of the subset
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array,
+			int begin, int length) {
+		
+		int index;
+		WellData result = new WellData();
+		
+		for(index = begin; index < list.size() && index < array.length && 
+				index < begin + length; index++) {
+			this.gcd(list.get(index), array[index], result);
+		}
+		
+		for(int i = index; i < list.size() && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		for(int i = index; i < array.length && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(array[i]));
+		}
+		
+		return result;
+		
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the collection. Missing data points due to uneven list and
+	 * collection sizes are treated as zeroes.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection of values
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, Collection<BigInteger> collection) {
+		
+		int index;
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+	
+		for(index = 0; index < list.size() && index < collection.size(); index++) {
+			this.gcd(list.get(index), iter.next(), result);
+		}
+		
+		for(int i = index; i < list.size(); i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		while(iter.hasNext()) {
+			result.add(this.calculateUnmatched(iter.next()));
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the collection between the indices. Missing data points due to
+	 * uneven list and collection sizes are treated as zeroes.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection of values
+	 * @param    int begin                            beginning index of the subset
+	 * @param    int length                           length of the subset
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list,
+			Collection<BigInteger> collection, int begin, int length) {
+
+		int index;
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+
+	    for(int i = 0; i < begin; i++) {
+	    	iter.next();
+	    }
+
+	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
+			this.gcd(list.get(index), iter.next(), result);
+		}
+		
+		for(int i = index; i < list.size() && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+
+		while(iter.hasNext() && index < begin + length) {
+			result.add(this.calculateUnmatched(iter.next()));
+			index++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the array. Missing data points due to uneven list and array sizes
+	 * are omitted.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
+
+	    WellData result = new WellData();
+	
+		for(int i = 0; i < list.size() && i < array.length; i++) {
+			this.gcd(list.get(i), array[i], result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the array between the indices. Missing data points due to uneven
+	 * list and array sizes are omitted.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @param    int begin                beginning index of the subset
+	 * @param    int length               length of the subset
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
+			int begin, int length) {
+		
+		WellData result = new WellData();
+		
+		for(int i = begin; i < list.size() && i < array.length && 
+				i < begin + length; i++) {
+			this.gcd(list.get(i), array[i], result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the collection. Missing data points due to uneven list and
+	 * collection sizes are omitted.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list,
+			Collection<BigInteger> collection) {
+	
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+	
+		for(int i = 0; i < list.size() && i < collection.size(); i++) {
+			this.gcd(list.get(i), iter.next(), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the list values and the values
+	 * within the collection between the indices. Missing data points due to
+	 * uneven list and collection sizes are omitted.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection
+	 * @param    int begin                            beginning index of the subset
+	 * @param    int length                           length of the subset
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list,
+			Collection<BigInteger> collection, int begin, int length) {
+
+        WellData result = new WellData();
+		Iterator<BigInteger> iter = collection.iterator();
+		
+		for(int i = 0; i < begin; i++) {
+			iter.next();
+		}
+		
+		for(int i = begin; i < list.size() && iter.hasNext() && 
+				i < begin + length; i++) {
+			this.gcd(list.get(i), iter.next(), result);
+		} 
+
+		return result;
+	}
+
+	/**
+	 * Returns the greatest common divisor of the two values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.gcd(value2);
+	}
+
+	/**
+	 * Returns the absolute value of a value without a matching value, the 
+	 * greatest common divisor of the value and zero.
+	 * @param    BigInteger value    the value
+	 * @return                       the result
+	 * @override
+	 */
+	protected BigInteger calculateUnmatched(BigInteger value) {
+		return value.abs();
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the two long
+	 * arrays. Results for the minimum long value are flagged.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			overflow[i] = values1[i] == Long.MIN_VALUE || values2[i] == Long.MIN_VALUE;
+			result[i] = overflow[i] ? 0 : gcd(Math.abs(values1[i]), Math.abs(values2[i]));
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Calculates the greatest common divisors of the values in the long array
+	 * and the constant. Results for the minimum long value are flagged. Returns
+	 * false if the constant is the minimum long value.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true if the results were calculated
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		
+		if(constant == Long.MIN_VALUE) {
+			return false;
+		}
+		
+		long divisor = Math.abs(constant);
+		
+		for(int i = 0; i < length; i++) {
+			overflow[i] = values[i] == Long.MIN_VALUE;
+			result[i] = overflow[i] ? 0 : gcd(Math.abs(values[i]), divisor);
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Appends the greatest common divisor of the two values to the result. 
+	 * Values that fit in a long are reduced using primitive arithmetic and the
+	 * result is stored as a long without creating a big integer. Other values 
+	 * are reduced using the big integer values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @param    WellData result      the result
+	 */
+	private void gcd(BigInteger value1, BigInteger value2, WellData result) {
+		
+		if(WellData.fitsLong(value1) && WellData.fitsLong(value2)) {
+			
+			long long1 = value1.longValue();
+			long long2 = value2.longValue();
+			
+			if(long1 != Long.MIN_VALUE && long2 != Long.MIN_VALUE) {
+				result.addLong(gcd(Math.abs(long1), Math.abs(long2)));
+				return;
+			}
+		}
+		
+		result.add(value1.gcd(value2));
+	}
+
+	/**
+	 * Returns the greatest common divisor of two non-negative longs using the
+	 * binary GCD algorithm.
+	 * @param    long value1    the first value
+	 * @param    long value2    the second value
+	 * @return                  the greatest common divisor
+	 */
+	private static long gcd(long value1, long value2) {
+		
+		if(value1 == 0 || value2 == 0) {
+			return value1 | value2;
+		}
+		
+		int shift = Long.numberOfTrailingZeros(value1 | value2);
+		
+		value1 >>= Long.numberOfTrailingZeros(value1);
+		
+		while(value2 != 0) {
+			
+			value2 >>= Long.numberOfTrailingZeros(value2);
+			
+			if(value1 > value2) {
+				long swap = value1;
+				value1 = value2;
+				value2 = swap;
+			}
+			
+			value2 -= value1;
+		}
+		
+		return value1 << shift;
+	}
+    
+}
@@ -24,9 +24,10 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs increment operations with a single argument for BigInteger 
  * plate stacks, plates, wells and well sets. Unary operations can also be 
@@ -46,10 +47,10 @@ public class Increment extends MathOperationUnary {
      */
     public List<BigInteger> calculate(List<BigInteger> list) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
         
-        for(BigInteger bd : list) {
-            result.add(bd.add(BigInteger.ONE));
+        for(int i = 0; i < list.size(); i++) {
+            this.increment(list, i, result);
         }
         
         return result;
@@ -62,13 +63,73 @@ public class Increment extends MathOperationUnary {
      */
     public List<BigInteger> calculate(List<BigInteger> list, int begin, int length) {
         
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
         
         for(int i = begin; i < begin + length; i++) {
-            result.add(list.get(i).add(BigInteger.ONE));
+            this.increment(list, i, result);
         }
         
         return result;
     }
     
+    /**
+     * Increments the value.
+     * @param    BigInteger    the value
+     * @return                 the result
+     */
+    public BigInteger calculate(BigInteger value) {
+        return value.add(BigInteger.ONE);
+    }
+    
+    /**
+     * Increments the values in the long array. Results outside the range of a
+     * long are flagged.
+     * @param    long[]       the values
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true
+     */
+    protected boolean calculate(long[] values, long[] result, boolean[] overflow, int length) {
+        
+        for(int i = 0; i < length; i++) {
+            result[i] = values[i] + 1;
+            overflow[i] = values[i] == Long.MAX_VALUE;
+        }
+        
+        return true;
+    }
+
+    /**
+     * Appends the incremented value to the result. Values that fit in a long 
+     * are incremented using primitive arithmetic and stored as a long without
+     * creating a big integer.
+     * @param    BigInteger    the value
+     * @param    WellData      the result
+     */
+    private void increment(BigInteger value, WellData result) {
+        
+        if(WellData.fitsLong(value) && value.longValue() != Long.MAX_VALUE) {
+            result.addLong(value.longValue() + 1);
+        } else {
+            result.add(value.add(BigInteger.ONE));
+        }
+    }
+
+    /**
+     * Appends the incremented list value at the index to the result. Values held
+     * as longs by a hybrid data set are read without creating a big integer.
+     * @param    List<BigInteger>    the list
+     * @param    int                 the index
+     * @param    WellData            the result
+     */
+    private void increment(List<BigInteger> list, int index, WellData result) {
+        
+        if(WellData.isLong(list, index) && WellData.getLong(list, index) != Long.MAX_VALUE) {
+            result.addLong(WellData.getLong(list, index) + 1);
+        } else {
+            this.increment(list.get(index), result);
+        }
+    }
+    
 }
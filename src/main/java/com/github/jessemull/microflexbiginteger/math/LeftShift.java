@@ -76,4 +76,15 @@ public class LeftShift extends MathOperationShift {
         return result;
     }
     
+    /**
+     * Shifts the value n bits to the left.
+     * @param    BigInteger    the value
+     * @param    int           number of bits to shift
+     * @return                 the result
+     * @override
+     */
+    public BigInteger calculate(BigInteger value, int n) {
+        return value.shiftLeft(n);
+    }
+    
 }
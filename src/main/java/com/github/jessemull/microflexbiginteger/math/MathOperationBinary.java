@@ -24,14 +24,24 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
 import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.ValueDictionary;
 import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+import com.github.jessemull.microflexbiginteger.plate.WellList;
+import com.github.jessemull.microflexbiginteger.plate.WellMask;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
 /**
@@ -40,6 +50,39 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  * operation extend this class and override the calculate methods using the
  * appropriate operation. 
  * 
+ * Operations on plate matrices are performed one read at a time using the long
+ * array calculate methods and fall back to the two value calculate method for
+ * values outside the range of a long. Custom operations can override these 
+ * methods to avoid the list based default implementation.
+ * 
+ * Operations using a constant on wells using the dictionary storage mode are 
+ * performed once for each distinct value using the two value calculate method.
+ * The results are dictionary wells.
+ * 
+ * The wells of plates, well sets and stacks are calculated independently. Use
+ * setParallel() or setExecutor() to calculate plates and sets holding at least
+ * the threshold number of wells in parallel. The results are identical to the 
+ * sequential mode.
+ * 
+ * The reduction methods, such as reduce(), collapse a stack into a single plate
+ * by combining the plates pairwise as a tree, such as the sum of replicate
+ * plates or the bitwise OR of hit masks. The partial results are calculated in
+ * place and in parallel mode the pairs at each level of the tree are combined
+ * in parallel.
+ * 
+ * Addition, subtraction and multiplication use primitive arithmetic for values
+ * that fit in a long and return hybrid data sets, so results within the range 
+ * of a long are stored without creating big integers. Values overflowing a long
+ * fall back to big integer arithmetic and the results are identical.
+ * 
+ * The in place methods, such as platesInPlace(), replace the data in the first
+ * argument with the result instead of allocating new wells. Missing data points
+ * are handled the same way as in the standard and strict methods.
+ * 
+ * The broadcast methods, such as platesByRow() and platesByColumn(), combine 
+ * each well with the value for its row, its column or a well list in a single
+ * pass over the plate without building a second plate.
+ * 
  * Operations can be performed on stacks, plates, sets or wells of uneven length
  * using standard or strict functions. Standard functions treat all values missing
  * from a data set as zeroes and combine all stacks, plates, sets and wells from 
@@ -256,6 +299,12 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  *    <tr>
  *       <td>Logical XOR</td>
  *    </tr>
+ *    <tr>
+ *       <td>Greatest Common Divisor</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Modular Exponentiation</td>
+ *    </tr>
  * </table>
  * 
  * @author Jesse L. Mull
@@ -265,12 +314,73 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  */
 public abstract class MathOperationBinary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private WellExecutor execution = new WellExecutor();    // Sequential or parallel execution
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
 	 * Creates a new math operation.
 	 */
 	public MathOperationBinary() {}
+	
+    /* ------------------------ Methods for Execution ----------------------- */
+    
+    /**
+     * Enables or disables the parallel execution mode. In parallel mode the 
+     * wells of plates, well sets and stacks holding at least the threshold 
+     * number of wells are calculated using a shared fork join pool. The results 
+     * are identical to the sequential mode.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+    	this.execution.setExecutor(parallel ? WellExecutor.pool() : null);
+    }
+    
+    /**
+     * Returns true if the wells are calculated in parallel.
+     * @return    true for parallel execution
+     */
+    public boolean isParallel() {
+    	return this.execution.executor() != null;
+    }
+    
+    /**
+     * Sets the executor service used to calculate the wells in parallel. Null
+     * values restore the sequential mode.
+     * @param    ExecutorService    the executor service
+     */
+    public void setExecutor(ExecutorService executor) {
+    	this.execution.setExecutor(executor);
+    }
+    
+    /**
+     * Returns the executor service used to calculate the wells in parallel or 
+     * null in sequential mode.
+     * @return    the executor service
+     */
+    public ExecutorService executor() {
+    	return this.execution.executor();
+    }
+    
+    /**
+     * Sets the minimum number of wells calculated in parallel. Smaller plates 
+     * and well sets are calculated in the calling thread.
+     * @param    int    the threshold
+     * @throws   IllegalArgumentException    threshold is less than one
+     */
+    public void setThreshold(int threshold) {
+    	this.execution.setThreshold(threshold);
+    }
+    
+    /**
+     * Returns the minimum number of wells calculated in parallel.
+     * @return    the threshold
+     */
+    public int threshold() {
+    	return this.execution.threshold();
+    }
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
@@ -283,7 +393,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well1, Well well2) {
     	this.validateArgs(well1, well2);
-    	return calculate(well1.data(), well2.data());
+    	return calculate(well1.view(), well2.view());
     }
     
     /**
@@ -298,7 +408,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well1, Well well2, int begin, int length) {
     	this.validateArgs(well1, well2, begin, length);
-    	return calculate(well1.data(), well2.data(), begin, length);
+    	return calculate(well1.view(), well2.view(), begin, length);
     }
     
     /**
@@ -310,7 +420,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well1, Well well2) {
     	this.validateArgs(well1, well2);
-    	return calculateStrict(well1.data(), well2.data());
+    	return calculateStrict(well1.view(), well2.view());
     }
     
     /**
@@ -324,7 +434,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well1, Well well2, int begin, int length) {
     	this.validateArgs(well1, well2, begin, length);
-    	return calculateStrict(well1.data(), well2.data(), begin, length);
+    	return calculateStrict(well1.view(), well2.view(), begin, length);
     }
     
     /**
@@ -334,8 +444,15 @@ public abstract class MathOperationBinary {
      * @return                     result of the operation
      */
     public List<BigInteger> wells(Well well, BigInteger constant) {
+    	
     	this.validateArgs(well);
-    	return this.calculate(well.data(), constant);
+    	
+    	if(well.dictionary() != null) {
+    		return this.dictionaryWell(well, constant, 
+    				new IdentityHashMap<ValueDictionary, DictionaryTranslation>()).data();
+    	}
+    	
+    	return this.calculate(well.view(), constant);
     }
     
     /**
@@ -347,7 +464,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well, BigInteger[] array) {
     	this.validateArgs(well, array);
-    	return this.calculate(well.data(), array);
+    	return this.calculate(well.view(), array);
     }
     
     /**
@@ -361,7 +478,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well, BigInteger[] array, int begin, int length) {
     	this.validateArgs(well, array, begin, length);
-    	return this.calculate(well.data(), array, begin, length);
+    	return this.calculate(well.view(), array, begin, length);
     }
     
     /**
@@ -373,7 +490,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well, Collection<BigInteger> collection) {
     	this.validateArgs(well, collection);
-    	return this.calculate(well.data(), collection);
+    	return this.calculate(well.view(), collection);
     }
     
     /**
@@ -387,7 +504,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wells(Well well, Collection<BigInteger> collection, int begin, int length) {
     	this.validateArgs(well, collection, begin, length);
-    	return this.calculate(well.data(), collection, begin, length);
+    	return this.calculate(well.view(), collection, begin, length);
     }
     
     /**
@@ -399,7 +516,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well, BigInteger[] array) {
     	this.validateArgs(well, array);
-    	return this.calculateStrict(well.data(), array);
+    	return this.calculateStrict(well.view(), array);
     	
     }
     
@@ -414,7 +531,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well, BigInteger[] array, int begin, int length) {
     	this.validateArgs(well, array, begin, length);
-    	return this.calculateStrict(well.data(), array, begin, length);
+    	return this.calculateStrict(well.view(), array, begin, length);
     }
     
     /**
@@ -426,7 +543,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well, Collection<BigInteger> collection) {
     	this.validateArgs(well, collection);
-    	return this.calculateStrict(well.data(), collection);
+    	return this.calculateStrict(well.view(), collection);
     }
     
     /**
@@ -440,7 +557,7 @@ public abstract class MathOperationBinary {
      */
     public List<BigInteger> wellsStrict(Well well, Collection<BigInteger> collection, int begin, int length) {
     	this.validateArgs(well, collection, begin, length);
-    	return this.calculateStrict(well.data(), collection, begin, length);
+    	return this.calculateStrict(well.view(), collection, begin, length);
     }
     
     /* ---------------------------- Plate Methods --------------------------- */
@@ -466,7 +583,7 @@ public abstract class MathOperationBinary {
     		result.addGroups(set.wellList());
     	}
     	
-    	WellSet resultSet = this.sets(plate1.dataSet(), plate2.dataSet());
+    	WellSet resultSet = this.join(plate1, plate2, false, false, 0, 0);
     	
     	result.addWells(resultSet);
     	
@@ -497,7 +614,7 @@ public abstract class MathOperationBinary {
     		result.addGroups(set.wellList());
     	}
     	
-    	WellSet resultSet = this.sets(plate1.dataSet(), plate2.dataSet(), begin, length);
+    	WellSet resultSet = this.join(plate1, plate2, false, true, begin, length);
     	
     	result.addWells(resultSet);
     	
@@ -525,7 +642,7 @@ public abstract class MathOperationBinary {
     		result.addGroups(set.wellList());
     	}
     	
-    	WellSet resultSet = this.setsStrict(plate1.dataSet(), plate2.dataSet());
+    	WellSet resultSet = this.join(plate1, plate2, true, false, 0, 0);
     	
     	result.addWells(resultSet);
     	
@@ -556,7 +673,7 @@ public abstract class MathOperationBinary {
     		result.addGroups(set.wellList());
     	}
     	
-    	WellSet resultSet = this.setsStrict(plate1.dataSet(), plate2.dataSet(), begin, length);
+    	WellSet resultSet = this.join(plate1, plate2, true, true, begin, length);
 
     	result.addWells(resultSet);
     	
@@ -786,6 +903,189 @@ public abstract class MathOperationBinary {
      	return result;
     }
     
+    /* -------------------------- Broadcast Methods ------------------------- */
+    
+    /**
+     * Returns the value combined with a well by a broadcast operation.
+     */
+    private abstract static class Broadcast {
+        
+        /**
+         * Returns the value for the well or null if the well has no value.
+         * @param    Well    the well
+         * @return           the value
+         */
+        abstract BigInteger value(Well well);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the value for the 
+     * row of each well. The value at index zero is used for row A. Wells in rows
+     * without a value, past the end of the array or null, are copied to the 
+     * result. The result is calculated in one pass over the plate.
+     * @param    Plate           the plate
+     * @param    BigInteger[]    the row values
+     * @return                   result of the operation
+     */
+    public Plate platesByRow(Plate plate, BigInteger[] rowValues) {
+    	this.validateArgs(plate, rowValues, plate == null ? 0 : plate.rows());
+    	return this.broadcast(plate, this.rowBroadcast(rowValues), false);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the value for the 
+     * row of each well. The value at index zero is used for row A. Wells in rows
+     * without a value, past the end of the array or null, are omitted. The 
+     * result is calculated in one pass over the plate.
+     * @param    Plate           the plate
+     * @param    BigInteger[]    the row values
+     * @return                   result of the operation
+     */
+    public Plate platesByRowStrict(Plate plate, BigInteger[] rowValues) {
+    	this.validateArgs(plate, rowValues, plate == null ? 0 : plate.rows());
+    	return this.broadcast(plate, this.rowBroadcast(rowValues), true);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the value for the 
+     * column of each well. The value at index zero is used for column 1. Wells 
+     * in columns without a value, past the end of the array or null, are copied 
+     * to the result. The result is calculated in one pass over the plate.
+     * @param    Plate           the plate
+     * @param    BigInteger[]    the column values
+     * @return                   result of the operation
+     */
+    public Plate platesByColumn(Plate plate, BigInteger[] columnValues) {
+    	this.validateArgs(plate, columnValues, plate == null ? 0 : plate.columns());
+    	return this.broadcast(plate, this.columnBroadcast(columnValues), false);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the value for the 
+     * column of each well. The value at index zero is used for column 1. Wells 
+     * in columns without a value, past the end of the array or null, are 
+     * omitted. The result is calculated in one pass over the plate.
+     * @param    Plate           the plate
+     * @param    BigInteger[]    the column values
+     * @return                   result of the operation
+     */
+    public Plate platesByColumnStrict(Plate plate, BigInteger[] columnValues) {
+    	this.validateArgs(plate, columnValues, plate == null ? 0 : plate.columns());
+    	return this.broadcast(plate, this.columnBroadcast(columnValues), true);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the constant for 
+     * the wells in the well list. Wells missing from the list are copied to the
+     * result. The result is calculated in one pass over the plate.
+     * @param    Plate         the plate
+     * @param    WellList      the well list
+     * @param    BigInteger    constant for operation
+     * @return                 result of the operation
+     */
+    public Plate platesByWellList(Plate plate, WellList list, BigInteger constant) {
+    	this.validateArgs(plate, list, constant);
+    	return this.broadcast(plate, this.listBroadcast(list, constant), false);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the constant for 
+     * the wells in the well list. Wells missing from the list are omitted. The 
+     * result is calculated in one pass over the plate.
+     * @param    Plate         the plate
+     * @param    WellList      the well list
+     * @param    BigInteger    constant for operation
+     * @return                 result of the operation
+     */
+    public Plate platesByWellListStrict(Plate plate, WellList list, BigInteger constant) {
+    	this.validateArgs(plate, list, constant);
+    	return this.broadcast(plate, this.listBroadcast(list, constant), true);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the broadcast value
+     * for each well. Wells without a value are copied to the result or omitted 
+     * for strict operations. The plate groups are carried over.
+     * @param    Plate        the plate
+     * @param    Broadcast    the values
+     * @param    boolean      true if the operation is strict
+     * @return                result of the operation
+     */
+    private Plate broadcast(Plate plate, final Broadcast broadcast, final boolean strict) {
+    	
+    	Plate result = new Plate(plate.rows(), plate.columns());
+    	
+    	for(WellSet set : plate.allGroups()) {
+    		result.addGroups(set.wellList());
+    	}
+    	
+    	List<Well> wells = this.execution.calculate(plate.dataSet(), new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			BigInteger value = broadcast.value(well);
+    			
+    			if(value == null) {
+    				return strict ? null : well;
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), value));
+    		}
+    	});
+    	
+    	for(Well well : wells) {
+    		if(well != null) {
+    			result.addWells(well);
+    		}
+    	}
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns the broadcast values for the rows.
+     * @param    BigInteger[]    the row values
+     * @return                   the broadcast values
+     */
+    private Broadcast rowBroadcast(final BigInteger[] rowValues) {
+    	return new Broadcast() {
+    		BigInteger value(Well well) {
+    			return well.row() < rowValues.length ? rowValues[well.row()] : null;
+    		}
+    	};
+    }
+    
+    /**
+     * Returns the broadcast values for the columns.
+     * @param    BigInteger[]    the column values
+     * @return                   the broadcast values
+     */
+    private Broadcast columnBroadcast(final BigInteger[] columnValues) {
+    	return new Broadcast() {
+    		BigInteger value(Well well) {
+    			int index = well.column() - 1;
+    			return index < columnValues.length ? columnValues[index] : null;
+    		}
+    	};
+    }
+    
+    /**
+     * Returns the broadcast values for the wells in the list.
+     * @param    WellList      the well list
+     * @param    BigInteger    constant for operation
+     * @return                 the broadcast values
+     */
+    private Broadcast listBroadcast(WellList list, final BigInteger constant) {
+    	
+    	final WellMask mask = list.mask();
+    	
+    	return new Broadcast() {
+    		BigInteger value(Well well) {
+    			return mask.contains(well.row(), well.column()) ? constant : null;
+    		}
+    	};
+    }
+    
     /* ----------------------------- Set Methods ---------------------------- */
     
     /**
@@ -799,36 +1099,7 @@ public abstract class MathOperationBinary {
     	
         this.validateArgs(set1, set2);
     	
-        WellSet result = new WellSet();
-    	
-        WellSet clone1 = new WellSet(set1);
-        WellSet clone2 = new WellSet(set2);
-        
-        WellSet set1Excluded = new WellSet(set1);
-        WellSet set2Excluded = new WellSet(set2);
-        
-        set1Excluded.remove(set2);
-        set2Excluded.remove(set1);
-        clone1.retain(set2);
-        clone2.retain(set1);
-        
-        Iterator<Well> iter1 = clone1.iterator();
-        Iterator<Well> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		Well well1 = iter1.next();
-    		Well well2 = iter2.next();
-    		
-    		List<BigInteger> list = this.calculate(well1.data(), well2.data());
-    		result.add(new Well(well1.row(), well1.column(), list));
-
-    	}
-    	
-    	result.add(set1Excluded);
-    	result.add(set2Excluded);
-
-    	return result;
+        return this.join(set1, set2, false, false, 0, 0);
     }
     
     /**
@@ -845,47 +1116,7 @@ public abstract class MathOperationBinary {
 
         this.validateArgs(set1, set2);
     	
-        WellSet result = new WellSet();
-    	
-        WellSet clone1 = new WellSet(set1);
-        WellSet clone2 = new WellSet(set2);
-        
-        WellSet set1Excluded = new WellSet(set1);
-        WellSet set2Excluded = new WellSet(set2);
-        
-        set1Excluded.remove(set2);
-        set2Excluded.remove(set1);
-        clone1.retain(set2);
-        clone2.retain(set1);
-        
-        Iterator<Well> iter1 = clone1.iterator();
-        Iterator<Well> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		Well well1 = iter1.next();
-    		Well well2 = iter2.next();
-    		
-    		validateArgs(well1, begin, length);
-    		validateArgs(well2, begin, length);
-    			
-    		List<BigInteger> list = this.calculate(well1.data(), well2.data(), begin, length);
-    		result.add(new Well(well1.row(), well1.column(), list));
-
-    	}
-    	
-    	for(Well well : set1Excluded) {   	
-    		well = well.subList(begin, length);
-    	}
-    	
-    	for(Well well : set2Excluded) {
-    		well = well.subList(begin, length);
-    	}
-    	
-    	result.add(set1Excluded);
-    	result.add(set2Excluded);
-    	
-    	return result;
+        return this.join(set1, set2, false, true, begin, length);
     }
     
     /**
@@ -899,35 +1130,7 @@ public abstract class MathOperationBinary {
     	
     	this.validateArgs(set1, set2);
     	
-        WellSet result = new WellSet();
-    	
-        WellSet clone1 = new WellSet(set1);
-        WellSet clone2 = new WellSet(set2);
-        
-        WellSet set1Excluded = new WellSet(clone1);
-        WellSet set2Excluded = new WellSet(clone2);
-        
-        set1Excluded.remove(clone2);
-        set2Excluded.remove(clone1);
-        clone1.retain(set2);
-        clone2.retain(set1);
-        
-        Iterator<Well> iter1 = clone1.iterator();
-        Iterator<Well> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		Well well1 = iter1.next();
-    		Well well2 = iter2.next();
-    		
-    		validateArgs(well1, well2);
-    			
-    		List<BigInteger> list = this.calculateStrict(well1.data(), well2.data());
-    		result.add(new Well(well1.row(), well1.column(), list));
-
-    	}
-
-    	return result;
+        return this.join(set1, set2, true, false, 0, 0);
     }
     
     /**
@@ -940,35 +1143,10 @@ public abstract class MathOperationBinary {
      * @return                        result of the operation
      */
     public WellSet setsStrict(WellSet set1, WellSet set2, int begin, int length) {
-    	
 
         this.validateArgs(set1, set2);
     	
-        WellSet result = new WellSet();
-    	
-        WellSet clone1 = new WellSet(set1);
-        WellSet clone2 = new WellSet(set2);
-
-        clone1.retain(set2);
-        clone2.retain(set1);
-        
-        Iterator<Well> iter1 = clone1.iterator();
-        Iterator<Well> iter2 = clone2.iterator();
-        
-    	while(iter1.hasNext()) {
-    		
-    		Well well1 = iter1.next();
-    		Well well2 = iter2.next();
-    		
-    		validateArgs(well1, begin, length);
-    		validateArgs(well2, begin, length);
-    			
-    		List<BigInteger> list = this.calculateStrict(well1.data(), well2.data(), begin, length);
-    		result.add(new Well(well1.row(), well1.column(), list));
-
-    	}
-
-    	return result;
+        return this.join(set1, set2, true, true, begin, length);
     }
     
     /**
@@ -977,17 +1155,27 @@ public abstract class MathOperationBinary {
      * @param    BigInteger           constant for operation
      * @return                        result of the operation
      */
-    public WellSet sets(WellSet set, BigInteger constant) {
+    public WellSet sets(WellSet set, final BigInteger constant) {
     	
     	this.validateArgs(set);
     	
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
+    	
+    	final Map<ValueDictionary, DictionaryTranslation> translations = 
+    			new IdentityHashMap<ValueDictionary, DictionaryTranslation>();
     
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), constant)));
-    	} 
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			if(well.dictionary() != null) {
+    				return dictionaryWell(well, constant, translations);
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), constant));
+    		}
+    	}));
     	
     	return result;
     }
@@ -999,17 +1187,19 @@ public abstract class MathOperationBinary {
      * @param    BigInteger[]         array for the operation
      * @return                        result of the operation
      */
-    public WellSet sets(WellSet set, BigInteger[] array) {
+    public WellSet sets(WellSet set, final BigInteger[] array) {
     	
         this.validateArgs(set, array);
     	
         WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), array)));
-    	} 
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), array));
+    		}
+    	}));
     	
     	return result;
     }
@@ -1023,18 +1213,20 @@ public abstract class MathOperationBinary {
      * @param    int                  length of the subset
      * @return                        result of the operation
      */
-    public WellSet sets(WellSet set, BigInteger[] array, int begin, int length) {
+    public WellSet sets(WellSet set, final BigInteger[] array, final int begin, final int length) {
     	
     	this.validateArgs(set, array);
     	
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-    	for(Well well : set) {
-    		this.validateArgs(well, begin, length);
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), array, begin, length)));
-    	} 
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			validateArgs(well, begin, length);
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), array, begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -1046,16 +1238,19 @@ public abstract class MathOperationBinary {
      * @param    Collection<BigInteger>     collection for the operation
      * @return                              result of the operation
      */
-    public WellSet sets(WellSet set, Collection<BigInteger> collection) {
+    public WellSet sets(WellSet set, final Collection<BigInteger> collection) {
     	
     	this.validateArgs(set, collection);
     	
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), this.calculate(well.data(), collection)));
-         } 
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), collection));
+    		}
+    	}));
     	
     	return result;
     }
@@ -1069,18 +1264,20 @@ public abstract class MathOperationBinary {
      * @param    int                       length of the subset
      * @return                             result of the operation
      */
-    public WellSet sets(WellSet set, Collection<BigInteger> collection, int begin, int length) {
+    public WellSet sets(WellSet set, final Collection<BigInteger> collection, final int begin, final int length) {
     	
     	this.validateArgs(set, collection);
     	
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-    	for(Well well : set) {
-    		this.validateArgs(well, begin, length);
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), collection, begin, length)));
-    	} 
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			validateArgs(well, begin, length);
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculate(well.view(), collection, begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -1092,16 +1289,19 @@ public abstract class MathOperationBinary {
      * @param    BigInteger[]         array for the operation
      * @return                        result of the operation
      */
-    public WellSet setsStrict(WellSet set, BigInteger[] array) {
+    public WellSet setsStrict(WellSet set, final BigInteger[] array) {
     	
     	this.validateArgs(set, array);
 
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-        for(Well well : set) {
-        	result.add(new Well(well.row(), well.column(), this.calculateStrict(well.data(), array)));
-        }
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculateStrict(well.view(), array));
+    		}
+    	}));
         
         return result;
     }
@@ -1115,17 +1315,20 @@ public abstract class MathOperationBinary {
      * @param    int                  length of the subset
      * @return                        result of the operation
      */
-    public WellSet setsStrict(WellSet set, BigInteger[] array, int begin, int length) {
+    public WellSet setsStrict(WellSet set, final BigInteger[] array, final int begin, final int length) {
     	
     	this.validateArgs(set, array);
 
     	WellSet result = new WellSet();
         result.setLabel(set.label());
     	
-        for(Well well : set) {
-        	this.validateArgs(well, begin, length);
-        	result.add(new Well(well.row(), well.column(), this.calculateStrict(well.data(), array, begin, length)));
-        }
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			validateArgs(well, begin, length);
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculateStrict(well.view(), array, begin, length));
+    		}
+    	}));
         
         return result;
     }
@@ -1137,16 +1340,19 @@ public abstract class MathOperationBinary {
      * @param    Collection<BigInteger>      collection for the operation
      * @return                               result of the operation
      */
-    public WellSet setsStrict(WellSet set, Collection<BigInteger> collection) {
+    public WellSet setsStrict(WellSet set, final Collection<BigInteger> collection) {
     	
     	this.validateArgs(set, collection);
 
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-        for(Well well : set) {
-        	result.add(new Well(well.row(), well.column(), this.calculateStrict(well.data(), collection)));
-        }
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculateStrict(well.view(), collection));
+    		}
+    	}));
         
         return result;
     }
@@ -1160,17 +1366,20 @@ public abstract class MathOperationBinary {
      * @param    int                       length of the subset
      * @return                             result of the operation
      */
-    public WellSet setsStrict(WellSet set, Collection<BigInteger> collection, int begin, int length) {
+    public WellSet setsStrict(WellSet set, final Collection<BigInteger> collection, final int begin, final int length) {
     	
         this.validateArgs(set, collection);
 
     	WellSet result = new WellSet();
     	result.setLabel(set.label());
     	
-        for(Well well : set) {
-        	this.validateArgs(well, begin, length);
-        	result.add(new Well(well.row(), well.column(), this.calculateStrict(well.data(), collection, begin, length)));
-        }
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			validateArgs(well, begin, length);
+    			return new Well(well.row(), well.column(), 
+    					MathOperationBinary.this.calculateStrict(well.view(), collection, begin, length));
+    		}
+    	}));
         
         return result;
     }
@@ -1234,25 +1443,35 @@ public abstract class MathOperationBinary {
     	}
 
     	while(iter1.hasNext()) {
-    		
-    		Plate plate = iter1.next();
-    		
-    		for(Well well : plate) {
-    			well = well.subList(begin, length);
-    		}
-    		
-    		result.add(iter1.next());
+    		result.add(this.window(iter1.next(), begin, length));
     	}
     	
     	while(iter2.hasNext()) {
-
-            Plate plate = iter2.next();
-    		
-    		for(Well well : plate) {
-    			well = well.subList(begin, length);
-    		}
-    		
-    		result.add(iter2.next());
+    		result.add(this.window(iter2.next(), begin, length));
+    	}
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns a copy of the plate holding the values of each well between the
+     * indices. Used for plates without a matching plate in the ranged stack
+     * methods.
+     * @param    Plate    the plate
+     * @param    int      beginning index of the subset
+     * @param    int      length of the subset
+     * @return            the plate holding the subsets
+     */
+    private Plate window(Plate plate, int begin, int length) {
+    	
+    	Plate result = new Plate(plate.rows(), plate.columns(), plate.label());
+    	
+    	for(WellSet set : plate.allGroups()) {
+    		result.addGroups(set.wellList());
+    	}
+    	
+    	for(Well well : plate) {
+    		result.addWells(well.subList(begin, length));
     	}
     	
     	return result;
@@ -1331,6 +1550,63 @@ public abstract class MathOperationBinary {
     	return result;
     }
     
+    /**
+     * Returns the result of the mathematical operation using the plate with 
+     * each plate in the stack, such as a mask combined with every plate. The
+     * plate is converted to a plate matrix once and each plate in the stack is
+     * combined with the matrix a read at a time using the primitive 
+     * implementation of the operation. Missing data points due to uneven data
+     * set lengths are treated as zeroes.
+     * @param    Stack    the stack
+     * @param    Plate    the plate
+     * @return            result of the operation
+     */
+    public Stack stacks(Stack stack, Plate plate) {
+        return this.stacks(stack, plate, false);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the plate with 
+     * each plate in the stack, such as a mask combined with every plate. The
+     * plate is converted to a plate matrix once and each plate in the stack is
+     * combined with the matrix a read at a time using the primitive 
+     * implementation of the operation. Missing data points due to uneven data
+     * set lengths are omitted.
+     * @param    Stack    the stack
+     * @param    Plate    the plate
+     * @return            result of the operation
+     */
+    public Stack stacksStrict(Stack stack, Plate plate) {
+        return this.stacks(stack, plate, true);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation using the plate with 
+     * each plate in the stack.
+     * @param    Stack      the stack
+     * @param    Plate      the plate
+     * @param    boolean    true if the operation is strict
+     * @return              result of the operation
+     */
+    private Stack stacks(Stack stack, Plate plate, boolean strict) {
+        
+        this.validateArgs(stack, plate);
+        
+        PlateMatrix matrix = new PlateMatrix(plate);
+        Stack result = new Stack(stack.rows(), stack.columns());
+        
+        for(Plate next : stack) {
+            
+            PlateMatrix nextMatrix = new PlateMatrix(next);
+            PlateMatrix resultMatrix = strict ? this.matricesStrict(nextMatrix, matrix) : 
+                                                this.matrices(nextMatrix, matrix);
+            
+            result.add(resultMatrix.toPlate());
+        }
+        
+        return result;
+    }
+    
     /**
      * Returns the result of the mathematical operation. Missing data points due 
      * to uneven data stack lengths are treated as zeroes.
@@ -1523,26 +1799,926 @@ public abstract class MathOperationBinary {
     	return result;
     }
     
-    /*---------------- Methods for Validating Well Arguments -----------------*/
+    /* --------------------------- Reduction Methods ------------------------ */
     
     /**
-     * Validates well arguments.
-     * @param    Well    the well
+     * Returns the result of the mathematical operation applied to the plates 
+     * in the stack, such as the sum of replicate plates. The plates are
+     * combined pairwise as a balanced tree and the result is identical to 
+     * combining the plates from left to right using plates() for associative 
+     * operations. Missing data points due to uneven data set lengths are 
+     * treated as zeroes. The result holds the label of the first plate and the
+     * groups of every plate. An empty stack returns an empty plate.
+     * @param    Stack    the stack
+     * @return            result of the operation
      */
-    private void validateArgs(Well well) {
-    	if(well == null) {
-    		throw new NullPointerException("Null argument.");
-    	}
+    public Plate reduce(Stack stack) {
+        return this.reduce(stack, false);
     }
     
     /**
-     * Validates well arguments.
-     * @param    Well    the first well
-     * @param    Well    the second well
+     * Returns the result of the mathematical operation applied to the plates 
+     * in the stack. The plates are combined pairwise as a balanced tree and 
+     * the result is identical to combining the plates from left to right using
+     * platesStrict() for associative operations. Missing data points due to 
+     * uneven data set lengths are omitted. The result holds the label of the 
+     * first plate and the groups of every plate. An empty stack returns an 
+     * empty plate.
+     * @param    Stack    the stack
+     * @return            result of the operation
      */
-    private void validateArgs(Well well1, Well well2) {
-    	
-    	if(well1 == null || well2 == null) {
+    public Plate reduceStrict(Stack stack) {
+        return this.reduce(stack, true);
+    }
+    
+    /**
+     * Returns the result of the mathematical operation applied to the plates 
+     * in the stack. Each plate is converted to a plate matrix. At each level of
+     * the tree the right matrix of each pair is combined into the left matrix
+     * in place, so no plates are allocated for the partial results. The pairs
+     * of a level are divided into batches which are calculated in parallel in
+     * parallel mode. Each batch reuses a single set of scratch arrays.
+     * @param    Stack      the stack
+     * @param    boolean    true if the operation is strict
+     * @return              result of the operation
+     */
+    private Plate reduce(Stack stack, final boolean strict) {
+    	
+    	this.validateArgs(stack);
+    	
+    	if(stack.size() == 0) {
+    		return new Plate(stack.rows(), stack.columns());
+    	}
+    	
+    	final PlateMatrix[] matrices = new PlateMatrix[stack.size()];
+    	
+    	int index = 0;
+    	
+    	for(Plate plate : stack) {
+    		matrices[index++] = new PlateMatrix(plate);
+    	}
+    	
+    	for(int step = 1; step < matrices.length; step *= 2) {
+    		
+    		final int width = step;
+    		int pairs = (matrices.length + width - 1) / (2 * width);
+    		int batches = this.execution.executor() == null ? 1 : WellExecutor.batches(pairs);
+    		int batchSize = (pairs + batches - 1) / batches;
+    		
+    		List<Runnable> tasks = new ArrayList<Runnable>(batches);
+    		
+    		for(int begin = 0; begin < pairs; begin += batchSize) {
+    			
+    			final int from = begin;
+    			final int to = Math.min(pairs, begin + batchSize);
+    			
+    			tasks.add(new Runnable() {
+    				public void run() {
+    					
+    					int slots = matrices[0].slots();
+    					long[] values = new long[slots];
+    					boolean[] overflow = new boolean[slots];
+    					int[] lengths = new int[slots];
+    					
+    					for(int pair = from; pair < to; pair++) {
+    						int left = pair * 2 * width;
+    						MathOperationBinary.this.combine(matrices[left], matrices[left + width], 
+    								strict, values, overflow, lengths);
+    					}
+    				}
+    			});
+    		}
+    		
+    		this.execution.run(tasks);
+    	}
+    	
+    	return matrices[0].toPlate();
+    }
+    
+    /**
+     * Replaces the data in the target matrix with the result of the 
+     * mathematical operation using the target and the second matrix. Values 
+     * held by both matrices are calculated a read at a time using the primitive
+     * implementation of the operation where possible and the big integer 
+     * implementation otherwise. Values of matched wells without a matching
+     * value are calculated using calculateUnmatched(). Wells held by a single
+     * matrix are kept or copied to the target. Unmatched values and wells are
+     * omitted in strict mode.
+     * @param    PlateMatrix    the target matrix
+     * @param    PlateMatrix    the second matrix
+     * @param    boolean        true if the operation is strict
+     * @param    long[]         scratch array for the primitive results
+     * @param    boolean[]      scratch array for the overflow flags
+     * @param    int[]          scratch array for the target well lengths
+     */
+    private void combine(PlateMatrix target, PlateMatrix matrix, boolean strict, 
+    		long[] values, boolean[] overflow, int[] lengths) {
+    	
+    	int slots = target.slots();
+    	
+    	for(WellList list : matrix.groups()) {
+    		target.addGroups(list);
+    	}
+    	
+    	/* Resize the target wells, keeping the original lengths */
+    	
+    	for(int slot = 0; slot < slots; slot++) {
+    		
+    		lengths[slot] = target.contains(slot) ? target.length(slot) : -1;
+    		int length = matrix.contains(slot) ? matrix.length(slot) : -1;
+    		
+    		if(lengths[slot] >= 0 && length >= 0) {
+    			target.resizeWell(slot, strict ? Math.min(lengths[slot], length) : Math.max(lengths[slot], length));
+    		} else if(strict && lengths[slot] >= 0) {
+    			target.removeWell(slot);
+    		} else if(!strict && length >= 0) {
+    			target.addWell(slot, length);
+    		}
+    	}
+    	
+    	for(int read = 0; read < target.reads(); read++) {
+    		
+    		boolean primitive = read < matrix.reads() && 
+    				this.calculate(target.read(read), matrix.read(read), values, overflow, slots);
+    		
+    		for(int slot = 0; slot < slots; slot++) {
+    			
+    			if(!target.contains(slot) || read >= target.length(slot)) {
+    				continue;
+    			}
+    			
+    			int length1 = lengths[slot];
+    			int length2 = matrix.contains(slot) ? matrix.length(slot) : -1;
+    			
+    			if(read < length1 && read < length2) {
+    				
+    				/* The list operations may apply the shorter data set first */
+    				
+    				boolean swap = !strict && length1 > length2 && this.shorterFirst();
+    				
+    				if(primitive && !swap && !overflow[slot] && 
+    				   target.isLong(slot, read) && matrix.isLong(slot, read)) {
+    					target.setLong(slot, read, values[slot]);
+    					continue;
+    				}
+    				
+    				BigInteger value1 = target.get(slot, read);
+    				BigInteger value2 = matrix.get(slot, read);
+    				
+    				target.set(slot, read, swap ? this.calculate(value2, value1) : this.calculate(value1, value2));
+    				
+    			} else if(length1 >= 0 && length2 >= 0) {
+    				
+    				/* Values of matched wells without a matching value */
+    				
+    				PlateMatrix source = read < length1 ? target : matrix;
+    				
+    				target.set(slot, read, this.calculateUnmatched(source.get(slot, read)));
+    				
+    			} else if(read >= length1) {
+    				
+    				if(matrix.isLong(slot, read)) {
+    					target.setLong(slot, read, matrix.read(read)[slot]);
+    				} else {
+    					target.set(slot, read, matrix.get(slot, read));
+    				}
+    			}
+    		}
+    	}
+    }
+    
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Replaces the data in the target well with the result of the mathematical
+     * operation. Missing data points due to uneven data set lengths are treated 
+     * as zeroes.
+     * @param    Well    the target well
+     * @param    Well    the second well
+     */
+    public void wellsInPlace(Well target, Well well) {
+    	this.validateArgs(target, well);
+    	this.wellInPlace(target, well, false);
+    }
+    
+    /**
+     * Replaces the data in the target well with the result of the mathematical
+     * operation. Missing data points due to uneven data set lengths are omitted.
+     * @param    Well    the target well
+     * @param    Well    the second well
+     */
+    public void wellsInPlaceStrict(Well target, Well well) {
+    	this.validateArgs(target, well);
+    	this.wellInPlace(target, well, true);
+    }
+    
+    /**
+     * Replaces the data in the target well with the result of the mathematical
+     * operation.
+     * @param    Well          the target well
+     * @param    BigInteger    constant for operation
+     */
+    public void wellsInPlace(Well target, BigInteger constant) {
+    	this.validateArgs(target);
+    	this.wellInPlace(target, constant);
+    }
+    
+    /**
+     * Replaces the data in the target set with the result of the mathematical
+     * operation. Missing data points due to unequal data set lengths are treated
+     * as zero values. Copies of the wells missing from the target set are added
+     * to the target set.
+     * @param    WellSet    the target set
+     * @param    WellSet    the second set
+     */
+    public void setsInPlace(WellSet target, WellSet set) {
+    	
+    	this.validateArgs(target, set);
+    	
+    	for(Well well : this.mergeInPlace(target, set, false)) {
+    		target.add(new Well(well));
+    	}
+    }
+    
+    /**
+     * Replaces the data in the target set with the result of the mathematical
+     * operation. Missing data points due to unequal data set lengths are omitted
+     * and wells missing from the second set are removed from the target set.
+     * @param    WellSet    the target set
+     * @param    WellSet    the second set
+     */
+    public void setsInPlaceStrict(WellSet target, WellSet set) {
+    	
+    	this.validateArgs(target, set);
+    	
+    	target.remove(this.mergeInPlace(target, set, true));
+    }
+    
+    /**
+     * Replaces the data in the target set with the result of the mathematical
+     * operation.
+     * @param    WellSet       the target set
+     * @param    BigInteger    constant for operation
+     */
+    public void setsInPlace(WellSet target, BigInteger constant) {
+    	this.validateArgs(target);
+    	this.constantInPlace(target, constant);
+    }
+    
+    /**
+     * Replaces the data in the target plate with the result of the mathematical
+     * operation. Missing data points due to unequal data set lengths are treated
+     * as zero values. Copies of the wells missing from the target plate are 
+     * added to the target plate. The groups of the target plate are unchanged.
+     * @param    Plate    the target plate
+     * @param    Plate    the second plate
+     */
+    public void platesInPlace(Plate target, Plate plate) {
+    	this.validateArgs(target, plate);
+    	this.plateInPlace(target, plate, false);
+    }
+    
+    /**
+     * Replaces the data in the target plate with the result of the mathematical
+     * operation. Missing data points due to unequal data set lengths are omitted
+     * and wells missing from the second plate are removed from the target plate.
+     * The groups of the target plate are unchanged.
+     * @param    Plate    the target plate
+     * @param    Plate    the second plate
+     */
+    public void platesInPlaceStrict(Plate target, Plate plate) {
+    	this.validateArgs(target, plate);
+    	this.plateInPlace(target, plate, true);
+    }
+    
+    /**
+     * Replaces the data in the target plate with the result of the mathematical
+     * operation.
+     * @param    Plate         the target plate
+     * @param    BigInteger    constant for operation
+     */
+    public void platesInPlace(Plate target, BigInteger constant) {
+    	this.validateArgs(target);
+    	this.constantInPlace(target, constant);
+    }
+    
+    /**
+     * Replaces the data in the target stack with the result of the mathematical
+     * operation. Missing data points due to data sets of unequal length are 
+     * treated as zero values. Copies of the plates missing from the target stack
+     * are added to the target stack.
+     * @param    Stack    the target stack
+     * @param    Stack    the second stack
+     */
+    public void stacksInPlace(Stack target, Stack stack) {
+    	this.validateArgs(target, stack);
+    	this.stackInPlace(target, stack, false);
+    }
+    
+    /**
+     * Replaces the data in the target stack with the result of the mathematical
+     * operation. Missing data points due to data sets of unequal length are 
+     * omitted and plates missing from the second stack are removed from the 
+     * target stack.
+     * @param    Stack    the target stack
+     * @param    Stack    the second stack
+     */
+    public void stacksInPlaceStrict(Stack target, Stack stack) {
+    	this.validateArgs(target, stack);
+    	this.stackInPlace(target, stack, true);
+    }
+    
+    /**
+     * Replaces the data in the target stack with the result of the mathematical
+     * operation.
+     * @param    Stack         the target stack
+     * @param    BigInteger    constant for operation
+     */
+    public void stacksInPlace(Stack target, BigInteger constant) {
+    	
+    	this.validateArgs(target);
+    	
+    	for(Plate plate : target) {
+    		this.constantInPlace(plate, constant);
+    	}
+    }
+    
+    /**
+     * Replaces the data in the target well with the result of the operation for
+     * a pair of wells sharing the same index. Values are replaced one at a time
+     * unless the operation passes the tail of the longer data set through, in 
+     * which case the data set is replaced by the result.
+     * @param    Well       the target well
+     * @param    Well       the second well
+     * @param    boolean    omits missing data points when true
+     */
+    private void wellInPlace(Well target, Well well, boolean strict) {
+    	
+    	List<BigInteger> data = target.data();
+    	List<BigInteger> values = well.data();
+    	
+    	if(!strict && data.size() != values.size()) {
+    		List<BigInteger> result = this.calculate(data, values);
+    		target.clear();
+    		target.add(result);
+    		return;
+    	}
+    	
+    	int length = Math.min(data.size(), values.size());
+    	
+    	for(int i = 0; i < length; i++) {
+    		data.set(i, this.calculate(data.get(i), values.get(i)));
+    	}
+    	
+    	if(data.size() > length) {
+    		data.subList(length, data.size()).clear();
+    	}
+    }
+    
+    /**
+     * Replaces the data in the target well with the result of the operation 
+     * using a constant.
+     * @param    Well          the target well
+     * @param    BigInteger    constant for operation
+     */
+    private void wellInPlace(Well target, BigInteger constant) {
+    	
+    	List<BigInteger> data = target.data();
+    	
+    	for(int i = 0; i < data.size(); i++) {
+    		data.set(i, this.calculate(data.get(i), constant));
+    	}
+    }
+    
+    /**
+     * Replaces the data in each target well with the result of the operation
+     * using a constant.
+     * @param    Iterable<Well>    the target wells
+     * @param    BigInteger        constant for operation
+     */
+    private void constantInPlace(Iterable<Well> targets, final BigInteger constant) {
+    	this.execution.calculate(targets, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			wellInPlace(well, constant);
+    			return well;
+    		}
+    	});
+    }
+    
+    /**
+     * Walks both well sequences once in row and column order and replaces the 
+     * data in the target wells found in both sequences. The unmatched wells are
+     * returned for the caller to remove or add. For strict operations these are
+     * the target wells missing from the second sequence, otherwise they are the
+     * wells of the second sequence missing from the target sequence.
+     * @param    Iterable<Well>    the target wells
+     * @param    Iterable<Well>    the second well sequence
+     * @param    boolean           omits missing data points when true
+     * @return                     the unmatched wells
+     */
+    private List<Well> mergeInPlace(Iterable<Well> targets, Iterable<Well> wells, final boolean strict) {
+    	
+    	List<Well> unmatched = new ArrayList<Well>();
+    	List<Well[]> pairs = new ArrayList<Well[]>();
+    	
+    	Iterator<Well> iter1 = targets.iterator();
+    	Iterator<Well> iter2 = wells.iterator();
+    	
+    	Well well1 = iter1.hasNext() ? iter1.next() : null;
+    	Well well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null && well2 != null) {
+    		
+    		int comparison = well1.row() == well2.row() ? 
+    				well1.column() - well2.column() : well1.row() - well2.row();
+    		
+    		if(comparison < 0) {
+    			
+    			if(strict) {
+    				unmatched.add(well1);
+    			}
+    			
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    			
+    		} else if(comparison > 0) {
+    			
+    			if(!strict) {
+    				unmatched.add(well2);
+    			}
+    			
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    			
+    		} else {
+    			
+    			pairs.add(new Well[]{ well1, well2 });
+    			
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	if(strict) {
+    		for(; well1 != null; well1 = iter1.hasNext() ? iter1.next() : null) {
+    			unmatched.add(well1);
+    		}
+    	} else {
+    		for(; well2 != null; well2 = iter2.hasNext() ? iter2.next() : null) {
+    			unmatched.add(well2);
+    		}
+    	}
+    	
+    	this.execution.calculate(pairs, new WellExecutor.Task<Well[]>() {
+    		Well calculate(Well[] pair) {
+    			wellInPlace(pair[0], pair[1], strict);
+    			return pair[0];
+    		}
+    	});
+    	
+    	return unmatched;
+    }
+    
+    /**
+     * Replaces the data in the target plate with the result of the operation.
+     * @param    Plate      the target plate
+     * @param    Plate      the second plate
+     * @param    boolean    omits missing data points when true
+     */
+    private void plateInPlace(Plate target, Plate plate, boolean strict) {
+    	
+    	List<Well> unmatched = this.mergeInPlace(target, plate, strict);
+    	
+    	if(unmatched.isEmpty()) {
+    		return;
+    	}
+    	
+    	if(strict) {
+    		target.removeWells(unmatched);
+    	} else {
+    		target.addWells(unmatched);
+    	}
+    }
+    
+    /**
+     * Replaces the data in the target stack with the result of the operation.
+     * Plates are paired in stack order. The stack orders plates using their 
+     * wells, so the target plates are removed from the stack while their wells
+     * change and added back afterwards.
+     * @param    Stack      the target stack
+     * @param    Stack      the second stack
+     * @param    boolean    omits missing data points when true
+     */
+    private void stackInPlace(Stack target, Stack stack, boolean strict) {
+    	
+    	List<Plate> targets = new ArrayList<Plate>(target.size());
+    	List<Plate> plates = new ArrayList<Plate>(stack.size());
+    	
+    	for(Plate plate : target) {
+    		targets.add(plate);
+    	}
+    	
+    	for(Plate plate : stack) {
+    		plates.add(plate);
+    	}
+    	
+    	for(Plate plate : targets) {
+    		target.remove(plate);
+    	}
+    	
+    	int length = Math.min(targets.size(), plates.size());
+    	
+    	for(int i = 0; i < length; i++) {
+    		this.plateInPlace(targets.get(i), plates.get(i), strict);
+    	}
+    	
+    	if(strict) {
+    		targets = targets.subList(0, length);
+    	} else {
+    		for(int i = length; i < plates.size(); i++) {
+    			targets.add(new Plate(plates.get(i)));
+    		}
+    	}
+    	
+    	target.add(targets);
+    }
+    
+    /* --------------------------- Matrix Methods --------------------------- */
+    
+    /**
+     * Returns the result of the mathematical operation. Missing data points due 
+     * to unequal data set lengths are treated as zero values.
+     * @param    PlateMatrix    the first plate matrix
+     * @param    PlateMatrix    the second plate matrix
+     * @return                  result of the operation
+     */
+    public PlateMatrix matrices(PlateMatrix matrix1, PlateMatrix matrix2) {
+    	
+    	this.validateArgs(matrix1, matrix2);
+    	
+    	PlateMatrix result = new PlateMatrix(matrix1.rows(), matrix1.columns());
+    	
+    	for(WellList list : matrix1.groups()) {
+    		result.addGroups(list);
+    	}
+    	
+    	for(WellList list : matrix2.groups()) {
+    		result.addGroups(list);
+    	}
+    	
+    	for(int i = 0; i < result.slots(); i++) {
+    		
+    		if(matrix1.contains(i) && matrix2.contains(i)) {
+    			result.addWell(i, Math.max(matrix1.length(i), matrix2.length(i)));
+    		} else if(matrix1.contains(i)) {
+    			result.addWell(i, matrix1.length(i));
+    		} else if(matrix2.contains(i)) {
+    			result.addWell(i, matrix2.length(i));
+    		}
+    	}
+    	
+    	this.calculate(matrix1, matrix2, result, false);
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns the result of the mathematical operation. Missing data points due 
+     * to unequal data set lengths are omitted.
+     * @param    PlateMatrix    the first plate matrix
+     * @param    PlateMatrix    the second plate matrix
+     * @return                  result of the operation
+     */
+    public PlateMatrix matricesStrict(PlateMatrix matrix1, PlateMatrix matrix2) {
+    	
+    	this.validateArgs(matrix1, matrix2);
+    	
+    	PlateMatrix result = new PlateMatrix(matrix1.rows(), matrix1.columns());
+    	
+    	for(WellList list : matrix1.groups()) {
+    		result.addGroups(list);
+    	}
+    	
+    	for(WellList list : matrix2.groups()) {
+    		result.addGroups(list);
+    	}
+    	
+    	for(int i = 0; i < result.slots(); i++) {
+    		if(matrix1.contains(i) && matrix2.contains(i)) {
+    			result.addWell(i, Math.min(matrix1.length(i), matrix2.length(i)));
+    		}
+    	}
+    	
+    	this.calculate(matrix1, matrix2, result, true);
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns the result of the mathematical operation.
+     * @param    PlateMatrix    the plate matrix
+     * @param    BigInteger     constant for operation
+     * @return                  result of the operation
+     */
+    public PlateMatrix matrices(PlateMatrix matrix, BigInteger constant) {
+    	
+    	this.validateArgs(matrix);
+    	
+    	if(constant == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    	
+    	PlateMatrix result = new PlateMatrix(matrix.rows(), matrix.columns());
+    	
+    	for(WellList list : matrix.groups()) {
+    		result.addGroups(list);
+    	}
+    	
+    	int slots = result.slots();
+    	
+    	for(int i = 0; i < slots; i++) {
+    		if(matrix.contains(i)) {
+    			result.addWell(i, matrix.length(i));
+    		}
+    	}
+    	
+    	boolean[] overflow = new boolean[slots];
+    	
+    	for(int read = 0; read < result.reads(); read++) {
+    		
+    		long[] values = result.read(read);
+    		BigInteger[] big = matrix.overflow(read);
+    		
+    		boolean primitive = WellData.fitsLong(constant) && 
+    				this.calculate(matrix.read(read), constant.longValue(), values, overflow, slots);
+    		
+    		for(int slot = 0; slot < slots; slot++) {
+    			
+    			if(!result.contains(slot) || read >= result.length(slot)) {
+    				continue;
+    			}
+    			
+    			if(primitive && !overflow[slot] && (big == null || big[slot] == null)) {
+    				continue;
+    			}
+    			
+    			result.set(slot, read, this.calculate(matrix.get(slot, read), constant));
+    		}
+    	}
+    	
+    	return result;
+    }
+    
+    /**
+     * Calculates the result for each read in the result matrix. Reads held by
+     * both matrices are calculated using the primitive implementation of the
+     * operation where possible and the big integer implementation otherwise.
+     * Reads held by a single well of a matched pair are calculated using
+     * calculateUnmatched() and wells held by a single matrix are copied.
+     * @param    PlateMatrix    the first plate matrix
+     * @param    PlateMatrix    the second plate matrix
+     * @param    PlateMatrix    the result holding the wells and well lengths
+     * @param    boolean        true if the operation is strict
+     */
+    private void calculate(PlateMatrix matrix1, PlateMatrix matrix2, PlateMatrix result, boolean strict) {
+    	
+    	int slots = result.slots();
+    	long[] zeroes = new long[slots];
+    	boolean[] overflow = new boolean[slots];
+    	
+    	for(int read = 0; read < result.reads(); read++) {
+    		
+    		long[] values = result.read(read);
+    		long[] values1 = read < matrix1.reads() ? matrix1.read(read) : zeroes;
+    		long[] values2 = read < matrix2.reads() ? matrix2.read(read) : zeroes;
+    		BigInteger[] big1 = read < matrix1.reads() ? matrix1.overflow(read) : null;
+    		BigInteger[] big2 = read < matrix2.reads() ? matrix2.overflow(read) : null;
+    		
+    		boolean primitive = this.calculate(values1, values2, values, overflow, slots);
+    		
+    		for(int slot = 0; slot < slots; slot++) {
+    			
+    			if(!result.contains(slot) || read >= result.length(slot)) {
+    				continue;
+    			}
+    			
+    			int length1 = matrix1.contains(slot) ? matrix1.length(slot) : -1;
+    			int length2 = matrix2.contains(slot) ? matrix2.length(slot) : -1;
+    			
+    			if(read < length1 && read < length2) {
+    				
+    				/* The list operations may apply the shorter data set first */
+    				
+    				boolean swap = !strict && length1 > length2 && this.shorterFirst();
+    				
+    				if(primitive && !swap && !overflow[slot] && 
+    				   (big1 == null || big1[slot] == null) && 
+    				   (big2 == null || big2[slot] == null)) {
+    					continue;
+    				}
+    				
+    				BigInteger value1 = matrix1.get(slot, read);
+    				BigInteger value2 = matrix2.get(slot, read);
+    				
+    				result.set(slot, read, swap ? this.calculate(value2, value1) : this.calculate(value1, value2));
+    				
+    			} else {
+    				
+    				PlateMatrix source = read < length1 ? matrix1 : matrix2;
+    				
+    				/* Wells held by a single matrix are copied */
+    				
+    				if(length1 >= 0 && length2 >= 0) {
+    					result.set(slot, read, this.calculateUnmatched(source.get(slot, read)));
+    				} else if(source.isLong(slot, read)) {
+    					result.setLong(slot, read, source.read(read)[slot]);
+    				} else {
+    					result.set(slot, read, source.get(slot, read));
+    				}
+    			}
+    		}
+    	}
+    }
+    
+    /* -------------------------- Dictionary Methods ------------------------ */
+    
+    /**
+     * Returns the result of the mathematical operation for a well using the 
+     * dictionary storage mode and a constant. The operation is performed once 
+     * for each distinct value and the result is a dictionary well. Wells sharing
+     * a dictionary share a translation. Translations are not thread safe, so 
+     * dictionary wells are translated one at a time.
+     * @param    Well                                           the well
+     * @param    BigInteger                                     constant for operation
+     * @param    Map<ValueDictionary, DictionaryTranslation>    the translations
+     * @return                                                  the result well
+     */
+    private Well dictionaryWell(Well well, final BigInteger constant, 
+    		Map<ValueDictionary, DictionaryTranslation> translations) {
+    	
+    	synchronized(translations) {
+    		
+    		ValueDictionary dictionary = well.dictionary();
+    		DictionaryTranslation translation = translations.get(dictionary);
+    		
+    		if(translation == null) {
+    			
+    			translation = new DictionaryTranslation(dictionary) {
+    				protected BigInteger calculate(BigInteger value) {
+    					return MathOperationBinary.this.calculate(value, constant);
+    				}
+    			};
+    			
+    			translations.put(dictionary, translation);
+    		}
+    		
+    		return translation.translate(well, 0, well.size());
+    	}
+    }
+    
+    /* ------------------------- Merge Join Methods ------------------------- */
+    
+    /**
+     * Walks both well sequences once in row and column order. Wells found in 
+     * both sequences are combined using the operation. Wells found in a single 
+     * sequence are added to the result unchanged, or the values between the
+     * indices for ranged joins, unless the join is strict, in which case they
+     * are omitted. Both sequences must iterate in ascending 
+     * well order, as well sets and plates do. The matched pairs are combined 
+     * after the walk using the executor.
+     * @param    Iterable<Well>    the first well sequence
+     * @param    Iterable<Well>    the second well sequence
+     * @param    boolean           omits unmatched wells when true
+     * @param    boolean           uses the values between the indices when true
+     * @param    int               beginning index of the subset
+     * @param    int               length of the subset
+     * @return                     result of the operation
+     */
+    private WellSet join(Iterable<Well> wells1, Iterable<Well> wells2, 
+    		final boolean strict, final boolean range, final int begin, final int length) {
+    	
+    	WellSet result = new WellSet();
+    	List<Well[]> pairs = new ArrayList<Well[]>();
+    	
+    	Iterator<Well> iter1 = wells1.iterator();
+    	Iterator<Well> iter2 = wells2.iterator();
+    	
+    	Well well1 = iter1.hasNext() ? iter1.next() : null;
+    	Well well2 = iter2.hasNext() ? iter2.next() : null;
+    	
+    	while(well1 != null && well2 != null) {
+    		
+    		int comparison = well1.row() == well2.row() ? 
+    				well1.column() - well2.column() : well1.row() - well2.row();
+    		
+    		if(comparison < 0) {
+    			
+    			if(!strict) {
+    				result.add(this.unmatched(well1, range, begin, length));
+    			}
+    			
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    			
+    		} else if(comparison > 0) {
+    			
+    			if(!strict) {
+    				result.add(this.unmatched(well2, range, begin, length));
+    			}
+    			
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    			
+    		} else {
+    			
+    			pairs.add(new Well[]{ well1, well2 });
+    			
+    			well1 = iter1.hasNext() ? iter1.next() : null;
+    			well2 = iter2.hasNext() ? iter2.next() : null;
+    		}
+    	}
+    	
+    	if(!strict) {
+    		
+    		for(; well1 != null; well1 = iter1.hasNext() ? iter1.next() : null) {
+    			result.add(this.unmatched(well1, range, begin, length));
+    		}
+    		
+    		for(; well2 != null; well2 = iter2.hasNext() ? iter2.next() : null) {
+    			result.add(this.unmatched(well2, range, begin, length));
+    		}
+    	}
+    	
+    	result.add(this.execution.calculate(pairs, new WellExecutor.Task<Well[]>() {
+    		Well calculate(Well[] pair) {
+    			return new Well(pair[0].row(), pair[0].column(), 
+    					joinWells(pair[0], pair[1], strict, range, begin, length));
+    		}
+    	}));
+    	
+    	return result;
+    }
+    
+    /**
+     * Returns a well found in a single sequence of a join. Ranged joins return
+     * the values of the well between the indices.
+     * @param    Well       the well
+     * @param    boolean    uses the values between the indices when true
+     * @param    int        beginning index of the subset
+     * @param    int        length of the subset
+     * @return              the well
+     */
+    private Well unmatched(Well well, boolean range, int begin, int length) {
+    	return range ? well.subList(begin, length) : well;
+    }
+    
+    /**
+     * Returns the result of the operation for a pair of wells sharing the same
+     * index.
+     * @param    Well       the first well
+     * @param    Well       the second well
+     * @param    boolean    omits missing data points when true
+     * @param    boolean    uses the values between the indices when true
+     * @param    int        beginning index of the subset
+     * @param    int        length of the subset
+     * @return              result of the operation
+     */
+    private List<BigInteger> joinWells(Well well1, Well well2, 
+    		boolean strict, boolean range, int begin, int length) {
+    	
+    	if(range) {
+    		
+    		validateArgs(well1, begin, length);
+    		validateArgs(well2, begin, length);
+    		
+    		return strict ? this.calculateStrict(well1.view(), well2.view(), begin, length) :
+    			            this.calculate(well1.view(), well2.view(), begin, length);
+    	}
+    	
+    	if(strict) {
+    		validateArgs(well1, well2);
+    		return this.calculateStrict(well1.view(), well2.view());
+    	}
+    	
+    	return this.calculate(well1.view(), well2.view());
+    }
+    
+    /*---------------- Methods for Validating Well Arguments -----------------*/
+    
+    /**
+     * Validates well arguments.
+     * @param    Well    the well
+     */
+    private void validateArgs(Well well) {
+    	if(well == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    }
+    
+    /**
+     * Validates well arguments.
+     * @param    Well    the first well
+     * @param    Well    the second well
+     */
+    private void validateArgs(Well well1, Well well2) {
+    	
+    	if(well1 == null || well2 == null) {
     		throw new NullPointerException("Null argument.");
     	}
      
@@ -1720,6 +2896,36 @@ public abstract class MathOperationBinary {
      
     }
     
+    /**
+     * Validates broadcast arguments.
+     * @param    Plate           the plate
+     * @param    BigInteger[]    the row or column values
+     * @param    int             the number of rows or columns
+     */
+    private void validateArgs(Plate plate, BigInteger[] values, int size) {
+    	
+    	if(plate == null || values == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    	
+    	if(values.length > size) {
+    		throw new IllegalArgumentException("Expected at most " + size + 
+    				" values but found " + values.length + ".");
+    	}
+    }
+    
+    /**
+     * Validates broadcast arguments.
+     * @param    Plate         the plate
+     * @param    WellList      the well list
+     * @param    BigInteger    constant for operation
+     */
+    private void validateArgs(Plate plate, WellList list, BigInteger constant) {
+    	if(plate == null || list == null || constant == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    }
+    
     /**
      * Validates plate arguments.
      * @param    Plate    the plate
@@ -1742,6 +2948,34 @@ public abstract class MathOperationBinary {
     	}
     }
     
+    /*---------------- Methods for Validating Matrix Arguments ---------------*/
+    
+    /**
+     * Validates plate matrix arguments.
+     * @param    PlateMatrix    the plate matrix
+     */
+    private void validateArgs(PlateMatrix matrix) {
+    	if(matrix == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    }
+    
+    /**
+     * Validates plate matrix arguments.
+     * @param    PlateMatrix    the first plate matrix
+     * @param    PlateMatrix    the second plate matrix
+     */
+    private void validateArgs(PlateMatrix matrix1, PlateMatrix matrix2) {
+    	
+    	if(matrix1 == null || matrix2 == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    	
+    	if(matrix1.rows() != matrix2.rows() || matrix1.columns() != matrix2.columns()) {
+    		throw new IllegalArgumentException("Unequal plate dimensios.");
+    	}
+    }
+    
     /*---------------- Methods for Validating Stack Arguments ----------------*/
     
     /**
@@ -1765,6 +2999,22 @@ public abstract class MathOperationBinary {
     	}    
     }
     
+    /**
+     * Validates stack arguments.
+     * @param    Stack    the stack
+     * @param    Plate    the plate
+     */
+    private void validateArgs(Stack stack, Plate plate) {
+    	
+    	if(stack == null || plate == null) {
+    		throw new NullPointerException("Null argument.");
+    	}
+    	
+    	if(stack.rows() != plate.rows() || stack.columns() != plate.columns()) {
+    		throw new IllegalArgumentException("Unequal plate dimensions.");
+    	}
+    }
+    
     /**
      * Validates stack arguments.
      * @param    Stack    the stack
@@ -1918,4 +3168,75 @@ public abstract class MathOperationBinary {
      * @return                             result of the mathematical operation
      */
     public abstract List<BigInteger> calculateStrict(List<BigInteger> list, Collection<BigInteger> collection, int begin, int length);
+
+    /*----------------------- Value Operation Methods ------------------------*/
+    
+    /**
+     * Performs the mathematical operation for the two values. The default 
+     * implementation calls the strict list operation using single value lists.
+     * Operations override this method to avoid the list allocation.
+     * @param    BigInteger    the first value
+     * @param    BigInteger    the second value
+     * @return                 result of the mathematical operation
+     */
+    public BigInteger calculate(BigInteger value1, BigInteger value2) {
+    	return this.calculateStrict(Arrays.asList(value1), Arrays.asList(value2)).get(0);
+    }
+    
+    /**
+     * Returns the result for a value of the longer data set without a matching
+     * value in the shorter data set. Used by the standard methods for data sets
+     * of unequal length. The default implementation returns the value.
+     * @param    BigInteger    the value
+     * @return                 the result
+     */
+    protected BigInteger calculateUnmatched(BigInteger value) {
+    	return value;
+    }
+    
+    /**
+     * Returns true if the standard list operations apply the shorter of two 
+     * data sets of unequal length as the first operand. The plate matrix and
+     * reduction methods follow the list operations. Operations that always 
+     * apply the first data set as the first operand return false. The default
+     * implementation returns true.
+     * @return    true if the shorter data set is applied first
+     */
+    protected boolean shorterFirst() {
+    	return true;
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in the two long arrays
+     * and stores the results in the result array. The overflow flag is set for
+     * each result that cannot be represented as a long and cleared otherwise.
+     * Operations without a primitive implementation return false and leave the
+     * result array untouched. The default implementation returns false.
+     * @param    long[]       the first values
+     * @param    long[]       the second values
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+    	return false;
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in the long array and
+     * the constant and stores the results in the result array. The overflow flag 
+     * is set for each result that cannot be represented as a long and cleared 
+     * otherwise. Operations without a primitive implementation return false and
+     * leave the result array untouched. The default implementation returns false.
+     * @param    long[]       the values
+     * @param    long         the constant
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+    	return false;
+    }
 }
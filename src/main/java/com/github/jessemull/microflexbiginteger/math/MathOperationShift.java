@@ -24,7 +24,9 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import com.github.jessemull.microflexbiginteger.plate.Plate;
 import com.github.jessemull.microflexbiginteger.plate.Stack;
@@ -38,8 +40,19 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  * Shift operations can also be performed on a subset of data using a beginning 
  * index and subset length. 
  * <br><br>
- * MicroFlex currently supports the following shift mathematical operations 
- * for BigInteger objects:
+ * The wells of plates, well sets and stacks are calculated independently. Use
+ * setParallel() or setExecutor() to calculate plates and sets holding at least
+ * the threshold number of wells in parallel. The results are identical to the 
+ * sequential mode.
+ * <br><br>
+ * The in place methods, such as platesInPlace(), replace the data in the input
+ * wells with the result instead of allocating new wells.
+ * <br><br>
+ * Other operations with an integer argument, such as the power operation, 
+ * extend this class in the same way.
+ * <br><br>
+ * MicroFlex currently supports the following shift and integer argument 
+ * mathematical operations for BigInteger objects:
  * 
  * <table cellspacing="5px" style="text-align:left; margin: 20px;">
  *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Operations<div></th>
@@ -49,6 +62,9 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  *    <tr>
  *       <td>Right Shift (Arithmetic/Signed)</td>
  *    </tr>
+ *    <tr>
+ *       <td>Power</td>
+ *    </tr>
  * </table>
  * 
  * @author Jesse L. Mull
@@ -58,12 +74,73 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  */
 public abstract class MathOperationShift {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private WellExecutor execution = new WellExecutor();    // Sequential or parallel execution
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
 	 * Creates a new math operation.
 	 */
 	public MathOperationShift() {}
+	
+    /* ------------------------ Methods for Execution ----------------------- */
+    
+    /**
+     * Enables or disables the parallel execution mode. In parallel mode the 
+     * wells of plates, well sets and stacks holding at least the threshold 
+     * number of wells are calculated using a shared fork join pool. The results 
+     * are identical to the sequential mode.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+    	this.execution.setExecutor(parallel ? WellExecutor.pool() : null);
+    }
+    
+    /**
+     * Returns true if the wells are calculated in parallel.
+     * @return    true for parallel execution
+     */
+    public boolean isParallel() {
+    	return this.execution.executor() != null;
+    }
+    
+    /**
+     * Sets the executor service used to calculate the wells in parallel. Null
+     * values restore the sequential mode.
+     * @param    ExecutorService    the executor service
+     */
+    public void setExecutor(ExecutorService executor) {
+    	this.execution.setExecutor(executor);
+    }
+    
+    /**
+     * Returns the executor service used to calculate the wells in parallel or 
+     * null in sequential mode.
+     * @return    the executor service
+     */
+    public ExecutorService executor() {
+    	return this.execution.executor();
+    }
+    
+    /**
+     * Sets the minimum number of wells calculated in parallel. Smaller plates 
+     * and well sets are calculated in the calling thread.
+     * @param    int    the threshold
+     * @throws   IllegalArgumentException    threshold is less than one
+     */
+    public void setThreshold(int threshold) {
+    	this.execution.setThreshold(threshold);
+    }
+    
+    /**
+     * Returns the minimum number of wells calculated in parallel.
+     * @return    the threshold
+     */
+    public int threshold() {
+    	return this.execution.threshold();
+    }
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
@@ -108,7 +185,7 @@ public abstract class MathOperationShift {
      * @param    int                number of bits to shift
      * @return                      result of the operation
      */
-    public Plate plates(Plate plate, int n) {
+    public Plate plates(Plate plate, final int n) {
     	
     	if(plate == null) {
     		throw new NullPointerException("Plate is null.");
@@ -116,10 +193,12 @@ public abstract class MathOperationShift {
     	
     	Plate result = new Plate(plate.rows(), plate.columns());
     	
-    	for(Well well : plate) {
-    		result.addWells(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	result.addWells(this.execution.calculate(plate, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationShift.this.calculate(well.data(), n));
+    		}
+    	}));
     	
     	return result;
     }
@@ -133,7 +212,7 @@ public abstract class MathOperationShift {
      * @param    int                length of the subset
      * @return                      result of the operation
      */
-    public Plate plates(Plate plate, int n, int begin, int length) {
+    public Plate plates(Plate plate, final int n, final int begin, final int length) {
     	
     	if(plate == null) {
     		throw new NullPointerException("Plate is null.");
@@ -141,10 +220,12 @@ public abstract class MathOperationShift {
     	
     	Plate result = new Plate(plate.rows(), plate.columns());
     	
-    	for(Well well : plate) {
-    		result.addWells(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), n, begin, length)));
-    	}
+    	result.addWells(this.execution.calculate(plate, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationShift.this.calculate(well.data(), n, begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -157,7 +238,7 @@ public abstract class MathOperationShift {
      * @param    int                       number of bits to shift
      * @return                             result of the operation
      */
-    public WellSet sets(WellSet set, int n) {
+    public WellSet sets(WellSet set, final int n) {
     	
     	if(set == null) {
     		throw new NullPointerException("Well set is null.");
@@ -165,10 +246,12 @@ public abstract class MathOperationShift {
     	
     	WellSet result = new WellSet();
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), n)));
-    	}
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationShift.this.calculate(well.data(), n));
+    		}
+    	}));
     	
     	return result;
     }
@@ -182,7 +265,7 @@ public abstract class MathOperationShift {
      * @param    int                  length of the subset
      * @return                        result of the operation
      */
-    public WellSet sets(WellSet set, int n, int begin, int length) {
+    public WellSet sets(WellSet set, final int n, final int begin, final int length) {
     	
     	if(set == null) {
     		throw new NullPointerException("Well set is null.");
@@ -190,10 +273,12 @@ public abstract class MathOperationShift {
     	
     	WellSet result = new WellSet();
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), n, begin, length)));
-    	}
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			return new Well(well.row(), well.column(), 
+    					MathOperationShift.this.calculate(well.data(), n, begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -244,6 +329,98 @@ public abstract class MathOperationShift {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Replaces the data in the well with the result of the mathematical 
+     * operation.
+     * @param    Well    the well
+     * @param    int     number of bits to shift
+     */
+    public void wellsInPlace(Well well, int n) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.wellInPlace(well, n);
+    }
+    
+    /**
+     * Replaces the data in the plate with the result of the mathematical 
+     * operation.
+     * @param    Plate    the plate
+     * @param    int      number of bits to shift
+     */
+    public void platesInPlace(Plate plate, int n) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	this.wellsInPlace(plate, n);
+    }
+    
+    /**
+     * Replaces the data in the well set with the result of the mathematical 
+     * operation.
+     * @param    WellSet    the well set
+     * @param    int        number of bits to shift
+     */
+    public void setsInPlace(WellSet set, int n) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	this.wellsInPlace(set, n);
+    }
+    
+    /**
+     * Replaces the data in the stack with the result of the mathematical 
+     * operation.
+     * @param    Stack    the stack
+     * @param    int      number of bits to shift
+     */
+    public void stacksInPlace(Stack stack, int n) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	for(Plate plate : stack) {
+    		this.wellsInPlace(plate, n);
+    	}
+    }
+    
+    /**
+     * Replaces the data in each well with the result of the operation.
+     * @param    Iterable<Well>    the wells
+     * @param    int               number of bits to shift
+     */
+    private void wellsInPlace(Iterable<Well> wells, final int n) {
+    	this.execution.calculate(wells, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			wellInPlace(well, n);
+    			return well;
+    		}
+    	});
+    }
+    
+    /**
+     * Replaces each value in the well with the result of the operation.
+     * @param    Well    the well
+     * @param    int     number of bits to shift
+     */
+    private void wellInPlace(Well well, int n) {
+    	
+    	List<BigInteger> data = well.data();
+    	
+    	for(int i = 0; i < data.size(); i++) {
+    		data.set(i, this.calculate(data.get(i), n));
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -262,4 +439,18 @@ public abstract class MathOperationShift {
      * @return                       result of the mathematical operation
      */
     public abstract List<BigInteger> calculate(List<BigInteger> list, int n, int begin, int length);
+    
+    /*----------------------- Value Operation Methods ------------------------*/
+    
+    /**
+     * Performs the mathematical operation for the value. The default 
+     * implementation calls the list operation using a single value list. 
+     * Operations override this method to avoid the list allocation.
+     * @param    BigInteger    the value
+     * @param    int           number of bits to shift
+     * @return                 result of the mathematical operation
+     */
+    public BigInteger calculate(BigInteger value, int n) {
+    	return this.calculate(Arrays.asList(value), n).get(0);
+    }
 }
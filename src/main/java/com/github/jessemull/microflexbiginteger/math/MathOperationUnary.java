@@ -24,10 +24,16 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
 import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.ValueDictionary;
 import com.github.jessemull.microflexbiginteger.plate.Well;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
@@ -38,6 +44,25 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  * appropriate operation. Unary operations can also be performed on a subset of
  * data using a beginning index and subset length. 
  * <br><br>
+ * Operations on plate matrices are performed one read at a time using the long
+ * array calculate method and fall back to the single value calculate method for
+ * values outside the range of a long.
+ * <br><br>
+ * Operations on wells using the dictionary storage mode are performed once for
+ * each distinct value using the single value calculate method. The results are
+ * dictionary wells.
+ * <br><br>
+ * The wells of plates, well sets and stacks are calculated independently. Use
+ * setParallel() or setExecutor() to calculate plates and sets holding at least
+ * the threshold number of wells in parallel. The results are identical to the 
+ * sequential mode.
+ * <br><br>
+ * Increment and decrement use primitive arithmetic for values that fit in a long
+ * and return hybrid data sets.
+ * <br><br>
+ * The in place methods, such as setsInPlace(), replace the data in the input
+ * wells with the result instead of allocating new wells.
+ * <br><br>
  * MicroFlex currently supports the following unary mathematical operations 
  * for BigInteger objects:
  * 
@@ -61,12 +86,73 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  */
 public abstract class MathOperationUnary {
 
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private WellExecutor execution = new WellExecutor();    // Sequential or parallel execution
+	
 	/* ---------------------------- Constructors ---------------------------- */
 	
 	/**
 	 * Creates a new math operation.
 	 */
 	public MathOperationUnary() {}
+	
+    /* ------------------------ Methods for Execution ----------------------- */
+    
+    /**
+     * Enables or disables the parallel execution mode. In parallel mode the 
+     * wells of plates, well sets and stacks holding at least the threshold 
+     * number of wells are calculated using a shared fork join pool. The results 
+     * are identical to the sequential mode.
+     * @param    boolean    true for parallel execution
+     */
+    public void setParallel(boolean parallel) {
+    	this.execution.setExecutor(parallel ? WellExecutor.pool() : null);
+    }
+    
+    /**
+     * Returns true if the wells are calculated in parallel.
+     * @return    true for parallel execution
+     */
+    public boolean isParallel() {
+    	return this.execution.executor() != null;
+    }
+    
+    /**
+     * Sets the executor service used to calculate the wells in parallel. Null
+     * values restore the sequential mode.
+     * @param    ExecutorService    the executor service
+     */
+    public void setExecutor(ExecutorService executor) {
+    	this.execution.setExecutor(executor);
+    }
+    
+    /**
+     * Returns the executor service used to calculate the wells in parallel or 
+     * null in sequential mode.
+     * @return    the executor service
+     */
+    public ExecutorService executor() {
+    	return this.execution.executor();
+    }
+    
+    /**
+     * Sets the minimum number of wells calculated in parallel. Smaller plates 
+     * and well sets are calculated in the calling thread.
+     * @param    int    the threshold
+     * @throws   IllegalArgumentException    threshold is less than one
+     */
+    public void setThreshold(int threshold) {
+    	this.execution.setThreshold(threshold);
+    }
+    
+    /**
+     * Returns the minimum number of wells calculated in parallel.
+     * @return    the threshold
+     */
+    public int threshold() {
+    	return this.execution.threshold();
+    }
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
@@ -81,7 +167,12 @@ public abstract class MathOperationUnary {
     		throw new NullPointerException("Well is null.");
     	}
     	
-    	return calculate(well.data());
+    	if(well.dictionary() != null) {
+    		return this.dictionaryWell(well, 0, well.size(), 
+    				new IdentityHashMap<ValueDictionary, DictionaryTranslation>()).data();
+    	}
+    	
+    	return calculate(well.view());
     }
     
     /**
@@ -98,7 +189,12 @@ public abstract class MathOperationUnary {
     		throw new NullPointerException("Well is null.");
     	}
     	
-    	return calculate(well.data(), begin, length);
+    	if(well.dictionary() != null) {
+    		return this.dictionaryWell(well, begin, length, 
+    				new IdentityHashMap<ValueDictionary, DictionaryTranslation>()).data();
+    	}
+    	
+    	return calculate(well.view(), begin, length);
     }
     
     /* ---------------------------- Plate Methods --------------------------- */
@@ -115,11 +211,20 @@ public abstract class MathOperationUnary {
     	}
     	
     	Plate result = new Plate(plate.rows(), plate.columns());
+    	final Map<ValueDictionary, DictionaryTranslation> translations = 
+    			new IdentityHashMap<ValueDictionary, DictionaryTranslation>();
     	
-    	for(Well well : plate) {
-    		result.addWells(new Well(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	result.addWells(this.execution.calculate(plate, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			if(well.dictionary() != null) {
+    				return dictionaryWell(well, 0, well.size(), translations);
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationUnary.this.calculate(well.view()));
+    		}
+    	}));
     	
     	return result;
     }
@@ -132,18 +237,27 @@ public abstract class MathOperationUnary {
      * @param    int                length of the subset
      * @return                      result of the operation
      */
-    public Plate plates(Plate plate, int begin, int length) {
+    public Plate plates(Plate plate, final int begin, final int length) {
     	
     	if(plate == null) {
     		throw new NullPointerException("Plate is null.");
     	}
     	
     	Plate result = new Plate(plate.rows(), plate.columns());
+    	final Map<ValueDictionary, DictionaryTranslation> translations = 
+    			new IdentityHashMap<ValueDictionary, DictionaryTranslation>();
     	
-    	for(Well well : plate) {
-    		result.addWells(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), begin, length)));
-    	}
+    	result.addWells(this.execution.calculate(plate, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			if(well.dictionary() != null) {
+    				return dictionaryWell(well, begin, length, translations);
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationUnary.this.calculate(well.view(), begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -162,11 +276,20 @@ public abstract class MathOperationUnary {
     	}
     	
     	WellSet result = new WellSet();
+    	final Map<ValueDictionary, DictionaryTranslation> translations = 
+    			new IdentityHashMap<ValueDictionary, DictionaryTranslation>();
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data())));
-    	}
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			if(well.dictionary() != null) {
+    				return dictionaryWell(well, 0, well.size(), translations);
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationUnary.this.calculate(well.view()));
+    		}
+    	}));
     	
     	return result;
     }
@@ -179,18 +302,27 @@ public abstract class MathOperationUnary {
      * @param    int                  length of the subset
      * @return                        result of the operation
      */
-    public WellSet sets(WellSet set, int begin, int length) {
+    public WellSet sets(WellSet set, final int begin, final int length) {
     	
     	if(set == null) {
     		throw new NullPointerException("Well set is null.");
     	}
     	
     	WellSet result = new WellSet();
+    	final Map<ValueDictionary, DictionaryTranslation> translations = 
+    			new IdentityHashMap<ValueDictionary, DictionaryTranslation>();
     	
-    	for(Well well : set) {
-    		result.add(new Well(well.row(), well.column(), 
-    				this.calculate(well.data(), begin, length)));
-    	}
+    	result.add(this.execution.calculate(set, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			
+    			if(well.dictionary() != null) {
+    				return dictionaryWell(well, begin, length, translations);
+    			}
+    			
+    			return new Well(well.row(), well.column(), 
+    					MathOperationUnary.this.calculate(well.view(), begin, length));
+    		}
+    	}));
     	
     	return result;
     }
@@ -239,6 +371,176 @@ public abstract class MathOperationUnary {
      	return result;
      } 
      
+    /* --------------------------- In Place Methods ------------------------- */
+    
+    /**
+     * Replaces the data in the well with the result of the mathematical 
+     * operation.
+     * @param    Well    the well
+     */
+    public void wellsInPlace(Well well) {
+    	
+    	if(well == null) {
+    		throw new NullPointerException("Well is null.");
+    	}
+    	
+    	this.wellInPlace(well);
+    }
+    
+    /**
+     * Replaces the data in the plate with the result of the mathematical 
+     * operation.
+     * @param    Plate    the plate
+     */
+    public void platesInPlace(Plate plate) {
+    	
+    	if(plate == null) {
+    		throw new NullPointerException("Plate is null.");
+    	}
+    	
+    	this.wellsInPlace(plate);
+    }
+    
+    /**
+     * Replaces the data in the well set with the result of the mathematical 
+     * operation.
+     * @param    WellSet    the well set
+     */
+    public void setsInPlace(WellSet set) {
+    	
+    	if(set == null) {
+    		throw new NullPointerException("Well set is null.");
+    	}
+    	
+    	this.wellsInPlace(set);
+    }
+    
+    /**
+     * Replaces the data in the stack with the result of the mathematical 
+     * operation.
+     * @param    Stack    the stack
+     */
+    public void stacksInPlace(Stack stack) {
+    	
+    	if(stack == null) {
+    		throw new NullPointerException("Stack is null.");
+    	}
+    	
+    	for(Plate plate : stack) {
+    		this.wellsInPlace(plate);
+    	}
+    }
+    
+    /**
+     * Replaces the data in each well with the result of the operation.
+     * @param    Iterable<Well>    the wells
+     */
+    private void wellsInPlace(Iterable<Well> wells) {
+    	this.execution.calculate(wells, new WellExecutor.Task<Well>() {
+    		Well calculate(Well well) {
+    			wellInPlace(well);
+    			return well;
+    		}
+    	});
+    }
+    
+    /**
+     * Replaces each value in the well with the result of the operation.
+     * @param    Well    the well
+     */
+    private void wellInPlace(Well well) {
+    	
+    	List<BigInteger> data = well.data();
+    	
+    	for(int i = 0; i < data.size(); i++) {
+    		data.set(i, this.calculate(data.get(i)));
+    	}
+    }
+    
+    /* --------------------------- Matrix Methods --------------------------- */
+    
+    /**
+     * Returns the result of the mathematical operation.
+     * @param    PlateMatrix    the plate matrix
+     * @return                  result of the operation
+     */
+    public PlateMatrix matrices(PlateMatrix matrix) {
+    	
+    	if(matrix == null) {
+    		throw new NullPointerException("Plate matrix is null.");
+    	}
+    	
+    	PlateMatrix result = new PlateMatrix(matrix.rows(), matrix.columns());
+    	
+    	int slots = result.slots();
+    	
+    	for(int i = 0; i < slots; i++) {
+    		if(matrix.contains(i)) {
+    			result.addWell(i, matrix.length(i));
+    		}
+    	}
+    	
+    	boolean[] overflow = new boolean[slots];
+    	
+    	for(int read = 0; read < result.reads(); read++) {
+    		
+    		BigInteger[] big = matrix.overflow(read);
+    		boolean primitive = this.calculate(matrix.read(read), result.read(read), overflow, slots);
+    		
+    		for(int slot = 0; slot < slots; slot++) {
+    			
+    			if(!result.contains(slot) || read >= result.length(slot)) {
+    				continue;
+    			}
+    			
+    			if(primitive && !overflow[slot] && (big == null || big[slot] == null)) {
+    				continue;
+    			}
+    			
+    			result.set(slot, read, this.calculate(matrix.get(slot, read)));
+    		}
+    	}
+    	
+    	return result;
+    }
+    
+    /* -------------------------- Dictionary Methods ------------------------ */
+    
+    /**
+     * Returns the result of the mathematical operation for a well using the 
+     * dictionary storage mode. The operation is performed once for each distinct
+     * value and the result is a dictionary well. Wells sharing a dictionary share
+     * a translation. Translations are not thread safe, so dictionary 
+     * wells are translated one at a time.
+     * @param    Well                                           the well
+     * @param    int                                            beginning index of the subset
+     * @param    int                                            length of the subset
+     * @param    Map<ValueDictionary, DictionaryTranslation>    the translations
+     * @return                                                  the result well
+     */
+    private Well dictionaryWell(Well well, int begin, int length, 
+    		Map<ValueDictionary, DictionaryTranslation> translations) {
+    	
+    	synchronized(translations) {
+    		
+    		ValueDictionary dictionary = well.dictionary();
+    		DictionaryTranslation translation = translations.get(dictionary);
+    		
+    		if(translation == null) {
+    			
+    			translation = new DictionaryTranslation(dictionary) {
+    				protected BigInteger calculate(BigInteger value) {
+    					return MathOperationUnary.this.calculate(value);
+    				}
+    			};
+    			
+    			translations.put(dictionary, translation);
+    		}
+    		
+    		return translation.translate(well, begin, length);
+    	}
+    }
+    
     /*------------------------ List Operation Methods ------------------------*/
     
     /**
@@ -255,4 +557,33 @@ public abstract class MathOperationUnary {
      * @return                       result of the mathematical operation
      */
     public abstract List<BigInteger> calculate(List<BigInteger> list, int begin, int length);
+
+    /*----------------------- Value Operation Methods ------------------------*/
+    
+    /**
+     * Performs the mathematical operation for the value. The default 
+     * implementation calls the list operation using a single value list. 
+     * Operations override this method to avoid the list allocation.
+     * @param    BigInteger    the value
+     * @return                 result of the mathematical operation
+     */
+    public BigInteger calculate(BigInteger value) {
+    	return this.calculate(Arrays.asList(value)).get(0);
+    }
+    
+    /**
+     * Performs the mathematical operation for the values in the long array and
+     * stores the results in the result array. The overflow flag is set for each
+     * result that cannot be represented as a long and cleared otherwise. 
+     * Operations without a primitive implementation return false and leave the
+     * result array untouched. The default implementation returns false.
+     * @param    long[]       the values
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    protected boolean calculate(long[] values, long[] result, boolean[] overflow, int length) {
+    	return false;
+    }
 }
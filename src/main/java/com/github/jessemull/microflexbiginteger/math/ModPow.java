@@ -0,0 +1,701 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * This class performs modular exponentiation operations with two arguments for
+ * BigInteger plate stacks, plates, wells and well sets. The values in the first
+ * argument are raised to the powers in the second argument modulo the modulus
+ * of the operation. 
+ * 
+ * The modulus is examined once when the operation is created. Moduli below 
+ * 2^31 are applied using primitive arithmetic. An exponent shared by every 
+ * value, such as a constant, is decomposed into sliding windows once and the 
+ * decomposition is reused for every well until a different constant is used.
+ * Larger moduli fall back to BigInteger.modPow(). The results are identical to
+ * BigInteger.modPow().
+ * 
+ * Operations can be performed on stacks, plates, sets or wells of uneven length
+ * using standard or strict functions. The values in the first input object are 
+ * always the bases. Standard functions reduce values without a matching value 
+ * in the other data set modulo the modulus and combine all stacks, plates, sets
+ * and wells from both input objects. Strict functions omit all values, stacks, 
+ * plates, wells and sets missing from one of the input objects:
+ * 
+ * <table cellspacing="10px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Operation<div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Output</div></th>
+ *    <tr>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Standard</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Reduces unmatched values modulo the modulus</td>
+ *             </tr>
+ *             <tr>
+ *                <td>Combines stacks, plates, sets, wells and values from both input objects</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *    </tr>
+ *    <tr>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Strict</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *       <td valign="top">
+ *          <table>
+ *             <tr>
+ *                <td>Omits all missing values</td>
+ *             </tr>
+ *              <tr>
+ *                <td>Combines stacks, plates, sets, wells and values present in both input objects only</td>
+ *             </tr>
+ *          </table>  
+ *       </td>
+ *    </tr>
+ * </table>
+ * 
+ * The functions within the MicroFlex library are designed to be flexible and classes 
+ * extending the math operation binary object support operations using two stacks, 
+ * plates, sets and well objects as input. In addition, they support operations using 
+ * a single stack, plate, set or well object and a collection, array or constant, and
+ * also allow the developer to limit the operation to a subset of data:
+ * 
+ * <table cellspacing="10px" style="text-align:left; margin: 20px;">
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Input 1<br><div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Input 2</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Beginning<br>Index</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px;">Length of<br>Subset</div></th>
+ *    <th><div style="border-bottom: 1px solid black; padding-bottom: 5px; padding-top: 18px;">Operation</div></th>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Well</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the two wells</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in the well</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in the well</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Well</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant value and each value in the well</td>
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Set</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in the two sets</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of the set</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of the set</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Set</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of the set</td> 
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Plate</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in the two plates</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of the plate</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of the plate</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Plate</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of the plate</td>
+ *    </tr>
+ *    
+ *    <tr></tr>
+ *    <tr></tr>
+ *    
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Stack</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation on the values in each matching pair of wells in each matching plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Array</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the array and the values in each well of each plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Collection</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the values in the collection and the values in each well of each plate in the stack</td>
+ *    </tr>
+ *    <tr>
+ *       <td>Stack</td>
+ *       <td>Constant</td>
+ *       <td>+/-</td>
+ *       <td>+/-</td>
+ *       <td>Performs the operation using the constant and each value in each well of each plate in the stack</td>
+ *    </tr>
+ * </table>
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ModPow extends MathOperationBinary {
+	
+	/* ---------------------------- Private Fields -------------------------- */
+	
+	private BigInteger modulus;               // The modulus
+	private ModularPower power;               // Modulus state for exponents changing with every value
+	private volatile ModularPower shared;     // Windows for the last constant exponent
+	
+	/* ---------------------------- Constructors ---------------------------- */
+	
+	/**
+	 * Creates a new modular exponentiation operation.
+	 * @param    BigInteger    the modulus
+	 * @throws   ArithmeticException    the modulus is not positive
+	 */
+	public ModPow(BigInteger modulus) {
+		this.power = new ModularPower(modulus);
+		this.modulus = modulus;
+	}
+	
+	/* ------------------------------- Methods ------------------------------ */
+	
+	/**
+	 * Returns the modulus.
+	 * @return    the modulus
+	 */
+	public BigInteger modulus() {
+		return this.modulus;
+	}
+	
+	/**
+	 * Raises the values in the first list to the powers in the second list
+	 * modulo the modulus and returns the result. Values of the longer list 
+	 * without a matching value are reduced modulo the modulus.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
+		List<BigInteger> smallest = list1.size() > list2.size() ? list2 : list1;
+		WellData result = new WellData();
+
+		for(int i = 0; i < smallest.size(); i++) {
+			this.power.modPow(list1.get(i), list2.get(i), result);
+		}
+
+		for(int i = smallest.size(); i < largest.size(); i++) {
+			result.add(this.calculateUnmatched(largest.get(i)));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Raises the values in the first list to the powers in the second list
+	 * modulo the modulus and returns the result. Missing data points due to
+	 * uneven list lengths are omitted.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
+		
+		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
+		WellData result = new WellData();
+		
+		for(int i = 0; i < smallest.size(); i++) {
+			this.power.modPow(list1.get(i), list2.get(i), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the values in the first list to the powers in the second list
+	 * modulo the modulus using the values between the indices. Values of the
+	 * longer list without a matching value are reduced modulo the modulus.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int begin                 beginning index of the subset
+	 * @param    int length                length of the subset
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list1, List<BigInteger> list2, int begin, int length) {
+
+		
+		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
+		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
+		WellData result = new WellData();
+
+		int end1 = begin + length;
+		int end2 = end1;
+		
+		if(end1 > smallest.size()) {
+			end1 = smallest.size();
+		}
+
+		for(int i = begin; i < end1; i++) {
+			this.power.modPow(list1.get(i), list2.get(i), result);
+		}
+		
+		for(int i = end1; i < end2; i++) {
+			result.add(this.calculateUnmatched(largest.get(i)));
+	    }
+		
+		return result;
+	}
+
+	/**
+	 * Raises the values in the first list to the powers in the second list
+	 * modulo the modulus using the values between the indices. Missing data
+	 * points due to uneven list lengths are omitted.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int begin                 beginning index of the subset
+	 * @param    int length                length of the subset
+	 * @return             the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list1,
+			List<BigInteger> list2, int begin, int length) {
+
+		WellData result = new WellData();
+		
+		for(int i = begin; i < begin + length; i++) {
+			this.power.modPow(list1.get(i), list2.get(i), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the values in the list to the constant power modulo the modulus.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger constant      the constant value
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
+		
+		WellData result = new WellData(list.size());
+		ModularPower power = this.power(constant);
+		
+		for(BigInteger bd : list) {
+			power.modPow(bd, result);
+		}
+		
+		return result;
+		
+	}
+
+	/**
+	 * Raises the list values to the powers within the array modulo the modulus.
+	 * Values without a matching value due to uneven list and array sizes are
+	 * reduced modulo the modulus.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
+		
+		int index;
+	    WellData result = new WellData();
+	
+		for(index = 0; index < list.size() && index < array.length; index++) {
+			this.power.modPow(list.get(index), array[index], result);
+		}
+		
+		for(int i = index; i < list.size(); i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		for(int i = index; i < array.length; i++) {
+			result.add(this.calculateUnmatched(array[i]));
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the array modulo the modulus
+	 * between the indices. Values without a matching value due to uneven list
+	 * and array sizes are reduced modulo the modulus.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @param    int begin                beginning index of the subset
+	 * @param    int length               length of the subset
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array,
+			int begin, int length) {
+		
+		int index;
+		WellData result = new WellData();
+		
+		for(index = begin; index < list.size() && index < array.length && 
+				index < begin + length; index++) {
+			this.power.modPow(list.get(index), array[index], result);
+		}
+		
+		for(int i = index; i < list.size() && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		for(int i = index; i < array.length && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(array[i]));
+		}
+		
+		return result;
+		
+	}
+
+	/**
+	 * Raises the list values to the powers within the collection modulo the
+	 * modulus. Values without a matching value due to uneven list and 
+	 * collection sizes are reduced modulo the modulus.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection of values
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list, Collection<BigInteger> collection) {
+		
+		int index;
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+	
+		for(index = 0; index < list.size() && index < collection.size(); index++) {
+			this.power.modPow(list.get(index), iter.next(), result);
+		}
+		
+		for(int i = index; i < list.size(); i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+		
+		while(iter.hasNext()) {
+			result.add(this.calculateUnmatched(iter.next()));
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the collection modulo the
+	 * modulus between the indices. Values without a matching value due to 
+	 * uneven list and collection sizes are reduced modulo the modulus.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection of values
+	 * @param    int begin                            beginning index of the subset
+	 * @param    int length                           length of the subset
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculate(List<BigInteger> list,
+			Collection<BigInteger> collection, int begin, int length) {
+
+		int index;
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+
+	    for(int i = 0; i < begin; i++) {
+	    	iter.next();
+	    }
+
+	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
+			this.power.modPow(list.get(index), iter.next(), result);
+		}
+		
+		for(int i = index; i < list.size() && i < begin + length; i++) {
+			result.add(this.calculateUnmatched(list.get(i)));
+		}
+
+		while(iter.hasNext() && index < begin + length) {
+			result.add(this.calculateUnmatched(iter.next()));
+			index++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the array modulo the modulus.
+	 * Missing data points due to uneven list and array sizes are omitted.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
+
+	    WellData result = new WellData();
+	
+		for(int i = 0; i < list.size() && i < array.length; i++) {
+			this.power.modPow(list.get(i), array[i], result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the array modulo the modulus
+	 * between the indices. Missing data points due to uneven list and array
+	 * sizes are omitted.
+	 * @param    List<BigInteger> list    the list
+	 * @param    BigInteger[] array       the array
+	 * @param    int begin                beginning index of the subset
+	 * @param    int length               length of the subset
+	 * @return            the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
+			int begin, int length) {
+		
+		WellData result = new WellData();
+		
+		for(int i = begin; i < list.size() && i < array.length && 
+				i < begin + length; i++) {
+			this.power.modPow(list.get(i), array[i], result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the collection modulo the
+	 * modulus. Missing data points due to uneven list and collection sizes are
+	 * omitted.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list,
+			Collection<BigInteger> collection) {
+	
+		Iterator<BigInteger> iter = collection.iterator();
+	    WellData result = new WellData();
+	
+		for(int i = 0; i < list.size() && i < collection.size(); i++) {
+			this.power.modPow(list.get(i), iter.next(), result);
+		}
+		
+		return result;
+	}
+
+	/**
+	 * Raises the list values to the powers within the collection modulo the
+	 * modulus between the indices. Missing data points due to uneven list and
+	 * collection sizes are omitted.
+	 * @param    List<BigInteger> list                the list
+	 * @param    Collection<BigInteger> collection    the collection
+	 * @param    int begin                            beginning index of the subset
+	 * @param    int length                           length of the subset
+	 * @return                        the result
+	 * @override
+	 */
+	public List<BigInteger> calculateStrict(List<BigInteger> list,
+			Collection<BigInteger> collection, int begin, int length) {
+
+        WellData result = new WellData();
+		Iterator<BigInteger> iter = collection.iterator();
+		
+		for(int i = 0; i < begin; i++) {
+			iter.next();
+		}
+		
+		for(int i = begin; i < list.size() && iter.hasNext() && 
+				i < begin + length; i++) {
+			this.power.modPow(list.get(i), iter.next(), result);
+		} 
+
+		return result;
+	}
+
+	/**
+	 * Raises the first value to the power of the second value modulo the
+	 * modulus.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.modPow(value2, this.modulus);
+	}
+
+	/**
+	 * Reduces a value without a matching value modulo the modulus.
+	 * @param    BigInteger value    the value
+	 * @return                       the result
+	 * @override
+	 */
+	protected BigInteger calculateUnmatched(BigInteger value) {
+		return value.mod(this.modulus);
+	}
+
+	/**
+	 * Returns false, the values in the first data set are always the bases.
+	 * @return    false
+	 * @override
+	 */
+	protected boolean shorterFirst() {
+		return false;
+	}
+
+	/**
+	 * Raises the values in the first long array to the powers in the second long
+	 * array modulo the modulus. Negative exponents are flagged. Returns false
+	 * for moduli of 2^31 or more.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true if the results were calculated
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		return this.power.modPow(values1, values2, result, overflow, length);
+	}
+
+	/**
+	 * Raises the values in the long array to the constant power modulo the
+	 * modulus. Returns false for negative constants and moduli of 2^31 or more.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true if the results were calculated
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		return this.power(BigInteger.valueOf(constant)).modPow(values, result, overflow, length);
+	}
+
+	/**
+	 * Returns the sliding windows for the exponent. The windows for the last
+	 * constant exponent are reused, so the exponent of an operation using a
+	 * constant is decomposed once for all the wells.
+	 * @param    BigInteger    the exponent
+	 * @return                 the modular power for the exponent
+	 */
+	private ModularPower power(BigInteger exponent) {
+		
+		ModularPower power = this.shared;
+		
+		if(power == null || !power.exponent().equals(exponent)) {
+			power = new ModularPower(this.modulus, exponent);
+			this.shared = power;
+		}
+		
+		return power;
+	}
+    
+}
@@ -0,0 +1,330 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * Raises values to a power modulo a modulus that is reused for many values,
+ * such as the modulus of a modular exponentiation operation. The modulus is
+ * examined once. Moduli below 2^31 are applied using primitive arithmetic, as
+ * the product of two residues always fits in a long. Larger moduli and
+ * negative exponents use BigInteger.modPow(), which performs its own
+ * Montgomery reduction for odd moduli. Results are identical to
+ * BigInteger.modPow().
+ *
+ * An exponent shared by many values, such as the constant of an operation, is
+ * decomposed into sliding windows once. Each value then only calculates its
+ * table of odd powers and applies the windows. Exponents that change with
+ * every value are applied using binary exponentiation.
+ *
+ * The results are appended to a hybrid data set, so results are stored
+ * without creating big integers for primitive moduli.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+final class ModularPower {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Largest exponent bit length for each window size */
+
+    private static final int[] WINDOW_THRESHOLDS = new int[] { 7, 25, 81, 241, 673, 1793 };
+
+    private final BigInteger modulus;    // The modulus
+    private final boolean primitive;     // True for moduli below 2^31
+    private final long value;            // The modulus as a long
+
+    /* Shared exponent and sliding windows */
+
+    private final BigInteger exponent;   // The shared exponent or null
+    private final int[] squares;         // Squarings before each window
+    private final int[] digits;          // Odd window values
+    private final int trailing;          // Squarings after the last window
+    private final int window;            // The window size in bits
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new modular power for exponents that change with every value.
+     * @param    BigInteger    the modulus
+     */
+    ModularPower(BigInteger modulus) {
+        this(modulus, null);
+    }
+
+    /**
+     * Creates a new modular power for a shared exponent.
+     * @param    BigInteger    the modulus
+     * @param    BigInteger    the shared exponent or null
+     */
+    ModularPower(BigInteger modulus, BigInteger exponent) {
+
+        if(modulus == null) {
+            throw new NullPointerException("Modulus is null.");
+        }
+
+        if(modulus.signum() <= 0) {
+            throw new ArithmeticException("The modulus must be positive: " + modulus);
+        }
+
+        this.modulus = modulus;
+        this.primitive = modulus.bitLength() < 32;
+        this.value = modulus.longValue();
+        this.exponent = exponent;
+
+        if(exponent == null || exponent.signum() <= 0 || !this.primitive) {
+            this.squares = null;
+            this.digits = null;
+            this.trailing = 0;
+            this.window = 0;
+            return;
+        }
+
+        int bits = exponent.bitLength();
+        int size = 1;
+
+        while(size <= WINDOW_THRESHOLDS.length && bits > WINDOW_THRESHOLDS[size - 1]) {
+            size++;
+        }
+
+        int[] squares = new int[bits];
+        int[] digits = new int[bits];
+        int windows = 0;
+        int pending = 0;
+        int i = bits - 1;
+
+        while(i >= 0) {
+
+            if(!exponent.testBit(i)) {
+                pending++;
+                i--;
+                continue;
+            }
+
+            int j = Math.max(i - size + 1, 0);
+
+            while(!exponent.testBit(j)) {
+                j++;
+            }
+
+            int digit = 0;
+
+            for(int bit = i; bit >= j; bit--) {
+                digit = (digit << 1) | (exponent.testBit(bit) ? 1 : 0);
+            }
+
+            squares[windows] = pending + i - j + 1;
+            digits[windows] = digit;
+            windows++;
+
+            pending = 0;
+            i = j - 1;
+        }
+
+        this.squares = Arrays.copyOf(squares, windows);
+        this.digits = Arrays.copyOf(digits, windows);
+        this.trailing = pending;
+        this.window = size;
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the shared exponent or null.
+     * @return    the shared exponent
+     */
+    BigInteger exponent() {
+        return this.exponent;
+    }
+
+    /**
+     * Appends the value raised to the shared exponent modulo the modulus to the
+     * result.
+     * @param    BigInteger    the value
+     * @param    WellData      the result
+     */
+    void modPow(BigInteger base, WellData result) {
+
+        if(this.digits == null) {
+            this.modPow(base, this.exponent, result);
+            return;
+        }
+
+        result.addLong(this.windows(this.residue(base)));
+    }
+
+    /**
+     * Appends the value raised to the exponent modulo the modulus to the result.
+     * Used for exponents that change with every value.
+     * @param    BigInteger    the value
+     * @param    BigInteger    the exponent
+     * @param    WellData      the result
+     */
+    void modPow(BigInteger base, BigInteger exponent, WellData result) {
+
+        if(this.primitive && exponent.signum() >= 0 && WellData.fitsLong(exponent)) {
+            result.addLong(this.binary(this.residue(base), exponent.longValue()));
+            return;
+        }
+
+        result.add(base.modPow(exponent, this.modulus));
+    }
+
+    /**
+     * Raises the values in the long array to the shared exponent modulo the
+     * modulus and stores the results in the result array. Returns false and
+     * leaves the result array untouched unless the modulus is below 2^31 and
+     * the exponent is not negative.
+     * @param    long[]       the values
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    boolean modPow(long[] values, long[] result, boolean[] overflow, int length) {
+
+        if(!this.primitive || this.exponent == null || this.exponent.signum() < 0) {
+            return false;
+        }
+
+        for(int i = 0; i < length; i++) {
+            result[i] = this.digits == null ? 1 % this.value : this.windows(this.residue(values[i]));
+            overflow[i] = false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Raises the values in the first long array to the exponents in the second
+     * long array modulo the modulus. Negative exponents are flagged. Returns
+     * false and leaves the result array untouched unless the modulus is below
+     * 2^31.
+     * @param    long[]       the values
+     * @param    long[]       the exponents
+     * @param    long[]       the results
+     * @param    boolean[]    the overflow flags
+     * @param    int          the number of values
+     * @return                true if the results were calculated
+     */
+    boolean modPow(long[] values, long[] exponents, long[] result, boolean[] overflow, int length) {
+
+        if(!this.primitive) {
+            return false;
+        }
+
+        for(int i = 0; i < length; i++) {
+            overflow[i] = exponents[i] < 0;
+            result[i] = overflow[i] ? 0 : this.binary(this.residue(values[i]), exponents[i]);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the least non-negative residue of the value.
+     * @param    BigInteger    the value
+     * @return                 the residue
+     */
+    private long residue(BigInteger value) {
+        return WellData.fitsLong(value) ? this.residue(value.longValue()) : value.mod(this.modulus).longValue();
+    }
+
+    /**
+     * Returns the least non-negative residue of the value.
+     * @param    long    the value
+     * @return           the residue
+     */
+    private long residue(long value) {
+        long residue = value % this.value;
+        return residue < 0 ? residue + this.value : residue;
+    }
+
+    /**
+     * Raises the residue to the shared exponent using the sliding windows.
+     * @param    long    the residue
+     * @return           the result
+     */
+    private long windows(long base) {
+
+        /* Odd powers of the base from base^1 to base^(2^window - 1) */
+
+        long[] table = new long[1 << (this.window - 1)];
+        long square = base * base % this.value;
+
+        table[0] = base;
+
+        for(int i = 1; i < table.length; i++) {
+            table[i] = table[i - 1] * square % this.value;
+        }
+
+        long result = table[this.digits[0] >>> 1];
+
+        for(int i = 1; i < this.digits.length; i++) {
+
+            for(int j = 0; j < this.squares[i]; j++) {
+                result = result * result % this.value;
+            }
+
+            result = result * table[this.digits[i] >>> 1] % this.value;
+        }
+
+        for(int j = 0; j < this.trailing; j++) {
+            result = result * result % this.value;
+        }
+
+        return result;
+    }
+
+    /**
+     * Raises the residue to the exponent using binary exponentiation.
+     * @param    long    the residue
+     * @param    long    the non-negative exponent
+     * @return           the result
+     */
+    private long binary(long base, long exponent) {
+
+        long result = 1 % this.value;
+
+        while(exponent > 0) {
+
+            if((exponent & 1) != 0) {
+                result = result * base % this.value;
+            }
+
+            base = base * base % this.value;
+            exponent >>>= 1;
+        }
+
+        return result;
+    }
+
+}
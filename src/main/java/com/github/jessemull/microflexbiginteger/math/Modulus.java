@@ -24,11 +24,12 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs modulus operations with two arguments for BigInteger 
  * plate stacks, plates, wells and well sets.
@@ -249,10 +250,10 @@ public class Modulus extends MathOperationBinary {
 			largest = list2;
 		}
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(smallest.get(i).remainder(largest.get(i)));
+			Divisor.remainder(smallest.get(i), largest.get(i), result);
 		}
 
 		for(int i = smallest.size(); i < largest.size(); i++) {
@@ -274,10 +275,10 @@ public class Modulus extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
 		
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(list1.get(i).remainder(list2.get(i)));
+			Divisor.remainder(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -298,7 +299,7 @@ public class Modulus extends MathOperationBinary {
 	
 		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		int end1 = begin + length;
 		int end2 = end1;
@@ -308,7 +309,7 @@ public class Modulus extends MathOperationBinary {
 		}
 
 		for(int i = begin; i < end1; i++) {
-			result.add(list1.get(i).remainder(list2.get(i)));
+			Divisor.remainder(list1.get(i), list2.get(i), result);
 		}
 		
 		for(int i = end1; i < end2; i++) {
@@ -332,10 +333,10 @@ public class Modulus extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1,
 			List<BigInteger> list2, int begin, int length) {
 
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < begin + length; i++) {
-			result.add(list1.get(i).remainder(list2.get(i)));
+			Divisor.remainder(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -350,10 +351,11 @@ public class Modulus extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData(list.size());
+		Divisor divisor = new Divisor(constant);
 		
 		for(BigInteger bd : list) {
-			result.add(bd.remainder(constant));
+			divisor.remainder(bd, result);
 		}
 		
 		return result;
@@ -372,10 +374,10 @@ public class Modulus extends MathOperationBinary {
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
 		
 		int index;
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < array.length; index++) {
-			result.add(list.get(index).remainder(array[index]));
+			Divisor.remainder(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -404,11 +406,11 @@ public class Modulus extends MathOperationBinary {
 			int begin, int length) {
 		
 		int index;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(index = begin; index < list.size() && index < array.length && 
 				index < begin + length; index++) {
-			result.add(list.get(index).remainder(array[index]));
+			Divisor.remainder(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size() && i < begin + length; i++) {
@@ -436,10 +438,10 @@ public class Modulus extends MathOperationBinary {
 		
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < collection.size(); index++) {
-			result.add(list.get(index).remainder(iter.next()));
+			Divisor.remainder(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -469,14 +471,14 @@ public class Modulus extends MathOperationBinary {
 
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 
 	    for(int i = 0; i < begin; i++) {
 	    	iter.next();
 	    }
 
 	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
-			result.add(list.get(index).remainder(iter.next()));
+			Divisor.remainder(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size() && index < begin + length; i++) {
@@ -501,10 +503,10 @@ public class Modulus extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
 
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < array.length; i++) {
-			result.add(list.get(i).remainder(array[i]));
+			Divisor.remainder(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -524,11 +526,11 @@ public class Modulus extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
 			int begin, int length) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < list.size() && i < array.length && 
 				i < begin + length; i++) {
-			result.add(list.get(i).remainder(array[i]));
+			Divisor.remainder(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -547,10 +549,10 @@ public class Modulus extends MathOperationBinary {
 			Collection<BigInteger> collection) {
 	
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < collection.size(); i++) {
-			result.add(list.get(i).remainder(iter.next()));
+			Divisor.remainder(list.get(i), iter.next(), result);
 		}
 		
 		return result;
@@ -570,7 +572,7 @@ public class Modulus extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list,
 			Collection<BigInteger> collection, int begin, int length) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
 		Iterator<BigInteger> iter = collection.iterator();
 		
 		for(int i = 0; i < begin; i++) {
@@ -579,10 +581,58 @@ public class Modulus extends MathOperationBinary {
 		
 		for(int i = begin; i < list.size() && iter.hasNext() && 
 				i < begin + length; i++) {
-			result.add(list.get(i).remainder(iter.next()));
+			Divisor.remainder(list.get(i), iter.next(), result);
 		} 
 
 		return result;
 	}
+
+	/**
+	 * Returns the remainder of the first value divided by the second value.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.remainder(value2);
+	}
+
+	/**
+	 * Calculates the remainders of the values in the first long array and the
+	 * values in the second long array. Remainders of a division by zero are 
+	 * flagged.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			overflow[i] = values2[i] == 0;
+			result[i] = overflow[i] ? 0 : values1[i] % values2[i];
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Calculates the remainders of the values in the long array and the 
+	 * constant. Returns false for a zero constant.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true if the results were calculated
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		return new Divisor(BigInteger.valueOf(constant)).remainder(values, result, overflow, length);
+	}
     
 }
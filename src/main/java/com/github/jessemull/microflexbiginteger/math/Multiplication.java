@@ -24,11 +24,12 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs multiplication operations with two arguments for BigInteger 
  * plate stacks, plates, wells and well sets.
@@ -249,10 +250,10 @@ public class Multiplication extends MathOperationBinary {
 			largest = list2;
 		}
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(smallest.get(i).multiply(largest.get(i)));
+			this.multiply(smallest, largest, i, result);
 		}
 
 		for(int i = smallest.size(); i < largest.size(); i++) {
@@ -274,10 +275,10 @@ public class Multiplication extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
 		
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(list1.get(i).multiply(list2.get(i)));
+			this.multiply(list1, list2, i, result);
 		}
 		
 		return result;
@@ -299,7 +300,7 @@ public class Multiplication extends MathOperationBinary {
 		
 		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		int end1 = begin + length;
 		int end2 = end1;
@@ -309,7 +310,7 @@ public class Multiplication extends MathOperationBinary {
 		}
 
 		for(int i = begin; i < end1; i++) {
-			result.add(list1.get(i).multiply(list2.get(i)));
+			this.multiply(list1, list2, i, result);
 		}
 		
 		for(int i = end1; i < end2; i++) {
@@ -332,10 +333,10 @@ public class Multiplication extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1,
 			List<BigInteger> list2, int begin, int length) {
 
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < begin + length; i++) {
-			result.add(list1.get(i).multiply(list2.get(i)));
+			this.multiply(list1, list2, i, result);
 		}
 		
 		return result;
@@ -350,10 +351,10 @@ public class Multiplication extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
-		for(BigInteger bd : list) {
-			result.add(bd.multiply(constant));
+		for(int i = 0; i < list.size(); i++) {
+			this.multiply(list, i, constant, result);
 		}
 		
 		return result;
@@ -371,10 +372,10 @@ public class Multiplication extends MathOperationBinary {
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
 		
 		int index;
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < array.length; index++) {
-			result.add(list.get(index).multiply(array[index]));
+			this.multiply(list, index, array[index], result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -402,11 +403,11 @@ public class Multiplication extends MathOperationBinary {
 			int begin, int length) {
 		
 		int index;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(index = begin; index < list.size() && index < array.length && 
 				index < begin + length; index++) {
-			result.add(list.get(index).multiply(array[index]));
+			this.multiply(list, index, array[index], result);
 		}
 		
 		for(int i = index; i < list.size() && i < begin + length; i++) {
@@ -433,10 +434,10 @@ public class Multiplication extends MathOperationBinary {
 		
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < collection.size(); index++) {
-			result.add(list.get(index).multiply(iter.next()));
+			this.multiply(list, index, iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -465,14 +466,14 @@ public class Multiplication extends MathOperationBinary {
 
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 
 	    for(int i = 0; i < begin; i++) {
 	    	iter.next();
 	    }
 
 	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
-			result.add(list.get(index).multiply(iter.next()));
+			this.multiply(list, index, iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size() && index < begin + length; i++) {
@@ -497,10 +498,10 @@ public class Multiplication extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
 
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < array.length; i++) {
-			result.add(list.get(i).multiply(array[i]));
+			this.multiply(list, i, array[i], result);
 		}
 		
 		return result;
@@ -519,11 +520,11 @@ public class Multiplication extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
 			int begin, int length) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < list.size() && i < array.length && 
 				i < begin + length; i++) {
-			result.add(list.get(i).multiply(array[i]));
+			this.multiply(list, i, array[i], result);
 		}
 		
 		return result;
@@ -541,10 +542,10 @@ public class Multiplication extends MathOperationBinary {
 			Collection<BigInteger> collection) {
 	
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < collection.size(); i++) {
-			result.add(list.get(i).multiply(iter.next()));
+			this.multiply(list, i, iter.next(), result);
 		}
 		
 		return result;
@@ -564,7 +565,7 @@ public class Multiplication extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list,
 			Collection<BigInteger> collection, int begin, int length) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
 		Iterator<BigInteger> iter = collection.iterator();
 		
 		for(int i = 0; i < begin; i++) {
@@ -573,10 +574,153 @@ public class Multiplication extends MathOperationBinary {
 		
 		for(int i = begin; i < list.size() && iter.hasNext() && 
 				i < begin + length; i++) {
-			result.add(list.get(i).multiply(iter.next()));
+			this.multiply(list, i, iter.next(), result);
 		} 
 
 		return result;
 	}
+
+	/**
+	 * Multiplies the two values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.multiply(value2);
+	}
+
+	/**
+	 * Multiplies the values in the long arrays. Results outside the range of a
+	 * long are flagged.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			result[i] = values1[i] * values2[i];
+			overflow[i] = multiplyOverflows(values1[i], values2[i], result[i]);
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Multiplies the values in the long array by the constant. Results outside
+	 * the range of a long are flagged.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			result[i] = values[i] * constant;
+			overflow[i] = multiplyOverflows(values[i], constant, result[i]);
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Returns true if the product of the two long values overflows a long.
+	 * @param    long value1     the first value
+	 * @param    long value2     the second value
+	 * @param    long product    the product of the truncated multiplication
+	 * @return                   true on overflow
+	 */
+	private static boolean multiplyOverflows(long value1, long value2, long product) {
+		
+		if(((Math.abs(value1) | Math.abs(value2)) >>> 31) == 0) {
+			return false;
+		}
+		
+		return (value2 != 0 && product / value2 != value1) || 
+			   (value1 == Long.MIN_VALUE && value2 == -1);
+	}
+
+	/**
+	 * Appends the product of the two values to the result. Values that fit in
+	 * a long are multiplied using primitive arithmetic and the product is stored
+	 * as a long without creating a big integer. Products outside the range of a
+	 * long are calculated using the big integer values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @param    WellData result      the result
+	 */
+	private void multiply(BigInteger value1, BigInteger value2, WellData result) {
+		
+		if(WellData.fitsLong(value1) && WellData.fitsLong(value2)) {
+			this.multiply(value1.longValue(), value2.longValue(), result);
+			return;
+		}
+		
+		result.add(value1.multiply(value2));
+	}
+
+	/**
+	 * Appends the product of the list values at the index to the result. Values
+	 * held as longs by a hybrid data set are read without creating a big 
+	 * integer.
+	 * @param    List<BigInteger> list1    the first list
+	 * @param    List<BigInteger> list2    the second list
+	 * @param    int index                 the index
+	 * @param    WellData result           the result
+	 */
+	private void multiply(List<BigInteger> list1, List<BigInteger> list2, int index, WellData result) {
+		
+		if(WellData.isLong(list1, index) && WellData.isLong(list2, index)) {
+			this.multiply(WellData.getLong(list1, index), WellData.getLong(list2, index), result);
+		} else {
+			this.multiply(list1.get(index), list2.get(index), result);
+		}
+	}
+
+	/**
+	 * Appends the product of the list value at the index and the value to the 
+	 * result. List values held as longs by a hybrid data set are read without 
+	 * creating a big integer.
+	 * @param    List<BigInteger> list    the list
+	 * @param    int index                the index
+	 * @param    BigInteger value         the second value
+	 * @param    WellData result          the result
+	 */
+	private void multiply(List<BigInteger> list, int index, BigInteger value, WellData result) {
+		
+		if(WellData.isLong(list, index) && WellData.fitsLong(value)) {
+			this.multiply(WellData.getLong(list, index), value.longValue(), result);
+		} else {
+			this.multiply(list.get(index), value, result);
+		}
+	}
+
+	/**
+	 * Appends the product of the two longs to the result. Results outside the
+	 * range of a long are calculated using big integers.
+	 * @param    long long1          the first value
+	 * @param    long long2          the second value
+	 * @param    WellData result     the result
+	 */
+	private void multiply(long long1, long long2, WellData result) {
+		
+		long product = long1 * long2;
+		
+		if(!multiplyOverflows(long1, long2, product)) {
+			result.addLong(product);
+		} else {
+			result.add(BigInteger.valueOf(long1).multiply(BigInteger.valueOf(long2)));
+		}
+	}
     
 }
@@ -24,11 +24,12 @@ package com.github.jessemull.microflexbiginteger.math;
 /* ------------------------------ Dependencies ------------------------------ */
 
 import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
 /**
  * This class performs logical OR operations with two arguments for BigInteger 
  * plate stacks, plates, wells and well sets.
@@ -249,10 +250,10 @@ public class OR extends MathOperationBinary {
 			largest = list2;
 		}
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(smallest.get(i).or(largest.get(i)));
+			this.or(smallest.get(i), largest.get(i), result);
 		}
 
 		for(int i = smallest.size(); i < largest.size(); i++) {
@@ -274,10 +275,10 @@ public class OR extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1, List<BigInteger> list2) {
 		
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = 0; i < smallest.size(); i++) {
-			result.add(list1.get(i).or(list2.get(i)));
+			this.or(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -299,7 +300,7 @@ public class OR extends MathOperationBinary {
 		
 		List<BigInteger> largest = list1.size() > list2.size() ? list1 : list2;
 		List<BigInteger> smallest = list1.size() < list2.size() ? list1 : list2;		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 
 		int end1 = begin + length;
 		int end2 = end1;
@@ -309,7 +310,7 @@ public class OR extends MathOperationBinary {
 		}
 
 		for(int i = begin; i < end1; i++) {
-			result.add(list1.get(i).or(list2.get(i)));
+			this.or(list1.get(i), list2.get(i), result);
 		}
 		
 		for(int i = end1; i < end2; i++) {
@@ -332,10 +333,10 @@ public class OR extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list1,
 			List<BigInteger> list2, int begin, int length) {
 
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < begin + length; i++) {
-			result.add(list1.get(i).or(list2.get(i)));
+			this.or(list1.get(i), list2.get(i), result);
 		}
 		
 		return result;
@@ -350,10 +351,10 @@ public class OR extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger constant) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(BigInteger bd : list) {
-			result.add(bd.or(constant));
+			this.or(bd, constant, result);
 		}
 		
 		return result;
@@ -371,10 +372,10 @@ public class OR extends MathOperationBinary {
 	public List<BigInteger> calculate(List<BigInteger> list, BigInteger[] array) {
 		
 		int index;
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < array.length; index++) {
-			result.add(list.get(index).or(array[index]));
+			this.or(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -402,11 +403,11 @@ public class OR extends MathOperationBinary {
 			int begin, int length) {
 		
 		int index;
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(index = begin; index < list.size() && index < array.length && 
 				index < begin + length; index++) {
-			result.add(list.get(index).or(array[index]));
+			this.or(list.get(index), array[index], result);
 		}
 		
 		for(int i = index; i < list.size() && i < begin + length; i++) {
@@ -433,10 +434,10 @@ public class OR extends MathOperationBinary {
 		
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(index = 0; index < list.size() && index < collection.size(); index++) {
-			result.add(list.get(index).or(iter.next()));
+			this.or(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size(); i++) {
@@ -465,14 +466,14 @@ public class OR extends MathOperationBinary {
 
 		int index;
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 
 	    for(int i = 0; i < begin; i++) {
 	    	iter.next();
 	    }
 
 	    for(index = begin; index < list.size() && index < collection.size() && index < begin + length; index++) {
-			result.add(list.get(index).or(iter.next()));
+			this.or(list.get(index), iter.next(), result);
 		}
 		
 		for(int i = index; i < list.size() && index < begin + length; i++) {
@@ -497,10 +498,10 @@ public class OR extends MathOperationBinary {
 	 */
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array) {
 
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < array.length; i++) {
-			result.add(list.get(i).or(array[i]));
+			this.or(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -519,11 +520,11 @@ public class OR extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list, BigInteger[] array,
 			int begin, int length) {
 		
-		List<BigInteger> result = new ArrayList<BigInteger>();
+		WellData result = new WellData();
 		
 		for(int i = begin; i < list.size() && i < array.length && 
 				i < begin + length; i++) {
-			result.add(list.get(i).or(array[i]));
+			this.or(list.get(i), array[i], result);
 		}
 		
 		return result;
@@ -541,10 +542,10 @@ public class OR extends MathOperationBinary {
 			Collection<BigInteger> collection) {
 	
 		Iterator<BigInteger> iter = collection.iterator();
-	    List<BigInteger> result = new ArrayList<BigInteger>();
+	    WellData result = new WellData();
 	
 		for(int i = 0; i < list.size() && i < collection.size(); i++) {
-			result.add(list.get(i).or(iter.next()));
+			this.or(list.get(i), iter.next(), result);
 		}
 		
 		return result;
@@ -564,7 +565,7 @@ public class OR extends MathOperationBinary {
 	public List<BigInteger> calculateStrict(List<BigInteger> list,
 			Collection<BigInteger> collection, int begin, int length) {
 
-        List<BigInteger> result = new ArrayList<BigInteger>();
+        WellData result = new WellData();
 		Iterator<BigInteger> iter = collection.iterator();
 		
 		for(int i = 0; i < begin; i++) {
@@ -573,10 +574,82 @@ public class OR extends MathOperationBinary {
 		
 		for(int i = begin; i < list.size() && iter.hasNext() && 
 				i < begin + length; i++) {
-			result.add(list.get(i).or(iter.next()));
+			this.or(list.get(i), iter.next(), result);
 		} 
 
 		return result;
 	}
+
+	/**
+	 * Performs a logical OR operation using the two values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @return                        the result
+	 * @override
+	 */
+	public BigInteger calculate(BigInteger value1, BigInteger value2) {
+		return value1.or(value2);
+	}
+
+	/**
+	 * Performs a logical OR operation using the values in the long arrays. The
+	 * results cannot overflow.
+	 * @param    long[] values1       the first values
+	 * @param    long[] values2       the second values
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values1, long[] values2, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			result[i] = values1[i] | values2[i];
+			overflow[i] = false;
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Performs a logical OR operation using the values in the long array and the
+	 * constant. The results cannot overflow.
+	 * @param    long[] values        the values
+	 * @param    long constant        the constant
+	 * @param    long[] result        the results
+	 * @param    boolean[] overflow   the overflow flags
+	 * @param    int length           the number of values
+	 * @return                        true
+	 * @override
+	 */
+	protected boolean calculate(long[] values, long constant, long[] result, boolean[] overflow, int length) {
+		
+		for(int i = 0; i < length; i++) {
+			result[i] = values[i] | constant;
+			overflow[i] = false;
+		}
+		
+		return true;
+	}
+
+	/**
+	 * Appends the result of the logical OR operation to the result. Values that 
+	 * fit in a long are combined using the primitive operator and stored as a
+	 * long without creating a big integer. The result of a bitwise operation on
+	 * two longs is always a long. Wider values are combined using the big 
+	 * integer values.
+	 * @param    BigInteger value1    the first value
+	 * @param    BigInteger value2    the second value
+	 * @param    WellData result      the result
+	 */
+	private void or(BigInteger value1, BigInteger value2, WellData result) {
+		
+		if(WellData.fitsLong(value1) && WellData.fitsLong(value2)) {
+			result.addLong(value1.longValue() | value2.longValue());
+		} else {
+			result.add(value1.or(value2));
+		}
+	}
     
 }
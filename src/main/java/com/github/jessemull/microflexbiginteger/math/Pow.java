@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.List;
+
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * This class raises the values in BigInteger plate stacks, plates, wells and 
+ * well sets to an integer power. Power operations can also be performed on a 
+ * subset of data using a beginning index and subset length. Negative exponents
+ * throw an arithmetic exception, as for BigInteger.pow().
+ * 
+ * The largest base whose power fits in a long is calculated once for the 
+ * exponent of each list. Values within that bound are raised to the power 
+ * using primitive arithmetic and stored as longs without creating big 
+ * integers. All other values use BigInteger.pow().
+ * 
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class Pow extends MathOperationShift {
+
+    /**
+     * Raises the values in the list to the power of n.
+     * @param    List<BigInteger>    the list
+     * @param    int                 the exponent
+     * @return                       the result
+     * @override
+     */
+    public List<BigInteger> calculate(List<BigInteger> list, int n) {
+        return this.calculate(list, n, 0, list.size());
+    }
+
+    /**
+     * Raises the values between the indices in the list to the power of n.
+     * @param    List<BigInteger>    the list
+     * @param    int                 the exponent
+     * @return                       the result
+     * @override
+     */
+    public List<BigInteger> calculate(List<BigInteger> list, int n, int begin, int length) {
+        
+        WellData result = new WellData(length);
+        long limit = limit(n);
+        
+        for(int i = begin; i < begin + length; i++) {
+            
+            BigInteger value = list.get(i);
+            long primitive = value.longValue();
+            
+            if(WellData.fitsLong(value) && primitive != Long.MIN_VALUE && Math.abs(primitive) <= limit) {
+                result.addLong(pow(primitive, n));
+            } else {
+                result.add(value.pow(n));
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Raises the value to the power of n.
+     * @param    BigInteger    the value
+     * @param    int           the exponent
+     * @return                 the result
+     * @override
+     */
+    public BigInteger calculate(BigInteger value, int n) {
+        return value.pow(n);
+    }
+    
+    /**
+     * Returns the largest base magnitude whose power fits in a long or -1 for
+     * negative exponents.
+     * @param    int    the exponent
+     * @return          the largest base magnitude
+     */
+    private static long limit(int n) {
+        
+        if(n < 0) {
+            return -1;
+        }
+        
+        if(n < 2) {
+            return Long.MAX_VALUE;
+        }
+        
+        if(n >= 63) {
+            return 1;
+        }
+        
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+        long limit = (long) Math.pow(Long.MAX_VALUE, 1.0 / n);
+        
+        while(BigInteger.valueOf(limit + 1).pow(n).compareTo(max) <= 0) {
+            limit++;
+        }
+        
+        while(BigInteger.valueOf(limit).pow(n).compareTo(max) > 0) {
+            limit--;
+        }
+        
+        return limit;
+    }
+    
+    /**
+     * Raises the value to the power of n using binary exponentiation. The 
+     * magnitude of the value must lie within the limit for the exponent.
+     * @param    long    the value
+     * @param    int     the non-negative exponent
+     * @return           the result
+     */
+    private static long pow(long value, int n) {
+        
+        long result = 1;
+        
+        while(n > 0) {
+            
+            if((n & 1) != 0) {
+                result *= value;
+            }
+            
+            n >>>= 1;
+            
+            if(n > 0) {
+                value *= value;
+            }
+        }
+        
+        return result;
+    }
+    
+}
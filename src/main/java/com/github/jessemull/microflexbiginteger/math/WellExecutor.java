@@ -0,0 +1,294 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.util.PoolUtil;
+
+/**
+ * Calculates the result wells of a math operation. Each result well depends on
+ * a single input, so the inputs can be divided into batches and calculated in
+ * parallel. By default the inputs are calculated sequentially in the calling
+ * thread. When an executor service is set and the number of inputs reaches the
+ * threshold the inputs are divided into batches which are submitted to the
+ * executor. The results are returned in input order, so the result of an
+ * operation does not depend on the execution mode.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+class WellExecutor {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Default minimum number of wells for parallel execution */
+
+    static final int DEFAULT_THRESHOLD = 96;
+
+    /* Batches submitted for each available processor */
+
+    private static final int BATCHES_PER_PROCESSOR = 4;
+
+    private ExecutorService executor;             // Null for sequential execution
+    private int threshold = DEFAULT_THRESHOLD;    // Minimum number of inputs for parallel execution
+
+    /* ------------------------------ Task Class ---------------------------- */
+
+    /**
+     * Calculates the result well for a single input.
+     */
+    abstract static class Task<T> {
+
+        /**
+         * Returns the result well for the input.
+         * @param    T    the input
+         * @return        the result well
+         */
+        abstract Well calculate(T input);
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the fork join pool used by the parallel execution mode.
+     * @return    the fork join pool
+     */
+    static ForkJoinPool pool() {
+        return PoolUtil.pool();
+    }
+
+    /**
+     * Returns the executor service or null for sequential execution.
+     * @return    the executor service
+     */
+    ExecutorService executor() {
+        return this.executor;
+    }
+
+    /**
+     * Sets the executor service. Null values result in sequential execution.
+     * @param    ExecutorService    the executor service
+     */
+    void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the minimum number of inputs for parallel execution.
+     * @return    the threshold
+     */
+    int threshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Sets the minimum number of inputs for parallel execution.
+     * @param    int    the threshold
+     * @throws   IllegalArgumentException    threshold is less than one
+     */
+    void setThreshold(int threshold) {
+
+        if(threshold < 1) {
+            throw new IllegalArgumentException("The threshold must be at least one: " + threshold);
+        }
+
+        this.threshold = threshold;
+    }
+
+    /**
+     * Calculates the result well for each input and returns the results in
+     * input order. Exceptions thrown by the task are rethrown in the calling
+     * thread.
+     * @param    Iterable<T>    the inputs
+     * @param    Task<T>        the task
+     * @return                  the result wells
+     */
+    <T> List<Well> calculate(Iterable<T> iterable, final Task<T> task) {
+
+        final List<T> inputs = this.toList(iterable);
+
+        ExecutorService service = this.executor;
+        int size = inputs.size();
+
+        if(service == null || size < this.threshold || size < 2) {
+            return this.calculate(inputs, task, 0, size);
+        }
+
+        int batches = batches(size);
+        int batchSize = (size + batches - 1) / batches;
+
+        List<Callable<List<Well>>> callables = new ArrayList<Callable<List<Well>>>(batches);
+
+        for(int begin = 0; begin < size; begin += batchSize) {
+
+            final int from = begin;
+            final int to = Math.min(size, begin + batchSize);
+
+            callables.add(new Callable<List<Well>>() {
+                public List<Well> call() {
+                    return WellExecutor.this.calculate(inputs, task, from, to);
+                }
+            });
+        }
+
+        List<Well> result = new ArrayList<Well>(size);
+
+        for(List<Well> batch : this.invokeAll(service, callables)) {
+            result.addAll(batch);
+        }
+
+        return result;
+    }
+
+    /**
+     * Runs the tasks and returns when every task has completed. The tasks are
+     * submitted to the executor service in parallel mode and run in the calling
+     * thread otherwise. Exceptions thrown by the tasks are rethrown in the
+     * calling thread.
+     * @param    List<Runnable>    the tasks
+     */
+    void run(List<Runnable> tasks) {
+
+        ExecutorService service = this.executor;
+
+        if(service == null || tasks.size() < 2) {
+
+            for(Runnable task : tasks) {
+                task.run();
+            }
+
+            return;
+        }
+
+        List<Callable<Object>> callables = new ArrayList<Callable<Object>>(tasks.size());
+
+        for(Runnable task : tasks) {
+            callables.add(Executors.callable(task));
+        }
+
+        this.invokeAll(service, callables);
+    }
+
+    /**
+     * Returns the number of batches for the number of inputs.
+     * @param    int    the number of inputs
+     * @return          the number of batches
+     */
+    static int batches(int size) {
+        return Math.min(size, Runtime.getRuntime().availableProcessors() * BATCHES_PER_PROCESSOR);
+    }
+
+    /**
+     * Submits the callables to the executor service and returns the results in
+     * submission order. Exceptions thrown by the callables are rethrown in the
+     * calling thread.
+     * @param    ExecutorService          the executor service
+     * @param    List<Callable<V>>        the callables
+     * @return                            the results
+     */
+    private <V> List<V> invokeAll(ExecutorService service, List<Callable<V>> callables) {
+
+        List<V> result = new ArrayList<V>(callables.size());
+
+        try {
+
+            for(Future<V> future : service.invokeAll(callables)) {
+                result.add(future.get());
+            }
+
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calculating the result wells.", e);
+        } catch(ExecutionException e) {
+
+            Throwable cause = e.getCause();
+
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the inputs as a random access list.
+     * @param    Iterable<T>    the inputs
+     * @return                  the list of inputs
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> toList(Iterable<T> iterable) {
+
+        if(iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<T>) iterable;
+        }
+
+        List<T> list = new ArrayList<T>();
+
+        for(T input : iterable) {
+            list.add(input);
+        }
+
+        return list;
+    }
+
+    /**
+     * Calculates the result wells for the inputs between the indices in the
+     * calling thread.
+     * @param    List<T>    the inputs
+     * @param    Task<T>    the task
+     * @param    int        the first index, inclusive
+     * @param    int        the last index, exclusive
+     * @return              the result wells
+     */
+    private <T> List<Well> calculate(List<T> inputs, Task<T> task, int from, int to) {
+
+        List<Well> result = new ArrayList<Well>(to - from);
+
+        for(int i = from; i < to; i++) {
+            result.add(task.calculate(inputs.get(i)));
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,275 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * This class holds the data set for a big integer well using the chunked storage
+ * mode. Values are stored in fixed size chunks and a new chunk is allocated when
+ * the last chunk is full. Appending a value never copies the values already in
+ * the data set, so wells receiving one value per read during a long kinetic run
+ * grow in constant time per value.
+ *
+ * The data set is a fully mutable random access list of big integers. Inserting
+ * or removing values before the end of the data set shifts the later values.
+ *
+ * Null values are not permitted.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+class ChunkedData extends AbstractList<BigInteger> implements RandomAccess {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Chunk size as a power of two */
+
+    private static final int CHUNK_SHIFT = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /* The chunks, the number of allocated chunks and the number of values */
+
+    private BigInteger[][] chunks = new BigInteger[4][];
+    private int chunkCount;
+    private int size;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new empty data set.
+     */
+    ChunkedData() {}
+
+    /**
+     * Creates a new data set containing the values in the collection.
+     * @param    Collection<BigInteger>    the data set
+     */
+    ChunkedData(Collection<BigInteger> collection) {
+        this.addAll(collection);
+    }
+
+    /**
+     * Clones a data set.
+     * @param    ChunkedData    the data set to clone
+     */
+    ChunkedData(ChunkedData data) {
+
+        this.chunks = new BigInteger[Math.max(4, data.chunkCount)][];
+        this.chunkCount = data.chunkCount;
+        this.size = data.size;
+
+        for(int i = 0; i < data.chunkCount; i++) {
+            this.chunks[i] = data.chunks[i].clone();
+        }
+    }
+
+    /* -------------------------- List operations --------------------------- */
+
+    /**
+     * Returns the value at the specified index.
+     * @param    int    the index
+     * @return          the value
+     */
+    public BigInteger get(int index) {
+        this.checkIndex(index);
+        return this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the new value
+     * @return                 the previous value
+     */
+    public BigInteger set(int index, BigInteger value) {
+
+        this.checkValue(value);
+
+        BigInteger previous = this.get(index);
+        this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = value;
+
+        return previous;
+    }
+
+    /**
+     * Appends the value to the data set.
+     * @param    BigInteger    the value
+     * @return                 true
+     */
+    public boolean add(BigInteger value) {
+
+        this.checkValue(value);
+
+        if(this.size == this.chunkCount << CHUNK_SHIFT) {
+            this.addChunk();
+        }
+
+        this.chunks[this.size >>> CHUNK_SHIFT][this.size & CHUNK_MASK] = value;
+        this.size++;
+        this.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Inserts the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the value
+     */
+    public void add(int index, BigInteger value) {
+
+        if(index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        if(index == this.size) {
+            this.add(value);
+            return;
+        }
+
+        this.checkValue(value);
+        this.add(this.get(this.size - 1));
+
+        for(int i = this.size - 2; i > index; i--) {
+            this.chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = this.get(i - 1);
+        }
+
+        this.chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK] = value;
+    }
+
+    /**
+     * Appends all the values in the collection.
+     * @param    Collection<? extends BigInteger>    the values
+     * @return                                       true if the data set changed
+     */
+    public boolean addAll(Collection<? extends BigInteger> collection) {
+
+        for(BigInteger value : collection) {
+            this.add(value);
+        }
+
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Removes the value at the specified index.
+     * @param    int    the index
+     * @return          the removed value
+     */
+    public BigInteger remove(int index) {
+        BigInteger removed = this.get(index);
+        this.removeRange(index, index + 1);
+        return removed;
+    }
+
+    /**
+     * Clears the data set.
+     */
+    public void clear() {
+        this.chunks = new BigInteger[4][];
+        this.chunkCount = 0;
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the size of the data set.
+     * @return    the size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes the values between the indices. Chunks left empty are released.
+     * @param    int    the first index, inclusive
+     * @param    int    the last index, exclusive
+     */
+    protected void removeRange(int from, int to) {
+
+        int removed = to - from;
+
+        for(int i = from; i < this.size - removed; i++) {
+            this.chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = this.get(i + removed);
+        }
+
+        for(int i = this.size - removed; i < this.size; i++) {
+            this.chunks[i >>> CHUNK_SHIFT][i & CHUNK_MASK] = null;
+        }
+
+        this.size -= removed;
+
+        int used = (this.size + CHUNK_MASK) >>> CHUNK_SHIFT;
+
+        while(this.chunkCount > used) {
+            this.chunks[--this.chunkCount] = null;
+        }
+
+        this.modCount++;
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Allocates a new chunk, growing the chunk directory if necessary. Only
+     * the chunk references are copied when the directory grows.
+     */
+    private void addChunk() {
+
+        if(this.chunkCount == this.chunks.length) {
+            this.chunks = Arrays.copyOf(this.chunks, this.chunks.length * 2);
+        }
+
+        this.chunks[this.chunkCount++] = new BigInteger[CHUNK_SIZE];
+    }
+
+    /**
+     * Throws an exception if the value is null.
+     * @param    BigInteger    the value
+     */
+    private void checkValue(BigInteger value) {
+        if(value == null) {
+            throw new NullPointerException("Null values are not permitted.");
+        }
+    }
+
+    /**
+     * Throws an exception if the index is out of range.
+     * @param    int    the index
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+}
@@ -0,0 +1,398 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * This class holds the data set for a big integer well using the dictionary
+ * storage mode. Each value is stored as an integer code into a value dictionary
+ * which may be shared with other wells. Wells holding a small number of distinct
+ * values cost four bytes per value and share a single big integer object for
+ * each distinct value.
+ *
+ * The data set is a fully mutable random access list of big integers. Values
+ * added to the data set are encoded using the dictionary.
+ *
+ * Null values are not permitted.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+class DictionaryData extends AbstractList<BigInteger> implements RandomAccess {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Default capacity */
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /* The dictionary, the codes and the number of values */
+
+    private ValueDictionary dictionary;
+    private int[] codes;
+    private int size;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new empty data set using the dictionary.
+     * @param    ValueDictionary    the dictionary
+     */
+    DictionaryData(ValueDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.codes = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a new data set using the dictionary and containing the values in
+     * the collection.
+     * @param    ValueDictionary           the dictionary
+     * @param    Collection<BigInteger>    the data set
+     */
+    DictionaryData(ValueDictionary dictionary, Collection<BigInteger> collection) {
+        this.dictionary = dictionary;
+        this.codes = new int[Math.max(DEFAULT_CAPACITY, collection.size())];
+        this.addAll(collection);
+    }
+
+    /**
+     * Creates a new data set holding the codes.
+     * @param    ValueDictionary    the dictionary
+     * @param    int[]              the codes
+     */
+    DictionaryData(ValueDictionary dictionary, int[] codes) {
+
+        for(int code : codes) {
+            if(code < 0 || code >= dictionary.size()) {
+                throw new IllegalArgumentException("Invalid code: " + code);
+            }
+        }
+
+        this.dictionary = dictionary;
+        this.codes = Arrays.copyOf(codes, codes.length);
+        this.size = codes.length;
+    }
+
+    /**
+     * Clones a data set. The clone shares the dictionary.
+     * @param    DictionaryData    the data set to clone
+     */
+    DictionaryData(DictionaryData data) {
+        this.dictionary = data.dictionary;
+        this.codes = Arrays.copyOf(data.codes, Math.max(DEFAULT_CAPACITY, data.size));
+        this.size = data.size;
+    }
+
+    /* ------------------------ Dictionary accessors ------------------------ */
+
+    /**
+     * Returns the dictionary.
+     * @return    the dictionary
+     */
+    ValueDictionary dictionary() {
+        return this.dictionary;
+    }
+
+    /**
+     * Returns the codes for the values in the data set.
+     * @return    the codes
+     */
+    int[] codes() {
+        return Arrays.copyOf(this.codes, this.size);
+    }
+
+    /* -------------------------- List operations --------------------------- */
+
+    /**
+     * Returns the value at the specified index.
+     * @param    int    the index
+     * @return          the value
+     */
+    public BigInteger get(int index) {
+        this.checkIndex(index);
+        return this.dictionary.get(this.codes[index]);
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the new value
+     * @return                 the previous value
+     */
+    public BigInteger set(int index, BigInteger value) {
+        BigInteger previous = this.get(index);
+        this.codes[index] = this.dictionary.encode(value);
+        return previous;
+    }
+
+    /**
+     * Appends the value to the data set.
+     * @param    BigInteger    the value
+     * @return                 true
+     */
+    public boolean add(BigInteger value) {
+        int code = this.dictionary.encode(value);
+        this.ensureCapacity(this.size + 1);
+        this.codes[this.size++] = code;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the value
+     */
+    public void add(int index, BigInteger value) {
+
+        if(index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        int code = this.dictionary.encode(value);
+
+        this.ensureCapacity(this.size + 1);
+        System.arraycopy(this.codes, index, this.codes, index + 1, this.size - index);
+
+        this.codes[index] = code;
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Appends all the values in the collection. Data sets sharing the
+     * dictionary are appended without encoding the values.
+     * @param    Collection<? extends BigInteger>    the values
+     * @return                                       true if the data set changed
+     */
+    public boolean addAll(Collection<? extends BigInteger> collection) {
+
+        if(collection instanceof DictionaryData &&
+           ((DictionaryData) collection).dictionary == this.dictionary) {
+
+            DictionaryData data = (DictionaryData) collection;
+            int length = data.size;
+
+            this.ensureCapacity(this.size + length);
+            System.arraycopy(data.codes, 0, this.codes, this.size, length);
+
+            this.size += length;
+            this.modCount++;
+
+            return length > 0;
+        }
+
+        this.ensureCapacity(this.size + collection.size());
+
+        for(BigInteger value : collection) {
+            this.add(value);
+        }
+
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Removes the value at the specified index.
+     * @param    int    the index
+     * @return          the removed value
+     */
+    public BigInteger remove(int index) {
+
+        BigInteger removed = this.get(index);
+
+        System.arraycopy(this.codes, index + 1, this.codes, index, this.size - index - 1);
+
+        this.size--;
+        this.modCount++;
+
+        return removed;
+    }
+
+    /**
+     * Removes all the values contained in the collection.
+     * @param    Collection<?>    the values for removal
+     * @return                    true if the data set changed
+     */
+    public boolean removeAll(Collection<?> collection) {
+        return this.batchRemove(collection, false);
+    }
+
+    /**
+     * Retains all the values contained in the collection.
+     * @param    Collection<?>    the values for retention
+     * @return                    true if the data set changed
+     */
+    public boolean retainAll(Collection<?> collection) {
+        return this.batchRemove(collection, true);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value or -1 if the data
+     * set does not contain the value.
+     * @param    Object    the value
+     * @return             the index
+     */
+    public int indexOf(Object object) {
+
+        int code = this.dictionary.indexOf(object);
+
+        if(code >= 0) {
+            for(int i = 0; i < this.size; i++) {
+                if(this.codes[i] == code) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the value or -1 if the data
+     * set does not contain the value.
+     * @param    Object    the value
+     * @return             the index
+     */
+    public int lastIndexOf(Object object) {
+
+        int code = this.dictionary.indexOf(object);
+
+        if(code >= 0) {
+            for(int i = this.size - 1; i >= 0; i--) {
+                if(this.codes[i] == code) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if the data set contains the value.
+     * @param    Object    the value
+     * @return             true if the data set contains the value
+     */
+    public boolean contains(Object object) {
+        return this.indexOf(object) >= 0;
+    }
+
+    /**
+     * Clears the data set.
+     */
+    public void clear() {
+        this.size = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the size of the data set.
+     * @return    the size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes the values between the indices.
+     * @param    int    the first index, inclusive
+     * @param    int    the last index, exclusive
+     */
+    protected void removeRange(int from, int to) {
+        System.arraycopy(this.codes, to, this.codes, from, this.size - to);
+        this.size -= to - from;
+        this.modCount++;
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Compacts the data set in a single pass, keeping the values whose
+     * membership in the collection matches the retain flag. Membership is
+     * tested once for each distinct code.
+     * @param    Collection<?>    the collection
+     * @param    boolean          true to retain the values in the collection
+     * @return                    true if the data set changed
+     */
+    private boolean batchRemove(Collection<?> collection, boolean retain) {
+
+        /* 0 = untested, 1 = keep, 2 = remove */
+
+        byte[] decisions = new byte[this.dictionary.size()];
+        int kept = 0;
+
+        for(int i = 0; i < this.size; i++) {
+
+            int code = this.codes[i];
+
+            if(decisions[code] == 0) {
+                decisions[code] = collection.contains(this.dictionary.get(code)) == retain ?
+                        (byte) 1 : (byte) 2;
+            }
+
+            if(decisions[code] == 1) {
+                this.codes[kept++] = code;
+            }
+        }
+
+        if(kept == this.size) {
+            return false;
+        }
+
+        this.size = kept;
+        this.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Increases the capacity of the data set if necessary.
+     * @param    int    the minimum capacity
+     */
+    private void ensureCapacity(int capacity) {
+
+        if(capacity > this.codes.length) {
+            int grown = Math.max(capacity, this.codes.length + (this.codes.length >> 1) + 1);
+            this.codes = Arrays.copyOf(this.codes, grown);
+        }
+    }
+
+    /**
+     * Throws an exception if the index is out of range.
+     * @param    int    the index
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+}
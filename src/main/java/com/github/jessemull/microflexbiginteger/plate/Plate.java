@@ -23,13 +23,17 @@ package com.github.jessemull.microflexbiginteger.plate;
 
 /* ------------------------------ Dependencies ------------------------------ */
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
@@ -231,6 +235,13 @@ import com.github.jessemull.microflexbiginteger.util.ValUtil;
  * Wells house the well ID and a list of values. Well subsets are used to 
  * aggregate data for different experimental conditions or replicates.
  * 
+ * The well set for each group is built once when the group is added and kept
+ * up to date as wells are added, removed or retained using the plate methods.
+ * Group lookups return these cached sets, which hold the plate wells and an 
+ * empty well for each group index missing from the plate. Wells removed using
+ * the subset views returned by the head, tail and sub set methods bypass the
+ * group index.
+ * 
  * Like all the members of the MicroFlex library the plate object is meant
  * to be flexible, as such the constructors and methods accept all collection 
  * types, all numeric Java primitives and two immutable number objects:
@@ -331,6 +342,22 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     private Set<WellList> groups;                // Well groups for analysis
     private int dataType = PLATE_BIGINTEGER;     // Data type flag
     private WellSet data;              // Well data
+    private long orderKey;                       // Well number and row number
+    
+    /* Group index holding the well set for each group */
+    
+    private Map<WellList, WellSet> groupSets = new HashMap<WellList, WellSet>();
+    private Map<String, WellList> groupLabels = new HashMap<String, WellList>();
+    private Map<WellIndex, List<WellSet>> groupMembers = new HashMap<WellIndex, List<WellSet>>();
+    private Set<WellSet> groupOrder = new TreeSet<WellSet>();
+    
+    /* Largest plate backed by a dense well set */
+    
+    private static final int DENSE_MAX_WELLS = 1 << 20;
+    
+    /* Number of label changes for all plates, invalidates the stack label indices */
+    
+    private static final AtomicLong relabels = new AtomicLong();
     
     /*----------------------------- Constructors -----------------------------*/
     
@@ -340,8 +367,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      */
     public Plate(int type) {
         this.groups = new TreeSet<WellList>();
-        this.data = new WellSet();
         this.initializePlateType(type);
+        this.data = this.createDataSet();
     } 
     
     /**
@@ -351,8 +378,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      */
     public Plate(int rows, int columns) {
         this.groups = new TreeSet<WellList>();
-        this.data = new WellSet();
         this.initializePlateType(rows, columns);
+        this.data = this.createDataSet();
     } 
 
     /**
@@ -423,7 +450,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     }
     
     /**
-     * Clones a BigInteger plate.
+     * Clones a BigInteger plate. The cloned wells share their data sets with the
+     * input plate until either plate modifies a well.
      * @param    Plate    plate to clone
      */
     public Plate(Plate plate) {
@@ -435,8 +463,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         this.descriptor = plate.descriptor();                           
         this.dataType = plate.dataType();      
         
-        WellSet toAdd = plate.dataSet();
-        this.addWells(toAdd);
+        this.addWells(plate.data);
         
         for(WellSet set : plate.allGroups()) {      	
         	WellList setList = set.wellList();
@@ -458,6 +485,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         
         this.rows = rows;
         this.columns = columns;
+        this.orderKey = ((long) rows * columns << 32) | (rows & 0xFFFFFFFFL);
         
         if(rows == ROWS_6WELL && 
            columns == COLUMNS_6WELL) {
@@ -536,6 +564,21 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         
     }
     
+    /**
+     * Creates the well set holding the plate wells. Plates with valid dimensions
+     * use a dense well set indexed by row and column.
+     * @return    the well set
+     */
+    private WellSet createDataSet() {
+    	
+    	if(this.rows >= 0 && this.columns > 0 && 
+    	   (long) (this.rows + 1) * this.columns <= DENSE_MAX_WELLS) {
+    		return new WellSet(this.rows, this.columns);
+    	}
+    	
+    	return new WellSet();
+    }
+    
     /* ------------------------ Group Addition Methods ---------------------- */
     
     /**
@@ -553,6 +596,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     		throw new IllegalArgumentException("The group " + list.toString() + " already exists in the group list.");
     	} else {
     		this.groups.add(list);
+    		this.indexGroup(list);
     	}
     }
     
@@ -594,6 +638,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     		throw new IllegalArgumentException("The group " + list.toString() + " does not exist.");
     	} else {
     		this.groups.remove(list);
+    		this.unindexGroup(list);
     	}
     }
     
@@ -633,6 +678,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     	
     	if(toRemove != null) {
     		this.groups.remove(toRemove);
+    		this.unindexGroup(toRemove);
     	}
     }
     
@@ -651,102 +697,54 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      */
     public void clearGroups() {
         this.groups.clear();
+        this.groupSets.clear();
+        this.groupLabels.clear();
+        this.groupMembers.clear();
+        this.groupOrder.clear();
     }
     
     /* ----------------------- Group Retrieval Methods ---------------------- */
     
     /**
-     * Returns a well set for all analysis groups.
+     * Returns a well set for all analysis groups. The well sets are copies of 
+     * the sets held by the group index.
      * @return    well sets for each group
      */
     public Set<WellSet> allGroups() {
-
-    	Set<WellSet> groups = new TreeSet<WellSet>();
-
-    	for(WellList list : this.groups) {    		
-
-    		WellSet set = new WellSet();
-    		
-    		for(WellIndex index : list) {
-
-    			Well well = this.getWells(new Well(index.row(), index.column()));
-    			
-    			if(well == null) {
-    				well = new Well(index.row(), index.column());
-    			}
-    			
-    			set.add(well);
-    		}	
-    		
-    		set.setLabel(list.label());
-    		groups.add(set);
+    	
+    	Set<WellSet> set = new TreeSet<WellSet>();
+    	
+    	for(WellSet group : this.groupOrder) {
+    		set.add(new WellSet(group, group.label()));
     	}
-
-    	return groups;
+    	
+    	return set;
     }
     
     /**
      * Returns a well set containing the wells for the group with the given label.
+     * The well set is a copy of the set held by the group index.
      * @param    String    label
      * @return             well set containing the group wells
      */
     public WellSet getGroups(String label) {
     	
-    	WellSet set = new WellSet();
-    	
-    	for(WellList list : groups) {
-    		
-    		if(list.label().equals(label)) {
-
-    			for(WellIndex index : list) {
-    				
-    				Well well = this.getWells(new Well(index.row(), index.column()));
-    				
-    				if(well == null) {
-    					well = new Well(index.row(), index.column());
-    				}
-    			
-    				set.add(well);
-    			}
-    			
-    			set.setLabel(list.label());
-    			return set;
-    		}
-    	}
+    	WellList list = this.groupLabels.get(label);
     	
-    	return null;
+    	return list == null ? null : this.getGroups(list);
     }      
     
     /**
-     * Returns a well set containing the wells for the group.
+     * Returns a well set containing the wells for the group. The well set is a
+     * copy of the set held by the group index.
      * @param    WellList    the group
      * @return               well set containing the group wells
      */
     public WellSet getGroups(WellList list) {
     	
-    	WellSet set = new WellSet();
+    	WellSet set = this.groupSets.get(list);
     	
-    	for(WellList group : this.groups) {
-    		
-    		if(group.equals(list)) {
-    			
-    			for(WellIndex index : group) {
-    				
-    				Well well = this.getWells(new Well(index.row(), index.column()));
-    				
-    				if(well == null) {
-    					well = new Well(index.row(), index.column());
-    				}
-    				
-    				set.add(well);
-    			}
-    			
-    			set.setLabel(group.label());
-    			return set;
-    		}
-    	}
-    	
-    	return null;
+    	return set == null ? null : new WellSet(set, set.label());
     }
     
     /**
@@ -824,15 +822,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return             true on successful lookup
      */
     public boolean containsGroup(String label) {
-    	
-    	for(WellList list : this.groups) {
-    		
-    		if(list.label().equals(label)) {
-    			return true;
-    		}
-    	}
-    	
-    	return false;
+    	return this.groupLabels.containsKey(label);
     }
     
     /**
@@ -923,7 +913,9 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return    first/lowest well
      */
     public Well pollFirst() {
-        return this.data.pollFirst();
+        Well well = this.data.pollFirst();
+        this.unindexWell(well);
+        return well;
     }
     
     /**
@@ -932,7 +924,9 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return    last/highest well
      */
     public Well pollLast() {
-        return this.data.pollLast();
+        Well well = this.data.pollLast();
+        this.unindexWell(well);
+        return well;
     }  
     
     /**
@@ -940,7 +934,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return    iterator for plate wells
      */
     public Iterator<Well> iterator() {
-        return this.data.iterator();
+        return new PlateIterator(this.data.iterator());
     }
     
     /**
@@ -948,7 +942,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return    iterator for traversing set in descending order
      */
     public Iterator<Well> descendingIterator() {
-        return this.data.descendingIterator();
+        return new PlateIterator(this.data.descendingIterator());
     }
     
     /**
@@ -1083,6 +1077,16 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      */
     public void setLabel(String newLabel) {
     	this.label = newLabel;
+    	relabels.incrementAndGet();
+    }
+    
+    /**
+     * Returns the number of label changes for all plates. A stack rebuilds its
+     * label index when the number changes.
+     * @return    the number of label changes
+     */
+    static long relabels() {
+    	return relabels.get();
     }
     
     /**
@@ -1168,6 +1172,76 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         return (Well[]) this.data.toWellArray();
     }
 
+    /*------------------------- Methods for Storage --------------------------*/
+    
+    /**
+     * Converts the data set of every well on the plate to the specified storage
+     * mode. Wells converted to the dictionary storage mode share a single new
+     * dictionary. Wells added to the plate later keep their own storage mode.
+     * @param    int    the storage mode
+     * @throws   IllegalArgumentException    invalid storage mode
+     */
+    public void setStorage(int storage) {
+    	
+    	if(storage == Well.STORAGE_DICTIONARY) {
+    		this.setDictionary(new ValueDictionary());
+    		return;
+    	}
+    	
+    	for(Well well : this.data) {
+    		well.setStorage(storage);
+    	}
+    }
+    
+    /**
+     * Converts the data set of every well on the plate to the dictionary storage
+     * mode using the dictionary.
+     * @param    ValueDictionary    the dictionary
+     */
+    public void setDictionary(ValueDictionary dictionary) {
+    	for(Well well : this.data) {
+    		well.setDictionary(dictionary);
+    	}
+    }
+
+    /*------------------------ Methods for Appending Reads --------------------*/
+
+    /**
+     * Appends a single timepoint to every well on the plate. The array holds one
+     * value for each well in well order, row by row from A1. The values are
+     * validated before any well is changed, so a failed call leaves the plate
+     * unchanged. Wells using the chunked storage mode append the value without
+     * copying the existing values. Use setStorage(Well.STORAGE_CHUNKED) before
+     * streaming the reads of a kinetic run.
+     * @param    BigInteger[]    one value for each well
+     * @return                   true on successful addition of the timepoint
+     */
+    public boolean appendRead(BigInteger[] perWellValues) {
+
+    	try {
+
+    		Preconditions.checkNotNull(perWellValues, "The values cannot be null.");
+    		Preconditions.checkArgument(perWellValues.length == this.data.size(),
+    				"Expected " + this.data.size() + " values but found " + perWellValues.length + ".");
+
+    		for(BigInteger value : perWellValues) {
+    			Preconditions.checkNotNull(value, "The values cannot contain null.");
+    		}
+
+    	} catch(Exception e) {
+    		System.err.println(e.getMessage());
+    		return false;
+    	}
+
+    	int index = 0;
+
+    	for(Well well : this.data) {
+    		well.add(perWellValues[index++]);
+    	}
+
+    	return true;
+    }
+
     /*------------------------ Methods for Adding Wells ----------------------*/
     
     /**
@@ -1181,13 +1255,16 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             
             ValUtil.validateWell(this.rows, this.columns, well);
             
-            boolean add = this.data.add(new Well(well.row(), well.column(), well.data()));
+            Well toAdd = new Well(well);
+            boolean add = this.data.add(toAdd);
             
             if(!add) {
                 throw new IllegalArgumentException("Failed to add well " + 
                         well.toString() + ". This well already exists in the data set.");
             }
             
+            this.indexWell(toAdd);
+            
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1310,6 +1387,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
                         well.toString() + ". This well does not exist in the data set.");
             }
             
+            this.unindexWell(well);
+            
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1461,6 +1540,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
                         toRemove.toString() + ". This well does not exist in the data set.");
             }
             
+            this.unindexWell(toRemove);
+            
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1489,6 +1570,8 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
                         toRemove.toString() + ". This well does not exist in the data set.");
             }
             
+            this.unindexWell(toRemove);
+            
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1535,6 +1618,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         
         try {
             this.data.clear();
+            this.reindexGroups();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1554,7 +1638,9 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     public boolean replaceWells(Well well) {
         
         try {
-            this.data.remove(well);
+            if(this.data.remove(well)) {
+                this.unindexWell(well);
+            }
             this.addWells(well);
         } catch(Exception e) {
             System.err.println(e.getMessage());
@@ -1671,6 +1757,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         try {
             ValUtil.validateWell(this.rows, this.columns, well);
             success = this.data.retain(list);
+            this.reindexGroups();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -1700,6 +1787,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             
         try { 
             success = this.data.retain(set.allWells()) ? success : false;
+            this.reindexGroups();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             success = false;
@@ -1729,6 +1817,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             
         try { 
             success = this.data.retain(collection) ? success : false;
+            this.reindexGroups();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             success = false;
@@ -1758,6 +1847,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             
         try { 
             success = this.data.retain(Arrays.asList(array)) ? success : false;
+            this.reindexGroups();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             success = false;
@@ -1800,6 +1890,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
         }
         
         success = this.data.retain(list) ? success : false;
+        this.reindexGroups();
         
         return success;
     }
@@ -1820,6 +1911,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             ValUtil.validateWell(this.rows, this.columns, toRetain);
             
             boolean retain = this.data.retain(list);
+            this.reindexGroups();
             
             if(!retain) {
                 throw new IllegalArgumentException("Failed to remove well " + 
@@ -1871,13 +1963,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     	
     	Preconditions.checkNotNull(well, "Well cannot be null.");
     	
-    	for(Well result : this.data) {
-            if(result.row() == well.row() && result.column() == well.column()) {
-                return result;
-            }
-        }
-    	
-    	return null;
+    	return this.data.getWells(well);
     }
     
     /**
@@ -1983,15 +2069,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             return null;
         }
         
-        Well input = new Well(well);
-        
-        for(Well toReturn : this.data) {
-            if(input.row() == toReturn.row() && input.column() == toReturn.column()) {
-                return toReturn;
-            }
-        }
-        
-        return null;
+        return this.data.getWells(well);
     }
     
     /**
@@ -2005,13 +2083,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             return null;
         }
 
-        for(Well well : this.data) {
-            if(index.row() == well.row() && index.column() == well.column()) {
-                return well;
-            }
-        }
-        
-        return null;
+        return this.data.getWells(index);
     }
     
     /**
@@ -2051,15 +2123,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             return null;
         }
         
-        WellSet set = new WellSet();
-        
-        for(Well well : this.data) {
-            if(row == well.row()) {
-                set.add(well);
-            }
-        }
-        
-        return set.isEmpty() ? null : set;
+        return this.data.getRow(row);
     }
     
     /**
@@ -2073,15 +2137,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     		return null;
     	}
     	
-        WellSet set = new WellSet();
-        
-        for(Well well : this.data) {
-            if(column == well.column()) {
-                set.add(well);
-            }
-        }
-        
-        return set.isEmpty() ? null : set;
+        return this.data.getColumn(column);
     }
     
     /*------------------------- Methods for Well Lookup ----------------------*/
@@ -2192,7 +2248,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
      * @return             true if the well exists in the set
      */
     public boolean contains(String well) {
-        return this.data.contains(new Well(well));
+        return this.data.contains(well);
     }
     
     /**
@@ -2204,7 +2260,7 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
             return false;
         }
     	
-    	return this.data.contains(new Well(index.row(), index.column()));
+    	return this.data.contains(index);
     }
     
     /**
@@ -2225,6 +2281,186 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     	return true;
     }
 
+    /*------------------------ Methods for Group Index -----------------------*/
+    
+    /**
+     * Builds the well set for the group and adds it to the group index.
+     * @param    WellList    the group
+     */
+    private void indexGroup(WellList list) {
+    	
+    	WellSet set = new WellSet();
+    	
+    	for(WellIndex index : list) {
+    		
+    		Well well = this.data.getWells(index);
+    		
+    		if(well == null) {
+    			well = new Well(index.row(), index.column());
+    		}
+    		
+    		set.add(well);
+    		
+    		List<WellSet> members = this.groupMembers.get(index);
+    		
+    		if(members == null) {
+    			members = new ArrayList<WellSet>();
+    			this.groupMembers.put(index, members);
+    		}
+    		
+    		members.add(set);
+    	}
+    	
+    	set.setLabel(list.label());
+    	
+    	this.groupSets.put(list, set);
+    	this.groupOrder.add(set);
+    	
+    	/* Label lookups return the first group in the group order */
+    	
+    	WellList labelled = this.groupLabels.get(list.label());
+    	
+    	if(labelled == null || list.compareTo(labelled) < 0) {
+    		this.groupLabels.put(list.label(), list);
+    	}
+    }
+    
+    /**
+     * Removes the well set for the group from the group index.
+     * @param    WellList    the group
+     */
+    private void unindexGroup(WellList list) {
+    	
+    	WellSet set = this.groupSets.remove(list);
+    	
+    	/* Groups removed using a list equal by comparison only rebuild the index */
+    	
+    	if(set == null) {
+    		this.reindexGroups();
+    		return;
+    	}
+    	
+    	for(WellIndex index : list) {
+    		
+    		List<WellSet> members = this.groupMembers.get(index);
+    		
+    		if(members != null) {
+    			
+    			members.remove(set);
+    			
+    			if(members.isEmpty()) {
+    				this.groupMembers.remove(index);
+    			}
+    		}
+    	}
+    	
+    	/* Groups with equal well sets share an entry in the group order */
+    	
+    	this.groupOrder.clear();
+    	this.groupOrder.addAll(this.groupSets.values());
+    	
+    	if(list.equals(this.groupLabels.get(list.label()))) {
+    		
+    		this.groupLabels.remove(list.label());
+    		
+    		for(WellList group : this.groups) {
+    			if(group.label().equals(list.label())) {
+    				this.groupLabels.put(group.label(), group);
+    				break;
+    			}
+    		}
+    	}
+    }
+    
+    /**
+     * Replaces the empty well in each group holding the well index with the 
+     * plate well.
+     * @param    Well    the plate well
+     */
+    private void indexWell(Well well) {
+    	
+    	List<WellSet> members = this.groupMembers.get(WellIndex.valueOf(well.row(), well.column()));
+    	
+    	if(members == null) {
+    		return;
+    	}
+    	
+    	for(WellSet set : members) {
+    		set.remove(well);
+    		set.add(well);
+    	}
+    }
+    
+    /**
+     * Replaces the removed well in each group holding the well index with an
+     * empty well.
+     * @param    Well    the removed well
+     */
+    private void unindexWell(Well well) {
+    	
+    	if(well == null) {
+    		return;
+    	}
+    	
+    	List<WellSet> members = this.groupMembers.get(WellIndex.valueOf(well.row(), well.column()));
+    	
+    	if(members == null) {
+    		return;
+    	}
+    	
+    	for(WellSet set : members) {
+    		set.remove(well);
+    		set.add(new Well(well.row(), well.column()));
+    	}
+    }
+    
+    /**
+     * Rebuilds the group index after a bulk change to the plate wells.
+     */
+    private void reindexGroups() {
+    	
+    	if(this.groups.isEmpty()) {
+    		return;
+    	}
+    	
+    	this.groupSets.clear();
+    	this.groupLabels.clear();
+    	this.groupMembers.clear();
+    	this.groupOrder.clear();
+    	
+    	for(WellList list : this.groups) {
+    		this.indexGroup(list);
+    	}
+    }
+    
+    /**
+     * Iterates over the plate wells and updates the group index when a well
+     * is removed.
+     */
+    private final class PlateIterator implements Iterator<Well> {
+    	
+    	private final Iterator<Well> iter;
+    	private Well last;
+    	
+    	private PlateIterator(Iterator<Well> iter) {
+    		this.iter = iter;
+    	}
+    	
+    	public boolean hasNext() {
+    		return this.iter.hasNext();
+    	}
+    	
+    	public Well next() {
+    		this.last = this.iter.next();
+    		return this.last;
+    	}
+    	
+    	public void remove() {
+    		this.iter.remove();
+    		unindexWell(this.last);
+    	}
+    }
+    
     /*---------------------------- String Methods ----------------------------*/
 
     /**
@@ -2279,11 +2515,11 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
                this.columns == plate.columns() &&
                this.label.equals(plate.label()) &&
                this.type == plate.type() &&
-               this.descriptor.equals(plate.descriptor()) &&
-               this.allGroups().equals(plate.allGroups()) &&
-               this.dataSet().equals(plate.dataSet()) &&
+               this.dataType == plate.dataType() &&
                this.size() == plate.size() &&
-               this.dataType == plate.dataType();
+               this.descriptor.equals(plate.descriptor()) &&
+               this.groupOrder.equals(plate.groupOrder) &&
+               this.data.equals(plate.data);
     }
     
     /**
@@ -2317,41 +2553,38 @@ public class Plate implements Iterable<Well>, Comparable<Plate> {
     
     /**
      * Plates are ordered using the size, data type, label and number of sets.  
+     * The well number and row number are packed into a single precomputed key 
+     * so that plates of different dimensions are ordered without touching the 
+     * labels or well sets. Plates are only checked for equality once all of the 
+     * inexpensive fields match.
      * @param    Plate    the plate for comparison
      * @return                      plate1 == plate2 --> 0
      *                              plate1 > plate2 --> 1
      *                              plate1 < plate2 --> -1
      */
-public int compare(Plate plate1, Plate plate2) throws ClassCastException {
+    public int compare(Plate plate1, Plate plate2) throws ClassCastException {
         
-        if(plate1.equals(plate2)) {
+        if(plate1 == plate2) {
             return 0;
         }
         
-        int totalWellNumberThis = plate1.rows() * plate1.columns();
-        int totalWellNumberPlate = plate2.rows() * plate2.columns();
-        
-        if(totalWellNumberThis > totalWellNumberPlate) {
-            return 1;
-        } else if(totalWellNumberThis < totalWellNumberPlate) {
-            return -1;
-        }
-        
-        if(plate1.rows() > plate2.rows()) {
+        if(plate1.orderKey > plate2.orderKey) {
             return 1;
-        } else if(plate1.rows() < plate2.rows()) {
+        } else if(plate1.orderKey < plate2.orderKey) {
             return -1;
         }
         
-        if(plate1.columns() > plate2.columns()) {
+        if(plate1.columns > plate2.columns) {
             return 1;
-        } else if(plate1.columns() < plate2.columns()) {
+        } else if(plate1.columns < plate2.columns) {
             return -1;
         }
 
-        if(plate1.label().compareTo(plate2.label()) > 0) {
+        int label = plate1.label.compareTo(plate2.label);
+        
+        if(label > 0) {
             return 1;
-        } else if(plate1.label().compareTo(plate2.label()) < 0) {
+        } else if(label < 0) {
             return -1;
         }
 
@@ -2361,7 +2594,7 @@ public int compare(Plate plate1, Plate plate2) throws ClassCastException {
             return -1;
         }
         
-        int comparison = plate1.dataSet().compareTo(plate2.dataSet());
+        int comparison = plate1.data.compareTo(plate2.data);
 
         if(comparison != 0) {
         	return comparison;
@@ -0,0 +1,649 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.common.base.Preconditions;
+
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
+import com.github.jessemull.microflexbiginteger.plate.WellList;
+import com.github.jessemull.microflexbiginteger.plate.WellSet;
+
+/**
+ * This class holds the data for a plate in columnar form. A plate stores each
+ * well as an independent object holding its own list of values. A plate matrix
+ * instead stores each read, the value at the same index in every well, as a
+ * single contiguous long array spanning the whole plate. Values outside the range
+ * of a long are held in a big integer side table for the read and the long array
+ * entry is ignored. Mathematical operations and statistics over a plate matrix
+ * are performed using tight loops over the read arrays rather than per well
+ * list allocation.
+ *
+ * <br><br>
+ *
+ * Wells are addressed using a slot index. The slot for a well is computed using
+ * the row index multiplied by the number of columns plus the zero based column
+ * index and slots are therefore ordered in the same way as the wells in a plate.
+ * Each slot holds a presence flag and the number of values in the well. The read
+ * arrays are backed by the matrix and values in slots that are absent or past
+ * the end of the well are undefined.
+ *
+ * <br><br>
+ *
+ * A plate matrix can be created from a plate and converted back to a plate at
+ * any time. The plate label and well groups are carried over.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PlateMatrix {
+
+    /* --------------------------- Private Fields --------------------------- */
+
+    private int rows;                                            // Row number
+    private int columns;                                         // Column number
+    private int slots;                                           // Number of well slots
+    private String label = "PlateBigInteger";                    // Label
+    private Set<WellList> groups = new TreeSet<WellList>();      // Well groups for analysis
+
+    /* Well presence and data set length by slot */
+
+    private boolean[] present;
+    private int[] lengths;
+    private int size;
+
+    /* Read arrays and big integer side tables by read index */
+
+    private long[][] reads = new long[0][];
+    private BigInteger[][] overflow = new BigInteger[0][];
+    private int readCount;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new plate matrix.
+     * @param    int    plate rows
+     * @param    int    plate columns
+     */
+    public PlateMatrix(int rows, int columns) {
+
+    	Preconditions.checkArgument(rows >= 0, "Invalid row number: " + rows);
+    	Preconditions.checkArgument(columns > 0, "Invalid column number: " + columns);
+
+    	this.rows = rows;
+    	this.columns = columns;
+
+    	/* The validation utilities accept a row index equal to the row number */
+
+    	this.slots = (rows + 1) * columns;
+    	this.present = new boolean[this.slots];
+    	this.lengths = new int[this.slots];
+    }
+
+    /**
+     * Creates a new plate matrix.
+     * @param    int       plate rows
+     * @param    int       plate columns
+     * @param    String    plate label
+     */
+    public PlateMatrix(int rows, int columns, String label) {
+    	this(rows, columns);
+    	this.label = label;
+    }
+
+    /**
+     * Creates a new plate matrix holding the data in the plate.
+     * @param    Plate    the plate
+     */
+    public PlateMatrix(Plate plate) {
+
+    	this(plate.rows(), plate.columns(), plate.label());
+
+    	for(Well well : plate) {
+    		this.add(well);
+    	}
+
+    	for(WellSet set : plate.allGroups()) {
+    		this.groups.add(new WellList(set.wellList()));
+    	}
+    }
+
+    /**
+     * Clones a plate matrix.
+     * @param    PlateMatrix    the plate matrix to clone
+     */
+    public PlateMatrix(PlateMatrix matrix) {
+
+    	this(matrix.rows(), matrix.columns(), matrix.label());
+
+    	System.arraycopy(matrix.present, 0, this.present, 0, this.slots);
+    	System.arraycopy(matrix.lengths, 0, this.lengths, 0, this.slots);
+
+    	this.size = matrix.size;
+    	this.ensureReads(matrix.readCount);
+
+    	for(int i = 0; i < matrix.readCount; i++) {
+
+    		System.arraycopy(matrix.reads[i], 0, this.reads[i], 0, this.slots);
+
+    		if(matrix.overflow[i] != null) {
+    			this.overflow[i] = matrix.overflow[i].clone();
+    		}
+    	}
+
+    	for(WellList list : matrix.groups) {
+    		this.groups.add(new WellList(list));
+    	}
+    }
+
+    /* -------------------------- Plate conversion -------------------------- */
+
+    /**
+     * Returns a plate holding the data in the matrix.
+     * @return    the plate
+     */
+    public Plate toPlate() {
+
+    	Plate plate = new Plate(this.rows, this.columns, this.label);
+
+    	for(int i = 0; i < this.slots; i++) {
+    		if(this.present[i]) {
+    			plate.addWells(this.well(i));
+    		}
+    	}
+
+    	for(WellList list : this.groups) {
+    		plate.addGroups(new WellList(list));
+    	}
+
+    	return plate;
+    }
+
+    /**
+     * Adds the well to the matrix. The well replaces any existing data in the
+     * slot.
+     * @param    Well    the well
+     */
+    public void add(Well well) {
+
+    	int slot = this.slot(well.row(), well.column());
+    	List<BigInteger> data = well.storageData();
+
+    	this.addWell(slot, data.size());
+
+    	if(data instanceof WellData) {
+
+    		WellData hybrid = (WellData) data;
+
+    		for(int i = 0; i < hybrid.size(); i++) {
+    			if(hybrid.isLong(i)) {
+    				this.setLong(slot, i, hybrid.getLong(i));
+    			} else {
+    				this.set(slot, i, hybrid.get(i));
+    			}
+    		}
+
+    	} else {
+
+    		for(int i = 0; i < data.size(); i++) {
+    			this.set(slot, i, data.get(i));
+    		}
+
+    	}
+    }
+
+    /**
+     * Returns the well held in the slot or null if the slot is empty.
+     * @param    int    the slot
+     * @return          the well
+     */
+    public Well well(int slot) {
+
+    	if(!this.present[slot]) {
+    		return null;
+    	}
+
+    	WellData data = new WellData(this.lengths[slot]);
+
+    	for(int i = 0; i < this.lengths[slot]; i++) {
+    		if(this.isLong(slot, i)) {
+    			data.addLong(this.getLong(slot, i));
+    		} else {
+    			data.add(this.get(slot, i));
+    		}
+    	}
+
+    	return new Well(slot / this.columns, slot % this.columns + 1, data);
+    }
+
+    /**
+     * Returns the well with the row and column indices or null if the well does
+     * not exist.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the well
+     */
+    public Well well(int row, int column) {
+    	return this.well(this.slot(row, column));
+    }
+
+    /**
+     * Returns the values in the well held in the slot as big decimals.
+     * @param    int    the slot
+     * @return          the values
+     */
+    public List<BigDecimal> toBigDecimal(int slot) {
+
+    	List<BigDecimal> result = new ArrayList<BigDecimal>(this.lengths[slot]);
+
+    	for(int i = 0; i < this.lengths[slot]; i++) {
+    		if(this.isLong(slot, i)) {
+    			result.add(BigDecimal.valueOf(this.reads[i][slot]));
+    		} else {
+    			result.add(new BigDecimal(this.overflow[i][slot]));
+    		}
+    	}
+
+    	return result;
+    }
+
+    /* ------------------------- Slot and read access ----------------------- */
+
+    /**
+     * Returns the slot for the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the slot
+     * @throws   IllegalArgumentException    well outside the plate dimensions
+     */
+    public int slot(int row, int column) {
+
+    	if(row < 0 || row > this.rows || column < 1 || column > this.columns) {
+    		throw new IllegalArgumentException("Well " + WellIDCodec.index(row, column) +
+    				" is outside the plate dimensions.");
+    	}
+
+    	return row * this.columns + column - 1;
+    }
+
+    /**
+     * Adds a well to the slot with the specified number of values. Any values
+     * already held in the slot are discarded and the new values are zero.
+     * @param    int    the slot
+     * @param    int    the number of values
+     */
+    public void addWell(int slot, int length) {
+
+    	Preconditions.checkArgument(length >= 0, "Invalid well length: " + length);
+
+    	this.ensureReads(length);
+
+    	if(!this.present[slot]) {
+    		this.present[slot] = true;
+    		this.size++;
+    	}
+
+    	this.clearSlot(slot);
+    	this.lengths[slot] = length;
+    }
+
+    /**
+     * Changes the number of values in the well held in the slot. Values below
+     * the new length are kept and added values are zero.
+     * @param    int    the slot
+     * @param    int    the number of values
+     */
+    public void resizeWell(int slot, int length) {
+
+    	Preconditions.checkArgument(length >= 0, "Invalid well length: " + length);
+    	Preconditions.checkArgument(this.present[slot], "No well in slot: " + slot);
+
+    	this.ensureReads(length);
+
+    	int from = Math.min(this.lengths[slot], length);
+    	int to = Math.max(this.lengths[slot], length);
+
+    	for(int i = from; i < to; i++) {
+
+    		this.reads[i][slot] = 0;
+
+    		if(this.overflow[i] != null) {
+    			this.overflow[i][slot] = null;
+    		}
+    	}
+
+    	this.lengths[slot] = length;
+    }
+
+    /**
+     * Removes the well in the slot.
+     * @param    int    the slot
+     */
+    public void removeWell(int slot) {
+
+    	if(this.present[slot]) {
+    		this.clearSlot(slot);
+    		this.present[slot] = false;
+    		this.lengths[slot] = 0;
+    		this.size--;
+    	}
+    }
+
+    /**
+     * Returns true if the slot holds a well.
+     * @param    int    the slot
+     * @return          true if the well exists
+     */
+    public boolean contains(int slot) {
+    	return this.present[slot];
+    }
+
+    /**
+     * Returns the number of values in the well held in the slot.
+     * @param    int    the slot
+     * @return          the number of values
+     */
+    public int length(int slot) {
+    	return this.lengths[slot];
+    }
+
+    /**
+     * Returns the value at the read index for the well held in the slot.
+     * @param    int    the slot
+     * @param    int    the read index
+     * @return          the value
+     */
+    public BigInteger get(int slot, int read) {
+
+    	this.checkValue(slot, read);
+
+    	BigInteger[] big = this.overflow[read];
+
+    	if(big != null && big[slot] != null) {
+    		return big[slot];
+    	}
+
+    	return BigInteger.valueOf(this.reads[read][slot]);
+    }
+
+    /**
+     * Returns the value at the read index for the well held in the slot as a
+     * long.
+     * @param    int    the slot
+     * @param    int    the read index
+     * @return          the value
+     * @throws   ArithmeticException    the value overflows a long
+     */
+    public long getLong(int slot, int read) {
+
+    	this.checkValue(slot, read);
+
+    	if(!this.isLong(slot, read)) {
+    		throw new ArithmeticException("Overflow casting " + this.overflow[read][slot] +
+    				" to a long.");
+    	}
+
+    	return this.reads[read][slot];
+    }
+
+    /**
+     * Returns true if the value at the read index for the well held in the slot
+     * is stored as a long.
+     * @param    int    the slot
+     * @param    int    the read index
+     * @return          true if the value is a long
+     */
+    public boolean isLong(int slot, int read) {
+    	BigInteger[] big = this.overflow[read];
+    	return big == null || big[slot] == null;
+    }
+
+    /**
+     * Sets the value at the read index for the well held in the slot.
+     * @param    int           the slot
+     * @param    int           the read index
+     * @param    BigInteger    the value
+     */
+    public void set(int slot, int read, BigInteger value) {
+
+    	this.checkValue(slot, read);
+
+    	if(WellData.fitsLong(value)) {
+    		this.setLong(slot, read, value.longValue());
+    		return;
+    	}
+
+    	if(this.overflow[read] == null) {
+    		this.overflow[read] = new BigInteger[this.slots];
+    	}
+
+    	this.reads[read][slot] = 0;
+    	this.overflow[read][slot] = value;
+    }
+
+    /**
+     * Sets the value at the read index for the well held in the slot.
+     * @param    int     the slot
+     * @param    int     the read index
+     * @param    long    the value
+     */
+    public void setLong(int slot, int read, long value) {
+
+    	this.checkValue(slot, read);
+
+    	this.reads[read][slot] = value;
+
+    	if(this.overflow[read] != null) {
+    		this.overflow[read][slot] = null;
+    	}
+    }
+
+    /**
+     * Returns the long values for the read index. The array is backed by the
+     * matrix and is indexed by slot. Entries for values held in the side table,
+     * for absent wells and for wells with fewer values than the read index are
+     * undefined.
+     * @param    int    the read index
+     * @return          the long values
+     */
+    public long[] read(int read) {
+    	return this.reads[read];
+    }
+
+    /**
+     * Returns the big integer side table for the read index or null if every
+     * value for the read is stored as a long. The array is backed by the matrix
+     * and is indexed by slot.
+     * @param    int    the read index
+     * @return          the side table
+     */
+    public BigInteger[] overflow(int read) {
+    	return this.overflow[read];
+    }
+
+    /**
+     * Returns true if every value for the read index is stored as a long.
+     * @param    int    the read index
+     * @return          true if no values overflow
+     */
+    public boolean isCompact(int read) {
+
+    	BigInteger[] big = this.overflow[read];
+
+    	if(big == null) {
+    		return true;
+    	}
+
+    	for(BigInteger value : big) {
+    		if(value != null) {
+    			return false;
+    		}
+    	}
+
+    	this.overflow[read] = null;
+
+    	return true;
+    }
+
+    /* ---------------------------- Group methods --------------------------- */
+
+    /**
+     * Adds a well group.
+     * @param    WellList    the well group
+     */
+    public void addGroups(WellList list) {
+    	this.groups.add(list);
+    }
+
+    /**
+     * Returns the well groups.
+     * @return    the well groups
+     */
+    public Set<WellList> groups() {
+    	return new TreeSet<WellList>(this.groups);
+    }
+
+    /* ------------------------------- Getters ------------------------------ */
+
+    /**
+     * Returns the plate label.
+     * @return    the label
+     */
+    public String label() {
+    	return this.label;
+    }
+
+    /**
+     * Sets the plate label.
+     * @param    String    the new label
+     */
+    public void setLabel(String label) {
+    	this.label = label;
+    }
+
+    /**
+     * Returns the number of rows.
+     * @return    the number of rows
+     */
+    public int rows() {
+    	return this.rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     * @return    the number of columns
+     */
+    public int columns() {
+    	return this.columns;
+    }
+
+    /**
+     * Returns the number of slots.
+     * @return    the number of slots
+     */
+    public int slots() {
+    	return this.slots;
+    }
+
+    /**
+     * Returns the number of wells.
+     * @return    the number of wells
+     */
+    public int size() {
+    	return this.size;
+    }
+
+    /**
+     * Returns the number of reads. This is equal to the length of the largest
+     * well added to the matrix.
+     * @return    the number of reads
+     */
+    public int reads() {
+    	return this.readCount;
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Allocates the read arrays up to the read number.
+     * @param    int    the read number
+     */
+    private void ensureReads(int number) {
+
+    	if(number <= this.readCount) {
+    		return;
+    	}
+
+    	if(number > this.reads.length) {
+    		int capacity = Math.max(number, this.reads.length * 2);
+    		this.reads = Arrays.copyOf(this.reads, capacity);
+    		this.overflow = Arrays.copyOf(this.overflow, capacity);
+    	}
+
+    	for(int i = this.readCount; i < number; i++) {
+    		this.reads[i] = new long[this.slots];
+    	}
+
+    	this.readCount = number;
+    }
+
+    /**
+     * Clears the values held in the slot.
+     * @param    int    the slot
+     */
+    private void clearSlot(int slot) {
+
+    	for(int i = 0; i < this.readCount; i++) {
+
+    		this.reads[i][slot] = 0;
+
+    		if(this.overflow[i] != null) {
+    			this.overflow[i][slot] = null;
+    		}
+    	}
+    }
+
+    /**
+     * Checks the slot holds a well with a value at the read index.
+     * @param    int    the slot
+     * @param    int    the read index
+     */
+    private void checkValue(int slot, int read) {
+    	if(!this.present[slot] || read < 0 || read >= this.lengths[slot]) {
+    		throw new IndexOutOfBoundsException("No value at read " + read + " for slot " + slot + ".");
+    	}
+    }
+}
@@ -26,8 +26,11 @@ package com.github.jessemull.microflexbiginteger.plate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -41,6 +44,11 @@ import com.github.jessemull.microflexbiginteger.util.ValUtil;
  * class represents a stack of plates. Plates are stored internally in a 
  * list. All plates within a single stack must share the same plate dimensions.
  * Please refer to the PlateBigDecimal class for more information.
+ * <br><br>
+ * Alongside the ordered plate set the stack keeps a hash index from each label 
+ * to the plates carrying it, so lookups, removals and retentions by label do 
+ * not scan the stack. Plates removed through the head, tail or sub set views 
+ * bypass the index, as do plates relabeled while they are in the stack.
  * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
@@ -55,6 +63,11 @@ public class Stack implements Iterable<Plate> {
     
     private TreeSet<Plate> stack;
     
+    /* Label index holding the plates for each label in stack order */
+    
+    private Map<String, TreeSet<Plate>> labelIndex = new HashMap<String, TreeSet<Plate>>();
+    private long indexed = Plate.relabels();    // Plate label changes at the last rebuild
+    
     /* Plate stack label */
     
     private String label = "StackBigInteger";
@@ -157,7 +170,8 @@ public class Stack implements Iterable<Plate> {
     	this.initializePlateType(plateIn.rows(), plateIn.columns());
     	ValUtil.validatePlateBigInteger(this.rows(), this.columns(), plateIn);
         this.stack = new TreeSet<Plate>();
-        this.stack.add(plateIn);    
+        this.stack.add(plateIn);
+        this.reindexLabels();
     }
     
     /**
@@ -170,6 +184,7 @@ public class Stack implements Iterable<Plate> {
     	ValUtil.validatePlateBigInteger(this.rows(), this.columns(), plateIn);
         this.stack = new TreeSet<Plate>();
         this.stack.add(plateIn);
+        this.reindexLabels();
         this.label = labelIn;
     }
     
@@ -183,6 +198,7 @@ public class Stack implements Iterable<Plate> {
         ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);
         this.stack = new TreeSet<Plate>();
         this.stack.addAll(platesIn);
+        this.reindexLabels();
     }
     
     /**
@@ -195,6 +211,7 @@ public class Stack implements Iterable<Plate> {
         ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);   
         this.stack = new TreeSet<Plate>();
         this.stack.addAll(platesIn);
+        this.reindexLabels();
         this.label = labelIn;
     }
     
@@ -207,6 +224,7 @@ public class Stack implements Iterable<Plate> {
         ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);
         this.stack = new TreeSet<Plate>();;
         this.stack.addAll(Arrays.asList(platesIn));
+        this.reindexLabels();
     }
     
     /**
@@ -218,17 +236,23 @@ public class Stack implements Iterable<Plate> {
         ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);
         this.stack = new TreeSet<Plate>();
         this.stack.addAll(Arrays.asList(platesIn));
+        this.reindexLabels();
         this.label = labelIn;
     }
     
     /**
-     * Creates a new plate stack from an existing plate stack.
+     * Creates a new plate stack from an existing plate stack. Each plate is 
+     * cloned and shares its well data with the input stack until either plate 
+     * is modified.
      * @param    Stack    the input stack
      */
     public Stack(Stack stack) {              
     	this.initializePlateType(stack.rows(), stack.columns());
     	this.stack = new TreeSet<Plate>();
-    	this.stack.addAll(stack.getAll());
+    	for(Plate plate : stack.getAll()) {
+    		this.stack.add(new Plate(plate));
+    	}
+    	this.reindexLabels();
     	this.label = stack.label();  	
     }
 
@@ -332,7 +356,9 @@ public class Stack implements Iterable<Plate> {
     public boolean add(Plate plateIn) {
         try { 
             ValUtil.validatePlateBigInteger(this.rows(), this.columns(), plateIn);
-            this.stack.add(plateIn);
+            if(this.plates().add(plateIn)) {
+                this.indexLabel(plateIn);
+            }
             return true;
         } catch(Exception e) {
             System.out.println(e.toString());
@@ -348,7 +374,11 @@ public class Stack implements Iterable<Plate> {
     public boolean add(Collection<Plate> platesIn) {
         try {
             ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);
-            this.stack.addAll(platesIn);
+            for(Plate plate : platesIn) {
+                if(this.plates().add(plate)) {
+                    this.indexLabel(plate);
+                }
+            }
             return true;
         } catch(Exception e) {
             System.out.println(e.toString());
@@ -364,7 +394,11 @@ public class Stack implements Iterable<Plate> {
     public boolean add(Plate[] platesIn) {
         try { 
             ValUtil.validatePlateBigInteger(this.rows(), this.columns(), platesIn);
-            this.stack.addAll(Arrays.asList(platesIn));
+            for(Plate plate : platesIn) {
+                if(this.plates().add(plate)) {
+                    this.indexLabel(plate);
+                }
+            }
             return true;
         } catch(Exception e) {
             System.out.println(e.toString());
@@ -385,12 +419,14 @@ public class Stack implements Iterable<Plate> {
             
             ValUtil.validatePlateBigInteger(this.rows, this.columns, plateIn);
             
-            boolean remove = this.stack.remove(plateIn);
+            boolean remove = this.plates().remove(plateIn);
             if(!remove) {
             	throw new IllegalArgumentException("Failed to remove plate " + 
                         plateIn.toString() + ". This plate does not exist in the data set.");
             }
             
+            this.unindexLabel(plateIn);
+            
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -468,10 +504,14 @@ public class Stack implements Iterable<Plate> {
 
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(plate.label().equals(label)) {
-        			success = this.stack.remove(plate);
-        			break;
+        	TreeSet<Plate> plates = this.labelIndex().get(label);
+        	
+        	if(plates != null) {
+        		Plate plate = plates.first();
+        		success = this.plates().remove(plate);
+        		
+        		if(success) {
+        			this.unindexLabel(plate);
         		}
         	}
 
@@ -496,9 +536,10 @@ public class Stack implements Iterable<Plate> {
         
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(labels.contains(plate.label())) {
-        			list.add(plate);
+        	for(String label : labels) {
+        		TreeSet<Plate> plates = this.labelIndex().get(label);
+        		if(plates != null) {
+        			list.addAll(plates);
         		}
         	}
 
@@ -516,7 +557,8 @@ public class Stack implements Iterable<Plate> {
      * Clears the stack.
      */
     public void clear() {
-        this.stack.clear();
+        this.plates().clear();
+        this.labelIndex.clear();
     }
     
     /*--------------------- Methods for replacing plates ---------------------*/
@@ -529,7 +571,9 @@ public class Stack implements Iterable<Plate> {
     public boolean replace(Plate plateIn) {
     	
     	try {
-            this.stack.remove(plateIn);
+            if(this.plates().remove(plateIn)) {
+                this.unindexLabel(plateIn);
+            }
             this.add(plateIn);
         } catch(Exception e) {
             System.err.println(e.getMessage());
@@ -613,7 +657,8 @@ public class Stack implements Iterable<Plate> {
         
         try {
             ValUtil.validatePlateBigInteger(this.rows, this.columns, plateIn);
-            success = this.stack.retainAll(list);
+            success = this.plates().retainAll(list);
+            this.reindexLabels();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
@@ -642,7 +687,8 @@ public class Stack implements Iterable<Plate> {
         }
             
         try { 
-            success = this.stack.retainAll(platesIn) ? success : false;
+            success = this.plates().retainAll(platesIn) ? success : false;
+            this.reindexLabels();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             success = false;
@@ -671,7 +717,8 @@ public class Stack implements Iterable<Plate> {
         }
             
         try { 
-            success = this.stack.retainAll(Arrays.asList(platesIn)) ? success : false;
+            success = this.plates().retainAll(Arrays.asList(platesIn)) ? success : false;
+            this.reindexLabels();
         } catch(Exception e) {
             System.err.println(e.getMessage());
             success = false;
@@ -691,13 +738,14 @@ public class Stack implements Iterable<Plate> {
 
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(plate.label().equals(label)) {
-        			List<Plate> plateList = new ArrayList<Plate>();
-        			plateList.add(plate);
-        			success = this.stack.retainAll(plateList);
-        			break;
-        		}
+        	TreeSet<Plate> plates = this.labelIndex().get(label);
+        	
+        	if(plates != null) {
+        		Plate plate = plates.first();
+        		success = this.plates().size() > 1;
+        		this.plates().clear();
+        		this.plates().add(plate);
+        		this.reindexLabels();
         	}
 
         } catch(Exception e) {
@@ -717,17 +765,18 @@ public class Stack implements Iterable<Plate> {
     	
     	boolean success = true;
         
-        List<Plate> list = new ArrayList<Plate>();
-        
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(labels.contains(plate.label())) {
-        			list.add(plate);
-        		}
-        	}
-        	
-            success = this.stack.retainAll(list);
+            Set<String> retained = new HashSet<String>(labels);
+            
+            success = this.labelIndex().keySet().retainAll(retained);
+            
+            if(success) {
+                this.plates().clear();
+                for(TreeSet<Plate> plates : this.labelIndex.values()) {
+                    this.plates().addAll(plates);
+                }
+            }
             
         } catch(Exception e) {
         	System.err.println(e.getMessage());
@@ -748,10 +797,10 @@ public class Stack implements Iterable<Plate> {
 
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(plate.label().equals(label)) {
-        			return plate;
-        		}
+        	TreeSet<Plate> plates = this.labelIndex().get(label);
+        	
+        	if(plates != null) {
+        		return plates.first();
         	}
 
         } catch(Exception e) {
@@ -773,9 +822,10 @@ public class Stack implements Iterable<Plate> {
         
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(labels.contains(plate.label())) {
-        			plates.add(plate);
+        	for(String label : labels) {
+        		TreeSet<Plate> labeled = this.labelIndex().get(label);
+        		if(labeled != null) {
+        			plates.addAll(labeled);
         		}
         	}
         	
@@ -797,7 +847,7 @@ public class Stack implements Iterable<Plate> {
     	
     	Preconditions.checkNotNull(plateIn, "The plate cannot be null.");
     	
-    	for(Plate plate : this.stack) {
+    	for(Plate plate : this.plates()) {
             if(plateIn.equals(plate)) {
             	return plate;
             }
@@ -857,7 +907,7 @@ public class Stack implements Iterable<Plate> {
      * @return    all plates in the stack
      */
     public Set<Plate> getAll() {
-    	return this.stack;
+    	return this.plates();
     }
     
     /*-------------------- Methods for plate lookup -----------------------*/
@@ -868,7 +918,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      true if the plate exists
      */
     public boolean contains(Plate plateIn) {
-        return this.stack.contains(plateIn);
+        return this.plates().contains(plateIn);
     }
     
     /**
@@ -923,13 +973,7 @@ public class Stack implements Iterable<Plate> {
 
         try {
             
-        	for(Plate plate : this.stack) {
-        		if(plate.label().equals(label)) {
-        			return true;
-        		}
-        	}
-
-        	return true;
+        	return this.labelIndex().containsKey(label);
         	
         } catch(Exception e) {
         	System.err.println(e.getMessage());
@@ -1036,6 +1080,119 @@ public class Stack implements Iterable<Plate> {
         return "Type: " + this.descriptor + " Label: " + this.label;
     }
     
+    /*------------------------ Methods for Label Index -----------------------*/
+    
+    /**
+     * Adds the plate to the label index.
+     * @param    Plate    the plate
+     */
+    private void indexLabel(Plate plate) {
+    	
+    	TreeSet<Plate> plates = this.labelIndex.get(plate.label());
+    	
+    	if(plates == null) {
+    		plates = new TreeSet<Plate>();
+    		this.labelIndex.put(plate.label(), plates);
+    	}
+    	
+    	plates.add(plate);
+    }
+    
+    /**
+     * Removes the plate from the label index.
+     * @param    Plate    the plate
+     */
+    private void unindexLabel(Plate plate) {
+    	
+    	if(plate == null) {
+    		return;
+    	}
+    	
+    	TreeSet<Plate> plates = this.labelIndex.get(plate.label());
+    	
+    	if(plates != null) {
+    		
+    		plates.remove(plate);
+    		
+    		if(plates.isEmpty()) {
+    			this.labelIndex.remove(plate.label());
+    		}
+    	}
+    }
+    
+    /**
+     * Returns the plates, sorting the plates again and rebuilding the label 
+     * index if a plate label changed since the last rebuild. Plates are ordered
+     * by label, so a relabelled plate is out of place until the set is rebuilt.
+     * @return    the plates
+     */
+    private TreeSet<Plate> plates() {
+    	
+    	if(this.indexed != Plate.relabels()) {
+    		
+    		/* Copies a list, a sorted set would be copied in its stale order */
+    		
+    		TreeSet<Plate> sorted = new TreeSet<Plate>();
+    		sorted.addAll(new ArrayList<Plate>(this.stack));
+    		
+    		this.stack = sorted;
+    		this.reindexLabels();
+    	}
+    	
+    	return this.stack;
+    }
+    
+    /**
+     * Returns the label index, rebuilding the index if a plate label changed 
+     * since the last rebuild.
+     * @return    the label index
+     */
+    private Map<String, TreeSet<Plate>> labelIndex() {
+    	this.plates();
+    	return this.labelIndex;
+    }
+    
+    /**
+     * Rebuilds the label index from the stack.
+     */
+    private void reindexLabels() {
+    	
+    	this.indexed = Plate.relabels();
+    	this.labelIndex.clear();
+    	
+    	for(Plate plate : this.stack) {
+    		this.indexLabel(plate);
+    	}
+    }
+    
+    /**
+     * Iterates over the stack plates and updates the label index when a plate
+     * is removed.
+     */
+    private final class StackIterator implements Iterator<Plate> {
+    	
+    	private final Iterator<Plate> iter;
+    	private Plate last;
+    	
+    	private StackIterator(Iterator<Plate> iter) {
+    		this.iter = iter;
+    	}
+    	
+    	public boolean hasNext() {
+    		return this.iter.hasNext();
+    	}
+    	
+    	public Plate next() {
+    		this.last = this.iter.next();
+    		return this.last;
+    	}
+    	
+    	public void remove() {
+    		this.iter.remove();
+    		unindexLabel(this.last);
+    	}
+    }
+    
     /*---------------------------- TreeSet methods ---------------------------*/
     
     /**
@@ -1043,7 +1200,7 @@ public class Stack implements Iterable<Plate> {
      * @return    number of plates in the stack
      */
     public int size() {
-        return this.stack.size();
+        return this.plates().size();
     }
     
     /**
@@ -1051,7 +1208,7 @@ public class Stack implements Iterable<Plate> {
      * @return    array containing all the plates in the stack
      */
     public Plate[] toArray() {
-        return this.stack.toArray(new Plate[stack.size()]);
+        return this.plates().toArray(new Plate[stack.size()]);
     }
     
     /**
@@ -1061,7 +1218,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      greatest plate less than or equal to the input plate
      */
     public Plate higher(Plate plate) {
-        return this.stack.higher(plate);
+        return this.plates().higher(plate);
     }
     
     /**
@@ -1071,7 +1228,7 @@ public class Stack implements Iterable<Plate> {
      * @return                       least plate greater than or equal to the input plate
      */
     public Plate lower(Plate plate) {
-        return this.stack.lower(plate);
+        return this.plates().lower(plate);
     }
     
     /**
@@ -1080,7 +1237,9 @@ public class Stack implements Iterable<Plate> {
      * @return    first/lowest plate
      */
     public Plate pollFirst() {
-        return this.stack.pollFirst();
+        Plate plate = this.plates().pollFirst();
+        this.unindexLabel(plate);
+        return plate;
     }
     
     /**
@@ -1089,7 +1248,9 @@ public class Stack implements Iterable<Plate> {
      * @return    last/highest plate
      */
     public Plate pollLast() {
-        return this.stack.pollLast();
+        Plate plate = this.plates().pollLast();
+        this.unindexLabel(plate);
+        return plate;
     }  
     
     /**
@@ -1097,7 +1258,7 @@ public class Stack implements Iterable<Plate> {
      * @return    iterator for plates
      */
     public Iterator<Plate> iterator() {
-        return this.stack.iterator();
+        return new StackIterator(this.plates().iterator());
     }
     
     /**
@@ -1105,7 +1266,7 @@ public class Stack implements Iterable<Plate> {
      * @return    iterator for traversing set in descending order
      */
     public Iterator<Plate> descendingIterator() {
-        return this.stack.descendingIterator();
+        return new StackIterator(this.plates().descendingIterator());
     }
     
     /**
@@ -1113,7 +1274,7 @@ public class Stack implements Iterable<Plate> {
      * @return    the set in descending order
      */
     public Set<Plate> descendingSet() {
-        return this.stack.descendingSet();
+        return this.plates().descendingSet();
     }
     
     /**
@@ -1121,7 +1282,7 @@ public class Stack implements Iterable<Plate> {
      * @return    the first plate in the set
      */
     public Plate first() {
-        return this.stack.first();
+        return this.plates().first();
     }
     
     /**
@@ -1129,7 +1290,7 @@ public class Stack implements Iterable<Plate> {
      * @return    the first plate in the set
      */
     public Plate last() {
-        return this.stack.last();
+        return this.plates().last();
     }
     
     /**
@@ -1139,7 +1300,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      least plate greater than or equal to the input plate
      */
     public Plate ceiling(Plate plate) {
-        return this.stack.ceiling(plate);
+        return this.plates().ceiling(plate);
     }
     
     /**
@@ -1148,7 +1309,7 @@ public class Stack implements Iterable<Plate> {
      * @return    greatest plate less than or equal to the input plate
      */
     public Plate floor(Plate plate) {
-        return this.stack.floor(plate);
+        return this.plates().floor(plate);
     }
     
     /**
@@ -1158,7 +1319,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      plate set with plates less than the input plate
      */
     public Set<Plate> headSet(Plate plate) {
-        return this.stack.headSet(plate);
+        return this.plates().headSet(plate);
     }
     
     /**
@@ -1169,7 +1330,7 @@ public class Stack implements Iterable<Plate> {
      * @return              plate set with plates less than the input plate
      */
     public Set<Plate> headSet(Plate plate, boolean inclusive) {
-        return this.stack.headSet(plate, inclusive);
+        return this.plates().headSet(plate, inclusive);
     }
     
     /**
@@ -1179,7 +1340,7 @@ public class Stack implements Iterable<Plate> {
      * @return                       set with plates greater than or equal to the input plate
      */
     public Set<Plate> tailSet(Plate plate) {
-        return this.stack.tailSet(plate);
+        return this.plates().tailSet(plate);
     }
     
     /**
@@ -1189,7 +1350,7 @@ public class Stack implements Iterable<Plate> {
      * @return                       set with plates greater than or equal to the input plate
      */
     public Set<Plate> tailSet(Plate plate, boolean inclusive) {
-        return this.stack.tailSet(plate, inclusive);
+        return this.plates().tailSet(plate, inclusive);
     }
     
     /**
@@ -1202,7 +1363,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      plates in range
      */
     public Set<Plate> subSet(Plate plate1, boolean inclusive1, Plate plate2, boolean inclusive2) {
-        return this.stack.subSet(plate1, inclusive1, plate2, inclusive2);
+        return this.plates().subSet(plate1, inclusive1, plate2, inclusive2);
     }
     
     /**
@@ -1213,7 +1374,7 @@ public class Stack implements Iterable<Plate> {
      * @return                      plates in range
      */
     public Set<Plate> subSet(Plate plate1, Plate plate2) {
-        return this.stack.subSet(plate1, plate2);
+        return this.plates().subSet(plate1, plate2);
     }
 
     /**
@@ -1221,7 +1382,7 @@ public class Stack implements Iterable<Plate> {
      * @return    true if plate has no plates
      */
     public boolean isEmpty() {
-        return this.stack.isEmpty();
+        return this.plates().isEmpty();
     }
     
     /** 
@@ -1241,7 +1402,7 @@ public class Stack implements Iterable<Plate> {
 
 		Stack stackIn = (Stack) object;
         
-        if(this.stack.size() != stackIn.size()
+        if(this.plates().size() != stackIn.size()
            || this.rows != stackIn.rows
            || this.columns != stackIn.columns
            || !this.label.equals(stackIn.label())) {
@@ -1249,7 +1410,7 @@ public class Stack implements Iterable<Plate> {
         }
         
         Iterator<Plate> input = stackIn.iterator();
-        Iterator<Plate> compareTo = this.stack.iterator();
+        Iterator<Plate> compareTo = this.plates().iterator();
         
         while(input.hasNext() && compareTo.hasNext()) {
         	if(!input.next().equals(compareTo.next())) {
@@ -1269,7 +1430,7 @@ public class Stack implements Iterable<Plate> {
                    append(this.rows).
                    append(this.columns).
                    append(this.label).
-                   append(this.stack).
+                   append(this.plates()).
                    toHashCode();    
     }
 }
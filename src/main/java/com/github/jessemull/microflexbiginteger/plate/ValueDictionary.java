@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class holds the distinct values for wells using the dictionary storage
+ * mode. Each distinct value is stored once and identified by an integer code.
+ * Codes are assigned in the order the values are first encoded and never change,
+ * so a dictionary can be shared by every well on a plate and by clones of those
+ * wells.
+ *
+ * Values are never removed from a dictionary. A dictionary may therefore hold
+ * values that are no longer used by any well.
+ *
+ * Null values are not permitted.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ValueDictionary {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Default capacity */
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /* Values by code and codes by value */
+
+    private BigInteger[] values = new BigInteger[DEFAULT_CAPACITY];
+    private Map<BigInteger, Integer> codes = new HashMap<BigInteger, Integer>();
+    private int size;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new empty dictionary.
+     */
+    public ValueDictionary() {}
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the code for the value, adding the value to the dictionary if it
+     * is not already present.
+     * @param    BigInteger    the value
+     * @return                 the code
+     */
+    public int encode(BigInteger value) {
+
+        if(value == null) {
+            throw new NullPointerException("Null values are not permitted.");
+        }
+
+        Integer code = this.codes.get(value);
+
+        if(code != null) {
+            return code;
+        }
+
+        if(this.size == this.values.length) {
+            this.values = Arrays.copyOf(this.values, this.size * 2);
+        }
+
+        this.values[this.size] = value;
+        this.codes.put(value, this.size);
+
+        return this.size++;
+    }
+
+    /**
+     * Returns the code for the value or -1 if the dictionary does not contain
+     * the value.
+     * @param    Object    the value
+     * @return             the code
+     */
+    public int indexOf(Object value) {
+        Integer code = this.codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Returns the value for the code.
+     * @param    int    the code
+     * @return          the value
+     */
+    public BigInteger get(int code) {
+
+        if(code < 0 || code >= this.size) {
+            throw new IndexOutOfBoundsException("Code: " + code + ", Size: " + this.size);
+        }
+
+        return this.values[code];
+    }
+
+    /**
+     * Returns the number of distinct values in the dictionary.
+     * @return    the number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the values in the dictionary ordered by code.
+     * @return    the values
+     */
+    public BigInteger[] toArray() {
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+}
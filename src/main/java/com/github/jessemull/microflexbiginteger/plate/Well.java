@@ -25,11 +25,13 @@ package com.github.jessemull.microflexbiginteger.plate;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
 import com.github.jessemull.microflexbiginteger.plate.WellPrecursor;
 import com.github.jessemull.microflexbiginteger.util.BigIntegerUtil;
@@ -86,6 +88,43 @@ import com.github.jessemull.microflexbiginteger.util.BigIntegerUtil;
  *    </tr>
  * </table>
  * 
+ * By default the data set is held in an array list of big integers. Wells can 
+ * be switched to a hybrid storage mode using setStorage(). In hybrid mode the 
+ * values are held in a WellData list which stores each value as a primitive long 
+ * and promotes a single slot to a BigInteger only when the value overflows a 
+ * long. Values read from a hybrid well are equal to but not necessarily the same 
+ * instances as the values that were added.
+ * 
+ * The result wells of the arithmetic and bitwise operations, except the shifts,
+ * use the hybrid storage mode regardless of the storage mode of the input 
+ * wells, so results calculated on the long fast paths are stored without 
+ * creating a big integer for every value. Use setStorage() to convert a result
+ * well to another storage mode.
+ * 
+ * Wells holding few distinct values can use the dictionary storage mode. Each 
+ * distinct value is stored once in a value dictionary and the well holds an 
+ * integer code for every value. A dictionary can be shared by all the wells on a 
+ * plate using setDictionary() or Plate.setStorage(). The unary operations and 
+ * the operations using a constant are applied once for each distinct value of a 
+ * dictionary well, and the results are dictionary wells.
+ * 
+ * Wells receiving values one at a time, such as the wells of a kinetic read, 
+ * can use the chunked storage mode. Values are held in fixed size chunks and 
+ * appending a value never copies the values already in the well. See 
+ * Plate.appendRead().
+ * 
+ * Cloning a well is a constant time operation. The clone and the original share 
+ * the same data set until either well is modified, at which point the modified 
+ * well copies the data set before applying the change. The list returned by the 
+ * data method is a view which performs the copy on the first write, so callers 
+ * see the same behavior as for a well with its own data set.
+ * 
+ * The big decimal, double and long projections of the data set are cached after 
+ * the first conversion. Every change to the data set increments a modification 
+ * counter and the cached projections are discarded when the counter changes, so 
+ * repeated statistics on an unchanged well convert the values only once. The 
+ * projection methods return copies of the cached values.
+ * 
  * The Well class also implements both hash code and equals functions in order to
  * prevent duplicate wells within a single plate object.
  * 
@@ -106,6 +145,39 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
 	
     private List<BigInteger> data = new ArrayList<BigInteger>();
     
+    /* True if the data set may be shared with a clone of the well */
+    
+    private boolean shared = false;
+    
+    /* Incremented by every change to the data set */
+    
+    private int modifications = 0;
+    
+    /* Cached projections of the data set and the modification count they hold */
+    
+    private int projected = 0;
+    private BigDecimal[] decimals;
+    private double[] doubles;
+    private long[] longs;
+    
+    /*---------------------------- Storage Modes -----------------------------*/
+    
+    /* Values are held as big integer objects in an array list */
+    
+    public static final int STORAGE_LIST = 0;
+    
+    /* Values are held as longs and promoted to big integers on overflow */
+    
+    public static final int STORAGE_HYBRID = 1;
+    
+    /* Values are held as integer codes into a value dictionary */
+    
+    public static final int STORAGE_DICTIONARY = 2;
+    
+    /* Values are held as big integer objects in fixed size chunks */
+    
+    public static final int STORAGE_CHUNKED = 3;
+    
     /* ---------------------------- Constructors ---------------------------- */
     
     /**
@@ -119,13 +191,22 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
     
     /**
      * Creates a new Well object using the numerical type flag, row number, 
-     * column number and data set.
+     * column number and data set. Wells created from a hybrid data set use the
+     * hybrid storage mode and take ownership of the data set, which must not be
+     * modified by the caller afterwards.
      * @param    Collection<BigInteger>    the data set
      * @param    int                       the well row
      * @param    int                       the well column
      */
     public Well(int row, int column, Collection<BigInteger> data) {
+    	
     	super(WellPrecursor.BIGINTEGER, row, column);
+    	
+    	if(data instanceof WellData) {
+    		this.data = (WellData) data;
+    		return;
+    	}
+    	
     	for(BigInteger number : data) {
     	    this.data.add(BigIntegerUtil.toBigInteger(number));
     	}
@@ -303,12 +384,297 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
     }
     
     /**
-     * Clones a double well without invoking clone.
+     * Creates a new Well object using the dictionary storage mode. The data set 
+     * holds the values in the dictionary identified by the codes.
+     * @param    int                the well row
+     * @param    int                the well column
+     * @param    ValueDictionary    the dictionary
+     * @param    int[]              the codes
+     * @throws   IllegalArgumentException    invalid code
+     */
+    public Well(int row, int column, ValueDictionary dictionary, int[] codes) {
+    	super(WellPrecursor.BIGINTEGER, row, column);
+    	this.data = new DictionaryData(dictionary, codes);
+    }
+    
+    /**
+     * Clones a well without invoking clone. The data set is shared with the 
+     * input well and copied by whichever well is modified first.
      * @param    WellPrecursor    the well to clone
      */
     public Well(Well well) {
         super(well);
-        this.data = new ArrayList<BigInteger>(well.data());
+        this.data = well.data;
+        this.shared = true;
+        well.shared = true;
+        
+        /* The cached projections are never modified and can be shared */
+        
+        if(well.projected == well.modifications) {
+            this.decimals = well.decimals;
+            this.doubles = well.doubles;
+            this.longs = well.longs;
+        }
+    }
+    
+    /* ------------------------ Methods for storage ------------------------- */
+    
+    /**
+     * Returns the storage mode of the well data set.
+     * @return    the storage mode
+     */
+    public int storage() {
+    	
+    	if(this.data instanceof WellData) {
+    		return STORAGE_HYBRID;
+    	}
+    	
+    	if(this.data instanceof ChunkedData) {
+    		return STORAGE_CHUNKED;
+    	}
+    	
+    	return this.data instanceof DictionaryData ? STORAGE_DICTIONARY : STORAGE_LIST;
+    }
+    
+    /**
+     * Converts the well data set to the specified storage mode. The values in 
+     * the data set are unchanged. Wells converted to the dictionary storage mode 
+     * use a new dictionary. Use setDictionary to share a dictionary between 
+     * wells.
+     * @param    int    the storage mode
+     * @throws   IllegalArgumentException    invalid storage mode
+     */
+    public void setStorage(int storage) {
+    	
+    	if(storage == this.storage()) {
+    		return;
+    	}
+    	
+    	switch(storage) {
+    	
+    	    case STORAGE_LIST:      this.data = new ArrayList<BigInteger>(this.data);
+    	                            break;
+    	                            
+    	    case STORAGE_HYBRID:    this.data = new WellData(this.data);
+    	                            break;
+    	                            
+    	    case STORAGE_DICTIONARY:    this.data = new DictionaryData(new ValueDictionary(), this.data);
+    	                                break;
+    	                            
+    	    case STORAGE_CHUNKED:    this.data = new ChunkedData(this.data);
+    	                             break;
+    	                            
+    	    default: throw new IllegalArgumentException("Invalid storage mode: " + storage);
+    	}
+    	
+    	this.shared = false;
+    }
+    
+    /**
+     * Converts the well data set to the dictionary storage mode using the 
+     * dictionary. The values in the data set are unchanged.
+     * @param    ValueDictionary    the dictionary
+     */
+    public void setDictionary(ValueDictionary dictionary) {
+    	
+    	if(dictionary == null) {
+    		throw new NullPointerException("Dictionary is null.");
+    	}
+    	
+    	if(dictionary == this.dictionary()) {
+    		return;
+    	}
+    	
+    	this.data = new DictionaryData(dictionary, this.data);
+    	this.shared = false;
+    }
+    
+    /**
+     * Returns the dictionary holding the well values or null if the well does 
+     * not use the dictionary storage mode.
+     * @return    the dictionary
+     */
+    public ValueDictionary dictionary() {
+    	return this.data instanceof DictionaryData ? ((DictionaryData) this.data).dictionary() : null;
+    }
+    
+    /**
+     * Returns the dictionary codes for the values in the data set.
+     * @return    the codes
+     * @throws    IllegalStateException    the well does not use the dictionary storage mode
+     */
+    public int[] codes() {
+    	
+    	if(!(this.data instanceof DictionaryData)) {
+    		throw new IllegalStateException("The well does not use the dictionary storage mode.");
+    	}
+    	
+    	return ((DictionaryData) this.data).codes();
+    }
+    
+    /* -------------------- Methods for copy on write ----------------------- */
+    
+    /**
+     * Returns the data set after copying it if it may be shared with a clone. 
+     * Every method modifying the data set must use the returned list. Calling 
+     * this method invalidates the cached projections.
+     * @return    the unshared data set
+     */
+    private List<BigInteger> mutableData() {
+    	
+    	this.modifications++;
+    	
+    	if(this.shared) {
+    		this.data = this.copyData(true);
+    		this.shared = false;
+    	}
+    	
+    	return this.data;
+    }
+    
+    /**
+     * Returns a new data set using the storage mode of the well data set. 
+     * Dictionary data sets keep the dictionary.
+     * @param    boolean    true to copy the values
+     * @return              the new data set
+     */
+    private List<BigInteger> copyData(boolean values) {
+    	
+    	if(this.data instanceof WellData) {
+    		return values ? new WellData((WellData) this.data) : new WellData();
+    	}
+    	
+    	if(this.data instanceof DictionaryData) {
+    		DictionaryData dictionary = (DictionaryData) this.data;
+    		return values ? new DictionaryData(dictionary) : new DictionaryData(dictionary.dictionary());
+    	}
+    	
+    	if(this.data instanceof ChunkedData) {
+    		return values ? new ChunkedData((ChunkedData) this.data) : new ChunkedData();
+    	}
+    	
+    	return values ? new ArrayList<BigInteger>(this.data) : new ArrayList<BigInteger>();
+    }
+    
+    /**
+     * A view of the data set. Reads are passed to the data set and writes go 
+     * through mutableData, which copies a shared data set and invalidates the 
+     * cached projections.
+     */
+    private final class DataView extends AbstractList<BigInteger> implements RandomAccess {
+    	
+    	public BigInteger get(int index) {
+    		return data.get(index);
+    	}
+    	
+    	public int size() {
+    		return data.size();
+    	}
+    	
+    	public BigInteger set(int index, BigInteger value) {
+    		return mutableData().set(index, value);
+    	}
+    	
+    	public void add(int index, BigInteger value) {
+    		mutableData().add(index, value);
+    		this.modCount++;
+    	}
+    	
+    	public BigInteger remove(int index) {
+    		BigInteger removed = mutableData().remove(index);
+    		this.modCount++;
+    		return removed;
+    	}
+    	
+    	public boolean addAll(Collection<? extends BigInteger> collection) {
+    		this.modCount++;
+    		return mutableData().addAll(collection);
+    	}
+    	
+    	public boolean removeAll(Collection<?> collection) {
+    		this.modCount++;
+    		return mutableData().removeAll(collection);
+    	}
+    	
+    	public boolean retainAll(Collection<?> collection) {
+    		this.modCount++;
+    		return mutableData().retainAll(collection);
+    	}
+    	
+    	public void clear() {
+    		this.modCount++;
+    		Well.this.clear();
+    	}
+    	
+    	protected void removeRange(int begin, int end) {
+    		this.modCount++;
+    		mutableData().subList(begin, end).clear();
+    	}
+    }
+    
+    /* ------------------- Methods for cached projections ------------------- */
+    
+    /**
+     * Discards the cached projections if the data set changed since they were
+     * computed.
+     */
+    private void validateProjections() {
+    	
+    	if(this.projected != this.modifications) {
+    		this.decimals = null;
+    		this.doubles = null;
+    		this.longs = null;
+    		this.projected = this.modifications;
+    	}
+    }
+    
+    /**
+     * Returns the cached big decimal projection of the data set. The returned 
+     * array must not be modified.
+     * @return    the big decimal values
+     */
+    private BigDecimal[] decimals() {
+    	
+    	this.validateProjections();
+    	
+    	if(this.decimals == null) {
+    		this.decimals = BigIntegerUtil.toBigDecimalArray(this.data);
+    	}
+    	
+    	return this.decimals;
+    }
+    
+    /**
+     * Returns the cached double projection of the data set. The returned array 
+     * must not be modified.
+     * @return    the double values
+     */
+    private double[] doubles() {
+    	
+    	this.validateProjections();
+    	
+    	if(this.doubles == null) {
+    		this.doubles = BigIntegerUtil.toDoubleArray(this.data);
+    	}
+    	
+    	return this.doubles;
+    }
+    
+    /**
+     * Returns the cached long projection of the data set. The returned array 
+     * must not be modified.
+     * @return    the long values
+     */
+    private long[] longs() {
+    	
+    	this.validateProjections();
+    	
+    	if(this.longs == null) {
+    		this.longs = this.data instanceof WellData ? 
+    				((WellData) this.data).toLongArray() : BigIntegerUtil.toLongArray(this.data);
+    	}
+    	
+    	return this.longs;
     }
     
     /* -------------------- Methods for data set output --------------------- */
@@ -318,7 +684,16 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public List<BigInteger> data() {
-        return this.data;
+        return new DataView();
+    }
+    
+    /**
+     * Returns the underlying data set for read only access within the package.
+     * The list must not be modified.
+     * @return    the data set
+     */
+    List<BigInteger> storageData() {
+    	return this.data;
     }
     
     /**
@@ -327,7 +702,15 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public List<Double> toDouble() {
-    	return BigIntegerUtil.toDoubleList(this.data);
+    	
+    	double[] doubles = this.doubles();
+    	List<Double> list = new ArrayList<Double>(doubles.length);
+    	
+    	for(double value : doubles) {
+    		list.add(value);
+    	}
+    	
+    	return list;
     }
     
     /**
@@ -336,7 +719,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public double[] toDoubleArray() {
-        return BigIntegerUtil.toDoubleArray(this.data);
+        return this.doubles().clone();
     }
     
     /**
@@ -399,7 +782,15 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public List<Long> toLong() {
-    	return BigIntegerUtil.toLongList(this.data);
+    	
+    	long[] longs = this.longs();
+    	List<Long> list = new ArrayList<Long>(longs.length);
+    	
+    	for(long value : longs) {
+    		list.add(value);
+    	}
+    	
+    	return list;
     }
     
     /**
@@ -408,7 +799,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public long[] toLongArray() {
-    	return BigIntegerUtil.toLongArray(this.data);
+    	return this.longs().clone();
     }
     
     /**
@@ -434,7 +825,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public List<BigDecimal> toBigDecimal() {
-    	return BigIntegerUtil.toBigDecimalList(this.data);
+    	return new ArrayList<BigDecimal>(Arrays.asList(this.decimals()));
     }
     
     /**
@@ -442,7 +833,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public BigDecimal[] toBigDecimalArray() {
-    	return BigIntegerUtil.toBigDecimalArray(this.data);
+    	return this.decimals().clone();
     }
     
     /**
@@ -450,7 +841,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @return    the data set
      */
     public List<BigInteger> toBigInteger() {
-    	return this.data;
+    	return this.data();
     }
     
     /**
@@ -468,7 +859,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger    the value to add
      */
     public void add(BigInteger datum) {
-        this.data.add(BigIntegerUtil.toBigInteger(datum));
+        this.mutableData().add(BigIntegerUtil.toBigInteger(datum));
     }
     
     /**
@@ -476,8 +867,9 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    Collection<BigInteger>    the data to add
      */
     public void add(Collection<BigInteger> collection) {
+    	List<BigInteger> data = this.mutableData();
     	for(BigInteger number : collection) {
-    		this.data.add(BigIntegerUtil.toBigInteger(number));
+    		data.add(BigIntegerUtil.toBigInteger(number));
     	}
     }
     
@@ -486,8 +878,9 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger[]    the data to add
      */
     public void add(BigInteger[] array) {
+    	List<BigInteger> data = this.mutableData();
     	for(BigInteger number : array) {
-    		this.data.add(BigIntegerUtil.toBigInteger(number));
+    		data.add(BigIntegerUtil.toBigInteger(number));
     	}
     }
     
@@ -496,9 +889,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellPrecursor    the well with data set to add
      */
     public void add(Well well) {
-    	for(BigInteger db : well) {
-    		this.data.add(db);
-    	}
+    	this.mutableData().addAll(well.data);
     }
     
     /**
@@ -520,8 +911,8 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger    replacement datum
      */
     public void replaceData(BigInteger datum) {
-    	this.data.clear();
-        this.data.add(BigIntegerUtil.toBigInteger(datum));
+    	this.clear();
+        this.mutableData().add(BigIntegerUtil.toBigInteger(datum));
     }
     
     /**
@@ -529,7 +920,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    Collection<BigInteger>    replacement data
      */
     public void replaceData(Collection<BigInteger> collection) {
-    	this.data.clear();
+    	this.clear();
     	this.add(collection);
     }
     
@@ -538,7 +929,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger[]    replacement data
      */
     public void replaceData(BigInteger[] array) {
-    	this.data.clear();
+    	this.clear();
     	this.add(array);
     }
     
@@ -547,7 +938,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellPrecursor    well with replacement data
      */
     public void replaceData(Well well) {
-    	this.data.clear();
+    	this.clear();
     	this.add(well);
     }
     
@@ -556,7 +947,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellSet    set of wells with replacement data
      */
     public void replaceData(WellSet set) {
-    	this.data.clear();
+    	this.clear();
     	this.add(set);
     }
     
@@ -569,7 +960,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
     public void remove(BigInteger number) {
     	List<BigInteger> list = new ArrayList<BigInteger>();
     	list.add(number);
-    	this.data.removeAll(list);
+    	this.mutableData().removeAll(list);
     }
     
     /**
@@ -578,7 +969,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      */
     public void remove(Collection<BigInteger> collection) {
     	List<BigInteger> list = new ArrayList<BigInteger>(collection);
-    	this.data.removeAll(list);
+    	this.mutableData().removeAll(list);
     }
     
     /**
@@ -586,7 +977,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger[]    data for removal
      */
     public void remove(BigInteger[] array) {
-    	this.data.removeAll(Arrays.asList(array));
+    	this.mutableData().removeAll(Arrays.asList(array));
     }
     
     /**
@@ -594,7 +985,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellPrecursor    well with data for removal
      */
     public void removeWell(Well well) {
-    	this.data.removeAll(well.data());
+    	this.mutableData().removeAll(well.data);
     }
     
     /**
@@ -602,8 +993,9 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellSet    wells with replacement data
      */
     public void removeSet(WellSet set) {
+    	List<BigInteger> data = this.mutableData();
     	for(WellPrecursor<BigInteger> well : set) {
-    		this.data.removeAll(well.data());
+    		data.removeAll(well.data());
     	}
     }
     
@@ -626,9 +1018,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
     		throw new IndexOutOfBoundsException("Ending index does not exist.");
     	}
     	
-    	List<BigInteger> removed = new ArrayList<BigInteger>(this.data().subList(0, begin));
-    	removed.addAll(this.data().subList(end, this.size()));
-    	this.data = removed;
+    	this.mutableData().subList(begin, end).clear();
     }
     
     /* -------------------- Methods for retaining data ---------------------- */
@@ -639,8 +1029,8 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      */
     public void retain(BigInteger number) {
     	if(this.data.contains(number)) {
-    		this.data.clear();
-    		this.data.add(BigIntegerUtil.toBigInteger(number));
+    		this.clear();
+    		this.mutableData().add(BigIntegerUtil.toBigInteger(number));
     	} else {
     		throw new IllegalArgumentException(number + " does not exist in the well data set.");
     	}
@@ -651,7 +1041,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    Collection<BigInteger>    data for retention
      */
     public void retain(Collection<BigInteger> collection) {
-    	this.data.retainAll(collection);
+    	this.mutableData().retainAll(collection);
     }
     
     /**
@@ -659,7 +1049,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    BigInteger[]    data for retention
      */
     public void retain(BigInteger[] array) {
-    	this.data.retainAll(Arrays.asList(array));
+    	this.mutableData().retainAll(Arrays.asList(array));
     }
     
     /**
@@ -667,7 +1057,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellPrecursor    well with data for retention
      */
     public void retainWell(Well well) {
-    	this.data.retainAll(well.data());
+    	this.mutableData().retainAll(well.data);
     }
     
     /**
@@ -675,8 +1065,9 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * @param    WellSet    wells with retention data
      */
     public void retainSet(WellSet set) {
+    	List<BigInteger> data = this.mutableData();
     	for(WellPrecursor<BigInteger> well : set) {
-    		this.data.retainAll(well.data());
+    		data.retainAll(well.data());
     	}
     }
     
@@ -699,7 +1090,9 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
     		throw new IndexOutOfBoundsException("Ending index does not exist.");
     	}
 
-    	this.data = this.data.subList(begin, end);
+    	List<BigInteger> data = this.mutableData();
+    	data.subList(end, this.size()).clear();
+    	data.subList(0, begin).clear();
     }
     
     /* ------------------- Methods for plate parameters --------------------- */
@@ -716,7 +1109,17 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      * Clears the well data.
      */
     public void clear() {
-    	this.data.clear();
+    	
+    	this.modifications++;
+    	
+    	/* A shared data set is replaced rather than copied and cleared */
+    	
+    	if(this.shared) {
+    		this.data = this.copyData(false);
+    		this.shared = false;
+    	} else {
+    	    this.data.clear();
+    	}
     }
     
     /**
@@ -735,10 +1138,30 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
      */
     public Well subList(int begin, int length) {
     	Well well = new Well(this.row(), this.column());
-    	well.add(this.data().subList(begin, begin + length));
+    	well.add(this.view(begin, length));
     	return well;
     }
     
+    /**
+     * Returns a read only view of the well values. The view reads through the
+     * well storage without copying the values.
+     * @return    the view
+     */
+    public WellView view() {
+    	return new WellView(this, 0, this.data.size());
+    }
+    
+    /**
+     * Returns a read only view of the values within the indices. The view reads
+     * through the well storage without copying the values.
+     * @param    int    beginning index
+     * @param    int    number of values in the view
+     * @return          the view
+     */
+    public WellView view(int begin, int length) {
+    	return new WellView(this, begin, length);
+    }
+    
     /**
      * Returns true if the well data set contains the value.
      * @param    BigInteger    the input value
@@ -782,7 +1205,7 @@ public class Well extends WellPrecursor<BigInteger> implements Iterable<BigInteg
 	 * @return    the iterator
 	 */
 	public Iterator<BigInteger> iterator() {
-		return this.data.iterator();
+		return this.data().iterator();
 	}
 
 	/**
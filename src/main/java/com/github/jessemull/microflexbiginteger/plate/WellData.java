@@ -0,0 +1,682 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * This class holds the data set for a big integer well using the hybrid storage
+ * mode. Values are stored in a primitive long array and a single slot is 
+ * promoted to a BigInteger only when the value it holds does not fit in a long. 
+ * Wells holding instrument counts therefore cost eight bytes per value instead 
+ * of a BigInteger object, its magnitude array and a reference.
+ *
+ * The data set is a fully mutable random access list of big integers. Values 
+ * returned by the list methods for unpromoted slots are created on demand. 
+ * Callers working with large data sets can avoid the allocation by checking the 
+ * slot with isLong() and reading the primitive value using getLong().
+ *
+ * Null values are not permitted.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellData extends AbstractList<BigInteger> implements RandomAccess {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Default capacity */
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /* Primitive values, promoted values and the number of promoted slots */
+
+    private long[] values;
+    private BigInteger[] promoted;
+    private int promotedCount;
+    private int size;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new empty data set.
+     */
+    public WellData() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty data set with the specified initial capacity.
+     * @param    int    the initial capacity
+     */
+    public WellData(int capacity) {
+
+        if(capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+
+        this.values = new long[capacity];
+    }
+
+    /**
+     * Creates a new data set containing the values in the collection.
+     * @param    Collection<BigInteger>    the data set
+     */
+    public WellData(Collection<BigInteger> collection) {
+        this(collection.size());
+        this.addAll(collection);
+    }
+
+    /**
+     * Creates a new data set containing the values in the array.
+     * @param    long[]    the data set
+     */
+    public WellData(long[] array) {
+        this.values = Arrays.copyOf(array, array.length);
+        this.size = array.length;
+    }
+
+    /**
+     * Clones a data set.
+     * @param    WellData    the data set to clone
+     */
+    public WellData(WellData data) {
+
+        this.values = Arrays.copyOf(data.values, data.size);
+        this.size = data.size;
+
+        if(data.promotedCount > 0) {
+            this.promoted = Arrays.copyOf(data.promoted, data.size);
+            this.promotedCount = data.promotedCount;
+        }
+    }
+
+    /* ------------------------ Primitive accessors ------------------------- */
+
+    /**
+     * Returns true if the value at the specified index fits in a long.
+     * @param    int    the index
+     * @return          true if the value is stored as a long
+     */
+    public boolean isLong(int index) {
+        this.checkIndex(index);
+        return this.promotedCount == 0 || this.promoted[index] == null;
+    }
+
+    /**
+     * Returns true if no values in the data set have been promoted.
+     * @return    true if every value fits in a long
+     */
+    public boolean isCompact() {
+        return this.promotedCount == 0;
+    }
+
+    /**
+     * Returns the value at the specified index as a long. Values that were
+     * promoted result in an arithmetic exception.
+     * @param    int    the index
+     * @return          the value
+     * @throws   ArithmeticException    on overflow
+     */
+    public long getLong(int index) {
+
+        this.checkIndex(index);
+
+        if(this.promotedCount > 0 && this.promoted[index] != null) {
+            throw new ArithmeticException("Overflow casting " + this.promoted[index] + " to a long.");
+        }
+
+        return this.values[index];
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     * @param    int     the index
+     * @param    long    the new value
+     */
+    public void setLong(int index, long value) {
+        this.checkIndex(index);
+        this.demote(index);
+        this.values[index] = value;
+    }
+
+    /**
+     * Appends a long to the data set.
+     * @param    long    the value
+     */
+    public void addLong(long value) {
+        this.ensureCapacity(this.size + 1);
+        this.values[this.size++] = value;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the data set as an array of longs. Promoted values result in an
+     * arithmetic exception.
+     * @return    the data set
+     * @throws    ArithmeticException    on overflow
+     */
+    public long[] toLongArray() {
+
+        if(this.promotedCount > 0) {
+            for(int i = 0; i < this.size; i++) {
+                if(this.promoted[i] != null) {
+                    throw new ArithmeticException("Overflow casting " + this.promoted[i] + " to a long.");
+                }
+            }
+        }
+
+        return Arrays.copyOf(this.values, this.size);
+    }
+
+    /**
+     * Trims the capacity of the data set to the current size.
+     */
+    public void trimToSize() {
+
+        if(this.values.length > this.size) {
+
+            this.values = Arrays.copyOf(this.values, this.size);
+
+            if(this.promoted != null) {
+                this.promoted = this.promotedCount > 0 ?
+                        Arrays.copyOf(this.promoted, this.size) : null;
+            }
+        }
+    }
+
+    /* -------------------------- List operations --------------------------- */
+
+    /**
+     * Returns the value at the specified index.
+     * @param    int    the index
+     * @return          the value
+     */
+    public BigInteger get(int index) {
+
+        this.checkIndex(index);
+
+        if(this.promotedCount > 0 && this.promoted[index] != null) {
+            return this.promoted[index];
+        }
+
+        return BigInteger.valueOf(this.values[index]);
+    }
+
+    /**
+     * Replaces the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the new value
+     * @return                 the previous value
+     */
+    public BigInteger set(int index, BigInteger value) {
+        BigInteger previous = this.get(index);
+        this.store(index, value);
+        return previous;
+    }
+
+    /**
+     * Appends the value to the data set.
+     * @param    BigInteger    the value
+     * @return                 true
+     */
+    public boolean add(BigInteger value) {
+        this.ensureCapacity(this.size + 1);
+        this.store(this.size, value);
+        this.size++;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Inserts the value at the specified index.
+     * @param    int           the index
+     * @param    BigInteger    the value
+     */
+    public void add(int index, BigInteger value) {
+
+        if(index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+
+        if(value == null) {
+            throw new NullPointerException("Null values are not permitted.");
+        }
+
+        this.ensureCapacity(this.size + 1);
+
+        System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+
+        if(this.promoted != null) {
+            System.arraycopy(this.promoted, index, this.promoted, index + 1, this.size - index);
+            this.promoted[index] = null;
+        }
+
+        this.size++;
+        this.store(index, value);
+        this.modCount++;
+    }
+
+    /**
+     * Appends all the values in the collection.
+     * @param    Collection<? extends BigInteger>    the values
+     * @return                                       true if the data set changed
+     */
+    public boolean addAll(Collection<? extends BigInteger> collection) {
+
+        if(collection instanceof WellData) {
+
+            WellData data = (WellData) collection;
+            int length = data.size;
+
+            this.ensureCapacity(this.size + length);
+            System.arraycopy(data.values, 0, this.values, this.size, length);
+
+            if(data.promotedCount > 0) {
+                this.ensurePromoted();
+                System.arraycopy(data.promoted, 0, this.promoted, this.size, length);
+                this.promotedCount += data.promotedCount;
+            }
+
+            this.size += length;
+            this.modCount++;
+
+            return length > 0;
+        }
+
+        this.ensureCapacity(this.size + collection.size());
+
+        for(BigInteger value : collection) {
+            this.add(value);
+        }
+
+        return !collection.isEmpty();
+    }
+
+    /**
+     * Removes the value at the specified index.
+     * @param    int    the index
+     * @return          the removed value
+     */
+    public BigInteger remove(int index) {
+
+        BigInteger removed = this.get(index);
+
+        this.demote(index);
+
+        int moved = this.size - index - 1;
+
+        System.arraycopy(this.values, index + 1, this.values, index, moved);
+
+        if(this.promoted != null) {
+            System.arraycopy(this.promoted, index + 1, this.promoted, index, moved);
+            this.promoted[this.size - 1] = null;
+        }
+
+        this.size--;
+        this.modCount++;
+
+        return removed;
+    }
+
+    /**
+     * Removes all the values contained in the collection.
+     * @param    Collection<?>    the values for removal
+     * @return                    true if the data set changed
+     */
+    public boolean removeAll(Collection<?> collection) {
+        return this.batchRemove(collection, false);
+    }
+
+    /**
+     * Retains all the values contained in the collection.
+     * @param    Collection<?>    the values for retention
+     * @return                    true if the data set changed
+     */
+    public boolean retainAll(Collection<?> collection) {
+        return this.batchRemove(collection, true);
+    }
+
+    /**
+     * Returns the index of the first occurrence of the value or -1 if the data
+     * set does not contain the value.
+     * @param    Object    the value
+     * @return             the index
+     */
+    public int indexOf(Object object) {
+
+        if(!(object instanceof BigInteger)) {
+            return -1;
+        }
+
+        BigInteger value = (BigInteger) object;
+
+        if(fitsLong(value)) {
+
+            long primitive = value.longValue();
+
+            for(int i = 0; i < this.size; i++) {
+                if(this.values[i] == primitive && (this.promotedCount == 0 || this.promoted[i] == null)) {
+                    return i;
+                }
+            }
+
+        } else if(this.promotedCount > 0) {
+
+            for(int i = 0; i < this.size; i++) {
+                if(value.equals(this.promoted[i])) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of the value or -1 if the data
+     * set does not contain the value.
+     * @param    Object    the value
+     * @return             the index
+     */
+    public int lastIndexOf(Object object) {
+
+        if(!(object instanceof BigInteger)) {
+            return -1;
+        }
+
+        BigInteger value = (BigInteger) object;
+
+        if(fitsLong(value)) {
+
+            long primitive = value.longValue();
+
+            for(int i = this.size - 1; i >= 0; i--) {
+                if(this.values[i] == primitive && (this.promotedCount == 0 || this.promoted[i] == null)) {
+                    return i;
+                }
+            }
+
+        } else if(this.promotedCount > 0) {
+
+            for(int i = this.size - 1; i >= 0; i--) {
+                if(value.equals(this.promoted[i])) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if the data set contains the value.
+     * @param    Object    the value
+     * @return             true if the data set contains the value
+     */
+    public boolean contains(Object object) {
+        return this.indexOf(object) >= 0;
+    }
+
+    /**
+     * Clears the data set.
+     */
+    public void clear() {
+        this.size = 0;
+        this.promoted = null;
+        this.promotedCount = 0;
+        this.modCount++;
+    }
+
+    /**
+     * Returns the size of the data set.
+     * @return    the size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Removes the values between the indices.
+     * @param    int    the first index, inclusive
+     * @param    int    the last index, exclusive
+     */
+    protected void removeRange(int from, int to) {
+
+        if(this.promotedCount > 0) {
+            for(int i = from; i < to; i++) {
+                this.demote(i);
+            }
+        }
+
+        int moved = this.size - to;
+
+        System.arraycopy(this.values, to, this.values, from, moved);
+
+        if(this.promoted != null) {
+            System.arraycopy(this.promoted, to, this.promoted, from, moved);
+            Arrays.fill(this.promoted, this.size - (to - from), this.size, null);
+        }
+
+        this.size -= to - from;
+        this.modCount++;
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Compacts the data set in a single pass, keeping the values whose
+     * membership in the collection matches the retain flag.
+     * @param    Collection<?>    the collection
+     * @param    boolean          true to retain the values in the collection
+     * @return                    true if the data set changed
+     */
+    private boolean batchRemove(Collection<?> collection, boolean retain) {
+
+        int kept = 0;
+
+        for(int i = 0; i < this.size; i++) {
+
+            BigInteger value = this.promotedCount > 0 && this.promoted[i] != null ?
+                    this.promoted[i] : BigInteger.valueOf(this.values[i]);
+
+            if(collection.contains(value) == retain) {
+
+                this.values[kept] = this.values[i];
+
+                if(this.promoted != null) {
+                    this.promoted[kept] = this.promoted[i];
+                }
+
+                kept++;
+
+            } else if(this.promotedCount > 0 && this.promoted[i] != null) {
+                this.promotedCount--;
+            }
+        }
+
+        if(kept == this.size) {
+            return false;
+        }
+
+        if(this.promoted != null) {
+            Arrays.fill(this.promoted, kept, this.size, null);
+            if(this.promotedCount == 0) {
+                this.promoted = null;
+            }
+        }
+
+        this.size = kept;
+        this.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Stores the value in the slot, promoting the slot if necessary.
+     * @param    int           the index
+     * @param    BigInteger    the value
+     */
+    private void store(int index, BigInteger value) {
+
+        if(value == null) {
+            throw new NullPointerException("Null values are not permitted.");
+        }
+
+        if(fitsLong(value)) {
+            this.demote(index);
+            this.values[index] = value.longValue();
+        } else {
+            this.ensurePromoted();
+            if(this.promoted[index] == null) {
+                this.promotedCount++;
+            }
+            this.promoted[index] = value;
+            this.values[index] = 0;
+        }
+    }
+
+    /**
+     * Clears the promoted value in the slot if one exists.
+     * @param    int    the index
+     */
+    private void demote(int index) {
+
+        if(this.promotedCount > 0 && this.promoted[index] != null) {
+
+            this.promoted[index] = null;
+
+            if(--this.promotedCount == 0) {
+                this.promoted = null;
+            }
+        }
+    }
+
+    /**
+     * Creates the promoted value array if it does not exist.
+     */
+    private void ensurePromoted() {
+        if(this.promoted == null) {
+            this.promoted = new BigInteger[this.values.length];
+        }
+    }
+
+    /**
+     * Increases the capacity of the data set if necessary.
+     * @param    int    the minimum capacity
+     */
+    private void ensureCapacity(int capacity) {
+
+        if(capacity > this.values.length) {
+
+            int grown = Math.max(capacity, this.values.length + (this.values.length >> 1) + 1);
+
+            this.values = Arrays.copyOf(this.values, grown);
+
+            if(this.promoted != null) {
+                this.promoted = Arrays.copyOf(this.promoted, grown);
+            }
+        }
+    }
+
+    /**
+     * Throws an exception if the index is out of range.
+     * @param    int    the index
+     */
+    private void checkIndex(int index) {
+        if(index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    /**
+     * Returns true if the big integer fits in a long.
+     * @param    BigInteger    the value
+     * @return                 true if the value fits in a long
+     */
+    public static boolean fitsLong(BigInteger value) {
+        return value.bitLength() < 64;
+    }
+
+    /**
+     * Returns true if the value at the index of the list is held as a long by
+     * a hybrid data set or by a view over a well using the hybrid storage mode.
+     * Lets the math operations read hybrid values without creating a big 
+     * integer.
+     * @param    List<BigInteger>    the list
+     * @param    int                 the index
+     * @return                       true if the value is held as a long
+     */
+    public static boolean isLong(List<BigInteger> list, int index) {
+        WellData data = hybrid(list);
+        return data != null && data.isLong(offset(list) + index);
+    }
+
+    /**
+     * Returns the value at the index of a list holding the value as a long. 
+     * See isLong(List, int).
+     * @param    List<BigInteger>    the list
+     * @param    int                 the index
+     * @return                       the value
+     */
+    public static long getLong(List<BigInteger> list, int index) {
+        return hybrid(list).getLong(offset(list) + index);
+    }
+
+    /**
+     * Returns the hybrid data set holding the list values or null.
+     * @param    List<BigInteger>    the list
+     * @return                       the hybrid data set
+     */
+    private static WellData hybrid(List<BigInteger> list) {
+
+        if(list instanceof WellData) {
+            return (WellData) list;
+        }
+
+        if(list instanceof WellView) {
+            List<BigInteger> data = ((WellView) list).well().storageData();
+            return data instanceof WellData ? (WellData) data : null;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the index of the first list value within the hybrid data set.
+     * @param    List<BigInteger>    the list
+     * @return                       the offset
+     */
+    private static int offset(List<BigInteger> list) {
+        return list instanceof WellView ? ((WellView) list).begin() : 0;
+    }
+
+}
@@ -0,0 +1,771 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+/**
+ * A dense navigable set of wells for a plate with fixed dimensions. The well
+ * at row r and column c is stored in slot r * columns + c - 1 of an array so
+ * lookups, insertions and removals by position are constant time and
+ * iteration is a sequential scan of the array. Because slots are ordered by
+ * row and then by column, the natural ordering of the wells is preserved.
+ *
+ * Views returned by the head, tail, sub and descending set methods are backed
+ * by the same array and reflect changes to the grid.
+ *
+ * The grid holds one row more than the plate dimensions in order to accept
+ * every well passed by the plate validation methods. Wells outside the grid
+ * result in an illegal argument exception.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+class WellGrid extends AbstractSet<Well> implements NavigableSet<Well> {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Slot array shared by the grid and its views */
+
+    private final Slots slots;
+
+    /* Slot range for the view and the iteration order */
+
+    private final int from;
+    private final int to;
+    private final boolean descending;
+
+    /**
+     * The slot array and element count shared by a grid and its views.
+     */
+    private static final class Slots {
+
+        private final int rows;
+        private final int columns;
+        private final Well[] wells;
+        private int size;
+        private int modCount;
+
+        private Slots(int rows, int columns) {
+            this.rows = rows;
+            this.columns = columns;
+            this.wells = new Well[(rows + 1) * columns];
+        }
+    }
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Creates a new grid for a plate with the specified dimensions.
+     * @param    int    the number of rows
+     * @param    int    the number of columns
+     */
+    WellGrid(int rows, int columns) {
+        this.slots = new Slots(rows, columns);
+        this.from = 0;
+        this.to = this.slots.wells.length;
+        this.descending = false;
+    }
+
+    /**
+     * Creates a grid holding the same wells as the input grid. The slot array
+     * is copied; the wells are not.
+     * @param    WellGrid    the grid to copy
+     */
+    WellGrid(WellGrid grid) {
+
+        this(grid.slots.rows, grid.slots.columns);
+
+        if(grid.isRoot()) {
+            System.arraycopy(grid.slots.wells, 0, this.slots.wells, 0, this.slots.wells.length);
+            this.slots.size = grid.slots.size;
+        } else {
+            this.addAll(grid);
+        }
+    }
+
+    /**
+     * Creates a view of a grid.
+     * @param    Slots      the shared slots
+     * @param    int        the first slot, inclusive
+     * @param    int        the last slot, exclusive
+     * @param    boolean    true for descending order
+     */
+    private WellGrid(Slots slots, int from, int to, boolean descending) {
+        this.slots = slots;
+        this.from = from;
+        this.to = Math.max(from, to);
+        this.descending = descending;
+    }
+
+    /* ------------------------- Positional methods ------------------------- */
+
+    /**
+     * Returns the number of plate rows.
+     * @return    the number of rows
+     */
+    int rows() {
+        return this.slots.rows;
+    }
+
+    /**
+     * Returns the number of plate columns.
+     * @return    the number of columns
+     */
+    int columns() {
+        return this.slots.columns;
+    }
+
+    /**
+     * Returns the well at the row and column or null if the well does not
+     * exist.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the well or null
+     */
+    Well get(int row, int column) {
+        int slot = this.slot(row, column);
+        return slot >= this.from && slot < this.to ? this.slots.wells[slot] : null;
+    }
+
+    /**
+     * Adds the wells in the row to the set.
+     * @param    int        the row index
+     * @param    WellSet    the output set
+     */
+    void row(int row, WellSet set) {
+
+        if(row < 0 || row > this.slots.rows) {
+            return;
+        }
+
+        int start = row * this.slots.columns;
+        int begin = Math.max(this.from, start);
+        int end = Math.min(this.to, start + this.slots.columns);
+
+        for(int i = begin; i < end; i++) {
+            if(this.slots.wells[i] != null) {
+                set.add(this.slots.wells[i]);
+            }
+        }
+    }
+
+    /**
+     * Adds the wells in the column to the set.
+     * @param    int        the column index
+     * @param    WellSet    the output set
+     */
+    void column(int column, WellSet set) {
+
+        if(column < 1 || column > this.slots.columns) {
+            return;
+        }
+
+        for(int i = column - 1; i < this.to; i += this.slots.columns) {
+            if(i >= this.from && this.slots.wells[i] != null) {
+                set.add(this.slots.wells[i]);
+            }
+        }
+    }
+
+    /* --------------------------- Set operations --------------------------- */
+
+    /**
+     * Adds the well if a well with the same index does not exist.
+     * @param    Well    the well
+     * @return           true if the well was added
+     * @throws   IllegalArgumentException    well outside the grid
+     */
+    public boolean add(Well well) {
+
+        int slot = this.slot(well.row(), well.column());
+
+        if(slot < this.from || slot >= this.to) {
+            throw new IllegalArgumentException("Well " + well.index() +
+            		" is outside the plate dimensions.");
+        }
+
+        if(this.slots.wells[slot] != null) {
+            return false;
+        }
+
+        this.slots.wells[slot] = well;
+        this.slots.size++;
+        this.slots.modCount++;
+
+        return true;
+    }
+
+    /**
+     * Removes the well with the same index if it exists.
+     * @param    Object    the well
+     * @return             true if a well was removed
+     */
+    public boolean remove(Object object) {
+
+        int slot = this.find(object);
+
+        if(slot < 0) {
+            return false;
+        }
+
+        this.removeSlot(slot);
+
+        return true;
+    }
+
+    /**
+     * Returns true if a well with the same index exists.
+     * @param    Object    the well
+     * @return             true if the well exists
+     */
+    public boolean contains(Object object) {
+        return this.find(object) >= 0;
+    }
+
+    /**
+     * Returns the number of wells.
+     * @return    the number of wells
+     */
+    public int size() {
+
+        if(this.isRoot()) {
+            return this.slots.size;
+        }
+
+        int size = 0;
+
+        for(int i = this.from; i < this.to; i++) {
+            if(this.slots.wells[i] != null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns true if the set is empty.
+     * @return    true if there are no wells
+     */
+    public boolean isEmpty() {
+        return this.isRoot() ? this.slots.size == 0 : this.next(this.from) < 0;
+    }
+
+    /**
+     * Removes all the wells.
+     */
+    public void clear() {
+
+        if(this.isRoot()) {
+            Arrays.fill(this.slots.wells, null);
+            this.slots.size = 0;
+            this.slots.modCount++;
+            return;
+        }
+
+        for(int i = this.from; i < this.to; i++) {
+            if(this.slots.wells[i] != null) {
+                this.removeSlot(i);
+            }
+        }
+    }
+
+    /**
+     * Returns an iterator over the wells.
+     * @return    the iterator
+     */
+    public Iterator<Well> iterator() {
+        return new GridIterator(this.descending);
+    }
+
+    /* ------------------------ Navigable set methods ----------------------- */
+
+    /**
+     * Returns the comparator used to order the wells. The ascending grid uses
+     * the natural ordering and returns null.
+     * @return    the comparator or null
+     */
+    public Comparator<? super Well> comparator() {
+        return this.descending ? Collections.<Well>reverseOrder() : null;
+    }
+
+    /**
+     * Returns the first well.
+     * @return    the first well
+     */
+    public Well first() {
+        return this.element(this.descending ? this.prev(this.to - 1) : this.next(this.from));
+    }
+
+    /**
+     * Returns the last well.
+     * @return    the last well
+     */
+    public Well last() {
+        return this.element(this.descending ? this.next(this.from) : this.prev(this.to - 1));
+    }
+
+    /**
+     * Returns the least well greater than or equal to the input well.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    public Well ceiling(Well well) {
+        return this.descending ? this.ascendingFloor(well) : this.ascendingCeiling(well);
+    }
+
+    /**
+     * Returns the greatest well less than or equal to the input well.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    public Well floor(Well well) {
+        return this.descending ? this.ascendingCeiling(well) : this.ascendingFloor(well);
+    }
+
+    /**
+     * Returns the least well strictly greater than the input well.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    public Well higher(Well well) {
+        return this.descending ? this.ascendingLower(well) : this.ascendingHigher(well);
+    }
+
+    /**
+     * Returns the greatest well strictly less than the input well.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    public Well lower(Well well) {
+        return this.descending ? this.ascendingHigher(well) : this.ascendingLower(well);
+    }
+
+    /**
+     * Retrieves and removes the first well.
+     * @return    the first well or null
+     */
+    public Well pollFirst() {
+        return this.poll(this.descending ? this.prev(this.to - 1) : this.next(this.from));
+    }
+
+    /**
+     * Retrieves and removes the last well.
+     * @return    the last well or null
+     */
+    public Well pollLast() {
+        return this.poll(this.descending ? this.next(this.from) : this.prev(this.to - 1));
+    }
+
+    /**
+     * Returns a reverse order view of the wells.
+     * @return    the descending view
+     */
+    public NavigableSet<Well> descendingSet() {
+        return new WellGrid(this.slots, this.from, this.to, !this.descending);
+    }
+
+    /**
+     * Returns an iterator over the wells in descending order.
+     * @return    the iterator
+     */
+    public Iterator<Well> descendingIterator() {
+        return new GridIterator(!this.descending);
+    }
+
+    /**
+     * Returns a view of the wells between the input wells.
+     * @param    Well       the first well
+     * @param    boolean    true if the first well is included
+     * @param    Well       the last well
+     * @param    boolean    true if the last well is included
+     * @return              the view
+     */
+    public NavigableSet<Well> subSet(Well fromWell, boolean fromInclusive, Well toWell, boolean toInclusive) {
+
+        if(this.compare(fromWell, toWell) > 0) {
+            throw new IllegalArgumentException("fromKey > toKey");
+        }
+
+        if(this.descending) {
+            return this.view(toInclusive ? this.lowerBound(toWell) : this.upperBound(toWell),
+                             fromInclusive ? this.upperBound(fromWell) : this.lowerBound(fromWell));
+        }
+
+        return this.view(fromInclusive ? this.lowerBound(fromWell) : this.upperBound(fromWell),
+                         toInclusive ? this.upperBound(toWell) : this.lowerBound(toWell));
+    }
+
+    /**
+     * Returns a view of the wells preceding the input well.
+     * @param    Well       the well
+     * @param    boolean    true if the well is included
+     * @return              the view
+     */
+    public NavigableSet<Well> headSet(Well toWell, boolean inclusive) {
+
+        if(this.descending) {
+            return this.view(inclusive ? this.lowerBound(toWell) : this.upperBound(toWell), this.to);
+        }
+
+        return this.view(this.from, inclusive ? this.upperBound(toWell) : this.lowerBound(toWell));
+    }
+
+    /**
+     * Returns a view of the wells following the input well.
+     * @param    Well       the well
+     * @param    boolean    true if the well is included
+     * @return              the view
+     */
+    public NavigableSet<Well> tailSet(Well fromWell, boolean inclusive) {
+
+        if(this.descending) {
+            return this.view(this.from, inclusive ? this.upperBound(fromWell) : this.lowerBound(fromWell));
+        }
+
+        return this.view(inclusive ? this.lowerBound(fromWell) : this.upperBound(fromWell), this.to);
+    }
+
+    /**
+     * Returns a view of the wells from the first well, inclusive, to the last
+     * well, exclusive.
+     * @param    Well    the first well
+     * @param    Well    the last well
+     * @return           the view
+     */
+    public SortedSet<Well> subSet(Well fromWell, Well toWell) {
+        return this.subSet(fromWell, true, toWell, false);
+    }
+
+    /**
+     * Returns a view of the wells strictly preceding the input well.
+     * @param    Well    the well
+     * @return           the view
+     */
+    public SortedSet<Well> headSet(Well toWell) {
+        return this.headSet(toWell, false);
+    }
+
+    /**
+     * Returns a view of the wells following the input well, inclusive.
+     * @param    Well    the well
+     * @return           the view
+     */
+    public SortedSet<Well> tailSet(Well fromWell) {
+        return this.tailSet(fromWell, true);
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Returns the slot for the row and column or -1 if the well is outside the
+     * grid.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the slot
+     */
+    private int slot(int row, int column) {
+
+        if(row < 0 || row > this.slots.rows || column < 1 || column > this.slots.columns) {
+            return -1;
+        }
+
+        return row * this.slots.columns + column - 1;
+    }
+
+    /**
+     * Returns the slot holding the well or -1 if the well does not exist in
+     * the view.
+     * @param    Object    the well
+     * @return             the slot
+     */
+    private int find(Object object) {
+
+        if(!(object instanceof Well)) {
+            return -1;
+        }
+
+        Well well = (Well) object;
+        int slot = this.slot(well.row(), well.column());
+
+        if(slot < this.from || slot >= this.to || this.slots.wells[slot] == null) {
+            return -1;
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns the first slot whose position is greater than or equal to the
+     * well, clamped to the view.
+     * @param    Well    the well
+     * @return           the slot
+     */
+    private int lowerBound(Well well) {
+
+        int columns = this.slots.columns;
+        int bound;
+
+        if(well.row() < 0) {
+            bound = 0;
+        } else if(well.row() > this.slots.rows) {
+            bound = this.slots.wells.length;
+        } else if(well.column() < 1) {
+            bound = well.row() * columns;
+        } else if(well.column() > columns) {
+            bound = (well.row() + 1) * columns;
+        } else {
+            bound = well.row() * columns + well.column() - 1;
+        }
+
+        return Math.min(this.to, Math.max(this.from, bound));
+    }
+
+    /**
+     * Returns the first slot whose position is strictly greater than the well,
+     * clamped to the view.
+     * @param    Well    the well
+     * @return           the slot
+     */
+    private int upperBound(Well well) {
+
+        int slot = this.slot(well.row(), well.column());
+
+        if(slot < 0) {
+            return this.lowerBound(well);
+        }
+
+        return Math.min(this.to, Math.max(this.from, slot + 1));
+    }
+
+    /**
+     * Returns the first occupied slot at or after the input slot or -1.
+     * @param    int    the slot
+     * @return          the occupied slot
+     */
+    private int next(int slot) {
+
+        for(int i = Math.max(slot, this.from); i < this.to; i++) {
+            if(this.slots.wells[i] != null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the last occupied slot at or before the input slot or -1.
+     * @param    int    the slot
+     * @return          the occupied slot
+     */
+    private int prev(int slot) {
+
+        for(int i = Math.min(slot, this.to - 1); i >= this.from; i--) {
+            if(this.slots.wells[i] != null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Ascending ceiling.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    private Well ascendingCeiling(Well well) {
+        return this.wellAt(this.next(this.lowerBound(well)));
+    }
+
+    /**
+     * Ascending higher.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    private Well ascendingHigher(Well well) {
+        return this.wellAt(this.next(this.upperBound(well)));
+    }
+
+    /**
+     * Ascending floor.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    private Well ascendingFloor(Well well) {
+        return this.wellAt(this.prev(this.upperBound(well) - 1));
+    }
+
+    /**
+     * Ascending lower.
+     * @param    Well    the well
+     * @return           the well or null
+     */
+    private Well ascendingLower(Well well) {
+        return this.wellAt(this.prev(this.lowerBound(well) - 1));
+    }
+
+    /**
+     * Returns the well in the slot or null if the slot is negative.
+     * @param    int    the slot
+     * @return          the well or null
+     */
+    private Well wellAt(int slot) {
+        return slot < 0 ? null : this.slots.wells[slot];
+    }
+
+    /**
+     * Returns the well in the slot or throws an exception if the set is empty.
+     * @param    int    the slot
+     * @return          the well
+     */
+    private Well element(int slot) {
+
+        if(slot < 0) {
+            throw new NoSuchElementException();
+        }
+
+        return this.slots.wells[slot];
+    }
+
+    /**
+     * Removes and returns the well in the slot.
+     * @param    int    the slot
+     * @return          the well or null
+     */
+    private Well poll(int slot) {
+
+        if(slot < 0) {
+            return null;
+        }
+
+        Well well = this.slots.wells[slot];
+        this.removeSlot(slot);
+
+        return well;
+    }
+
+    /**
+     * Clears the slot.
+     * @param    int    the slot
+     */
+    private void removeSlot(int slot) {
+        this.slots.wells[slot] = null;
+        this.slots.size--;
+        this.slots.modCount++;
+    }
+
+    /**
+     * Returns a view over the slot range using the current ordering.
+     * @param    int    the first slot, inclusive
+     * @param    int    the last slot, exclusive
+     * @return          the view
+     */
+    private WellGrid view(int from, int to) {
+        return new WellGrid(this.slots, from, to, this.descending);
+    }
+
+    /**
+     * Compares two wells using the ordering of the view.
+     * @param    Well    the first well
+     * @param    Well    the second well
+     * @return           the comparison
+     */
+    private int compare(Well well1, Well well2) {
+        int comparison = well1.compareTo(well2);
+        return this.descending ? -comparison : comparison;
+    }
+
+    /**
+     * Returns true if the grid covers every slot.
+     * @return    true for the root grid
+     */
+    private boolean isRoot() {
+        return this.from == 0 && this.to == this.slots.wells.length;
+    }
+
+    /**
+     * Iterates over the occupied slots in ascending or descending order.
+     */
+    private final class GridIterator implements Iterator<Well> {
+
+        private final boolean reverse;
+        private int next;
+        private int last = -1;
+        private int expectedModCount = slots.modCount;
+
+        private GridIterator(boolean reverse) {
+            this.reverse = reverse;
+            this.next = reverse ? prev(to - 1) : WellGrid.this.next(from);
+        }
+
+        public boolean hasNext() {
+            return this.next >= 0;
+        }
+
+        public Well next() {
+
+            if(this.next < 0) {
+                throw new NoSuchElementException();
+            }
+
+            if(this.expectedModCount != slots.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            this.last = this.next;
+            this.next = this.reverse ? prev(this.last - 1) : WellGrid.this.next(this.last + 1);
+
+            return slots.wells[this.last];
+        }
+
+        public void remove() {
+
+            if(this.last < 0) {
+                throw new IllegalStateException();
+            }
+
+            if(this.expectedModCount != slots.modCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeSlot(this.last);
+
+            this.last = -1;
+            this.expectedModCount = slots.modCount;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/**
+ * This class converts well IDs to row and column indices and vice-versa. Row
+ * IDs are converted using a bijective base 26 numbering where A is the first
+ * row, Z the twenty-sixth and AA the twenty-seventh. The IDs for every well on
+ * a plate up to 32 rows by 48 columns are precomputed and parsing a well ID
+ * does not allocate any objects.
+ *
+ * Well IDs must be in the format [A-Za-z]+[0-9]+ once leading and trailing
+ * white space has been removed. Parsed well IDs are returned as a row and
+ * column pair packed into a single long which can be unpacked using row() and
+ * column().
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public final class WellIDCodec {
+
+    /* --------------------------- Public Fields ---------------------------- */
+
+    public static final int ALPHA_BASE = 26;        // Number of char types available for the row ID
+    public static final int MAX_ROWS = 32;          // Number of precomputed rows
+    public static final int MAX_COLUMNS = 48;       // Number of precomputed columns
+
+    /* --------------------------- Private Fields --------------------------- */
+
+    /* Precomputed row and well IDs */
+
+    private static final String[] ROW_IDS = new String[MAX_ROWS];
+    private static final String[] WELL_IDS = new String[MAX_ROWS * MAX_COLUMNS];
+
+    static {
+
+        for(int i = 0; i < MAX_ROWS; i++) {
+
+            ROW_IDS[i] = computeRow(i);
+
+            for(int j = 1; j <= MAX_COLUMNS; j++) {
+                WELL_IDS[i * MAX_COLUMNS + j - 1] = ROW_IDS[i] + j;
+            }
+        }
+    }
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * The codec only contains static methods.
+     */
+    private WellIDCodec() {}
+
+    /* ---------------------------- Well ID output -------------------------- */
+
+    /**
+     * Returns the row ID for the row index.
+     * @param    int    the row index
+     * @return          the row ID
+     */
+    public static String rowString(int row) {
+
+        if(row >= 0 && row < MAX_ROWS) {
+            return ROW_IDS[row];
+        }
+
+        return computeRow(row);
+    }
+
+    /**
+     * Returns the well ID for the row and column indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the well ID
+     */
+    public static String index(int row, int column) {
+
+        if(row >= 0 && row < MAX_ROWS && column > 0 && column <= MAX_COLUMNS) {
+            return WELL_IDS[row * MAX_COLUMNS + column - 1];
+        }
+
+        return rowString(row) + column;
+    }
+
+    /* ---------------------------- Well ID input --------------------------- */
+
+    /**
+     * Parses a well ID and returns the packed row and column indices.
+     * @param    String    the well ID
+     * @return             the packed row and column
+     * @throws   IllegalArgumentException    invalid well ID
+     */
+    public static long parse(String wellID) {
+
+        String id = isAscii(wellID) ? wellID : wellID.toUpperCase().trim();
+
+        int begin = 0;
+        int end = id.length();
+
+        while(begin < end && id.charAt(begin) <= ' ') {
+            begin++;
+        }
+
+        while(end > begin && id.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        /* Leading letters hold the row */
+
+        int letters = begin;
+
+        while(letters < end && isLetter(id.charAt(letters))) {
+            letters++;
+        }
+
+        /* Trailing digits hold the column */
+
+        int digits = letters;
+
+        while(digits < end && isDigit(id.charAt(digits))) {
+            digits++;
+        }
+
+        if(letters == begin || digits == letters || digits != end) {
+            throw new IllegalArgumentException("Invalid well index: " + wellID);
+        }
+
+        int row = parseLetters(id, begin, letters);
+        int column = parseColumn(id, letters, end);
+
+        return pack(row, column);
+    }
+
+    /**
+     * Converts a row ID to an integer value. The row is parsed from the leading
+     * letters of the row ID.
+     * @param    String    the row ID
+     * @return             the row index
+     * @throws   IllegalArgumentException    invalid row ID
+     */
+    public static int parseRow(String rowString) {
+
+        String id = isAscii(rowString) ? rowString : rowString.toUpperCase().trim();
+
+        int begin = 0;
+        int end = id.length();
+
+        while(begin < end && id.charAt(begin) <= ' ') {
+            begin++;
+        }
+
+        int letters = begin;
+
+        while(letters < end && isLetter(id.charAt(letters))) {
+            letters++;
+        }
+
+        if(letters == begin) {
+            throw new IllegalArgumentException("Invalid row ID: " + rowString);
+        }
+
+        return parseLetters(id, begin, letters);
+    }
+
+    /**
+     * Returns true if the row string starts with a letter and therefore cannot
+     * be decoded as an integer.
+     * @param    String    the row string
+     * @return             true if the first character is a letter
+     */
+    public static boolean isRowID(String rowString) {
+        return rowString.length() > 0 && isLetter(rowString.charAt(0));
+    }
+
+    /* ------------------------- Packed row and column ---------------------- */
+
+    /**
+     * Packs the row and column indices into a single long.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the packed row and column
+     */
+    public static long pack(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the row index from a packed row and column.
+     * @param    long    the packed row and column
+     * @return           the row index
+     */
+    public static int row(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    /**
+     * Returns the column index from a packed row and column.
+     * @param    long    the packed row and column
+     * @return           the column index
+     */
+    public static int column(long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * Returns a key ordering indices by row and then by column. Comparing the 
+     * keys of two indices gives the same result as comparing the rows and then
+     * the columns, including negative indices.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the ordering key
+     */
+    public static long key(int row, int column) {
+        return ((long) row << 32) + column;
+    }
+
+    /**
+     * Returns a hash code for the row and column. Indices with fewer than 65536 
+     * rows and columns have distinct hash codes.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the hash code
+     */
+    public static int hash(int row, int column) {
+        return row << 16 ^ column;
+    }
+
+    /* --------------------------- Helper methods --------------------------- */
+
+    /**
+     * Computes the row ID for a row index.
+     * @param    int    the row index
+     * @return          the row ID
+     */
+    private static String computeRow(int row) {
+
+        int rowInt = row;
+        String rowString = "";
+
+        while (rowInt >=  0) {
+            rowString = (char) (rowInt % ALPHA_BASE + 65) + rowString;
+            rowInt = (rowInt  / ALPHA_BASE) - 1;
+        }
+
+        return rowString;
+    }
+
+    /**
+     * Converts the letters between the indices to a row index.
+     * @param    String    the row ID
+     * @param    int       the first letter
+     * @param    int       the last letter, exclusive
+     * @return             the row index
+     */
+    private static int parseLetters(String id, int begin, int end) {
+
+        int rowInt = upper(id.charAt(end - 1)) - 65;
+        int baseIndex = 1;
+
+        if(end - begin == 2) {
+            return rowInt + (upper(id.charAt(begin)) - 65 + 1) * ALPHA_BASE;
+        }
+
+        for(int i = end - 2; i >= begin; i--) {
+            rowInt += (upper(id.charAt(i)) - 65 + 1) * Math.pow(ALPHA_BASE, baseIndex++);
+        }
+
+        return rowInt;
+    }
+
+    /**
+     * Converts the digits between the indices to a column index. Digits with a
+     * leading zero are decoded as an octal value.
+     * @param    String    the well ID
+     * @param    int       the first digit
+     * @param    int       the last digit, exclusive
+     * @return             the column index
+     * @throws   IllegalArgumentException    invalid column ID
+     */
+    private static int parseColumn(String id, int begin, int end) {
+
+        if(id.charAt(begin) == '0' && end - begin > 1) {
+            try {
+                return Integer.decode(id.substring(begin, end));
+            } catch(NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid column ID: " + id.substring(begin, end));
+            }
+        }
+
+        long column = 0;
+
+        for(int i = begin; i < end; i++) {
+
+            column = column * 10 + (id.charAt(i) - '0');
+
+            if(column > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid column ID: " + id.substring(begin, end));
+            }
+        }
+
+        return (int) column;
+    }
+
+    /**
+     * Returns true if the string only holds ASCII characters.
+     * @param    String    the string
+     * @return             true if the string is ASCII
+     */
+    private static boolean isAscii(String string) {
+
+        for(int i = 0; i < string.length(); i++) {
+            if(string.charAt(i) > 127) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the character is an ASCII letter.
+     * @param    char    the character
+     * @return           true if the character is a letter
+     */
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    /**
+     * Returns true if the character is an ASCII digit.
+     * @param    char    the character
+     * @return           true if the character is a digit
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Converts an ASCII letter to upper case.
+     * @param    char    the letter
+     * @return           the upper case letter
+     */
+    private static char upper(char c) {
+        return c >= 'a' ? (char) (c - 32) : c;
+    }
+}
@@ -21,10 +21,13 @@
 
 package com.github.jessemull.microflexbiginteger.plate;
 
-import org.apache.commons.lang3.builder.HashCodeBuilder;
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
 
 /**
- * A wrapper for a row and column index pair.
+ * A wrapper for a row and column index pair. Well indices are immutable. The
+ * indices for every well on a plate up to 32 rows by 48 columns are cached and
+ * shared by the valueOf() factory methods so that building a lookup key does 
+ * not allocate.
  * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
@@ -37,7 +40,20 @@ public class WellIndex implements Comparable<WellIndex> {
 	
 	private int row;                // Row index
     private int column;             // Column index
-    private int ALPHA_BASE = 26;    // Number of char types available for the row ID
+    private long key;               // Ordering key for the row and column
+    
+    /* Cached indices for wells up to 32 rows by 48 columns */
+    
+    private static final WellIndex[] CACHE = 
+    		new WellIndex[WellIDCodec.MAX_ROWS * WellIDCodec.MAX_COLUMNS];
+    
+    static {
+    	for(int i = 0; i < WellIDCodec.MAX_ROWS; i++) {
+    		for(int j = 1; j <= WellIDCodec.MAX_COLUMNS; j++) {
+    			CACHE[i * WellIDCodec.MAX_COLUMNS + j - 1] = new WellIndex(i, j);
+    		}
+    	}
+    }
     
     /*----------------------------- Constructors -----------------------------*/
     
@@ -49,6 +65,36 @@ public class WellIndex implements Comparable<WellIndex> {
 	public WellIndex(int row, int column) {
 		this.row = row;
 		this.column = column;
+		this.key = WellIDCodec.key(row, column);
+	}
+	
+	/*---------------------------- Factory Methods ---------------------------*/
+	
+	/**
+	 * Returns the well index for the row and column. Cached indices are returned
+	 * for wells up to 32 rows by 48 columns.
+	 * @param    int    the row index
+	 * @param    int    the column index
+	 * @return          the well index
+	 */
+	public static WellIndex valueOf(int row, int column) {
+		
+		if(row >= 0 && row < WellIDCodec.MAX_ROWS && column > 0 && column <= WellIDCodec.MAX_COLUMNS) {
+			return CACHE[row * WellIDCodec.MAX_COLUMNS + column - 1];
+		}
+		
+		return new WellIndex(row, column);
+	}
+	
+	/**
+	 * Returns the well index for a well ID in the format [A-Za-z]+[0-9]+.
+	 * @param    String    the well ID
+	 * @return             the well index
+	 * @throws   IllegalArgumentException    invalid well ID
+	 */
+	public static WellIndex valueOf(String wellID) {
+		long packed = WellIDCodec.parse(wellID);
+		return valueOf(WellIDCodec.row(packed), WellIDCodec.column(packed));
 	}
 		
 	/*------------------------------- Methods --------------------------------*/
@@ -77,23 +123,18 @@ public class WellIndex implements Comparable<WellIndex> {
 	 */
 	public int compareTo(WellIndex index) {
 		
-		if(this.equals(index)) {
-			return 0;
+		if(this.key != index.key) {
+			return this.key > index.key ? 1 : -1;
 		}
 		
-		if(this.row != index.row()) {
-			return this.row > index.row() ? 1 : -1;
-		}
-		
-		return this.column > index.column() ? 1 : -1;
-		
+		return 0;
 	}
 	
 	/**
 	 * Returns a string containing the well.
 	 */
 	public String toString() {
-		return this.rowString() + this.column;
+		return WellIDCodec.index(this.row, this.column);
 	}
 
 	/**
@@ -101,16 +142,7 @@ public class WellIndex implements Comparable<WellIndex> {
      * @return    row ID
      */
     public String rowString() {
-        
-        int rowInt = this.row;
-        String rowString = "";
-        
-        while (rowInt >=  0) {
-            rowString = (char) (rowInt % ALPHA_BASE + 65) + rowString;
-            rowInt = (rowInt  / ALPHA_BASE) - 1;
-        }
-        
-        return rowString;
+        return WellIDCodec.rowString(this.row);
     }
     
 	/**
@@ -128,13 +160,7 @@ public class WellIndex implements Comparable<WellIndex> {
             return true;
         }
         
-        WellIndex index = (WellIndex) object;
-        
-        if(this.row != index.row() || this.column != index.column()) {
-        	return false;
-        }
-        
-        return true;
+        return this.key == ((WellIndex) object).key;
     }
     
     /**
@@ -142,9 +168,6 @@ public class WellIndex implements Comparable<WellIndex> {
      * @return    the hash code
      */
     public int hashCode() {
-        return new HashCodeBuilder(17, 37).
-                   append(this.row).
-                   append(this.column).
-                   toHashCode();    
+        return WellIDCodec.hash(this.row, this.column);
     }
 }
@@ -25,12 +25,14 @@ package com.github.jessemull.microflexbiginteger.plate;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellMask;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
 /**
@@ -38,6 +40,9 @@ import com.github.jessemull.microflexbiginteger.plate.WellSet;
  * The list of well indices prevents redundant data storage for the wells
  * within a well set or plate object.
  * 
+ * The indices are mirrored in a well mask so that list equality and comparisons
+ * against well sets are performed as bitmap operations.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -55,6 +60,10 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     
     private TreeSet<WellIndex> indices = new TreeSet<WellIndex>();
     
+    /* Bitmap holding the well indices */
+    
+    private WellMask mask = new WellMask();
+    
     /*----------------------------- Constructors -----------------------------*/
     
     /**
@@ -117,7 +126,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      */
     public WellList(WellList list) {
     	for(WellIndex index : list) {
-    		this.add(new WellIndex(index.row(), index.column()));
+    		this.add(index);
     	}
     	this.label = list.label();
     }
@@ -129,7 +138,9 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @param    WellIndex    the well index
      */
     public void add(WellIndex index) {
-    	this.indices.add(index);
+    	if(this.indices.add(index)) {
+    		this.mask.add(index);
+    	}
     }
     	
     /**
@@ -137,7 +148,9 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @param    WellIndex    the well index
      */
     public void remove(WellIndex index) {
-    	this.indices.remove(index);
+    	if(this.indices.remove(index)) {
+    		this.mask.remove(index);
+    	}
     }
     	
     /**
@@ -149,11 +162,28 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     }
     	
     /**
-     * Returns the list of indices.
+     * Returns a read only view of the list of indices.
      * @return    the list of indices
      */
     public Set<WellIndex> indices() {
-    	return this.indices;
+    	return Collections.unmodifiableSet(this.indices);
+    }
+    
+    /**
+     * Returns a well mask holding the indices in the list.
+     * @return    the well mask
+     */
+    public WellMask mask() {
+    	return new WellMask(this.mask);
+    }
+    
+    /**
+     * Returns true if the list contains the well index.
+     * @param    WellIndex    the well index
+     * @return                true if the index exists in the list
+     */
+    public boolean contains(WellIndex index) {
+    	return this.mask.contains(index);
     }
     	
     /**
@@ -177,7 +207,35 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
      * @return    Iterator<WellIndex> iterator()
      */
     public Iterator<WellIndex> iterator() {
-    	return this.indices.iterator();
+    	return new WellListIterator(this.indices.iterator());
+    }
+    
+    /**
+     * Iterates over the well indices and updates the well mask when an index
+     * is removed.
+     */
+    private final class WellListIterator implements Iterator<WellIndex> {
+    	
+    	private final Iterator<WellIndex> iter;
+    	private WellIndex last;
+    	
+    	private WellListIterator(Iterator<WellIndex> iter) {
+    		this.iter = iter;
+    	}
+    	
+    	public boolean hasNext() {
+    		return this.iter.hasNext();
+    	}
+    	
+    	public WellIndex next() {
+    		this.last = this.iter.next();
+    		return this.last;
+    	}
+    	
+    	public void remove() {
+    		this.iter.remove();
+    		mask.remove(this.last);
+    	}
     }
     
     /**
@@ -192,8 +250,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
     	}
     	
     	for(Well well : set) {
-    		WellIndex index = new WellIndex(well.row(), well.column());
-    		if(!this.indices.contains(index)) {
+    		if(!this.mask.contains(well.row(), well.column())) {
     			return false;
     		}
     	}
@@ -226,17 +283,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
         
         WellList list = (WellList) object;
         
-        if(this.size() != list.size()) {
-        	return false;
-        }
-        
-        for(WellIndex index : list) {
-        	if(!this.indices.contains(index)) {
-        		return false;
-        	}
-        }
-        
-        return true;
+        return this.size() == list.size() && this.mask.equals(list.mask);
     }
     
     /**
@@ -268,7 +315,7 @@ public class WellList implements Iterable<WellIndex>, Comparable<WellList> {
         }
         
         Iterator<WellIndex> iter1 = this.indices.descendingIterator();
-        Iterator<WellIndex> iter2 = new TreeSet<WellIndex>(list.indices()).descendingIterator();
+        Iterator<WellIndex> iter2 = list.indices.descendingIterator();
         
         while(iter1.hasNext()) {
         	
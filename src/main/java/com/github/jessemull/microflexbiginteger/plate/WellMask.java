@@ -0,0 +1,526 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A bitmap of well indices. Each plate row owns one or more 64 bit words and
+ * the well at row r and column c is bit c % 64 of word c / 64 in the row. A
+ * 1536-well plate fits in 32 words, one per row.
+ *
+ * Unions, intersections, differences and containment checks between masks are
+ * performed a word at a time. Masks grow to fit the wells added to them and
+ * masks of different sizes can be combined. The and, or, xor and andNot
+ * methods return a new mask and leave the operands unchanged, mirroring the
+ * BigInteger bit operations.
+ *
+ * The well mask implements the Iterable interface. The iterator returns the
+ * well indices in row and column order.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellMask implements Iterable<WellIndex> {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Bit words holding stride words for each row */
+
+    private long[] words = new long[0];
+    private int stride = 1;
+    private int rows = 0;
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates a new empty well mask.
+     */
+    public WellMask() {}
+
+    /**
+     * Creates a new empty well mask sized for the plate dimensions.
+     * @param    int    plate row number
+     * @param    int    plate column number
+     */
+    public WellMask(int rows, int columns) {
+        this.resize(rows - 1, columns);
+    }
+
+    /**
+     * Creates a new well mask from an existing well mask.
+     * @param    WellMask    the well mask
+     */
+    public WellMask(WellMask mask) {
+        this.words = Arrays.copyOf(mask.words, mask.words.length);
+        this.stride = mask.stride;
+        this.rows = mask.rows;
+    }
+
+    /**
+     * Creates a new well mask from a collection of well indices.
+     * @param    Collection<WellIndex>    the well indices
+     */
+    public WellMask(Collection<WellIndex> collection) {
+        for(WellIndex index : collection) {
+            this.add(index);
+        }
+    }
+
+    /* ----------------------- Methods for Adding Wells --------------------- */
+
+    /**
+     * Adds the well index to the mask.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the mask did not already contain the well
+     */
+    public boolean add(int row, int column) {
+
+        if(row < 0 || column < 0) {
+            throw new IllegalArgumentException("Invalid well index: " + row + ", " + column + ".");
+        }
+
+        if(row >= this.rows || column >>> 6 >= this.stride) {
+            this.resize(row, column);
+        }
+
+        int word = row * this.stride + (column >>> 6);
+        long bit = 1L << column;
+
+        if((this.words[word] & bit) != 0) {
+            return false;
+        }
+
+        this.words[word] |= bit;
+
+        return true;
+    }
+
+    /**
+     * Adds the well index to the mask.
+     * @param    WellIndex    the well index
+     * @return                true if the mask did not already contain the well
+     */
+    public boolean add(WellIndex index) {
+        return this.add(index.row(), index.column());
+    }
+
+    /* ---------------------- Methods for Removing Wells -------------------- */
+
+    /**
+     * Removes the well index from the mask.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the mask contained the well
+     */
+    public boolean remove(int row, int column) {
+
+        if(!this.contains(row, column)) {
+            return false;
+        }
+
+        this.words[row * this.stride + (column >>> 6)] &= ~(1L << column);
+
+        return true;
+    }
+
+    /**
+     * Removes the well index from the mask.
+     * @param    WellIndex    the well index
+     * @return                true if the mask contained the well
+     */
+    public boolean remove(WellIndex index) {
+        return this.remove(index.row(), index.column());
+    }
+
+    /**
+     * Clears the mask.
+     */
+    public void clear() {
+        Arrays.fill(this.words, 0L);
+    }
+
+    /* ----------------------- Methods for Well Lookup ---------------------- */
+
+    /**
+     * Returns true if the mask contains the well index.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          true if the well exists in the mask
+     */
+    public boolean contains(int row, int column) {
+
+        if(row < 0 || column < 0) {
+            return false;
+        }
+
+        return (this.word(row, column >>> 6) & (1L << column)) != 0;
+    }
+
+    /**
+     * Returns true if the mask contains the well index.
+     * @param    WellIndex    the well index
+     * @return                true if the well exists in the mask
+     */
+    public boolean contains(WellIndex index) {
+        return this.contains(index.row(), index.column());
+    }
+
+    /**
+     * Returns true if all the wells in the input mask are found within this
+     * mask.
+     * @param    WellMask    the input mask
+     * @return               true if the input mask is a subset of this mask
+     */
+    public boolean containsAll(WellMask mask) {
+
+        int stride = Math.max(this.stride, mask.stride);
+
+        for(int i = 0; i < mask.rows; i++) {
+            for(int j = 0; j < stride; j++) {
+                if((mask.word(i, j) & ~this.word(i, j)) != 0) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the masks share at least one well.
+     * @param    WellMask    the input mask
+     * @return               true if the masks intersect
+     */
+    public boolean intersects(WellMask mask) {
+
+        int rows = Math.min(this.rows, mask.rows);
+        int stride = Math.min(this.stride, mask.stride);
+
+        for(int i = 0; i < rows; i++) {
+            for(int j = 0; j < stride; j++) {
+                if((this.word(i, j) & mask.word(i, j)) != 0) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /* -------------------------- Bitwise Operations ------------------------ */
+
+    /**
+     * Returns a mask holding the wells found in both masks.
+     * @param    WellMask    the input mask
+     * @return               the intersection of the masks
+     */
+    public WellMask and(WellMask mask) {
+
+        WellMask result = new WellMask();
+        result.allocate(Math.min(this.rows, mask.rows), Math.min(this.stride, mask.stride));
+
+        for(int i = 0; i < result.rows; i++) {
+            for(int j = 0; j < result.stride; j++) {
+                result.words[i * result.stride + j] = this.word(i, j) & mask.word(i, j);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a mask holding the wells found in either mask.
+     * @param    WellMask    the input mask
+     * @return               the union of the masks
+     */
+    public WellMask or(WellMask mask) {
+
+        WellMask result = new WellMask();
+        result.allocate(Math.max(this.rows, mask.rows), Math.max(this.stride, mask.stride));
+
+        for(int i = 0; i < result.rows; i++) {
+            for(int j = 0; j < result.stride; j++) {
+                result.words[i * result.stride + j] = this.word(i, j) | mask.word(i, j);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a mask holding the wells found in exactly one of the masks.
+     * @param    WellMask    the input mask
+     * @return               the symmetric difference of the masks
+     */
+    public WellMask xor(WellMask mask) {
+
+        WellMask result = new WellMask();
+        result.allocate(Math.max(this.rows, mask.rows), Math.max(this.stride, mask.stride));
+
+        for(int i = 0; i < result.rows; i++) {
+            for(int j = 0; j < result.stride; j++) {
+                result.words[i * result.stride + j] = this.word(i, j) ^ mask.word(i, j);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a mask holding the wells in this mask that are not found in the
+     * input mask.
+     * @param    WellMask    the input mask
+     * @return               the difference of the masks
+     */
+    public WellMask andNot(WellMask mask) {
+
+        WellMask result = new WellMask(this);
+
+        int rows = Math.min(this.rows, mask.rows);
+
+        for(int i = 0; i < rows; i++) {
+            for(int j = 0; j < this.stride; j++) {
+                result.words[i * this.stride + j] &= ~mask.word(i, j);
+            }
+        }
+
+        return result;
+    }
+
+    /* ---------------------------- Other Methods --------------------------- */
+
+    /**
+     * Returns the number of wells in the mask.
+     * @return    the number of wells
+     */
+    public int size() {
+
+        int size = 0;
+
+        for(long word : this.words) {
+            size += Long.bitCount(word);
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns true if the mask is empty.
+     * @return    true if the mask holds no wells
+     */
+    public boolean isEmpty() {
+
+        for(long word : this.words) {
+            if(word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the well indices in the mask as a well list.
+     * @return    the list of well indices
+     */
+    public WellList wellList() {
+
+        WellList list = new WellList();
+
+        for(WellIndex index : this) {
+            list.add(index);
+        }
+
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the well indices in row and column order.
+     * @return    the well index iterator
+     */
+    public Iterator<WellIndex> iterator() {
+
+        return new Iterator<WellIndex>() {
+
+            private int word = -1;
+            private long bits = 0;
+
+            public boolean hasNext() {
+
+                while(this.bits == 0) {
+
+                    if(++this.word >= words.length) {
+                        this.word = words.length;
+                        return false;
+                    }
+
+                    this.bits = words[this.word];
+                }
+
+                return true;
+            }
+
+            public WellIndex next() {
+
+                if(!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int bit = Long.numberOfTrailingZeros(this.bits);
+                this.bits &= this.bits - 1;
+
+                return WellIndex.valueOf(this.word / stride, (this.word % stride << 6) + bit);
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Returns the well IDs in the mask.
+     * @return    the well IDs
+     */
+    public String toString() {
+
+        StringBuilder builder = new StringBuilder("[");
+
+        for(WellIndex index : this) {
+
+            if(builder.length() > 1) {
+                builder.append(", ");
+            }
+
+            builder.append(index.toString());
+        }
+
+        return builder.append("]").toString();
+    }
+
+    /**
+     * Masks are equivalent if they contain the same wells.
+     * @param    Object    the object
+     * @return             true if equal, false otherwise
+     */
+    public boolean equals(Object object) {
+
+        if (object instanceof WellMask == false) {
+            return false;
+        }
+
+        if (this == object) {
+            return true;
+        }
+
+        WellMask mask = (WellMask) object;
+
+        int rows = Math.max(this.rows, mask.rows);
+        int stride = Math.max(this.stride, mask.stride);
+
+        for(int i = 0; i < rows; i++) {
+            for(int j = 0; j < stride; j++) {
+                if(this.word(i, j) != mask.word(i, j)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Hash code uses the position and value of each non-empty word.
+     * @return    the hash code
+     */
+    public int hashCode() {
+
+        int hash = 17;
+
+        for(int i = 0; i < this.words.length; i++) {
+
+            long word = this.words[i];
+
+            if(word != 0) {
+                hash = 37 * hash + (i / this.stride) * 1021 + i % this.stride;
+                hash = 37 * hash + (int) (word ^ (word >>> 32));
+            }
+        }
+
+        return hash;
+    }
+
+    /* ---------------------------- Helper Methods -------------------------- */
+
+    /**
+     * Returns the word for the row and word column or zero if the word lies
+     * outside the mask.
+     * @param    int    the row index
+     * @param    int    the word index within the row
+     * @return          the word
+     */
+    private long word(int row, int block) {
+        return row < this.rows && block < this.stride ? this.words[row * this.stride + block] : 0L;
+    }
+
+    /**
+     * Grows the mask so that it holds the row and column.
+     * @param    int    the row index
+     * @param    int    the column index
+     */
+    private void resize(int row, int column) {
+
+        int rows = Math.max(this.rows, row + 1);
+        int stride = Math.max(this.stride, (column >>> 6) + 1);
+
+        long[] previous = this.words;
+        int previousRows = this.rows;
+        int previousStride = this.stride;
+
+        this.allocate(rows, stride);
+
+        for(int i = 0; i < previousRows; i++) {
+            System.arraycopy(previous, i * previousStride, this.words, i * stride, previousStride);
+        }
+    }
+
+    /**
+     * Replaces the words with an empty array of the given size.
+     * @param    int    the row number
+     * @param    int    the number of words in each row
+     */
+    private void allocate(int rows, int stride) {
+        this.rows = Math.max(rows, 0);
+        this.stride = Math.max(stride, 1);
+        this.words = new long[this.rows * this.stride];
+    }
+
+}
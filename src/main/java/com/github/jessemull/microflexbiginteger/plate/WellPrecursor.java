@@ -24,13 +24,11 @@ package com.github.jessemull.microflexbiginteger.plate;
 /* -------------------- Dependencies -------------------- */
 
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.google.common.base.Preconditions;
 
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
+
 /**
  * This class represents a well in a microplate. It contains the the logic to 
  * convert row letters to integers and vice-versa, enforces the correct format 
@@ -110,14 +108,9 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
     private int row;                                                  // Well row
     private int column;                                               // Well column
     private int type;                                                 // Numerical data type
+    private long key;                                                 // Ordering key for the row and column
     
-    private int ALPHA_BASE = 26;                                      // Number of char types available for the row ID
-    private String digits = "\\d+$";                                  // Numerals only regex
-    private String letters = "^[A-Z]+";                               // Letters only regex 
-    private String alphaOnly = "^[A-Za-z]+[0-9]+$";                   // Alphanumeric characters only     
-    private Pattern digitsPattern = Pattern.compile(digits);          // Numeral only pattern
-    private Pattern lettersPattern = Pattern.compile(letters);        // Letters only pattern
-    private Pattern alphaOnlyPattern = Pattern.compile(alphaOnly);    // Alphanumeric characters only pattern
+    private static final int ALPHA_BASE = WellIDCodec.ALPHA_BASE;     // Number of char types available for the row ID
     
     /* ---------------------------- Constructors ---------------------------- */
     
@@ -132,7 +125,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
         this.type = type;
         this.row = row;
         this.column = column;
-
+        this.key = WellIDCodec.key(row, column);
     }
        
     /**
@@ -144,16 +137,13 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      */
     public WellPrecursor(int type, String row, int column) {
         
-        try {
-            this.row = Integer.decode(row);
-        } catch(NumberFormatException e) {
-            this.row = parseRow(row);
-        }
+        this.row = this.decodeRow(row);
         
         this.column = column;
         this.type = type;
         
         validateIndices(this.row, this. column);
+        this.key = WellIDCodec.key(this.row, this.column);
     }
         
     /**
@@ -176,6 +166,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
         }
 
         validateIndices(this.row, this. column);
+        this.key = WellIDCodec.key(this.row, this.column);
     }
     
     /**
@@ -188,11 +179,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      */
     public WellPrecursor(int type, String row, String column) {
        
-        try {
-            this.row = Integer.decode(row);
-        } catch(NumberFormatException e) {
-            this.row = parseRow(row);
-        }
+        this.row = this.decodeRow(row);
         
         try {
             this.column = Integer.decode(column);
@@ -202,6 +189,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
         
         this.type = type;
         validateIndices(this.row, this. column);
+        this.key = WellIDCodec.key(this.row, this.column);
     }
     
     /**
@@ -213,32 +201,16 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
     public WellPrecursor(int type, String wellID) {
         
     	this.type = type;
-        String upper = wellID.toUpperCase().trim();
-        
-        Matcher digitsMatcher = digitsPattern.matcher(upper);
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
-        Matcher alphasOnlyMatcher = alphaOnlyPattern.matcher(upper);
-        
-        /* Alphas matcher enforces the correct format for the well ID */
+    	
+    	/* The codec enforces the correct format for the well ID */
+    	
+        long packed = WellIDCodec.parse(wellID);
         
-        if(alphasOnlyMatcher.find()) {
-            
-            lettersMatcher.find();
-            digitsMatcher.find();
-            
-            this.row = parseRow(lettersMatcher.group(0).trim());
-            
-            try {
-                this.column = Integer.decode(digitsMatcher.group(0));
-            } catch(NumberFormatException e) {
-                throw new IllegalArgumentException("Invalid column ID: " + digitsMatcher.group(0).trim());
-            }
-            
-        } else {
-            throw new IllegalArgumentException("Invalid well index: " + wellID);
-        }
+        this.row = WellIDCodec.row(packed);
+        this.column = WellIDCodec.column(packed);
 
         validateIndices(this.row, this. column);
+        this.key = WellIDCodec.key(this.row, this.column);
     }
     
     /**
@@ -249,39 +221,28 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
         this.type = well.type();
     	this.row = well.row();
     	this.column = well.column();
+    	this.key = well.key;
     }
 
     /* --------------------------- Private Methods -------------------------- */
     
     /**
-     * Converts a row ID to an integer value.
+     * Converts a row string holding either an integer or a row ID to an integer
+     * value. Row IDs are passed directly to the codec.
      * @param    String    the row as a string
      * @return             the row as an integer value
      */
-    private int parseRow(String rowString) {
+    private int decodeRow(String rowString) {
         
-        int rowInt = 0;
-        int baseIndex = 1;
-
-        String upper = rowString.toUpperCase().trim();
-        Matcher lettersMatcher = lettersPattern.matcher(upper);
-        
-        if(lettersMatcher.find()) {
-            
-            String letters = lettersMatcher.group(0);
-            
-            rowInt = letters.charAt(letters.length() - 1) - 65;
-
-            for(int i = letters.length() - 2; i >= 0; i--) {
-                rowInt += (letters.charAt(i) - 65 + 1) * Math.pow(ALPHA_BASE, baseIndex++);  
-            }
-            
-            return rowInt;
-            
-        } else {           
-            throw new IllegalArgumentException("Invalid row ID: " + row);
+        if(WellIDCodec.isRowID(rowString)) {
+            return WellIDCodec.parseRow(rowString);
         }
         
+        try {
+            return Integer.decode(rowString);
+        } catch(NumberFormatException e) {
+            return WellIDCodec.parseRow(rowString);
+        }
     }
 
     /**
@@ -289,7 +250,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      * @return    the index
      */
     public String index() {
-    	return this.rowString() + this.column;
+    	return WellIDCodec.index(this.row, this.column);
     }
     
     /**
@@ -335,7 +296,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      * @return    the alpha base value
      */
     public int alphaBase() {
-        return this.ALPHA_BASE;
+        return ALPHA_BASE;
     }
     
     /**
@@ -343,16 +304,7 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      * @return    row ID
      */
     public String rowString() {
-        
-        int rowInt = this.row;
-        String rowString = "";
-        
-        while (rowInt >=  0) {
-            rowString = (char) (rowInt % ALPHA_BASE + 65) + rowString;
-            rowInt = (rowInt  / ALPHA_BASE) - 1;
-        }
-        
-        return rowString;
+        return WellIDCodec.rowString(this.row);
     }    
     
     /**
@@ -395,15 +347,12 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
     }
     
     /**
-     * Hash code uses the row, column and ALPHA_BASE fields.
+     * Hash code uses the row and column. The ALPHA_BASE field is the same for 
+     * every well.
      * @return    the hash code
      */
     public int hashCode() {
-        return new HashCodeBuilder(17, 37).
-                   append(this.row).
-                   append(this.column).
-                   append(this.ALPHA_BASE).
-                   toHashCode();    
+        return WellIDCodec.hash(this.row, this.column);
     }
     
     /**
@@ -415,19 +364,11 @@ public abstract class WellPrecursor<T extends Number> implements Comparable<Well
      */
     public int compareTo(WellPrecursor<T> well) throws ClassCastException {
         
-        if(this.equals(well)) {
-            return 0;
-        }
-        
-        if(this.row() > well.row()) {
-            return 1;
-        } else if(this.row() != well.row()) {
-            return -1;
-        }
+        /* The key orders by row and then column */
         
-        if(this.column() > well.column()) {
+        if(this.key > well.key) {
             return 1;
-        } else if(this.column() != well.column()) {
+        } else if(this.key != well.key) {
             return -1;
         }
         
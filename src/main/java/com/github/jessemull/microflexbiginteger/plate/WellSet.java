@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.NavigableSet;
 import java.util.TreeSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -34,8 +35,11 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import com.google.common.base.Preconditions;
 
+import com.github.jessemull.microflexbiginteger.plate.WellGrid;
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
 import com.github.jessemull.microflexbiginteger.plate.WellIndex;
 import com.github.jessemull.microflexbiginteger.plate.WellList;
+import com.github.jessemull.microflexbiginteger.plate.WellMask;
 
 /**
  * This class represents a set of wells. The well set implements all the methods
@@ -49,6 +53,16 @@ import com.github.jessemull.microflexbiginteger.plate.WellList;
  * The well set object implements the Iterable interface. The iterator iterates 
  * over the wells in the set.
  * 
+ * Well sets created with plate dimensions use a dense backend where the well at
+ * row r and column c is held in slot r * columns + c - 1 of an array. Lookups by 
+ * well index, row and column extraction and iteration become constant time or 
+ * sequential array scans. Wells outside the dimensions cannot be added to a 
+ * dense well set. All other well sets are backed by a tree set.
+ * 
+ * Retaining, removing and checking for the wells in another well set, a well 
+ * list or a well mask builds a bitmap of the input wells and tests each well 
+ * with a single bit lookup.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
@@ -58,7 +72,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
     
     /* ------------------------------- Fields ------------------------------- */
 
-    private TreeSet<Well> wells = new TreeSet<Well>();    // List of the wells in the set
+    private NavigableSet<Well> wells = new TreeSet<Well>();    // List of the wells in the set
     private String label = "WellSetBigInteger";                               // Set label
     
     /* ---------------------------- Constructors ---------------------------- */
@@ -68,6 +82,31 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      */
     public WellSet() {}   
     
+    /**
+     * Creates a new dense well set for wells within the plate dimensions.
+     * @param    int    the number of rows
+     * @param    int    the number of columns
+     */
+    public WellSet(int rows, int columns) {
+    	
+    	Preconditions.checkArgument(rows >= 0, "Invalid row number: %s.", rows);
+    	Preconditions.checkArgument(columns > 0, "Invalid column number: %s.", columns);
+    	
+    	this.wells = new WellGrid(rows, columns);
+    }
+    
+    /**
+     * Creates a new dense well set for wells within the plate dimensions and 
+     * a label.
+     * @param    int       the number of rows
+     * @param    int       the number of columns
+     * @param    String    the label
+     */
+    public WellSet(int rows, int columns, String label) {
+    	this(rows, columns);
+    	this.label = label;
+    }
+    
     /**
      * Creates a new well set from a collection of wells.
      * @param    Collection<WellBigInteger>    the collection of wells
@@ -109,9 +148,13 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
         
         this();
         
-        /* Adds the wells to the new set */
+        /* Adds the wells to the new set, dense sets copy the slot array */
         
-        this.wells.addAll(Arrays.asList(set.toWellArray()));
+        if(set.wells instanceof WellGrid) {
+        	this.wells = new WellGrid((WellGrid) set.wells);
+        } else {
+            this.wells.addAll(Arrays.asList(set.toWellArray()));
+        }
     }
     
     /**
@@ -306,8 +349,6 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      */
     public boolean remove(WellSet set) {
         
-        boolean success = true;
-        
         try {
             Preconditions.checkNotNull(set, "The set cannot be null.");
         } catch(Exception e) {
@@ -315,16 +356,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
             return false;
         }
         
-        for(Well well : set) {
-            try {
-                success = this.remove(well) ? success : false;
-            } catch(Exception e) {
-                System.err.println(e.getMessage());
-                success = false;
-            }
-        }
-        
-        return success;
+        return this.remove(set.mask());
         
     }
     
@@ -452,22 +484,49 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      */
     public boolean remove(WellList list) {
 
+        try {
+            Preconditions.checkNotNull(list, "The list cannot be null.");
+        } catch(Exception e) {
+            System.err.println(e.getMessage());
+            return false;
+        }
+        
+        return this.remove(list.mask());
+    }
+    
+    /**
+     * Removes the wells in the mask.
+     * @param    WellMask    the well mask
+     * @return               true on successful removal of all wells
+     */
+    public boolean remove(WellMask mask) {
+
     	boolean success = true;
         
         try {
-            Preconditions.checkNotNull(list, "The list cannot be null.");
+            Preconditions.checkNotNull(mask, "The mask cannot be null.");
         } catch(Exception e) {
             System.err.println(e.getMessage());
             return false;
         }
         
-        for(WellIndex index : list) {
-            try {
-                success = this.remove(new Well(index.row(), index.column())) ? success : false;
-            } catch(Exception e) {
-                System.err.println(e.getMessage());
-                success = false;
-            }
+        WellMask missing = mask.andNot(this.mask());
+        
+        for(WellIndex index : missing) {
+            System.err.println("Failed to remove well " + index.toString() + 
+            		". This well does not exists in the set.");
+            success = false;
+        }
+        
+        Iterator<Well> iter = this.wells.iterator();
+        
+        while(iter.hasNext()) {
+        	
+        	Well well = iter.next();
+        	
+        	if(mask.contains(well.row(), well.column())) {
+        		iter.remove();
+        	}
         }
         
         return success;
@@ -621,23 +680,14 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      */
     public boolean retain(WellSet set) {
         
-        boolean success = true;
-        
         try {
             Preconditions.checkNotNull(set, "The collection cannot be null.");
         } catch(Exception e) {
             System.err.println(e.getMessage());
-            success = false;
+            return false;
         }
             
-        try { 
-            success = this.wells.retainAll(set.allWells()) ? success : false;
-        } catch(Exception e) {
-            System.err.println(e.getMessage());
-            success = false;
-        }
-               
-        return success;
+        return this.retain(set.mask());
     }
     
     /**
@@ -739,15 +789,38 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      * @return               true on successful retention  
      */
     public boolean retain(WellList list) {
+    	return retain(list.mask());
+    }
+    
+    /**
+     * Retains the wells in the mask.
+     * @param    WellMask    the well mask
+     * @return               true if any wells were removed
+     */
+    public boolean retain(WellMask mask) {
     	
-    	WellSet set = new WellSet();
-    	
-    	for(WellIndex index : list) {
-    		set.add(new Well(index.row(), index.column()));
-    	}
-    	
-    	return retain(set);
-    	
+        try {
+            Preconditions.checkNotNull(mask, "The mask cannot be null.");
+        } catch(Exception e) {
+            System.err.println(e.getMessage());
+            return false;
+        }
+        
+        boolean success = false;
+        
+        Iterator<Well> iter = this.wells.iterator();
+        
+        while(iter.hasNext()) {
+        	
+        	Well well = iter.next();
+        	
+        	if(!mask.contains(well.row(), well.column())) {
+        		iter.remove();
+        		success = true;
+        	}
+        }
+        
+        return success;
     }
 
     /*------------------------- Methods for Well Lookup ----------------------*/
@@ -772,13 +845,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
             return false;
         }
 
-        for(Well well : set) {
-            if(!this.contains(well)) {
-                return false;
-            }
-        }
-        
-        return true;
+        return set.size() <= this.size() && this.contains(set.mask());
         
     }
     
@@ -855,7 +922,8 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      * @return             true if the well exists in the set
      */
     public boolean contains(String well) {
-        return this.wells.contains(new Well(well));
+    	long packed = WellIDCodec.parse(well);
+        return this.lookup(WellIDCodec.row(packed), WellIDCodec.column(packed)) != null;
     }
     
     /**
@@ -864,7 +932,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      * @return                true if the well exists
      */
     public boolean contains(WellIndex index) {
-        return contains(new Well(index.row(), index.column()));
+        return this.lookup(index.row(), index.column()) != null;
     }
     
     /**
@@ -873,15 +941,21 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      * @return               true if all the well exist
      */
     public boolean contains(WellList list) {
+    	return list.size() <= this.size() && contains(list.mask());
+    }
+    
+    /**
+     * Returns true if the wells in the mask exist in the set.
+     * @param    WellMask    the well mask
+     * @return               true if all the wells exist
+     */
+    public boolean contains(WellMask mask) {
     	
-    	WellSet set = new WellSet();
-    	
-    	for(WellIndex index : list) {
-    		set.add(new Well(index.row(), index.column()));
+    	if(mask == null) {
+    		return false;
     	}
     	
-    	return contains(set);
-    	
+    	return this.mask().containsAll(mask);
     }
     
     /**
@@ -1189,14 +1263,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      * @return                     the plate well or null if the well does not exist
      */
     public Well getWells(Well input) {
-    	
-    	for(Well well : this.wells) {
-            if(input.row() == well.row() && input.column() == well.column()) {
-                return well;
-            }
-        }
-        
-        return null;
+    	return this.lookup(input.row(), input.column());
     }
     
     /**
@@ -1305,15 +1372,9 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
             return null;
         }
         
-        Well input = new Well(well);
+        long packed = WellIDCodec.parse(well);
         
-        for(Well bigInteger : this.wells) {
-            if(input.row() == bigInteger.row() && input.column() == bigInteger.column()) {
-                return bigInteger;
-            }
-        }
-        
-        return null;
+        return this.lookup(WellIDCodec.row(packed), WellIDCodec.column(packed));
     }
     
     /**
@@ -1327,15 +1388,7 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
             return null;
         }
         
-        Well input = new Well(index.row(), index.column());
-        
-        for(Well bigInteger : this.wells) {
-            if(input.row() == bigInteger.row() && input.column() == bigInteger.column()) {
-                return bigInteger;
-            }
-        }
-        
-        return null;
+        return this.lookup(index.row(), index.column());
     }
 
      /**
@@ -1345,14 +1398,30 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
       * @return               the wells
       */
      public WellSet getWells(WellList list) {
+    	 return getWells(list.mask());
+     }
+     
+     /**
+      * Returns a well set containing the wells in the mask or null if none of
+      * the wells exist.
+      * @param    WellMask    the well mask
+      * @return               the wells
+      */
+     public WellSet getWells(WellMask mask) {
+    	 
+    	 if(mask == null) {
+    		 return null;
+    	 }
     	 
     	 WellSet set = new WellSet();
     	 
-    	 for(WellIndex index : list) {
-    		 set.add(new Well(index.row(), index.column()));
+    	 for(Well well : this.wells) {
+    		 if(mask.contains(well.row(), well.column())) {
+    			 set.add(well);
+    		 }
     	 }
     	 
-    	 return getWells(set);
+    	 return set.size() == 0 ? null : set;
      }
      
     /**
@@ -1364,6 +1433,11 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
 
         WellSet set = new WellSet();
         
+        if(this.wells instanceof WellGrid) {
+        	((WellGrid) this.wells).row(row, set);
+        	return set.isEmpty() ? null : set;
+        }
+        
         for(Well well : this.wells) {
             if(row == well.row()) {
                 set.add(well);
@@ -1382,6 +1456,11 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
         
         WellSet set = new WellSet();
         
+        if(this.wells instanceof WellGrid) {
+        	((WellGrid) this.wells).column(column, set);
+        	return set.isEmpty() ? null : set;
+        }
+        
         for(Well well : this.wells) {
             if(column == well.column()) {
                 set.add(well);
@@ -1391,6 +1470,29 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
         return set.isEmpty() ? null : set;
     }
     
+    /**
+     * Returns the well with the row and column or null if the well does not
+     * exist. Dense sets return the well from the slot array and tree sets
+     * perform a single logarithmic search.
+     * @param    int    the row index
+     * @param    int    the column index
+     * @return          the well or null
+     */
+    private Well lookup(int row, int column) {
+    	
+    	if(this.wells instanceof WellGrid) {
+    		return ((WellGrid) this.wells).get(row, column);
+    	}
+    	
+    	if(row < 0 || column < 1) {
+    		return null;
+    	}
+    	
+    	Well well = this.wells.floor(new Well(row, column));
+    	
+    	return well != null && well.row() == row && well.column() == column ? well : null;
+    }
+    
     /*---------------------------- Other Methods -----------------------------*/
     
     /**
@@ -1434,12 +1536,31 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
     	list.setLabel(this.label);
     	
     	for(Well well : this.wells) {
-    		list.add(new WellIndex(well.row(), well.column()));
+    		list.add(WellIndex.valueOf(well.row(), well.column()));
     	}
     	
     	return list;
     }
     
+    /**
+     * Returns all indices in the set in a well mask.
+     * @return    the well mask
+     */
+    public WellMask mask() {
+    	
+    	WellMask mask = new WellMask();
+    	
+    	if(!this.wells.isEmpty()) {
+    		mask = new WellMask(this.wells.last().row() + 1, 0);
+    	}
+    	
+    	for(Well well : this.wells) {
+    		mask.add(well.row(), well.column());
+    	}
+    	
+    	return mask;
+    }
+    
     /*---------------------------- String Methods ----------------------------*/
     
     /**
@@ -1547,13 +1668,15 @@ public class WellSet implements Iterable<Well>, Comparable<WellSet> {
      */
 	public int compareTo(WellSet set) {
 		
-		if(this.equals(set)) {
+		if(this == set) {
             return 0;
         }
         
-		if(this.label().compareTo(set.label()) == 1) {
+		int label = this.label.compareTo(set.label);
+		
+		if(label > 0) {
             return 1;
-        } else if(this.label().compareTo(set.label()) != 0) {
+        } else if(label < 0) {
             return -1;
         }
 		
@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read only window over a range of well values. The view reads the values
+ * directly from the well storage and does not copy them. Views are lists of
+ * big integers and can be passed to any of the list based math and statistic
+ * methods.
+ *
+ * The view reads through the well on every access, so values set in the well
+ * after the view was created are visible, including writes that copy a data
+ * set shared with a clone. Like the views returned by List.subList, a well view
+ * should not be used after values have been added to or removed from the well.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 18, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellView extends AbstractList<BigInteger> implements RandomAccess {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    private final Well well;      // The well
+    private final int begin;      // Index of the first value
+    private final int length;     // Number of values
+
+    /* ----------------------------- Constructors --------------------------- */
+
+    /**
+     * Creates a view over the well values between the indices.
+     * @param    Well    the well
+     * @param    int     beginning index of the range
+     * @param    int     length of the range
+     */
+    WellView(Well well, int begin, int length) {
+
+        int size = well.storageData().size();
+
+        if(begin < 0 || length < 0 || begin + length > size) {
+            throw new IndexOutOfBoundsException("Invalid range " + begin +
+                    " to " + (begin + length) + " for " + size + " values.");
+        }
+
+        this.well = well;
+        this.begin = begin;
+        this.length = length;
+    }
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the value at the index within the view.
+     * @param    int    the index
+     * @return          the value
+     */
+    public BigInteger get(int index) {
+
+        if(index < 0 || index >= this.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.length);
+        }
+
+        return this.well.storageData().get(this.begin + index);
+    }
+
+    /**
+     * Returns the number of values in the view.
+     * @return    the view length
+     */
+    public int size() {
+        return this.length;
+    }
+
+    /**
+     * Returns a view over the values between the indices within this view.
+     * @param    int    index of the first value
+     * @param    int    index following the last value
+     * @return          the view
+     */
+    public WellView subList(int fromIndex, int toIndex) {
+        return this.view(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a view over the values between the indices within this view.
+     * @param    int    beginning index of the range
+     * @param    int    length of the range
+     * @return          the view
+     */
+    public WellView view(int begin, int length) {
+
+        if(begin < 0 || length < 0 || begin + length > this.length) {
+            throw new IndexOutOfBoundsException("Invalid range " + begin +
+                    " to " + (begin + length) + " for " + this.length + " values.");
+        }
+
+        return new WellView(this.well, this.begin + begin, length);
+    }
+
+    /**
+     * Returns the well.
+     * @return    the well
+     */
+    public Well well() {
+        return this.well;
+    }
+
+    /**
+     * Returns the index of the first value within the well.
+     * @return    the beginning index
+     */
+    public int begin() {
+        return this.begin;
+    }
+
+    /**
+     * Returns the values in the view as a list of big decimals. Only the values
+     * within the view are converted.
+     * @return    the values
+     */
+    public List<BigDecimal> toBigDecimal() {
+
+        List<BigInteger> data = this.well.storageData();
+        List<BigDecimal> result = new ArrayList<BigDecimal>(this.length);
+
+        for(int i = this.begin; i < this.begin + this.length; i++) {
+            result.add(new BigDecimal(data.get(i)));
+        }
+
+        return result;
+    }
+
+}
@@ -30,7 +30,10 @@ import java.util.List;
 
 /**
  * This class calculates the cumulative product of big integer plate stacks, 
- * plates, wells and well sets.
+ * plates, wells and well sets. Large wells are split into blocks and the 
+ * running products within the blocks are calculated in parallel before each
+ * block is multiplied by the product of the preceding blocks. The results are
+ * exact and identical to the left to right running product.
  *
  * <br><br>
  * 
@@ -150,15 +153,7 @@ public class CumulativeProduct extends DescriptiveStatisticListWeightsContext {
      */
     public List<BigDecimal> calculate(List<BigDecimal> list, MathContext mc) {
         
-    	BigDecimal product = new BigDecimal(1.0);
-    	List<BigDecimal> result = new ArrayList<BigDecimal>();
-    	
-    	for(BigDecimal bd : list) {
-    		product = product.multiply(bd);
-    		result.add(product);
-    	}
-    	
-    	return result;
+    	return ProductTree.prefixProducts(list);
     }
     
     /**
@@ -170,15 +165,13 @@ public class CumulativeProduct extends DescriptiveStatisticListWeightsContext {
      */
     public List<BigDecimal> calculate(List<BigDecimal> list, double[] weights, MathContext mc) {
      
-    	BigDecimal product = new BigDecimal(1.0);
-    	List<BigDecimal> result = new ArrayList<BigDecimal>();
+    	List<BigDecimal> weighted = new ArrayList<BigDecimal>(list.size());
     	
     	for(int i = 0; i < list.size(); i++) {
-    		product = product.multiply(list.get(i).multiply(new BigDecimal(weights[i])));
-    		result.add(product);
+    		weighted.add(list.get(i).multiply(new BigDecimal(weights[i])));
     	}
     	
-    	return result;
+    	return ProductTree.prefixProducts(weighted);
     }
     
     /**
@@ -33,6 +33,7 @@ import java.util.TreeMap;
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
 import com.github.jessemull.microflexbiginteger.plate.Well;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
@@ -272,7 +273,7 @@ public abstract class DescriptiveStatistic {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
 
         return calculate(aggregated);
@@ -300,7 +301,7 @@ public abstract class DescriptiveStatistic {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
 
             results.put(clone, calculate(aggregated));       
@@ -331,7 +332,7 @@ public abstract class DescriptiveStatistic {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated));
@@ -478,7 +479,7 @@ public abstract class DescriptiveStatistic {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated);
@@ -506,7 +507,7 @@ public abstract class DescriptiveStatistic {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated));
@@ -538,7 +539,7 @@ public abstract class DescriptiveStatistic {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated));
@@ -549,6 +550,100 @@ public abstract class DescriptiveStatistic {
         
     }
     
+    /* ------------------------- Matrix statistics -------------------------  */
+    
+    /**
+     * Returns the statistic for each well in the plate matrix.
+     * @param    PlateMatrix    the plate matrix
+     * @return                  map of wells and results
+     */
+    public Map<Well, BigDecimal> matrix(PlateMatrix matrix) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        Map<Well, BigDecimal> result = new TreeMap<Well, BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                result.put(matrix.well(i), calculate(matrix.toBigDecimal(i)));
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the statistic for each well in the plate matrix using the values 
+     * between the beginning and ending indices.
+     * @param    PlateMatrix    the plate matrix
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @return                  map of wells and results   
+     */
+    public Map<Well, BigDecimal> matrix(PlateMatrix matrix, int begin, int length) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        Map<Well, BigDecimal> result = new TreeMap<Well, BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            
+            if(matrix.contains(i)) {
+                
+                Preconditions.checkArgument(begin <= matrix.length(i) &&
+                                            begin >= 0 &&
+                                            begin + length <= matrix.length(i));
+                
+                result.put(matrix.well(i), calculate(matrix.toBigDecimal(i), begin, length));
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the aggregated statistic for the plate matrix.
+     * @param    PlateMatrix    the plate matrix
+     * @return                  the aggregated result
+     */
+    public BigDecimal matricesAggregated(PlateMatrix matrix) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                aggregated.addAll(matrix.toBigDecimal(i));
+            }
+        }
+        
+        return calculate(aggregated);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the plate matrix using the values 
+     * between the indices.
+     * @param    PlateMatrix    the plate matrix
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @return                  the aggregated result
+     */
+    public BigDecimal matricesAggregated(PlateMatrix matrix, int begin, int length) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                aggregated.addAll(matrix.toBigDecimal(i).subList(begin, begin + length));
+            }
+        }
+        
+        return calculate(aggregated);
+    }
+    
     /* -------------------------- Well statistics --------------------------  */
     
     /**
@@ -571,10 +666,10 @@ public abstract class DescriptiveStatistic {
      */
     public BigDecimal well(Well well, int begin, int length) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        Preconditions.checkArgument(begin <= well.toBigDecimal().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.toBigDecimal().size());   
-        return calculate(well.toBigDecimal(), begin, length);
+                                    begin + length <= well.size());   
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length);
         
     }
 
@@ -34,6 +34,7 @@ import java.util.TreeMap;
 import com.google.common.base.Preconditions;
 
 import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
 import com.github.jessemull.microflexbiginteger.plate.Well;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 
@@ -279,7 +280,7 @@ public abstract class DescriptiveStatisticContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, mc);
@@ -308,7 +309,7 @@ public abstract class DescriptiveStatisticContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
          
             results.put(clone, calculate(aggregated, mc));
@@ -341,7 +342,7 @@ public abstract class DescriptiveStatisticContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }      
             
             results.put(clone, calculate(aggregated, mc));
@@ -494,7 +495,7 @@ public abstract class DescriptiveStatisticContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, mc);
@@ -523,7 +524,7 @@ public abstract class DescriptiveStatisticContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, mc));
@@ -556,7 +557,7 @@ public abstract class DescriptiveStatisticContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, mc));
@@ -567,6 +568,104 @@ public abstract class DescriptiveStatisticContext {
         
     }
     
+    /* ------------------------- Matrix statistics -------------------------  */
+    
+    /**
+     * Returns the statistic for each well in the plate matrix.
+     * @param    PlateMatrix    the plate matrix
+     * @param    MathContext    the math context
+     * @return                  map of wells and results
+     */
+    public Map<Well, BigDecimal> matrix(PlateMatrix matrix, MathContext mc) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        Map<Well, BigDecimal> result = new TreeMap<Well, BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                result.put(matrix.well(i), calculate(matrix.toBigDecimal(i), mc));
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the statistic for each well in the plate matrix using the values 
+     * between the beginning and ending indices.
+     * @param    PlateMatrix    the plate matrix
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @param    MathContext    the math context
+     * @return                  map of wells and results   
+     */
+    public Map<Well, BigDecimal> matrix(PlateMatrix matrix, int begin, int length, MathContext mc) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        Map<Well, BigDecimal> result = new TreeMap<Well, BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            
+            if(matrix.contains(i)) {
+                
+                Preconditions.checkArgument(begin <= matrix.length(i) &&
+                                            begin >= 0 &&
+                                            begin + length <= matrix.length(i));
+                
+                result.put(matrix.well(i), calculate(matrix.toBigDecimal(i), begin, length, mc));
+            }
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Returns the aggregated statistic for the plate matrix.
+     * @param    PlateMatrix    the plate matrix
+     * @param    MathContext    the math context
+     * @return                  the aggregated result
+     */
+    public BigDecimal matricesAggregated(PlateMatrix matrix, MathContext mc) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                aggregated.addAll(matrix.toBigDecimal(i));
+            }
+        }
+        
+        return calculate(aggregated, mc);
+    }
+    
+    /**
+     * Returns the aggregated statistic for the plate matrix using the values 
+     * between the indices.
+     * @param    PlateMatrix    the plate matrix
+     * @param    int            beginning index of subset
+     * @param    int            length of subset
+     * @param    MathContext    the math context
+     * @return                  the aggregated result
+     */
+    public BigDecimal matricesAggregated(PlateMatrix matrix, int begin, int length, MathContext mc) {
+        
+        Preconditions.checkNotNull(matrix, "The plate matrix cannot be null.");
+        
+        List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
+        
+        for(int i = 0; i < matrix.slots(); i++) {
+            if(matrix.contains(i)) {
+                aggregated.addAll(matrix.toBigDecimal(i).subList(begin, begin + length));
+            }
+        }
+        
+        return calculate(aggregated, mc);
+    }
+    
     /* -------------------------- Well statistics --------------------------  */
     
     /**
@@ -591,11 +690,11 @@ public abstract class DescriptiveStatisticContext {
      */
     public BigDecimal well(Well well, int begin, int length, MathContext mc) {
         Preconditions.checkNotNull(well, "The well cannot be null.");
-        Preconditions.checkArgument(begin <= well.toBigDecimal().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.toBigDecimal().size());  
+                                    begin + length <= well.size());  
        
-        return calculate(well.toBigDecimal(), begin, length, mc);
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length, mc);
         
     }
 
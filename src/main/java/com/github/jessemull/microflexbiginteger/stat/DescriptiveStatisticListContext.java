@@ -280,7 +280,7 @@ public abstract class DescriptiveStatisticListContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, mc);
@@ -309,7 +309,7 @@ public abstract class DescriptiveStatisticListContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
          
             results.put(clone, calculate(aggregated, mc));
@@ -342,7 +342,7 @@ public abstract class DescriptiveStatisticListContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }      
             
             results.put(clone, calculate(aggregated, mc));
@@ -495,7 +495,7 @@ public abstract class DescriptiveStatisticListContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, mc);
@@ -524,7 +524,7 @@ public abstract class DescriptiveStatisticListContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, mc));
@@ -557,7 +557,7 @@ public abstract class DescriptiveStatisticListContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, mc));
@@ -597,7 +597,7 @@ public abstract class DescriptiveStatisticListContext {
                                     begin >= 0 &&
                                     begin + length <= well.data().size());  
        
-        return calculate(well.toBigDecimal(), begin, length, mc);
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length, mc);
         
     }
 
@@ -324,7 +324,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
 
         for (Well well : plate) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i]), mc));
@@ -360,7 +360,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -400,7 +400,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -587,7 +587,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
             
         for (Well well : set) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -623,7 +623,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -663,7 +663,7 @@ public abstract class DescriptiveStatisticListWeightsContext extends Descriptive
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -317,7 +317,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
         for (Well well : plate) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -352,7 +352,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -391,7 +391,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -572,7 +572,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
         for (Well well : set) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -607,7 +607,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -646,7 +646,7 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -689,9 +689,9 @@ public abstract class DescriptiveStatisticWeights extends DescriptiveStatistic {
         
         Preconditions.checkNotNull(well, "The well cannot be null.");
         Preconditions.checkNotNull(weights, "The weights array cannot be null.");
-        Preconditions.checkArgument(begin <= well.toBigDecimal().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.toBigDecimal().size());
+                                    begin + length <= well.size());
         
         return calculate(well.toBigDecimal(), weights, begin, length);
     }
@@ -324,7 +324,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
 
         for (Well well : plate) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i]), mc));
@@ -360,7 +360,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -400,7 +400,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
             
             for (Well well : plate) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -587,7 +587,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
             
         for (Well well : set) {
 
-        	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+        	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
         	
         	for(int i = 0; i < input.size(); i++) {
         		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -623,7 +623,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -663,7 +663,7 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
             
             for (Well well : set) {
 
-            	List<BigDecimal> input = well.toBigDecimal().subList(begin, begin + length);
+            	List<BigDecimal> input = well.view(begin, length).toBigDecimal();
             	
             	for(int i = 0; i < input.size(); i++) {
             		aggregated.add(input.get(i).multiply(new BigDecimal(weights[i])));
@@ -708,9 +708,9 @@ public abstract class DescriptiveStatisticWeightsContext extends DescriptiveStat
         
         Preconditions.checkNotNull(well, "The well cannot be null.");
         Preconditions.checkNotNull(weights, "The weights array cannot be null.");
-        Preconditions.checkArgument(begin <= well.toBigDecimal().size() &&
+        Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
-                                    begin + length <= well.toBigDecimal().size());
+                                    begin + length <= well.size());
 
         return calculate(well.toBigDecimal(), weights, begin, length, mc);
     }
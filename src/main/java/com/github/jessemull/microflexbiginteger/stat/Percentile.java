@@ -288,7 +288,7 @@ public class Percentile {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p);
@@ -317,7 +317,7 @@ public class Percentile {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p));
@@ -350,7 +350,7 @@ public class Percentile {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p));
@@ -503,7 +503,7 @@ public class Percentile {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p);
@@ -532,7 +532,7 @@ public class Percentile {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p));
@@ -565,7 +565,7 @@ public class Percentile {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p));
@@ -606,7 +606,7 @@ public class Percentile {
         Preconditions.checkArgument(begin <= well.size() &&
                                     begin >= 0 &&
                                     begin + length <= well.size());   
-        return calculate(well.toBigDecimal(), begin, length, p);
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length, p);
         
     }
 
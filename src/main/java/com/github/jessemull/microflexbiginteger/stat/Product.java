@@ -25,11 +25,15 @@ package com.github.jessemull.microflexbiginteger.stat;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * This class calculates the product of big integer plate stacks, plates, wells
- * and well sets.
+ * and well sets. The values are multiplied using a balanced product tree, so
+ * neighbouring values and partial products of similar size are multiplied 
+ * together. The result is exact and identical to the left to right product.
+ * Large wells are multiplied in parallel.
  *
  * <br><br>
  * 
@@ -153,13 +157,7 @@ public class Product extends DescriptiveStatisticWeightsContext {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal result = new BigDecimal(1.0);
-        
-        for(BigDecimal bd : list) {
-            result = result.multiply(bd);
-        }
-        
-        return result;
+        return ProductTree.product(list);
     }
     
     /**
@@ -175,14 +173,13 @@ public class Product extends DescriptiveStatisticWeightsContext {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal result = new BigDecimal(1.0);
+        List<BigDecimal> weighted = new ArrayList<BigDecimal>(list.size());
         
         for(int i = 0; i < list.size(); i++) {
-        	BigDecimal weighted = list.get(i).multiply(new BigDecimal(weights[i]), mc);
-        	result = result.multiply(weighted);
+        	weighted.add(list.get(i).multiply(new BigDecimal(weights[i]), mc));
         }
     
-        return result;
+        return ProductTree.product(weighted);
     }
     
     /**
@@ -0,0 +1,279 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package -------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.stat;
+
+/* ----------------------------- Dependencies ------------------------------ */
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import com.github.jessemull.microflexbiginteger.util.PoolUtil;
+
+/**
+ * Calculates exact products of big decimal values using a balanced product
+ * tree. Multiplying values left to right grows the accumulator with every
+ * step and each step multiplies the whole accumulator. The product tree
+ * multiplies neighbouring values and then neighbouring partial products, so
+ * operands of similar size are multiplied at each level and the large
+ * multiplications are left to the top of the tree, where BigInteger uses its
+ * faster multiplication algorithms.
+ *
+ * Big decimal multiplication without a math context is exact and associative,
+ * so the results are identical to the left to right products, including the
+ * scale. Subtrees of lists holding at least the parallel threshold number of
+ * values are calculated in parallel using the library fork join pool. Prefix
+ * products are calculated in blocks, in parallel for large lists, and each
+ * block is then scaled by the product of the preceding blocks.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+final class ProductTree {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Minimum number of values for parallel execution */
+
+    static final int PARALLEL_THRESHOLD = 512;
+
+    /* Number of values multiplied left to right at the leaves of the tree */
+
+    private static final int LEAF = 4;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Static methods only.
+     */
+    private ProductTree() {}
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the product of the values or one for an empty list.
+     * @param    List<BigDecimal>    the values
+     * @return                       the product
+     */
+    static BigDecimal product(List<BigDecimal> values) {
+
+        BigDecimal[] array = values.toArray(new BigDecimal[values.size()]);
+
+        if(array.length == 0) {
+            return BigDecimal.ONE;
+        }
+
+        if(array.length < PARALLEL_THRESHOLD) {
+            return product(array, 0, array.length);
+        }
+
+        return PoolUtil.pool().invoke(new ProductTask(array, 0, array.length));
+    }
+
+    /**
+     * Returns the prefix products of the values. The value at index i of the
+     * result is the product of the values at indices zero through i.
+     * @param    List<BigDecimal>    the values
+     * @return                       the prefix products
+     */
+    static List<BigDecimal> prefixProducts(List<BigDecimal> values) {
+
+        final BigDecimal[] result = values.toArray(new BigDecimal[values.size()]);
+
+        if(result.length < PARALLEL_THRESHOLD) {
+            prefix(result, 0, result.length);
+            return new ArrayList<BigDecimal>(Arrays.asList(result));
+        }
+
+        /* Prefix products within each block */
+
+        int blocks = Math.min(result.length / LEAF, Runtime.getRuntime().availableProcessors() * 4);
+        final int blockSize = (result.length + blocks - 1) / blocks;
+
+        PoolUtil.pool().invoke(new BlockTask(result, blockSize, 0, result.length, null));
+
+        /* Product of the preceding blocks for each block */
+
+        BigDecimal[] offsets = new BigDecimal[(result.length + blockSize - 1) / blockSize];
+
+        for(int i = 1; i < offsets.length; i++) {
+            BigDecimal last = result[i * blockSize - 1];
+            offsets[i] = offsets[i - 1] == null ? last : offsets[i - 1].multiply(last);
+        }
+
+        PoolUtil.pool().invoke(new BlockTask(result, blockSize, 0, result.length, offsets));
+
+        return new ArrayList<BigDecimal>(Arrays.asList(result));
+    }
+
+    /**
+     * Returns the product of the values between the indices using a balanced
+     * product tree.
+     * @param    BigDecimal[]    the values
+     * @param    int             the first index, inclusive
+     * @param    int             the last index, exclusive
+     * @return                   the product
+     */
+    private static BigDecimal product(BigDecimal[] values, int from, int to) {
+
+        if(to - from <= LEAF) {
+
+            BigDecimal result = values[from];
+
+            for(int i = from + 1; i < to; i++) {
+                result = result.multiply(values[i]);
+            }
+
+            return result;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        return product(values, from, middle).multiply(product(values, middle, to));
+    }
+
+    /**
+     * Replaces the values between the indices with the running product.
+     * @param    BigDecimal[]    the values
+     * @param    int             the first index, inclusive
+     * @param    int             the last index, exclusive
+     */
+    private static void prefix(BigDecimal[] values, int from, int to) {
+        for(int i = from + 1; i < to; i++) {
+            values[i] = values[i - 1].multiply(values[i]);
+        }
+    }
+
+    /* ---------------------------- Task Classes ---------------------------- */
+
+    /**
+     * Calculates the product of a range of values, forking the left subtree
+     * until the range falls below the parallel threshold.
+     */
+    @SuppressWarnings("serial")
+    private static final class ProductTask extends RecursiveTask<BigDecimal> {
+
+        private final BigDecimal[] values;    // The values
+        private final int from;               // The first index, inclusive
+        private final int to;                 // The last index, exclusive
+
+        /**
+         * Creates a new product task.
+         * @param    BigDecimal[]    the values
+         * @param    int             the first index, inclusive
+         * @param    int             the last index, exclusive
+         */
+        ProductTask(BigDecimal[] values, int from, int to) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Returns the product of the range.
+         * @return    the product
+         */
+        protected BigDecimal compute() {
+
+            if(this.to - this.from < PARALLEL_THRESHOLD) {
+                return product(this.values, this.from, this.to);
+            }
+
+            int middle = (this.from + this.to) >>> 1;
+
+            ProductTask left = new ProductTask(this.values, this.from, middle);
+            left.fork();
+
+            BigDecimal right = new ProductTask(this.values, middle, this.to).compute();
+
+            return left.join().multiply(right);
+        }
+    }
+
+    /**
+     * Calculates the prefix products within each block of a range of values or
+     * multiplies each block by its offset when offsets are given.
+     */
+    @SuppressWarnings("serial")
+    private static final class BlockTask extends RecursiveAction {
+
+        private final BigDecimal[] values;     // The values
+        private final int blockSize;           // The number of values in a block
+        private final int from;                // The first index, inclusive
+        private final int to;                  // The last index, exclusive
+        private final BigDecimal[] offsets;    // Null for the block prefix products
+
+        /**
+         * Creates a new block task.
+         * @param    BigDecimal[]    the values
+         * @param    int             the number of values in a block
+         * @param    int             the first index of a block, inclusive
+         * @param    int             the last index, exclusive
+         * @param    BigDecimal[]    the block offsets or null
+         */
+        BlockTask(BigDecimal[] values, int blockSize, int from, int to, BigDecimal[] offsets) {
+            this.values = values;
+            this.blockSize = blockSize;
+            this.from = from;
+            this.to = to;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Calculates the blocks in the range.
+         */
+        protected void compute() {
+
+            int blocks = (this.to - this.from + this.blockSize - 1) / this.blockSize;
+
+            if(blocks > 1) {
+
+                int middle = this.from + (blocks / 2) * this.blockSize;
+
+                invokeAll(new BlockTask(this.values, this.blockSize, this.from, middle, this.offsets),
+                          new BlockTask(this.values, this.blockSize, middle, this.to, this.offsets));
+                return;
+            }
+
+            if(this.offsets == null) {
+                prefix(this.values, this.from, this.to);
+                return;
+            }
+
+            BigDecimal offset = this.offsets[this.from / this.blockSize];
+
+            if(offset == null) {
+                return;
+            }
+
+            for(int i = this.from; i < this.to; i++) {
+                this.values[i] = offset.multiply(this.values[i]);
+            }
+        }
+    }
+
+}
@@ -286,7 +286,7 @@ public abstract class QuantileStatisticContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p, mc);
@@ -316,7 +316,7 @@ public abstract class QuantileStatisticContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -350,7 +350,7 @@ public abstract class QuantileStatisticContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -509,7 +509,7 @@ public abstract class QuantileStatisticContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p, mc);
@@ -539,7 +539,7 @@ public abstract class QuantileStatisticContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -573,7 +573,7 @@ public abstract class QuantileStatisticContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -614,7 +614,7 @@ public abstract class QuantileStatisticContext {
         Preconditions.checkArgument(begin <= well.data().size() &&
                                     begin >= 0 &&
                                     begin + length <= well.data().size());   
-        return calculate(well.toBigDecimal(), begin, length, p, mc);
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length, p, mc);
         
     }
 
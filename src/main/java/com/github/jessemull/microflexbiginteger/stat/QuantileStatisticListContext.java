@@ -287,7 +287,7 @@ public abstract class QuantileStatisticListContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : plate) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p, mc);
@@ -317,7 +317,7 @@ public abstract class QuantileStatisticListContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -351,7 +351,7 @@ public abstract class QuantileStatisticListContext {
             Plate clone = new Plate(plate);
             
             for (Well well : plate) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -510,7 +510,7 @@ public abstract class QuantileStatisticListContext {
         List<BigDecimal> aggregated = new ArrayList<BigDecimal>();
             
         for (Well well : set) {
-            aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+            aggregated.addAll(well.view(begin, length).toBigDecimal());
         }
       
         return calculate(aggregated, p, mc);
@@ -540,7 +540,7 @@ public abstract class QuantileStatisticListContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -574,7 +574,7 @@ public abstract class QuantileStatisticListContext {
             WellSet clone = new WellSet(set);
             
             for (Well well : set) {
-                aggregated.addAll(well.toBigDecimal().subList(begin, begin + length));
+                aggregated.addAll(well.view(begin, length).toBigDecimal());
             }
       
             results.put(clone, calculate(aggregated, p, mc));
@@ -615,7 +615,7 @@ public abstract class QuantileStatisticListContext {
         Preconditions.checkArgument(begin <= well.data().size() &&
                                     begin >= 0 &&
                                     begin + length <= well.data().size());   
-        return calculate(well.toBigDecimal(), begin, length, p, mc);
+        return calculate(well.view(begin, length).toBigDecimal(), 0, length, p, mc);
         
     }
 
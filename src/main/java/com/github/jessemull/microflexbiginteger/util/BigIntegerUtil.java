@@ -25,11 +25,13 @@ package com.github.jessemull.microflexbiginteger.util;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.ArrayUtils;
-
 /**
  * This class safely converts (1) BigInteger values to lists or arrays of another 
  * numeric type (2) a value from another numeric type to a BigInteger. The 
@@ -70,12 +72,38 @@ import org.apache.commons.lang3.ArrayUtils;
  *     
  * This class throws an arithmetic exception on overflow.
  * 
+ * The bulk export methods write int, long or double values directly into an 
+ * array or buffer supplied by the caller. Narrowing is decided from the bit 
+ * length of each value in the same pass that writes it. Values that overflow 
+ * are handled according to the overflow policy: OVERFLOW_THROW throws an 
+ * arithmetic exception, OVERFLOW_SATURATE writes the closest representable value 
+ * and OVERFLOW_REPORT leaves the output slot unchanged. Each method returns the 
+ * indices of the values that overflowed.
+ * 
  * @author Jesse L. Mull
  * @update Updated Oct 18, 2016
  * @address http://www.jessemull.com
  * @email hello@jessemull.com
  */
 public class BigIntegerUtil {
+    
+    /* Overflow policies for the bulk primitive export methods */
+    
+    /* Throws an arithmetic exception on the first value that overflows */
+    
+    public static final int OVERFLOW_THROW = 0;
+    
+    /* Writes the closest representable value in place of a value that overflows */
+    
+    public static final int OVERFLOW_SATURATE = 1;
+    
+    /* Skips the output slot of a value that overflows */
+    
+    public static final int OVERFLOW_REPORT = 2;
+    
+    /* Returned by the bulk export methods when no value overflows */
+    
+    private static final int[] NO_OVERFLOW = new int[0];
 
     /**
      * Safely converts a number to a BigInteger. Loss of precision may occur. Throws
@@ -212,13 +240,17 @@ public class BigIntegerUtil {
      */
     public static byte[] toByteArray(List<BigInteger> list) {
         
+        byte[] array = new byte[list.size()];
+        int index = 0;
+        
         for(BigInteger val : list) {
             if(!OverFlowUtil.byteOverflow(val)) {
                 OverFlowUtil.overflowError(val);
             }
+            array[index++] = val.byteValue();
         }
         
-        return ArrayUtils.toPrimitive(list.toArray(new Byte[list.size()]));
+        return array;
         
     }
     
@@ -249,13 +281,17 @@ public class BigIntegerUtil {
      */
     public static short[] toShortArray(List<BigInteger> list) {
         
+        short[] array = new short[list.size()];
+        int index = 0;
+        
         for(BigInteger val : list) {
             if(!OverFlowUtil.shortOverflow(val)) {
                 OverFlowUtil.overflowError(val);
             }
+            array[index++] = val.shortValue();
         }
         
-        return ArrayUtils.toPrimitive(list.toArray(new Short[list.size()]));
+        return array;
         
     }
     
@@ -286,13 +322,10 @@ public class BigIntegerUtil {
      */
     public static int[] toIntArray(List<BigInteger> list) {    
         
-        for(BigInteger val : list) {
-            if(!OverFlowUtil.intOverflow(val)) {
-                OverFlowUtil.overflowError(val);
-            }
-        }
+        int[] array = new int[list.size()];
+        toIntArray(list, array, 0, OVERFLOW_THROW);
         
-        return ArrayUtils.toPrimitive(list.toArray(new Integer [list.size()]));
+        return array;
         
     }
     
@@ -323,13 +356,10 @@ public class BigIntegerUtil {
      */
     public static long[] toLongArray(List<BigInteger> list) {    
         
-        for(BigInteger val : list) {
-            if(!OverFlowUtil.longOverflow(val)) {
-                OverFlowUtil.overflowError(val);
-            }
-        }
+        long[] array = new long[list.size()];
+        toLongArray(list, array, 0, OVERFLOW_THROW);
         
-        return ArrayUtils.toPrimitive(list.toArray(new Long[list.size()]));
+        return array;
         
     }
     
@@ -360,13 +390,17 @@ public class BigIntegerUtil {
      */
     public static float[] toFloatArray(List<BigInteger> list) {
         
+        float[] array = new float[list.size()];
+        int index = 0;
+        
         for(BigInteger val : list) {
             if(!OverFlowUtil.floatOverflow(val)) {
                 OverFlowUtil.overflowError(val);
             }
+            array[index++] = val.floatValue();
         }
         
-        return ArrayUtils.toPrimitive(list.toArray(new Float[list.size()]));
+        return array;
         
     }
     
@@ -396,13 +430,10 @@ public class BigIntegerUtil {
      */
     public static double[] toDoubleArray(List<BigInteger> list) {
         
-        for(BigInteger val : list) {
-            if(!OverFlowUtil.doubleOverflow(val)) {
-                OverFlowUtil.overflowError(val);
-            }
-        }
+        double[] array = new double[list.size()];
+        toDoubleArray(list, array, 0, OVERFLOW_THROW);
         
-        return ArrayUtils.toPrimitive(list.toArray(new Double[list.size()]));
+        return array;
         
     }
        
@@ -458,21 +489,245 @@ public class BigIntegerUtil {
         
     }
 
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
+    /* ------------------------ Methods for bulk export ------------------------ */
+    
+    /**
+     * Writes the values to the array starting at the offset.
+     * @param    List<BigInteger>    list of BigIntegers
+     * @param    int[]               the output array
+     * @param    int                 index of the first output slot
+     * @param    int                 the overflow policy
+     * @return                       indices of the values that overflowed
+     * @throws   ArithmeticException    on overflow using OVERFLOW_THROW
+     */
+    public static int[] toIntArray(List<BigInteger> list, int[] array, int offset, int policy) {
+        
+        checkPolicy(policy);
+        checkRange(offset, list.size(), array.length);
+        
+        int[] overflow = NO_OVERFLOW;
+        int count = 0;
+        int index = 0;
+        
+        for(BigInteger val : list) {
+            
+            if(val.bitLength() <= 31) {
+                array[offset + index] = val.intValue();
+            } else {
+                overflow = overflow(val, policy, overflow, count++, index);
+                if(policy == OVERFLOW_SATURATE) {
+                    array[offset + index] = val.signum() > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+                }
+            }
+            
+            index++;
+        }
+        
+        return count == 0 ? NO_OVERFLOW : Arrays.copyOf(overflow, count);
+    }
+    
+    /**
+     * Writes the values to the array starting at the offset.
+     * @param    List<BigInteger>    list of BigIntegers
+     * @param    long[]              the output array
+     * @param    int                 index of the first output slot
+     * @param    int                 the overflow policy
+     * @return                       indices of the values that overflowed
+     * @throws   ArithmeticException    on overflow using OVERFLOW_THROW
+     */
+    public static int[] toLongArray(List<BigInteger> list, long[] array, int offset, int policy) {
+        
+        checkPolicy(policy);
+        checkRange(offset, list.size(), array.length);
+        
+        int[] overflow = NO_OVERFLOW;
+        int count = 0;
+        int index = 0;
+        
+        for(BigInteger val : list) {
+            
+            if(val.bitLength() <= 63) {
+                array[offset + index] = val.longValue();
+            } else {
+                overflow = overflow(val, policy, overflow, count++, index);
+                if(policy == OVERFLOW_SATURATE) {
+                    array[offset + index] = val.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+                }
+            }
+            
+            index++;
+        }
+        
+        return count == 0 ? NO_OVERFLOW : Arrays.copyOf(overflow, count);
+    }
+    
+    /**
+     * Writes the values to the array starting at the offset.
+     * @param    List<BigInteger>    list of BigIntegers
+     * @param    double[]            the output array
+     * @param    int                 index of the first output slot
+     * @param    int                 the overflow policy
+     * @return                       indices of the values that overflowed
+     * @throws   ArithmeticException    on overflow using OVERFLOW_THROW
+     */
+    public static int[] toDoubleArray(List<BigInteger> list, double[] array, int offset, int policy) {
+        
+        checkPolicy(policy);
+        checkRange(offset, list.size(), array.length);
+        
+        int[] overflow = NO_OVERFLOW;
+        int count = 0;
+        int index = 0;
+        
+        for(BigInteger val : list) {
+            
+            if(val.bitLength() < 1024 || OverFlowUtil.doubleOverflow(val)) {
+                array[offset + index] = val.doubleValue();
+            } else {
+                overflow = overflow(val, policy, overflow, count++, index);
+                if(policy == OVERFLOW_SATURATE) {
+                    array[offset + index] = val.signum() > 0 ? Double.MAX_VALUE : -Double.MAX_VALUE;
+                }
+            }
+            
+            index++;
+        }
+        
+        return count == 0 ? NO_OVERFLOW : Arrays.copyOf(overflow, count);
+    }
+    
+    /**
+     * Writes the values to the buffer starting at its current position. The 
+     * position is advanced past the last value, including skipped values.
+     * @param    List<BigInteger>    list of BigIntegers
+     * @param    LongBuffer          the output buffer
+     * @param    int                 the overflow policy
+     * @return                       indices of the values that overflowed
+     * @throws   ArithmeticException       on overflow using OVERFLOW_THROW
+     * @throws   BufferOverflowException   if the buffer cannot hold the values
+     */
+    public static int[] toLongBuffer(List<BigInteger> list, LongBuffer buffer, int policy) {
+        
+        checkPolicy(policy);
+        
+        if(buffer.remaining() < list.size()) {
+            throw new BufferOverflowException();
+        }
+        
+        int[] overflow = NO_OVERFLOW;
+        int count = 0;
+        int index = 0;
+        int position = buffer.position();
+        
+        for(BigInteger val : list) {
+            
+            if(val.bitLength() <= 63) {
+                buffer.put(position + index, val.longValue());
+            } else {
+                overflow = overflow(val, policy, overflow, count++, index);
+                if(policy == OVERFLOW_SATURATE) {
+                    buffer.put(position + index, val.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE);
+                }
+            }
+            
+            index++;
+        }
+        
+        buffer.position(position + index);
+        
+        return count == 0 ? NO_OVERFLOW : Arrays.copyOf(overflow, count);
+    }
+    
+    /**
+     * Writes the values to the buffer starting at its current position. The 
+     * position is advanced past the last value, including skipped values.
+     * @param    List<BigInteger>    list of BigIntegers
+     * @param    DoubleBuffer        the output buffer
+     * @param    int                 the overflow policy
+     * @return                       indices of the values that overflowed
+     * @throws   ArithmeticException       on overflow using OVERFLOW_THROW
+     * @throws   BufferOverflowException   if the buffer cannot hold the values
+     */
+    public static int[] toDoubleBuffer(List<BigInteger> list, DoubleBuffer buffer, int policy) {
+        
+        checkPolicy(policy);
+        
+        if(buffer.remaining() < list.size()) {
+            throw new BufferOverflowException();
+        }
+        
+        int[] overflow = NO_OVERFLOW;
+        int count = 0;
+        int index = 0;
+        int position = buffer.position();
+        
+        for(BigInteger val : list) {
+            
+            if(val.bitLength() < 1024 || OverFlowUtil.doubleOverflow(val)) {
+                buffer.put(position + index, val.doubleValue());
+            } else {
+                overflow = overflow(val, policy, overflow, count++, index);
+                if(policy == OVERFLOW_SATURATE) {
+                    buffer.put(position + index, val.signum() > 0 ? Double.MAX_VALUE : -Double.MAX_VALUE);
+                }
+            }
+            
+            index++;
+        }
+        
+        buffer.position(position + index);
+        
+        return count == 0 ? NO_OVERFLOW : Arrays.copyOf(overflow, count);
+    }
+    
+    /**
+     * Handles a value that overflows according to the policy and records the 
+     * index of the value.
+     * @param    BigInteger    the value
+     * @param    int           the overflow policy
+     * @param    int[]         indices of the values that overflowed
+     * @param    int           number of recorded indices
+     * @param    int           index of the value
+     * @return                 the indices including the new index
+     * @throws   ArithmeticException    using OVERFLOW_THROW
+     */
+    private static int[] overflow(BigInteger val, int policy, int[] overflow, int count, int index) {
+        
+        if(policy == OVERFLOW_THROW) {
+            OverFlowUtil.overflowError(val);
+        }
+        
+        if(count == overflow.length) {
+            overflow = Arrays.copyOf(overflow, Math.max(8, count * 2));
+        }
+        
+        overflow[count] = index;
+        
+        return overflow;
+    }
+    
+    /**
+     * Throws an illegal argument exception for an invalid overflow policy.
+     * @param    int    the overflow policy
+     */
+    private static void checkPolicy(int policy) {
+        if(policy < OVERFLOW_THROW || policy > OVERFLOW_REPORT) {
+            throw new IllegalArgumentException("Invalid overflow policy: " + policy);
+        }
+    }
+    
+    /**
+     * Throws an index out of bounds exception if the values do not fit in the
+     * array starting at the offset.
+     * @param    int    index of the first output slot
+     * @param    int    number of values
+     * @param    int    length of the array
+     */
+    private static void checkRange(int offset, int size, int length) {
+        if(offset < 0 || offset > length - size) {
+            throw new IndexOutOfBoundsException("Cannot write " + size + " values at offset " + 
+                                                offset + " to an array of length " + length);
+        }
+    }
 
+}
@@ -85,20 +85,10 @@ public class OverFlowUtil {
     private static final BigDecimal BIGDECIMAL_DOUBLE_MAX = new BigDecimal(Double.MAX_VALUE);
     private static final BigDecimal BIGDECIMAL_DOUBLE_MIN = new BigDecimal(Double.MIN_VALUE);
     
-    /* Maximum and minimum values for checking overflow when casting to BigInteger */
-    
-    private static final BigInteger BIGINT_BYTE_MAX = new BigInteger(BIGDECIMAL_BYTE_MAX.toString());
-    private static final BigInteger BIGINT_BYTE_MIN = new BigInteger(BIGDECIMAL_BYTE_MIN.toString());
-    private static final BigInteger BIGINT_SHORT_MAX = new BigInteger(BIGDECIMAL_SHORT_MAX.toString());
-    private static final BigInteger BIGINT_SHORT_MIN = new BigInteger(BIGDECIMAL_SHORT_MIN.toString());
-    private static final BigInteger BIGINT_INT_MAX = new BigInteger(BIGDECIMAL_INT_MAX.toString());
-    private static final BigInteger BIGINT_INT_MIN = new BigInteger(BIGDECIMAL_INT_MIN.toString());
-    private static final BigInteger BIGINT_LONG_MAX = new BigInteger(BIGDECIMAL_LONG_MAX.toString());
-    private static final BigInteger BIGINT_LONG_MIN = new BigInteger(BIGDECIMAL_LONG_MIN.toString());
-    private static final BigInteger BIGINT_FLOAT_MAX = new BigInteger(BIGDECIMAL_FLOAT_MAX.toString());
-    private static final BigInteger BIGINT_FLOAT_MIN = new BigInteger(BIGDECIMAL_FLOAT_MIN.toString());
-    private static final BigInteger BIGINT_DOUBLE_MAX = new BigInteger(BIGDECIMAL_DOUBLE_MAX.toString());
-    private static final BigInteger BIGINT_DOUBLE_MIN = new BigInteger(BIGDECIMAL_DOUBLE_MIN.toString());
+    /* Largest float and double magnitudes for checking overflow of wide big integers */
+    
+    private static final BigInteger BIGINT_FLOAT_MAX = BIGDECIMAL_FLOAT_MAX.toBigInteger();
+    private static final BigInteger BIGINT_DOUBLE_MAX = BIGDECIMAL_DOUBLE_MAX.toBigInteger();
 
     /* --------- Methods for Checking Byte Overflow ----------*/
     
@@ -162,7 +152,7 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean byteOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_BYTE_MAX) > 0 || value.compareTo(BIGINT_BYTE_MIN) < 0 ? false : true;
+        return value.bitLength() <= 7;
     }
     
     /* -------- Methods for Checking Short Overflow ----------*/
@@ -227,7 +217,7 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean shortOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_SHORT_MAX) > 0 || value.compareTo(BIGINT_SHORT_MIN) < 0 ? false : true;
+        return value.bitLength() <= 15;
     }
     
     /* -------- Methods for Checking Integer Overflow ---------*/
@@ -274,7 +264,7 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean intOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_INT_MAX) > 0 || value.compareTo(BIGINT_INT_MIN) < 0 ? false : true;
+        return value.bitLength() <= 31;
     }
     
     /* ---------- Methods for Checking Long Overflow ----------*/
@@ -312,7 +302,7 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean longOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_LONG_MAX) > 0 || value.compareTo(BIGINT_LONG_MIN) < 0 ? false : true;
+        return value.bitLength() <= 63;
     }
    
     /* ---------- Methods for Checking Float Overflow ----------*/
@@ -341,7 +331,12 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean floatOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_FLOAT_MAX) > 0 || value.compareTo(BIGINT_FLOAT_MIN) < 0 ? false : true;
+        
+        int bits = value.bitLength();
+        
+        /* Only values with the same bit length as the float maximum need a comparison */
+        
+        return bits < 128 || bits == 128 && value.abs().compareTo(BIGINT_FLOAT_MAX) <= 0;
     }
     
     /* ---------- Methods for Checking Double Overflow ---------*/
@@ -361,7 +356,12 @@ public class OverFlowUtil {
      * @return                 true if no overflow occurs
      */
     public static boolean doubleOverflow(BigInteger value) {
-        return value.compareTo(BIGINT_DOUBLE_MAX) > 0 || value.compareTo(BIGINT_DOUBLE_MIN) < 0 ? false : true;
+        
+        int bits = value.bitLength();
+        
+        /* Only values with the same bit length as the double maximum need a comparison */
+        
+        return bits < 1024 || bits == 1024 && value.abs().compareTo(BIGINT_DOUBLE_MAX) <= 0;
     }
     
     /**
@@ -0,0 +1,66 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------- Package Declaration --------------------------- */
+
+package com.github.jessemull.microflexbiginteger.util;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * This class holds the fork join pool shared by the parallel math operations
+ * and statistics, so the library never runs more than one pool.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PoolUtil {
+
+    /* ---------------------------- Private Fields -------------------------- */
+
+    /* Shared fork join pool, created on first use */
+
+    private static ForkJoinPool pool;
+
+    /* ---------------------------- Constructors ---------------------------- */
+
+    /**
+     * Static methods only.
+     */
+    private PoolUtil() {}
+
+    /* ------------------------------- Methods ------------------------------ */
+
+    /**
+     * Returns the shared fork join pool, creating the pool on first use.
+     * @return    the fork join pool
+     */
+    public static synchronized ForkJoinPool pool() {
+
+        if(pool == null) {
+            pool = new ForkJoinPool();
+        }
+
+        return pool;
+    }
+}
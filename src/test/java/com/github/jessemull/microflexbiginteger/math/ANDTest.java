@@ -183,7 +183,7 @@ public class ANDTest {
 	}
 
 	/* ----------------------------- Well Methods --------------------------- */
-	
+
     /**
      * Tests the AND operation using two wells.
      */
@@ -959,6 +959,42 @@ public class ANDTest {
     	}
     }
     
+    /**
+     * Tests the AND operation using a constant and a dictionary encoded plate.
+     */
+    @Test
+    public void testPlateConstantDictionary() {
+    	
+    	Plate[] plates1 = arrays1.get(0);
+
+    	for(int i = 0; i < plates1.length; i++) {
+    		
+    		Plate plate = new Plate(plates1[i]);
+    		plate.setStorage(Well.STORAGE_DICTIONARY);
+    		
+    		BigInteger mask = new BigInteger("255");
+
+    		Plate returnedPlate = and.plates(plate, mask);
+    		Plate resultPlate = and.plates(plates1[i], mask);
+    		
+    		Iterator<Well> iter1 = resultPlate.iterator();
+    		Iterator<Well> iter2 = returnedPlate.iterator();
+
+    		while(iter1.hasNext()) {
+    			
+    			Well well1 = iter1.next();
+    			Well well2 = iter2.next();
+
+    			assertEquals(well1.data(), well2.data());
+    			assertEquals(Well.STORAGE_DICTIONARY, well2.storage());
+    			assertSame(returnedPlate.first().dictionary(), well2.dictionary());
+    		}
+    		
+    		assertTrue(returnedPlate.first().dictionary().size() <= 256);
+    		assertEquals(resultPlate, returnedPlate);
+    	}
+    }
+    
     /**
      * Tests the AND operation using a constant and a plate.
      */
@@ -2806,34 +2842,37 @@ public class ANDTest {
 	    	while(stackIter1.hasNext()) {
 	    		
 	    		Plate plate = stackIter1.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackIter2.hasNext()) {
 
 	    		Plate plate = stackIter2.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackUnevenIter.hasNext()) {
 	    		
 	    		Plate plate = stackUnevenIter.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStackUneven.add(plate);
+	    		resultStackUneven.add(window);
 	    	}
 	    	
 	    	Stack returned = and.stacks(stack1, stack2, begin, end - begin);
@@ -4170,19 +4209,21 @@ public class ANDTest {
 		
 		if(!strict) {
 			
-			for(Well well : excludedUneven1) {  
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-	    	for(Well well : excludedUneven2) {
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-			finalResult.add(excluded1);
-			finalResult.add(excluded2);
+			for(Well well : excluded1) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
 			
-		    finalResultUneven.add(excludedUneven1);
-		    finalResultUneven.add(excludedUneven2);
+			for(Well well : excluded2) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven1) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven2) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
 		}
 		
 		finalResultReturn[0] = finalResult;
@@ -32,6 +32,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -43,6 +45,8 @@ import com.github.jessemull.microflexbiginteger.math.Addition;
 import com.github.jessemull.microflexbiginteger.plate.Plate;
 import com.github.jessemull.microflexbiginteger.plate.Stack;
 import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellIndex;
+import com.github.jessemull.microflexbiginteger.plate.WellList;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
 import com.github.jessemull.microflexbiginteger.util.RandomUtil;
 
@@ -184,6 +188,48 @@ public class AdditionTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests the addition of values near the limits of a long.
+     */
+	@Test
+    public void testLongOverflow() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		BigInteger[] values = new BigInteger[] { max, min, max.subtract(BigInteger.ONE), 
+				min.add(BigInteger.ONE), max.add(BigInteger.ONE), min.subtract(BigInteger.ONE),
+				BigInteger.valueOf(3037000499L), BigInteger.valueOf(-3037000500L), 
+				BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.ZERO };
+		
+		List<BigInteger> list1 = new ArrayList<BigInteger>();
+		List<BigInteger> list2 = new ArrayList<BigInteger>();
+		List<BigInteger> result = new ArrayList<BigInteger>();
+		
+		for(BigInteger value1 : values) {
+			for(BigInteger value2 : values) {
+				list1.add(value1);
+				list2.add(value2);
+				result.add(value1.add(value2));
+			}
+		}
+		
+		assertEquals(result, addition.calculate(list1, list2));
+		assertEquals(result, addition.calculateStrict(list1, list2));
+		
+		for(BigInteger value : values) {
+			
+			List<BigInteger> constantResult = new ArrayList<BigInteger>();
+			
+			for(BigInteger next : list1) {
+				constantResult.add(next.add(value));
+			}
+			
+			assertEquals(constantResult, addition.calculate(list1, value));
+		}
+    }
+    
     /**
      * Tests the addition of two wells.
      */
@@ -741,6 +787,39 @@ public class AdditionTest {
     
     /* ---------------------------- Plate Methods --------------------------- */
     
+    /**
+     * Tests the addition of a constant to the wells of plates in a well list.
+     */
+    @Test
+    public void testPlatesByWellList() {
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		for(Plate plate : arrays1.get(k)) {
+    			
+    			WellList list = new WellList();
+    			BigInteger constant = BigInteger.valueOf(random.nextInt(1000));
+    			
+    			for(Well well : plate) {
+    				if(random.nextBoolean()) {
+    					list.add(new WellIndex(well.row(), well.column()));
+    				}
+    			}
+    			
+    			Plate expected = new Plate(plate.rows(), plate.columns());
+    			Plate expectedStrict = new Plate(plate.rows(), plate.columns());
+    			
+    			for(Well well : plate) {
+    				BigInteger value = list.contains(new WellIndex(well.row(), well.column())) ? constant : null;
+    				this.addExpected(well, value, expected, expectedStrict);
+    			}
+    			
+    			this.assertWells(expected, addition.platesByWellList(plate, list, constant));
+    			this.assertWells(expectedStrict, addition.platesByWellListStrict(plate, list, constant));
+    		}
+    	}
+    }
+    
     /**
      * Tests the addition of two plates.
      */
@@ -1925,6 +2004,48 @@ public class AdditionTest {
     	}
     }
     
+    /**
+     * Tests the addition of two sets holding interleaved and unmatched wells.
+     */
+    @Test
+    public void testSetsMergeJoin() {
+    	
+    	BigInteger[] values = new BigInteger[]{ BigInteger.ONE, BigInteger.TEN };
+    	
+    	WellSet set1 = new WellSet();
+    	WellSet set2 = new WellSet();
+    	
+    	set1.add(new Well(0, 1, values));
+    	set1.add(new Well(0, 3, values));
+    	set1.add(new Well(2, 2, values));
+    	
+    	set2.add(new Well(0, 2, values));
+    	set2.add(new Well(0, 3, values));
+    	set2.add(new Well(2, 2, values));
+    	set2.add(new Well(3, 1, values));
+    	
+    	WellSet returned = addition.sets(set1, set2);
+    	WellSet returnedStrict = addition.setsStrict(set1, set2);
+    	
+    	List<BigInteger> sum = new ArrayList<BigInteger>();
+    	sum.add(BigInteger.valueOf(2));
+    	sum.add(BigInteger.valueOf(20));
+    	
+    	assertEquals(5, returned.size());
+    	assertEquals(2, returnedStrict.size());
+    	
+    	assertEquals(sum, returned.getWells(new Well(0, 3)).data());
+    	assertEquals(sum, returned.getWells(new Well(2, 2)).data());
+    	assertEquals(2, returned.getWells(new Well(0, 1)).size());
+    	assertEquals(2, returned.getWells(new Well(3, 1)).size());
+    	
+    	assertEquals(sum, returnedStrict.getWells(new Well(0, 3)).data());
+    	assertNull(returnedStrict.getWells(new Well(0, 2)));
+    	
+    	assertEquals(set1, addition.sets(set1, new WellSet()));
+    	assertEquals(0, addition.setsStrict(new WellSet(), set2).size());
+    }
+    
     /**
      * Tests the addition of a constant to a set.
      */
@@ -2763,6 +2884,146 @@ public class AdditionTest {
     	
     }
     
+    /**
+     * Tests the parallel addition of stacks returns the sequential result.
+     */
+    @Test
+    public void testStacksParallel() {
+    	
+    	Addition parallel = new Addition();
+    	parallel.setParallel(true);
+    	parallel.setThreshold(1);
+    	
+    	assertTrue(parallel.isParallel());
+    	
+    	ExecutorService executor = Executors.newFixedThreadPool(3);
+    	Addition pooled = new Addition();
+    	pooled.setExecutor(executor);
+    	pooled.setThreshold(1);
+    	
+    	try {
+    		
+	    	for(int k = 0; k < stacks1.size(); k++) {
+	
+				Stack stack1 = stacks1.get(k);
+				Stack stackUneven = stacksUneven.get(k);
+				BigInteger constant = BigInteger.valueOf(random.nextInt(1000));
+	
+				Stack[] expected = new Stack[] { 
+						addition.stacks(stack1, stackUneven),
+						addition.stacksStrict(stack1, stackUneven),
+						addition.stacks(stack1, constant) };
+				
+				Stack[] returned = new Stack[] { 
+						parallel.stacks(stack1, stackUneven),
+						parallel.stacksStrict(stack1, stackUneven),
+						pooled.stacks(stack1, constant) };
+	
+				for(int i = 0; i < expected.length; i++) {
+					
+					Iterator<Plate> iter1 = expected[i].iterator();
+					Iterator<Plate> iter2 = returned[i].iterator();
+					
+					while(iter1.hasNext()) {
+						
+						Iterator<Well> wellIter1 = iter1.next().iterator();
+						Iterator<Well> wellIter2 = iter2.next().iterator();
+						
+						while(wellIter1.hasNext()) {
+							
+							Well well1 = wellIter1.next();
+							Well well2 = wellIter2.next();
+							
+							assertEquals(well1, well2);
+							assertEquals(well1.data(), well2.data());
+						}
+						
+						assertFalse(wellIter2.hasNext());
+					}
+					
+					assertFalse(iter2.hasNext());
+				}
+	    	}
+	    	
+    	} finally {
+    		executor.shutdown();
+    	}
+    }
+    
+    /**
+     * Tests the in place addition of two plates with missing wells.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		Plate[] plates1 = arrays1.get(k);
+    		Plate[] unevenPlates = uneven.get(k);
+    		
+    		for(int i = 0; i < plates1.length; i++) {
+    			
+    			Plate plate1 = new Plate(plates1[i]);
+    			Plate plate2 = new Plate(unevenPlates[i]);
+    			
+    			Iterator<Well> iter = plate2.iterator();
+    			plate1.removeWells(iter.next());
+    			plate2.removeWells(iter.next());
+    			
+    			Plate expected = addition.plates(plate1, plate2);
+    			Plate expectedStrict = addition.platesStrict(plate1, plate2);
+    			BigInteger constant = BigInteger.valueOf(random.nextInt(1000));
+    			Plate expectedConstant = addition.plates(plate1, constant);
+    			
+    			Plate returned = new Plate(plate1);
+    			Plate returnedStrict = new Plate(plate1);
+    			Plate returnedConstant = new Plate(plate1);
+    			
+    			addition.platesInPlace(returned, plate2);
+    			addition.platesInPlaceStrict(returnedStrict, plate2);
+    			addition.platesInPlace(returnedConstant, constant);
+    			
+    			this.assertWells(expected, returned);
+    			this.assertWells(expectedStrict, returnedStrict);
+    			this.assertWells(expectedConstant, returnedConstant);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the in place addition of two stacks.
+     */
+    @Test
+    public void testStacksInPlace() {
+    	
+    	for(int k = 0; k < stacks1.size(); k++) {
+    		
+    		Stack stack1 = stacks1.get(k);
+    		Stack stackUneven = stacksUneven.get(k);
+    		
+    		Stack[] expected = new Stack[] {
+    				addition.stacks(stack1, stackUneven),
+    				addition.stacksStrict(stack1, stackUneven) };
+    		
+    		Stack[] returned = new Stack[] { new Stack(stack1), new Stack(stack1) };
+    		
+    		addition.stacksInPlace(returned[0], stackUneven);
+    		addition.stacksInPlaceStrict(returned[1], stackUneven);
+    		
+    		for(int i = 0; i < expected.length; i++) {
+    			
+    			assertEquals(expected[i].size(), returned[i].size());
+    			
+    			Iterator<Plate> iter1 = expected[i].iterator();
+    			Iterator<Plate> iter2 = returned[i].iterator();
+    			
+    			while(iter1.hasNext()) {
+    				this.assertWells(iter1.next(), iter2.next());
+    			}
+    		}
+    	}
+    }
+    
     /**
      * Tests the addition of two stack using indices.
      */
@@ -2806,34 +3067,37 @@ public class AdditionTest {
 	    	while(stackIter1.hasNext()) {
 	    		
 	    		Plate plate = stackIter1.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackIter2.hasNext()) {
 
 	    		Plate plate = stackIter2.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackUnevenIter.hasNext()) {
 	    		
 	    		Plate plate = stackUnevenIter.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStackUneven.add(plate);
+	    		resultStackUneven.add(window);
 	    	}
 	    	
 	    	Stack returned = addition.stacks(stack1, stack2, begin, end - begin);
@@ -2879,6 +3143,50 @@ public class AdditionTest {
     	
     }
     
+    /**
+     * Tests plates without a match in the other stack are windowed by the 
+     * indices.
+     */
+    @Test
+    public void testStacksIndicesUnmatched() {
+
+    	Stack source = stacks1.get(0);
+    	Stack stack1 = new Stack(source.rows(), source.columns());
+    	Stack stack2 = new Stack(source.rows(), source.columns());
+    	
+    	int index = 0;
+    	
+    	for(Plate plate : source) {
+    		Plate copy = new Plate(plate);
+    		copy.setLabel("Window" + index++);
+    		stack1.add(copy);
+    	}
+    	
+    	stack2.add(new Plate(stack1.first()));
+    	
+		int begin = 1 + random.nextInt(stack1.first().first().size() - 1);
+		int end = begin + random.nextInt(stack1.first().first().size() - begin) + 1;
+    	
+    	Stack returned = addition.stacks(stack1, stack2, begin, end - begin);
+    	
+    	assertEquals(stack1.size(), returned.size());
+    	
+    	Iterator<Plate> iter = stack1.iterator();
+    	iter.next();
+    	
+    	while(iter.hasNext()) {
+    		
+    		Plate plate = iter.next();
+    		Plate windowed = returned.get(plate.label());
+    		
+    		assertEquals(plate.size(), windowed.size());
+    		
+    		for(Well well : plate) {
+    			assertEquals(well.subList(begin, end - begin).data(), windowed.getWells(well).data());
+    		}
+    	}
+    }
+    
     /**
      * Tests the strict addition of two stacks.
      */
@@ -4170,19 +4478,21 @@ public class AdditionTest {
 		
 		if(!strict) {
 			
-			for(Well well : excludedUneven1) {  
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-	    	for(Well well : excludedUneven2) {
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-			finalResult.add(excluded1);
-			finalResult.add(excluded2);
+			for(Well well : excluded1) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
 			
-		    finalResultUneven.add(excludedUneven1);
-		    finalResultUneven.add(excludedUneven2);
+			for(Well well : excluded2) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven1) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven2) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
 		}
 		
 		finalResultReturn[0] = finalResult;
@@ -4190,4 +4500,47 @@ public class AdditionTest {
 
 		return finalResultReturn;
     }
+    
+    /**
+     * Asserts the well sequences hold the same wells and values.
+     * @param    Iterable<Well>    the expected wells
+     * @param    Iterable<Well>    the returned wells
+     */
+    private void assertWells(Iterable<Well> expected, Iterable<Well> returned) {
+    	
+    	Iterator<Well> iter1 = expected.iterator();
+    	Iterator<Well> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		Well well1 = iter1.next();
+    		Well well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Adds the expected result for the well to the expected plates. Wells 
+     * without a value are only added to the standard plate.
+     * @param    Well          the well
+     * @param    BigInteger    the value or null
+     * @param    Plate         the expected plate
+     * @param    Plate         the expected strict plate
+     */
+    private void addExpected(Well well, BigInteger value, Plate expected, Plate expectedStrict) {
+    	
+    	if(value == null) {
+    		expected.addWells(well);
+    		return;
+    	}
+    	
+    	Well result = new Well(well.row(), well.column(), addition.wells(well, value));
+    	
+    	expected.addWells(result);
+    	expectedStrict.addWells(result);
+    }
 }
@@ -165,7 +165,7 @@ public class ComplimentTest {
 	}
 
 	/* ----------------------------- Well Methods --------------------------- */
-	
+
     /**
      * Tests the compliment well operation.
      */
@@ -265,6 +265,76 @@ public class ComplimentTest {
 		}
     }
     
+    /**
+     * Tests the compliment plate operation using dictionary encoded plates.
+     */
+    @Test
+    public void testPlatesDictionary() {
+
+        for(Plate[] plates : arrays) {
+			
+			for(Plate plate : plates) {
+
+				Plate dictionary = new Plate(plate);
+				dictionary.setStorage(Well.STORAGE_DICTIONARY);
+				
+				Plate resultPlate = compliment.plates(plate);
+				Plate returnedPlate = compliment.plates(dictionary);
+				
+				Iterator<Well> iter1 = resultPlate.iterator();
+				Iterator<Well> iter2 = returnedPlate.iterator();
+				
+				while(iter1.hasNext()) {
+					
+					Well well1 = iter1.next();
+					Well well2 = iter2.next();
+					
+					assertEquals(well1.data(), well2.data());
+					assertEquals(Well.STORAGE_DICTIONARY, well2.storage());
+				}
+				
+				assertEquals(resultPlate, returnedPlate);
+				assertEquals(Well.STORAGE_LIST, plate.first().storage());
+			}			
+		}
+    }
+    
+    /**
+     * Tests the parallel compliment plate operation returns the sequential 
+     * result for list and dictionary encoded plates.
+     */
+    @Test
+    public void testPlatesParallel() {
+
+    	Compliment parallel = new Compliment();
+    	parallel.setParallel(true);
+    	parallel.setThreshold(1);
+    	
+        for(Plate[] plates : arrays) {
+			
+			for(Plate plate : plates) {
+
+				Plate dictionary = new Plate(plate);
+				dictionary.setStorage(Well.STORAGE_DICTIONARY);
+				
+				Plate resultPlate = compliment.plates(plate);
+				Plate[] returned = new Plate[] { parallel.plates(plate), parallel.plates(dictionary) };
+				
+				for(Plate returnedPlate : returned) {
+					
+					Iterator<Well> iter1 = resultPlate.iterator();
+					Iterator<Well> iter2 = returnedPlate.iterator();
+					
+					while(iter1.hasNext()) {
+						assertEquals(iter1.next().data(), iter2.next().data());
+					}
+					
+					assertEquals(resultPlate, returnedPlate);
+				}
+			}			
+		}
+    }
+    
     /**
      * Tests the compliment plate operation using indices.
      */
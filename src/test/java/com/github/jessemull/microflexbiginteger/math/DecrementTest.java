@@ -28,6 +28,7 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -166,6 +167,32 @@ public class DecrementTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests the decrement of values near the limits of a long.
+     */
+	@Test
+    public void testLongOverflow() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		BigInteger[] values = new BigInteger[] { max, min, max.subtract(BigInteger.ONE), 
+				min.add(BigInteger.ONE), max.add(BigInteger.ONE), min.subtract(BigInteger.ONE),
+				BigInteger.valueOf(3037000499L), BigInteger.valueOf(-3037000500L), 
+				BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.ZERO };
+		
+		List<BigInteger> list = Arrays.asList(values);
+		List<BigInteger> result = new ArrayList<BigInteger>();
+		
+		for(BigInteger value : values) {
+			result.add(value.subtract(BigInteger.ONE));
+		}
+		
+		assertEquals(result, decrement.calculate(list));
+		assertEquals(result.subList(2, 6), decrement.calculate(list, 2, 4));
+    }
+    
     /**
      * Tests the decrement well operation.
      */
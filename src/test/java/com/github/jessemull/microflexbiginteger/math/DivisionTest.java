@@ -37,7 +37,9 @@ import java.util.Random;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.FixMethodOrder;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runners.MethodSorters;
 
 import com.github.jessemull.microflexbiginteger.math.Division;
@@ -60,6 +62,11 @@ public class DivisionTest {
 	
     /* ---------------------------- Local fields ---------------------------- */
 	
+	/* Rule for testing exceptions */
+	
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+	
     /* Minimum and maximum values for random well and lists */
 	
 	private static BigInteger minValue = new BigInteger(-100000 + "");   // Minimum big integer value for wells
@@ -227,6 +234,46 @@ public class DivisionTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests division by constants and arrays near the limits of a long.
+     */
+	@Test
+    public void testLongDivisors() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		List<BigInteger> list = new ArrayList<BigInteger>();
+		
+		for(BigInteger value : new BigInteger[] { max, min, max.add(BigInteger.ONE), 
+				min.subtract(BigInteger.ONE), min.add(BigInteger.ONE), BigInteger.ZERO, 
+				BigInteger.valueOf(-7), BigInteger.valueOf(-1024), BigInteger.valueOf(1023) }) {
+			list.add(value);
+		}
+		
+		BigInteger[] divisors = new BigInteger[] { BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.valueOf(2), BigInteger.valueOf(-8), BigInteger.valueOf(1 << 30), 
+				BigInteger.valueOf(3), BigInteger.valueOf(-1000), max, min, max.add(max) };
+		
+		for(BigInteger divisor : divisors) {
+			
+			List<BigInteger> result = new ArrayList<BigInteger>();
+			BigInteger[] array = new BigInteger[list.size()];
+			
+			for(int i = 0; i < list.size(); i++) {
+				result.add(list.get(i).divide(divisor));
+				array[i] = divisor;
+			}
+			
+			assertEquals(result, division.calculate(list, divisor));
+			assertEquals(result, division.calculate(list, array));
+			assertEquals(result, division.calculateStrict(list, array));
+		}
+		
+		thrown.expect(ArithmeticException.class);
+		division.calculate(list, BigInteger.ZERO);
+    }
+    
     /**
      * Tests the division of two wells.
      */
@@ -2849,34 +2896,37 @@ public class DivisionTest {
 	    	while(stackIter1.hasNext()) {
 	    		
 	    		Plate plate = stackIter1.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackIter2.hasNext()) {
 
 	    		Plate plate = stackIter2.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackUnevenIter.hasNext()) {
 	    		
 	    		Plate plate = stackUnevenIter.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStackUneven.add(plate);
+	    		resultStackUneven.add(window);
 	    	}
 	    	
 	    	Stack returned = division.stacks(stack1, stack2, begin, end - begin);
@@ -4213,19 +4263,21 @@ public class DivisionTest {
 		
 		if(!strict) {
 			
-			for(Well well : excludedUneven1) {  
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-	    	for(Well well : excludedUneven2) {
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-			finalResult.add(excluded1);
-			finalResult.add(excluded2);
+			for(Well well : excluded1) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
 			
-		    finalResultUneven.add(excludedUneven1);
-		    finalResultUneven.add(excludedUneven2);
+			for(Well well : excluded2) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven1) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven2) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
 		}
 		
 		finalResultReturn[0] = finalResult;
@@ -0,0 +1,261 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.math.Expression;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellSet;
+
+/**
+ * This class tests the lazy expression evaluation against the results of the
+ * individual operations.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ExpressionTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Operations and random values */
+
+	private static Addition addition = new Addition();
+	private static Subtraction subtraction = new Subtraction();
+	private static Multiplication multiplication = new Multiplication();
+	private static Division division = new Division();
+	private static GCD gcd = new GCD();
+	private static XOR xor = new XOR();
+	private static LeftShift leftShift = new LeftShift();
+	private static Increment increment = new Increment();
+	private static Compliment compliment = new Compliment();
+
+	private Random random = new Random();
+
+	/**
+	 * Tests strict evaluation of plates holding uneven wells.
+	 */
+	@Test
+	public void testPlatesStrict() {
+
+		for(int i = 0; i < 20; i++) {
+
+			Plate plate = this.randomPlate(20, 25, 1, 1000);
+			Plate blank = this.randomPlate(20, 25, 1, 1000);
+			Plate control = this.randomPlate(20, 25, 1, 1000);
+			BigInteger scale = BigInteger.valueOf(1 + random.nextInt(1000));
+
+			Plate expected = subtraction.platesStrict(plate, blank);
+			expected = multiplication.plates(expected, scale);
+			expected = division.platesStrict(expected, control);
+			expected = leftShift.plates(expected, 3);
+			expected = compliment.plates(expected);
+
+			Plate returned = Expression.of(plate)
+					                   .subtract(Expression.of(blank))
+					                   .multiply(scale)
+					                   .divide(Expression.of(control))
+					                   .leftShift(3)
+					                   .compliment()
+					                   .platesStrict();
+
+			this.assertPlates(expected, returned);
+		}
+	}
+
+	/**
+	 * Tests standard evaluation of plates holding uneven wells against the
+	 * standard methods of the operations.
+	 */
+	@Test
+	public void testPlatesUneven() {
+
+		for(int i = 0; i < 20; i++) {
+
+			Plate plate = this.randomPlate(1, 25, 1001, 2000);
+			Plate blank = this.randomPlate(1, 25, 1, 1000);
+			Plate control = this.randomPlate(1, 25, 1, 1000);
+			BigInteger scale = BigInteger.valueOf(1 + random.nextInt(1000));
+
+			Plate expected = subtraction.plates(plate, blank);
+			expected = multiplication.plates(expected, scale);
+			expected = division.plates(expected, control);
+			expected = compliment.plates(expected);
+			expected = gcd.plates(expected, blank);
+
+			Plate returned = Expression.of(plate)
+					                   .subtract(Expression.of(blank))
+					                   .multiply(scale)
+					                   .divide(Expression.of(control))
+					                   .compliment()
+					                   .apply(gcd, Expression.of(blank))
+					                   .plates();
+
+			this.assertPlates(expected, returned);
+		}
+	}
+
+	/**
+	 * Tests standard evaluation of plates with missing wells.
+	 */
+	@Test
+	public void testPlates() {
+
+		for(int i = 0; i < 20; i++) {
+
+			Plate plate1 = this.randomPlate(20, 20, -1000, 1000);
+			Plate plate2 = this.randomPlate(20, 20, -1000, 1000);
+
+			Plate expected = addition.plates(plate1, plate2);
+			expected = increment.plates(expected);
+			expected = xor.plates(expected, plate1);
+
+			Expression first = Expression.of(plate1);
+
+			Plate returned = first.add(Expression.of(plate2))
+					              .increment()
+					              .xor(first)
+					              .plates();
+
+			this.assertPlates(expected, returned);
+
+			WellSet set = first.add(Expression.of(plate2.dataSet())).increment().xor(first).sets();
+
+			assertEquals(expected.dataSet(), set);
+		}
+	}
+
+	/**
+	 * Tests evaluation of a stack combined with a plate.
+	 */
+	@Test
+	public void testStacks() {
+
+		Stack stack = new Stack(Plate.ROWS_96WELL, Plate.COLUMNS_96WELL);
+
+		for(int i = 0; i < 5; i++) {
+			stack.add(this.randomPlate(10, 10, -1000, 1000));
+		}
+
+		Plate plate = this.randomPlate(10, 10, -1000, 1000);
+
+		Stack expected = new Stack(Plate.ROWS_96WELL, Plate.COLUMNS_96WELL);
+
+		for(Plate next : stack) {
+			expected.add(multiplication.plates(addition.plates(next, plate), BigInteger.TEN));
+		}
+
+		Stack returned = Expression.of(stack).add(Expression.of(plate)).multiply(BigInteger.TEN).stacks();
+
+		assertEquals(expected.size(), returned.size());
+
+		Iterator<Plate> iter1 = expected.iterator();
+		Iterator<Plate> iter2 = returned.iterator();
+
+		while(iter1.hasNext()) {
+			this.assertPlates(iter1.next(), iter2.next());
+		}
+	}
+
+	/**
+	 * Tests plates cannot be evaluated from an expression holding a stack.
+	 */
+	@Test
+	public void testStackException() {
+		Stack stack = new Stack(this.randomPlate(10, 10, 0, 10));
+		thrown.expect(IllegalStateException.class);
+		Expression.of(stack).increment().plates();
+	}
+
+	/**
+	 * Asserts the plates hold the same wells and values.
+	 * @param    Plate    the expected plate
+	 * @param    Plate    the returned plate
+	 */
+	private void assertPlates(Plate expected, Plate returned) {
+
+		assertEquals(expected.size(), returned.size());
+
+		Iterator<Well> iter1 = expected.iterator();
+		Iterator<Well> iter2 = returned.iterator();
+
+		while(iter1.hasNext()) {
+
+			Well well1 = iter1.next();
+			Well well2 = iter2.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+	}
+
+	/**
+	 * Returns a 96 well plate holding a random subset of wells of random length.
+	 * @param    int    minimum well length
+	 * @param    int    maximum well length
+	 * @param    int    minimum value
+	 * @param    int    maximum value
+	 * @return          the plate
+	 */
+	private Plate randomPlate(int minLength, int maxLength, int min, int max) {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int row = 0; row < Plate.ROWS_96WELL; row++) {
+			for(int column = 1; column <= Plate.COLUMNS_96WELL; column++) {
+
+				if(random.nextInt(4) == 0) {
+					continue;
+				}
+
+				Well well = new Well(row, column);
+				int length = minLength + random.nextInt(maxLength - minLength + 1);
+
+				for(int i = 0; i < length; i++) {
+					well.add(BigInteger.valueOf(min + random.nextInt(max - min + 1)));
+				}
+
+				plate.addWells(well);
+			}
+		}
+
+		return plate;
+	}
+}
@@ -0,0 +1,274 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.jessemull.microflexbiginteger.math.GCD;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This class tests the greatest common divisor operation against 
+ * BigInteger.gcd() for values inside and outside the range of a long.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class GCDTest {
+
+	/* Operation and random values */
+
+	private static GCD gcd = new GCD();
+
+	private Random random = new Random();
+
+	/* Values at the boundaries of a long */
+
+	private BigInteger[] boundaries = new BigInteger[] { BigInteger.ZERO, BigInteger.ONE, BigInteger.ONE.negate(),
+			BigInteger.valueOf(Long.MAX_VALUE), BigInteger.valueOf(Long.MIN_VALUE), 
+			BigInteger.valueOf(Long.MIN_VALUE).negate(), BigInteger.valueOf(Long.MIN_VALUE / 2),
+			BigInteger.ONE.shiftLeft(100).multiply(BigInteger.valueOf(3)) };
+
+	/**
+	 * Tests the list operations.
+	 */
+	@Test
+	public void testLists() {
+
+		List<BigInteger> list1 = this.randomList(100);
+		List<BigInteger> list2 = this.randomList(100);
+
+		for(BigInteger a : boundaries) {
+			for(BigInteger b : boundaries) {
+				list1.add(a);
+				list2.add(b);
+			}
+		}
+
+		List<BigInteger> expected = new ArrayList<BigInteger>();
+
+		for(int i = 0; i < list1.size(); i++) {
+			expected.add(list1.get(i).gcd(list2.get(i)));
+		}
+
+		assertEquals(expected, gcd.calculate(list1, list2));
+		assertEquals(expected, gcd.calculateStrict(list1, list2));
+		assertEquals(expected, gcd.calculate(list1, list2.toArray(new BigInteger[list2.size()])));
+		assertEquals(expected, gcd.calculateStrict(list1, (Collection<BigInteger>) list2));
+		assertEquals(expected.subList(10, 30), gcd.calculate(list1, list2, 10, 20));
+
+		for(BigInteger constant : boundaries) {
+
+			List<BigInteger> result = new ArrayList<BigInteger>();
+
+			for(BigInteger value : list1) {
+				result.add(value.gcd(constant));
+			}
+
+			assertEquals(result, gcd.calculate(list1, constant));
+		}
+	}
+
+	/**
+	 * Tests values without a matching value are the greatest common divisor of
+	 * the value and zero.
+	 */
+	@Test
+	public void testUnevenLists() {
+
+		List<BigInteger> list1 = this.values(4, -6);
+		List<BigInteger> list2 = this.values(6);
+
+		assertEquals(this.values(2, 6), gcd.calculate(list1, list2));
+		assertEquals(this.values(2, 6), gcd.calculate(list2, list1));
+		assertEquals(this.values(6), gcd.calculate(list1, list2, 1, 1));
+		assertEquals(this.values(2, 6), gcd.calculate(list1, list2.toArray(new BigInteger[1])));
+		assertEquals(this.values(2, 6), gcd.calculate(list1, (Collection<BigInteger>) list2));
+		assertEquals(this.values(2, 6), gcd.calculate(list2, (Collection<BigInteger>) list1));
+
+		Plate plate1 = new Plate(Plate.PLATE_96WELL);
+		Plate plate2 = new Plate(Plate.PLATE_96WELL);
+
+		plate1.addWells(new Well(0, 1, list1));
+		plate2.addWells(new Well(0, 1, list2));
+		plate2.addWells(new Well(0, 2, this.values(-9)));
+
+		Plate expected = gcd.plates(plate1, plate2);
+
+		assertEquals(this.values(2, 6), new ArrayList<BigInteger>(expected.getWells("A1").data()));
+		this.assertPlates(expected, gcd.matrices(new PlateMatrix(plate1), new PlateMatrix(plate2)).toPlate());
+	}
+
+	/**
+	 * Tests the values between the indices of a list longer than the collection.
+	 */
+	@Test
+	public void testRangedCollection() {
+
+		List<BigInteger> list = this.values(4, -6, 8, -10, 12, 14, 16, 18, 20, 22);
+		Collection<BigInteger> collection = this.values(6, 9);
+
+		assertEquals(this.values(2, 3, 8), gcd.calculate(list, collection, 0, 3));
+		assertEquals(this.values(3, 8, 10), gcd.calculate(list, collection, 1, 3));
+	}
+
+	/**
+	 * Tests plates, stacks and plate matrices.
+	 */
+	@Test
+	public void testPlates() {
+
+		Plate plate1 = this.randomPlate();
+		Plate plate2 = this.randomPlate();
+		BigInteger constant = BigInteger.valueOf(random.nextInt(1 << 16)).shiftLeft(random.nextInt(70));
+
+		Plate expected = new Plate(plate1.rows(), plate1.columns());
+
+		for(Well well : plate1) {
+
+			Well result = new Well(well.row(), well.column());
+
+			for(BigInteger value : well) {
+				result.add(value.gcd(constant));
+			}
+
+			expected.addWells(result);
+		}
+
+		this.assertPlates(expected, gcd.plates(plate1, constant));
+		this.assertPlates(expected, gcd.matrices(new PlateMatrix(plate1), constant).toPlate());
+		this.assertPlates(gcd.plates(plate1, plate2), 
+				gcd.matrices(new PlateMatrix(plate1), new PlateMatrix(plate2)).toPlate());
+		this.assertPlates(gcd.platesStrict(plate1, plate2), 
+				gcd.matricesStrict(new PlateMatrix(plate1), new PlateMatrix(plate2)).toPlate());
+
+		GCD parallel = new GCD();
+		parallel.setParallel(true);
+		parallel.setThreshold(2);
+
+		this.assertPlates(expected, parallel.stacks(new Stack(plate1), constant).first());
+		this.assertPlates(gcd.platesStrict(plate1, plate2), 
+				parallel.stacksStrict(new Stack(plate1), new Stack(plate2)).first());
+	}
+
+	/**
+	 * Asserts the plates hold the same wells and values.
+	 * @param    Plate    the expected plate
+	 * @param    Plate    the returned plate
+	 */
+	private void assertPlates(Plate expected, Plate returned) {
+
+		assertEquals(expected.size(), returned.size());
+
+		Iterator<Well> iter1 = expected.iterator();
+		Iterator<Well> iter2 = returned.iterator();
+
+		while(iter1.hasNext()) {
+
+			Well well1 = iter1.next();
+			Well well2 = iter2.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+	}
+
+	/**
+	 * Returns a list holding the values.
+	 * @param    long[]    the values
+	 * @return             the list
+	 */
+	private List<BigInteger> values(long... values) {
+
+		List<BigInteger> list = new ArrayList<BigInteger>();
+
+		for(long value : values) {
+			list.add(BigInteger.valueOf(value));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns a list of random values inside and outside the range of a long.
+	 * @param    int    the length of the list
+	 * @return          the list
+	 */
+	private List<BigInteger> randomList(int length) {
+
+		List<BigInteger> list = new ArrayList<BigInteger>();
+
+		for(int i = 0; i < length; i++) {
+			BigInteger value = new BigInteger(1 + random.nextInt(i % 2 == 0 ? 62 : 120), random);
+			list.add(random.nextBoolean() ? value : value.negate());
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns a 96 well plate holding a random subset of wells of uneven length.
+	 * @return    the plate
+	 */
+	private Plate randomPlate() {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int row = 0; row < Plate.ROWS_96WELL; row++) {
+			for(int column = 1; column <= Plate.COLUMNS_96WELL; column++) {
+
+				if(random.nextInt(4) == 0) {
+					continue;
+				}
+
+				Well well = new Well(row, column);
+				int length = 1 + random.nextInt(10);
+
+				for(int i = 0; i < length; i++) {
+					BigInteger value = new BigInteger(1 + random.nextInt(random.nextBoolean() ? 30 : 100), random);
+					well.add(random.nextBoolean() ? value : value.negate());
+				}
+
+				plate.addWells(well);
+			}
+		}
+
+		return plate;
+	}
+}
@@ -28,6 +28,7 @@ import java.io.OutputStream;
 import java.io.PrintStream;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -166,6 +167,32 @@ public class IncrementTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests the increment of values near the limits of a long.
+     */
+	@Test
+    public void testLongOverflow() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		BigInteger[] values = new BigInteger[] { max, min, max.subtract(BigInteger.ONE), 
+				min.add(BigInteger.ONE), max.add(BigInteger.ONE), min.subtract(BigInteger.ONE),
+				BigInteger.valueOf(3037000499L), BigInteger.valueOf(-3037000500L), 
+				BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.ZERO };
+		
+		List<BigInteger> list = Arrays.asList(values);
+		List<BigInteger> result = new ArrayList<BigInteger>();
+		
+		for(BigInteger value : values) {
+			result.add(value.add(BigInteger.ONE));
+		}
+		
+		assertEquals(result, increment.calculate(list));
+		assertEquals(result.subList(2, 6), increment.calculate(list, 2, 4));
+    }
+    
     /**
      * Tests the increment well operation.
      */
@@ -265,6 +292,45 @@ public class IncrementTest {
 		}
     }
     
+    /**
+     * Tests the in place increment operation.
+     */
+    @Test
+    public void testInPlace() {
+
+        for(Plate[] plates : arrays) {
+			
+			for(Plate plate : plates) {
+				
+				Plate expected = increment.plates(plate);
+				
+				Plate returned = new Plate(plate);
+				increment.platesInPlace(returned);
+				
+				WellSet returnedSet = new Plate(plate).dataSet();
+				increment.setsInPlace(returnedSet);
+				
+				this.assertWells(expected, returned);
+				this.assertWells(expected, returnedSet);
+			}
+        }
+        
+        for(Stack stack : stacks) {
+        	
+        	Stack expected = increment.stacks(stack);
+        	
+        	Stack returned = new Stack(stack);
+        	increment.stacksInPlace(returned);
+        	
+        	Iterator<Plate> iter1 = expected.iterator();
+        	Iterator<Plate> iter2 = returned.iterator();
+        	
+        	while(iter1.hasNext()) {
+        		this.assertWells(iter1.next(), iter2.next());
+        	}
+        }
+    }
+    
     /**
      * Tests the increment plate operation using indices.
      */
@@ -522,4 +588,26 @@ public class IncrementTest {
 		    }
         }
     } 
+    
+    /**
+     * Asserts the well sequences hold the same wells and values.
+     * @param    Iterable<Well>    the expected wells
+     * @param    Iterable<Well>    the returned wells
+     */
+    private void assertWells(Iterable<Well> expected, Iterable<Well> returned) {
+    	
+    	Iterator<Well> iter1 = expected.iterator();
+    	Iterator<Well> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		Well well1 = iter1.next();
+    		Well well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
 }
@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * This class tests the long word implementations of the bitwise operations
+ * using values inside and outside the range of a long. The expected values are
+ * calculated using the single value implementations, which use the big integer
+ * operations.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class LongWordsTest {
+
+	/* Values at and beyond the limits of a long */
+
+	private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+	private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+
+	private static final BigInteger[] VALUES = new BigInteger[] { MAX, MIN,
+			MAX.add(BigInteger.ONE), MIN.subtract(BigInteger.ONE), BigInteger.ONE.shiftLeft(64),
+			BigInteger.ONE.shiftLeft(100).negate(), BigInteger.valueOf(0xF0F0F0F0F0F0L),
+			BigInteger.ONE, BigInteger.ONE.negate(), BigInteger.ZERO };
+
+	/**
+	 * Tests the logical AND of values inside and outside the range of a long.
+	 */
+	@Test
+	public void testAND() {
+		this.assertBinary(new AND());
+	}
+
+	/**
+	 * Tests the logical OR of values inside and outside the range of a long.
+	 */
+	@Test
+	public void testOR() {
+		this.assertBinary(new OR());
+	}
+
+	/**
+	 * Tests the logical XOR of values inside and outside the range of a long.
+	 */
+	@Test
+	public void testXOR() {
+		this.assertBinary(new XOR());
+	}
+
+	/**
+	 * Tests the compliment of values inside and outside the range of a long.
+	 */
+	@Test
+	public void testCompliment() {
+
+		Compliment compliment = new Compliment();
+
+		List<BigInteger> list = Arrays.asList(VALUES);
+		List<BigInteger> result = new ArrayList<BigInteger>();
+
+		for(BigInteger value : VALUES) {
+			result.add(compliment.calculate(value));
+		}
+
+		assertEquals(result, compliment.calculate(list));
+		assertEquals(result.subList(2, 6), compliment.calculate(list, 2, 4));
+	}
+
+	/**
+	 * Asserts the list and constant results of the operation for every pair of
+	 * values match the single value results.
+	 * @param    MathOperationBinary    the operation
+	 */
+	private void assertBinary(MathOperationBinary operation) {
+
+		List<BigInteger> list1 = new ArrayList<BigInteger>();
+		List<BigInteger> list2 = new ArrayList<BigInteger>();
+		List<BigInteger> result = new ArrayList<BigInteger>();
+
+		for(BigInteger value1 : VALUES) {
+			for(BigInteger value2 : VALUES) {
+				list1.add(value1);
+				list2.add(value2);
+				result.add(operation.calculate(value1, value2));
+			}
+		}
+
+		assertEquals(result, operation.calculate(list1, list2));
+		assertEquals(result, operation.calculateStrict(list1, list2));
+
+		for(BigInteger value : VALUES) {
+
+			List<BigInteger> constantResult = new ArrayList<BigInteger>();
+
+			for(BigInteger next : list1) {
+				constantResult.add(operation.calculate(next, value));
+			}
+
+			assertEquals(constantResult, operation.calculate(list1, value));
+		}
+	}
+
+}
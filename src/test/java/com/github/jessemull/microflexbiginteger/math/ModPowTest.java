@@ -0,0 +1,308 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.math.ModPow;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This class tests the modular exponentiation operation against 
+ * BigInteger.modPow() for primitive and big integer moduli.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ModPowTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Moduli below and above 2^31 */
+
+	private BigInteger[] moduli = new BigInteger[] { BigInteger.ONE, BigInteger.valueOf(2), 
+			BigInteger.valueOf(97), BigInteger.valueOf(1000000), BigInteger.valueOf(Integer.MAX_VALUE), 
+			BigInteger.valueOf(Integer.MAX_VALUE).add(BigInteger.ONE), BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE) };
+
+	private Random random = new Random();
+
+	/**
+	 * Tests the list operations using shared and changing exponents.
+	 */
+	@Test
+	public void testLists() {
+
+		BigInteger[] exponents = new BigInteger[] { BigInteger.ZERO, BigInteger.ONE, BigInteger.valueOf(2),
+				BigInteger.valueOf(65537), BigInteger.valueOf(Long.MAX_VALUE), new BigInteger(300, random) };
+
+		for(BigInteger modulus : moduli) {
+
+			ModPow modPow = new ModPow(modulus);
+			List<BigInteger> list = this.randomList(50);
+
+			for(BigInteger exponent : exponents) {
+
+				List<BigInteger> expected = new ArrayList<BigInteger>();
+
+				for(BigInteger value : list) {
+					expected.add(value.modPow(exponent, modulus));
+				}
+
+				assertEquals(expected, modPow.calculate(list, exponent));
+			}
+
+			List<BigInteger> powers = new ArrayList<BigInteger>();
+			List<BigInteger> expected = new ArrayList<BigInteger>();
+
+			for(BigInteger value : list) {
+				BigInteger exponent = random.nextBoolean() ? new BigInteger(100, random) : BigInteger.valueOf(random.nextInt(100));
+				powers.add(exponent);
+				expected.add(value.modPow(exponent, modulus));
+			}
+
+			assertEquals(expected, modPow.calculateStrict(list, powers));
+			assertEquals(expected, modPow.calculate(list, powers.toArray(new BigInteger[powers.size()])));
+			assertEquals(expected, modPow.calculateStrict(list, (Collection<BigInteger>) powers));
+		}
+	}
+
+	/**
+	 * Tests the values in the first list are always the bases and values 
+	 * without a matching value are reduced modulo the modulus.
+	 */
+	@Test
+	public void testUnevenLists() {
+
+		ModPow modPow = new ModPow(BigInteger.valueOf(1000));
+
+		List<BigInteger> bases = this.values(2, 3, 12345);
+		List<BigInteger> exponents = this.values(10, 5);
+
+		assertEquals(this.values(24, 243, 345), modPow.calculate(bases, exponents));
+		assertEquals(this.values(24, 243), modPow.calculateStrict(bases, exponents));
+		assertEquals(this.values(243, 345), modPow.calculate(bases, exponents, 1, 2));
+		assertEquals(this.values(24, 243, 345), modPow.calculate(bases, exponents.toArray(new BigInteger[2])));
+		assertEquals(this.values(24, 243, 345), modPow.calculate(bases, (Collection<BigInteger>) exponents));
+
+		List<BigInteger> longer = this.values(10, 5, -7);
+
+		assertEquals(this.values(24, 243, 993), modPow.calculate(this.values(2, 3), longer));
+	}
+
+	/**
+	 * Tests the values between the indices of a list longer than the collection.
+	 */
+	@Test
+	public void testRangedCollection() {
+
+		ModPow modPow = new ModPow(BigInteger.valueOf(97));
+
+		List<BigInteger> list = this.values(2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+		Collection<BigInteger> collection = this.values(2, 2);
+
+		assertEquals(this.values(4, 9, 4), modPow.calculate(list, collection, 0, 3));
+		assertEquals(this.values(9, 4, 5, 6), modPow.calculate(list, collection, 1, 4));
+		assertEquals(this.values(96, 2), modPow.calculate(this.values(-1), this.values(1, 2, 99), 0, 2));
+	}
+
+	/**
+	 * Tests plate matrices match plates holding wells of uneven length.
+	 */
+	@Test
+	public void testUnevenPlates() {
+
+		ModPow modPow = new ModPow(BigInteger.valueOf(1000));
+
+		Plate plate1 = new Plate(Plate.PLATE_96WELL);
+		Plate plate2 = new Plate(Plate.PLATE_96WELL);
+
+		plate1.addWells(new Well(0, 1, this.values(2, 3, 12345)));
+		plate2.addWells(new Well(0, 1, this.values(10, 5)));
+		plate1.addWells(new Well(0, 2, this.values(2)));
+		plate2.addWells(new Well(0, 2, this.values(10, -1234)));
+
+		Plate result = modPow.plates(plate1, plate2);
+
+		assertEquals(this.values(24, 243, 345), new ArrayList<BigInteger>(result.getWells("A1").data()));
+		assertEquals(this.values(24, 766), new ArrayList<BigInteger>(result.getWells("A2").data()));
+
+		this.assertPlates(result, modPow.matrices(new PlateMatrix(plate1), new PlateMatrix(plate2)).toPlate());
+	}
+
+	/**
+	 * Tests plates, stacks and plate matrices using a constant exponent.
+	 */
+	@Test
+	public void testPlates() {
+
+		for(BigInteger modulus : moduli) {
+
+			ModPow modPow = new ModPow(modulus);
+			Plate plate = this.randomPlate();
+			Plate exponents = this.randomPlate();
+			BigInteger constant = BigInteger.valueOf(random.nextInt(1 << 20));
+
+			Plate expected = new Plate(plate.rows(), plate.columns());
+
+			for(Well well : plate) {
+
+				Well result = new Well(well.row(), well.column());
+
+				for(BigInteger value : well) {
+					result.add(value.modPow(constant, modulus));
+				}
+
+				expected.addWells(result);
+			}
+
+			this.assertPlates(expected, modPow.plates(plate, constant));
+			this.assertPlates(expected, modPow.matrices(new PlateMatrix(plate), constant).toPlate());
+
+			this.assertPlates(modPow.platesStrict(plate, exponents), 
+					modPow.matricesStrict(new PlateMatrix(plate), new PlateMatrix(exponents)).toPlate());
+
+			Stack stack = new Stack(plate);
+			modPow.setParallel(true);
+			modPow.setThreshold(2);
+
+			this.assertPlates(expected, modPow.stacks(stack, constant).first());
+			this.assertPlates(modPow.platesStrict(plate, exponents), 
+					modPow.stacksStrict(stack, new Stack(exponents)).first());
+		}
+	}
+
+	/**
+	 * Tests the modulus must be positive.
+	 */
+	@Test
+	public void testModulus() {
+		thrown.expect(ArithmeticException.class);
+		new ModPow(BigInteger.ZERO);
+	}
+
+	/**
+	 * Asserts the plates hold the same wells and values.
+	 * @param    Plate    the expected plate
+	 * @param    Plate    the returned plate
+	 */
+	private void assertPlates(Plate expected, Plate returned) {
+
+		assertEquals(expected.size(), returned.size());
+
+		Iterator<Well> iter1 = expected.iterator();
+		Iterator<Well> iter2 = returned.iterator();
+
+		while(iter1.hasNext()) {
+
+			Well well1 = iter1.next();
+			Well well2 = iter2.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+	}
+
+	/**
+	 * Returns a list holding the values.
+	 * @param    long[]    the values
+	 * @return             the list
+	 */
+	private List<BigInteger> values(long... values) {
+
+		List<BigInteger> list = new ArrayList<BigInteger>();
+
+		for(long value : values) {
+			list.add(BigInteger.valueOf(value));
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns a list of random values inside and outside the range of a long.
+	 * @param    int    the length of the list
+	 * @return          the list
+	 */
+	private List<BigInteger> randomList(int length) {
+
+		List<BigInteger> list = new ArrayList<BigInteger>();
+
+		for(int i = 0; i < length; i++) {
+			BigInteger value = new BigInteger(1 + random.nextInt(i % 2 == 0 ? 62 : 120), random);
+			list.add(random.nextBoolean() ? value : value.negate());
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns a 96 well plate holding non-negative values in a random subset of
+	 * wells of uneven length.
+	 * @return    the plate
+	 */
+	private Plate randomPlate() {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int row = 0; row < Plate.ROWS_96WELL; row++) {
+			for(int column = 1; column <= Plate.COLUMNS_96WELL; column++) {
+
+				if(random.nextInt(4) == 0) {
+					continue;
+				}
+
+				Well well = new Well(row, column);
+				int length = 1 + random.nextInt(10);
+
+				for(int i = 0; i < length; i++) {
+					well.add(new BigInteger(1 + random.nextInt(random.nextBoolean() ? 30 : 100), random));
+				}
+
+				plate.addWells(well);
+			}
+		}
+
+		return plate;
+	}
+}
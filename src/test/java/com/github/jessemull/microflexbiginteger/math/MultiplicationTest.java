@@ -184,6 +184,48 @@ public class MultiplicationTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests the multiplication of values near the limits of a long.
+     */
+	@Test
+    public void testLongOverflow() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		BigInteger[] values = new BigInteger[] { max, min, max.subtract(BigInteger.ONE), 
+				min.add(BigInteger.ONE), max.add(BigInteger.ONE), min.subtract(BigInteger.ONE),
+				BigInteger.valueOf(3037000499L), BigInteger.valueOf(-3037000500L), 
+				BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.ZERO };
+		
+		List<BigInteger> list1 = new ArrayList<BigInteger>();
+		List<BigInteger> list2 = new ArrayList<BigInteger>();
+		List<BigInteger> result = new ArrayList<BigInteger>();
+		
+		for(BigInteger value1 : values) {
+			for(BigInteger value2 : values) {
+				list1.add(value1);
+				list2.add(value2);
+				result.add(value1.multiply(value2));
+			}
+		}
+		
+		assertEquals(result, multiplication.calculate(list1, list2));
+		assertEquals(result, multiplication.calculateStrict(list1, list2));
+		
+		for(BigInteger value : values) {
+			
+			List<BigInteger> constantResult = new ArrayList<BigInteger>();
+			
+			for(BigInteger next : list1) {
+				constantResult.add(next.multiply(value));
+			}
+			
+			assertEquals(constantResult, multiplication.calculate(list1, value));
+		}
+    }
+    
     /**
      * Tests the multiplication of two wells.
      */
@@ -2806,34 +2848,37 @@ public class MultiplicationTest {
 	    	while(stackIter1.hasNext()) {
 	    		
 	    		Plate plate = stackIter1.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackIter2.hasNext()) {
 
 	    		Plate plate = stackIter2.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackUnevenIter.hasNext()) {
 	    		
 	    		Plate plate = stackUnevenIter.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStackUneven.add(plate);
+	    		resultStackUneven.add(window);
 	    	}
 	    	
 	    	Stack returned = multiplication.stacks(stack1, stack2, begin, end - begin);
@@ -4170,19 +4215,21 @@ public class MultiplicationTest {
 		
 		if(!strict) {
 			
-			for(Well well : excludedUneven1) {  
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-	    	for(Well well : excludedUneven2) {
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-			finalResult.add(excluded1);
-			finalResult.add(excluded2);
+			for(Well well : excluded1) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
 			
-		    finalResultUneven.add(excludedUneven1);
-		    finalResultUneven.add(excludedUneven2);
+			for(Well well : excluded2) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven1) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven2) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
 		}
 		
 		finalResultReturn[0] = finalResult;
@@ -0,0 +1,185 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.math;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.github.jessemull.microflexbiginteger.math.Pow;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This class tests the power operation against BigInteger.pow() for values
+ * whose powers fall inside and outside the range of a long.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PowTest {
+
+	/* Operation and random values */
+
+	private static Pow pow = new Pow();
+
+	private Random random = new Random();
+
+	/**
+	 * Tests the list operations for exponents from zero to 70.
+	 */
+	@Test
+	public void testLists() {
+
+		List<BigInteger> list = this.randomList(100);
+
+		for(long value : new long[] { 0, 1, -1, 2, -2, 3, -3, 3037000499L, 3037000500L, 
+				-3037000500L, 2097151, 2097152, Long.MAX_VALUE, Long.MIN_VALUE }) {
+			list.add(BigInteger.valueOf(value));
+		}
+
+		for(int n = 0; n <= 70; n++) {
+
+			List<BigInteger> expected = new ArrayList<BigInteger>();
+
+			for(BigInteger value : list) {
+				expected.add(value.pow(n));
+			}
+
+			assertEquals(expected, pow.calculate(list, n));
+			assertEquals(expected.subList(20, 60), pow.calculate(list, n, 20, 40));
+		}
+	}
+
+	/**
+	 * Tests plates and stacks.
+	 */
+	@Test
+	public void testPlates() {
+
+		Plate plate = this.randomPlate();
+		int n = random.nextInt(8);
+
+		Plate expected = new Plate(plate.rows(), plate.columns());
+
+		for(Well well : plate) {
+
+			Well result = new Well(well.row(), well.column());
+
+			for(BigInteger value : well) {
+				result.add(value.pow(n));
+			}
+
+			expected.addWells(result);
+		}
+
+		this.assertPlates(expected, pow.plates(plate, n));
+
+		Pow parallel = new Pow();
+		parallel.setParallel(true);
+		parallel.setThreshold(2);
+
+		this.assertPlates(expected, parallel.plates(plate, n));
+		this.assertPlates(expected, parallel.stacks(new Stack(plate), n).first());
+	}
+
+	/**
+	 * Asserts the plates hold the same wells and values.
+	 * @param    Plate    the expected plate
+	 * @param    Plate    the returned plate
+	 */
+	private void assertPlates(Plate expected, Plate returned) {
+
+		assertEquals(expected.size(), returned.size());
+
+		Iterator<Well> iter1 = expected.iterator();
+		Iterator<Well> iter2 = returned.iterator();
+
+		while(iter1.hasNext()) {
+
+			Well well1 = iter1.next();
+			Well well2 = iter2.next();
+
+			assertEquals(well1, well2);
+			assertEquals(well1.data(), well2.data());
+		}
+	}
+
+	/**
+	 * Returns a list of random values inside and outside the range of a long.
+	 * @param    int    the length of the list
+	 * @return          the list
+	 */
+	private List<BigInteger> randomList(int length) {
+
+		List<BigInteger> list = new ArrayList<BigInteger>();
+
+		for(int i = 0; i < length; i++) {
+			BigInteger value = new BigInteger(1 + random.nextInt(i % 2 == 0 ? 62 : 120), random);
+			list.add(random.nextBoolean() ? value : value.negate());
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns a 96 well plate holding a random subset of wells of uneven length.
+	 * @return    the plate
+	 */
+	private Plate randomPlate() {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int row = 0; row < Plate.ROWS_96WELL; row++) {
+			for(int column = 1; column <= Plate.COLUMNS_96WELL; column++) {
+
+				if(random.nextInt(4) == 0) {
+					continue;
+				}
+
+				Well well = new Well(row, column);
+				int length = 1 + random.nextInt(10);
+
+				for(int i = 0; i < length; i++) {
+					BigInteger value = new BigInteger(1 + random.nextInt(random.nextBoolean() ? 30 : 100), random);
+					well.add(random.nextBoolean() ? value : value.negate());
+				}
+
+				plate.addWells(well);
+			}
+		}
+
+		return plate;
+	}
+}
@@ -184,6 +184,48 @@ public class SubtractionTest {
 
 	/* ----------------------------- Well Methods --------------------------- */
 	
+    /**
+     * Tests the subtraction of values near the limits of a long.
+     */
+	@Test
+    public void testLongOverflow() {
+		
+		BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+		BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+		
+		BigInteger[] values = new BigInteger[] { max, min, max.subtract(BigInteger.ONE), 
+				min.add(BigInteger.ONE), max.add(BigInteger.ONE), min.subtract(BigInteger.ONE),
+				BigInteger.valueOf(3037000499L), BigInteger.valueOf(-3037000500L), 
+				BigInteger.valueOf(Integer.MAX_VALUE), BigInteger.ONE, BigInteger.ONE.negate(), 
+				BigInteger.ZERO };
+		
+		List<BigInteger> list1 = new ArrayList<BigInteger>();
+		List<BigInteger> list2 = new ArrayList<BigInteger>();
+		List<BigInteger> result = new ArrayList<BigInteger>();
+		
+		for(BigInteger value1 : values) {
+			for(BigInteger value2 : values) {
+				list1.add(value1);
+				list2.add(value2);
+				result.add(value1.subtract(value2));
+			}
+		}
+		
+		assertEquals(result, subtraction.calculate(list1, list2));
+		assertEquals(result, subtraction.calculateStrict(list1, list2));
+		
+		for(BigInteger value : values) {
+			
+			List<BigInteger> constantResult = new ArrayList<BigInteger>();
+			
+			for(BigInteger next : list1) {
+				constantResult.add(next.subtract(value));
+			}
+			
+			assertEquals(constantResult, subtraction.calculate(list1, value));
+		}
+    }
+    
     /**
      * Tests the subtraction of two wells.
      */
@@ -742,6 +784,92 @@ public class SubtractionTest {
     
     /* ---------------------------- Plate Methods --------------------------- */
     
+    /**
+     * Tests the in place subtraction of two plates with missing wells.
+     */
+    @Test
+    public void testPlatesInPlace() {
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		Plate[] plates1 = arrays1.get(k);
+    		Plate[] unevenPlates = uneven.get(k);
+    		
+    		for(int i = 0; i < plates1.length; i++) {
+    			
+    			Plate plate1 = new Plate(plates1[i]);
+    			Plate plate2 = new Plate(unevenPlates[i]);
+    			
+    			Iterator<Well> iter = plate2.iterator();
+    			plate1.removeWells(iter.next());
+    			plate2.removeWells(iter.next());
+    			
+    			Plate expected = subtraction.plates(plate1, plate2);
+    			Plate expectedStrict = subtraction.platesStrict(plate1, plate2);
+    			BigInteger constant = BigInteger.valueOf(random.nextInt(1000));
+    			Plate expectedConstant = subtraction.plates(plate1, constant);
+    			
+    			Plate returned = new Plate(plate1);
+    			Plate returnedStrict = new Plate(plate1);
+    			Plate returnedConstant = new Plate(plate1);
+    			
+    			subtraction.platesInPlace(returned, plate2);
+    			subtraction.platesInPlaceStrict(returnedStrict, plate2);
+    			subtraction.platesInPlace(returnedConstant, constant);
+    			
+    			this.assertWells(expected, returned);
+    			this.assertWells(expectedStrict, returnedStrict);
+    			this.assertWells(expectedConstant, returnedConstant);
+    		}
+    	}
+    }
+    
+    /**
+     * Tests the subtraction of row and column values from the wells of plates.
+     */
+    @Test
+    public void testPlatesByRowAndColumn() {
+    	
+    	for(int k = 0; k < arrays1.size(); k++) {
+    		
+    		for(Plate plate : arrays1.get(k)) {
+    			
+    			/* The first value is null and the last row and column have no value */
+    			
+    			BigInteger[] rowValues = new BigInteger[plate.rows() - 1];
+    			BigInteger[] columnValues = new BigInteger[plate.columns() - 1];
+    			
+    			for(int i = 1; i < rowValues.length; i++) {
+    				rowValues[i] = BigInteger.valueOf(random.nextInt(1000));
+    			}
+    			
+    			for(int i = 1; i < columnValues.length; i++) {
+    				columnValues[i] = BigInteger.valueOf(random.nextInt(1000));
+    			}
+    			
+    			Plate expectedRow = new Plate(plate.rows(), plate.columns());
+    			Plate expectedRowStrict = new Plate(plate.rows(), plate.columns());
+    			Plate expectedColumn = new Plate(plate.rows(), plate.columns());
+    			Plate expectedColumnStrict = new Plate(plate.rows(), plate.columns());
+    			
+    			for(Well well : plate) {
+    				
+    				BigInteger rowValue = well.row() < rowValues.length ? rowValues[well.row()] : null;
+    				BigInteger columnValue = well.column() - 1 < columnValues.length ? 
+    						columnValues[well.column() - 1] : null;
+    				
+    				this.addExpected(well, rowValue, expectedRow, expectedRowStrict);
+    				this.addExpected(well, columnValue, expectedColumn, expectedColumnStrict);
+    			}
+    			
+    			this.assertWells(expectedRow, subtraction.platesByRow(plate, rowValues));
+    			this.assertWells(expectedRowStrict, subtraction.platesByRowStrict(plate, rowValues));
+    			this.assertWells(expectedColumn, subtraction.platesByColumn(plate, columnValues));
+    			this.assertWells(expectedColumnStrict, subtraction.platesByColumnStrict(plate, columnValues));
+    		}
+    	}
+    }
+    
     /**
      * Tests the subtraction of two plates.
      */
@@ -2807,34 +2935,37 @@ public class SubtractionTest {
 	    	while(stackIter1.hasNext()) {
 	    		
 	    		Plate plate = stackIter1.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackIter2.hasNext()) {
 
 	    		Plate plate = stackIter2.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStack.add(plate);
+	    		resultStack.add(window);
 	    	}
 	    	
 	    	while(stackUnevenIter.hasNext()) {
 	    		
 	    		Plate plate = stackUnevenIter.next();
+	    		Plate window = new Plate(plate.rows(), plate.columns(), plate.label());
 	    		
 	    		for(Well well : plate) {
-	    			well = well.subList(begin, end - begin);
+	    			window.addWells(well.subList(begin, end - begin));
 	    		}
 	    		
-	    		resultStackUneven.add(plate);
+	    		resultStackUneven.add(window);
 	    	}
 	    	
 	    	Stack returned = subtraction.stacks(stack1, stack2, begin, end - begin);
@@ -4171,19 +4302,21 @@ public class SubtractionTest {
 		
 		if(!strict) {
 			
-			for(Well well : excludedUneven1) {  
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-	    	for(Well well : excludedUneven2) {
-	    		well = well.subList(begin, end - begin);
-	    	}
-	    	
-			finalResult.add(excluded1);
-			finalResult.add(excluded2);
+			for(Well well : excluded1) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
 			
-		    finalResultUneven.add(excludedUneven1);
-		    finalResultUneven.add(excludedUneven2);
+			for(Well well : excluded2) {
+				finalResult.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven1) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
+			
+			for(Well well : excludedUneven2) {
+				finalResultUneven.add(well.subList(begin, end - begin));
+			}
 		}
 		
 		finalResultReturn[0] = finalResult;
@@ -4191,4 +4324,47 @@ public class SubtractionTest {
 
 		return finalResultReturn;
     }
+    
+    /**
+     * Asserts the well sequences hold the same wells and values.
+     * @param    Iterable<Well>    the expected wells
+     * @param    Iterable<Well>    the returned wells
+     */
+    private void assertWells(Iterable<Well> expected, Iterable<Well> returned) {
+    	
+    	Iterator<Well> iter1 = expected.iterator();
+    	Iterator<Well> iter2 = returned.iterator();
+    	
+    	while(iter1.hasNext()) {
+    		
+    		Well well1 = iter1.next();
+    		Well well2 = iter2.next();
+    		
+    		assertEquals(well1, well2);
+    		assertEquals(well1.data(), well2.data());
+    	}
+    	
+    	assertFalse(iter2.hasNext());
+    }
+    
+    /**
+     * Adds the expected result for the well to the expected plates. Wells 
+     * without a value are only added to the standard plate.
+     * @param    Well          the well
+     * @param    BigInteger    the value or null
+     * @param    Plate         the expected plate
+     * @param    Plate         the expected strict plate
+     */
+    private void addExpected(Well well, BigInteger value, Plate expected, Plate expectedStrict) {
+    	
+    	if(value == null) {
+    		expected.addWells(well);
+    		return;
+    	}
+    	
+    	Well result = new Well(well.row(), well.column(), subtraction.wells(well, value));
+    	
+    	expected.addWells(result);
+    	expectedStrict.addWells(result);
+    }
 }
@@ -0,0 +1,182 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.plate.ChunkedData;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This test case tests the chunked well data set and the plate read append.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ChunkedDataTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Random values and lists */
+
+	private int length = 1000;
+	private Random random = new Random();
+
+	/**
+	 * Tests the data set behaves like an array list holding the same values.
+	 */
+	@Test
+	public void testListOperations() {
+
+		for(int i = 0; i < 100; i++) {
+
+			List<BigInteger> expected = new ArrayList<BigInteger>();
+			ChunkedData data = new ChunkedData();
+
+			for(int j = 0; j < length; j++) {
+				BigInteger value = this.randomValue();
+				expected.add(value);
+				data.add(value);
+			}
+
+			int index = random.nextInt(length);
+			BigInteger value = this.randomValue();
+
+			expected.add(index, value);
+			data.add(index, value);
+
+			index = random.nextInt(expected.size());
+			value = this.randomValue();
+
+			assertEquals(expected.set(index, value), data.set(index, value));
+
+			index = random.nextInt(expected.size());
+
+			assertEquals(expected.remove(index), data.remove(index));
+
+			int begin = random.nextInt(expected.size() / 2);
+			int end = begin + random.nextInt(expected.size() / 2);
+
+			expected.subList(begin, end).clear();
+			data.subList(begin, end).clear();
+
+			assertEquals(expected, data);
+			assertEquals(expected.hashCode(), data.hashCode());
+
+			ChunkedData clone = new ChunkedData(data);
+			clone.add(BigInteger.TEN);
+
+			assertEquals(expected, data);
+
+			for(int j = 0; j < length; j++) {
+				value = this.randomValue();
+				expected.add(value);
+				data.add(value);
+			}
+
+			assertEquals(expected, data);
+
+			data.clear();
+
+			assertTrue(data.isEmpty());
+		}
+	}
+
+	/**
+	 * Tests appending reads to a plate.
+	 */
+	@Test
+	public void testAppendRead() {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int i = 0; i < 8; i++) {
+			for(int j = 1; j <= 12; j++) {
+				plate.addWells(new Well(i, j));
+			}
+		}
+
+		plate.setStorage(Well.STORAGE_CHUNKED);
+
+		int reads = 600;
+
+		for(int i = 0; i < reads; i++) {
+
+			BigInteger[] values = new BigInteger[plate.size()];
+
+			for(int j = 0; j < values.length; j++) {
+				values[j] = BigInteger.valueOf(i * 1000 + j);
+			}
+
+			assertTrue(plate.appendRead(values));
+		}
+
+		int index = 0;
+
+		for(Well well : plate) {
+
+			assertEquals(Well.STORAGE_CHUNKED, well.storage());
+			assertEquals(reads, well.size());
+
+			for(int i = 0; i < reads; i++) {
+				assertEquals(BigInteger.valueOf(i * 1000 + index), well.data().get(i));
+			}
+
+			index++;
+		}
+
+		assertFalse(plate.appendRead(new BigInteger[plate.size() - 1]));
+		assertFalse(plate.appendRead(new BigInteger[plate.size()]));
+		assertEquals(reads, plate.first().size());
+	}
+
+	/**
+	 * Tests null values are rejected.
+	 */
+	@Test
+	public void testNull() {
+		ChunkedData data = new ChunkedData();
+		thrown.expect(NullPointerException.class);
+		data.add(null);
+	}
+
+	/**
+	 * Returns a random value.
+	 * @return    the random value
+	 */
+	private BigInteger randomValue() {
+		return BigInteger.valueOf(random.nextLong()).shiftLeft(random.nextInt(100));
+	}
+}
@@ -0,0 +1,208 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.plate.DictionaryData;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.ValueDictionary;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This test case tests the dictionary encoded well data set.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class DictionaryDataTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Random values and lists */
+
+	private int length = 1000;
+	private Random random = new Random();
+
+	/**
+	 * Tests the data set behaves like an array list holding the same values.
+	 */
+	@Test
+	public void testListOperations() {
+
+		for(int i = 0; i < 100; i++) {
+
+			List<BigInteger> expected = new ArrayList<BigInteger>();
+			DictionaryData data = new DictionaryData(new ValueDictionary());
+
+			for(int j = 0; j < length; j++) {
+				BigInteger value = this.randomValue();
+				expected.add(value);
+				data.add(value);
+			}
+
+			assertTrue(data.dictionary().size() <= 20);
+
+			int index = random.nextInt(length);
+			BigInteger value = this.randomValue();
+
+			expected.add(index, value);
+			data.add(index, value);
+
+			index = random.nextInt(expected.size());
+			value = this.randomValue();
+
+			assertEquals(expected.set(index, value), data.set(index, value));
+
+			index = random.nextInt(expected.size());
+
+			assertEquals(expected.remove(index), data.remove(index));
+
+			int begin = random.nextInt(expected.size() / 2);
+			int end = begin + random.nextInt(expected.size() / 2);
+
+			expected.subList(begin, end).clear();
+			data.subList(begin, end).clear();
+
+			assertEquals(expected, data);
+			assertEquals(expected.hashCode(), data.hashCode());
+
+			value = expected.get(random.nextInt(expected.size()));
+
+			assertEquals(expected.indexOf(value), data.indexOf(value));
+			assertEquals(expected.lastIndexOf(value), data.lastIndexOf(value));
+
+			List<BigInteger> removed = new ArrayList<BigInteger>(expected.subList(0, 3));
+
+			expected.removeAll(removed);
+			data.removeAll(removed);
+
+			assertEquals(expected, data);
+
+			expected.retainAll(removed.subList(0, 1));
+			data.retainAll(removed.subList(0, 1));
+
+			assertEquals(expected, data);
+		}
+	}
+
+	/**
+	 * Tests the well and plate dictionary storage modes.
+	 */
+	@Test
+	public void testStorage() {
+
+		Plate plate = new Plate(Plate.PLATE_96WELL);
+
+		for(int i = 0; i < 8; i++) {
+			for(int j = 1; j <= 12; j++) {
+
+				Well well = new Well(i, j);
+
+				for(int k = 0; k < 50; k++) {
+					well.add(this.randomValue());
+				}
+
+				plate.addWells(well);
+			}
+		}
+
+		List<List<BigInteger>> values = new ArrayList<List<BigInteger>>();
+
+		for(Well well : plate) {
+			values.add(new ArrayList<BigInteger>(well.data()));
+		}
+
+		plate.setStorage(Well.STORAGE_DICTIONARY);
+
+		ValueDictionary dictionary = plate.first().dictionary();
+		int index = 0;
+
+		assertTrue(dictionary.size() <= 20);
+
+		for(Well well : plate) {
+			assertEquals(Well.STORAGE_DICTIONARY, well.storage());
+			assertSame(dictionary, well.dictionary());
+			assertEquals(values.get(index++), well.data());
+		}
+
+		Well well = plate.first();
+		Well clone = new Well(well);
+
+		clone.add(BigInteger.TEN);
+		clone.clear();
+
+		assertSame(dictionary, clone.dictionary());
+		assertEquals(values.get(0), well.data());
+
+		int[] codes = well.codes();
+		Well coded = new Well(0, 1, dictionary, codes);
+
+		assertEquals(well.data(), coded.data());
+
+		plate.setStorage(Well.STORAGE_LIST);
+
+		assertNull(plate.first().dictionary());
+		assertEquals(values.get(0), plate.first().data());
+	}
+
+	/**
+	 * Tests codes outside the dictionary are rejected.
+	 */
+	@Test
+	public void testInvalidCode() {
+		ValueDictionary dictionary = new ValueDictionary();
+		dictionary.encode(BigInteger.ONE);
+		thrown.expect(IllegalArgumentException.class);
+		new Well(0, 1, dictionary, new int[]{ 0, 1 });
+	}
+
+	/**
+	 * Tests null values are rejected.
+	 */
+	@Test
+	public void testNull() {
+		DictionaryData data = new DictionaryData(new ValueDictionary());
+		thrown.expect(NullPointerException.class);
+		data.add(null);
+	}
+
+	/**
+	 * Returns one of twenty random values.
+	 * @return    the random value
+	 */
+	private BigInteger randomValue() {
+		return BigInteger.valueOf(random.nextInt(20)).shiftLeft(70);
+	}
+}
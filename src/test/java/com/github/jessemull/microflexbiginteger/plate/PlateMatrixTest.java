@@ -0,0 +1,410 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.jessemull.microflexbiginteger.math.AND;
+import com.github.jessemull.microflexbiginteger.math.Addition;
+import com.github.jessemull.microflexbiginteger.math.Compliment;
+import com.github.jessemull.microflexbiginteger.math.Decrement;
+import com.github.jessemull.microflexbiginteger.math.Division;
+import com.github.jessemull.microflexbiginteger.math.GCD;
+import com.github.jessemull.microflexbiginteger.math.Increment;
+import com.github.jessemull.microflexbiginteger.math.MathOperationBinary;
+import com.github.jessemull.microflexbiginteger.math.MathOperationUnary;
+import com.github.jessemull.microflexbiginteger.math.Modulus;
+import com.github.jessemull.microflexbiginteger.math.Multiplication;
+import com.github.jessemull.microflexbiginteger.math.OR;
+import com.github.jessemull.microflexbiginteger.math.Subtraction;
+import com.github.jessemull.microflexbiginteger.math.XOR;
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.PlateMatrix;
+import com.github.jessemull.microflexbiginteger.plate.Stack;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellList;
+import com.github.jessemull.microflexbiginteger.stat.Max;
+import com.github.jessemull.microflexbiginteger.stat.Mean;
+import com.github.jessemull.microflexbiginteger.stat.Sum;
+
+/**
+ * This test case compares operations on plate matrices with the same operations
+ * on plates.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class PlateMatrixTest {
+
+	private Random random = new Random();
+	private int rows = Plate.ROWS_96WELL;
+	private int columns = Plate.COLUMNS_96WELL;
+
+	/* Binary and unary operations */
+
+	private MathOperationBinary[] binary = new MathOperationBinary[] {
+			new Addition(), new Subtraction(), new Multiplication(), new Division(),
+			new Modulus(), new AND(), new OR(), new XOR()
+	};
+
+	private MathOperationUnary[] unary = new MathOperationUnary[] {
+			new Increment(), new Decrement(), new Compliment()
+	};
+
+	/* Value of false redirects System.err */
+
+	private static boolean error = true;
+	private static PrintStream originalOut = System.err;
+
+	/**
+	 * Redirects System.err.
+	 */
+	@BeforeClass
+	public static void setUp() {
+
+		if(error) {
+
+			System.setErr(new PrintStream(new OutputStream() {
+			    public void write(int x) {}
+			}));
+
+		}
+	}
+
+	/**
+	 * Toggles system error.
+	 */
+	@AfterClass
+	public static void restoreErrorOut() {
+		System.setErr(originalOut);
+	}
+
+	/**
+	 * Tests plates round trip through the matrix.
+	 */
+	@Test
+	public void testConversion() {
+
+		for(int i = 0; i < 20; i++) {
+
+			Plate plate = this.randomPlate();
+			plate.setLabel("Plate" + i);
+			plate.addGroups(new WellList(new WellIndex[]{ new WellIndex(0, 1) }, "Group"));
+
+			PlateMatrix matrix = new PlateMatrix(plate);
+
+			assertEquals(plate.size(), matrix.size());
+			assertEquals(plate.label(), matrix.label());
+
+			Plate result = matrix.toPlate();
+
+			this.assertPlates(plate, result);
+			this.assertPlates(plate, new PlateMatrix(matrix).toPlate());
+			assertEquals(plate.label(), result.label());
+			assertEquals(1, result.allGroups().size());
+		}
+	}
+
+	/**
+	 * Tests the binary operations.
+	 */
+	@Test
+	public void testBinary() {
+
+		for(int i = 0; i < 10; i++) {
+
+			Plate plate1 = this.randomPlate();
+			Plate plate2 = this.randomPlate();
+			BigInteger constant = this.randomValue();
+
+			if(constant.signum() == 0) {
+				constant = BigInteger.ONE;
+			}
+
+			PlateMatrix matrix1 = new PlateMatrix(plate1);
+			PlateMatrix matrix2 = new PlateMatrix(plate2);
+
+			for(MathOperationBinary operation : binary) {
+				this.assertPlates(operation.plates(plate1, plate2),
+						operation.matrices(matrix1, matrix2).toPlate());
+				this.assertPlates(operation.platesStrict(plate1, plate2),
+						operation.matricesStrict(matrix1, matrix2).toPlate());
+				this.assertPlates(operation.plates(plate1, constant),
+						operation.matrices(matrix1, constant).toPlate());
+			}
+		}
+	}
+
+	/**
+	 * Tests the binary operations combining a plate with each plate in a stack.
+	 */
+	@Test
+	public void testStackPlate() {
+
+		Stack stack = new Stack(rows, columns);
+
+		for(int i = 0; i < 5; i++) {
+			Plate plate = this.randomPlate();
+			plate.setLabel("Plate" + i);
+			stack.add(plate);
+		}
+
+		Plate mask = this.randomPlate();
+
+		for(MathOperationBinary operation : binary) {
+
+			Stack expected = new Stack(rows, columns);
+			Stack expectedStrict = new Stack(rows, columns);
+
+			for(Plate plate : stack) {
+				expected.add(operation.plates(plate, mask));
+				expectedStrict.add(operation.platesStrict(plate, mask));
+			}
+
+			this.assertStacks(expected, operation.stacks(stack, mask));
+			this.assertStacks(expectedStrict, operation.stacksStrict(stack, mask));
+		}
+	}
+
+	/**
+	 * Tests the tree reduction of a stack against combining the plates from 
+	 * left to right for associative operations.
+	 */
+	@Test
+	public void testReduce() {
+
+		MathOperationBinary[] associative = new MathOperationBinary[] {
+				new Addition(), new Multiplication(), new AND(), new OR(), new XOR(), new GCD()
+		};
+
+		for(int size = 1; size <= 9; size++) {
+
+			Stack stack = new Stack(rows, columns);
+
+			for(int i = 0; i < size; i++) {
+				Plate plate = this.randomPlate();
+				plate.setLabel("Plate" + i);
+				plate.addGroups(new WellList(new WellIndex[]{ new WellIndex(0, i + 1) }, "Group" + i));
+				stack.add(plate);
+			}
+
+			for(MathOperationBinary operation : associative) {
+
+				Plate expected = stack.first();
+				Plate expectedStrict = stack.first();
+
+				Iterator<Plate> iter = stack.iterator();
+				iter.next();
+
+				while(iter.hasNext()) {
+					Plate next = iter.next();
+					expected = operation.plates(expected, next);
+					expectedStrict = operation.platesStrict(expectedStrict, next);
+				}
+
+				this.assertPlates(expected, operation.reduce(stack));
+				this.assertPlates(expectedStrict, operation.reduceStrict(stack));
+				assertEquals(size, operation.reduce(stack).allGroups().size());
+
+				operation.setParallel(true);
+
+				this.assertPlates(expected, operation.reduce(stack));
+				this.assertPlates(expectedStrict, operation.reduceStrict(stack));
+
+				operation.setParallel(false);
+			}
+		}
+
+		assertEquals(0, new Addition().reduce(new Stack(rows, columns)).size());
+	}
+
+	/**
+	 * Tests resizing a well keeps the values below the new length.
+	 */
+	@Test
+	public void testResizeWell() {
+
+		PlateMatrix matrix = new PlateMatrix(rows, columns);
+		int slot = matrix.slot(1, 2);
+
+		matrix.addWell(slot, 3);
+		matrix.setLong(slot, 0, 1);
+		matrix.set(slot, 2, BigInteger.ONE.shiftLeft(70));
+
+		matrix.resizeWell(slot, 2);
+		matrix.resizeWell(slot, 4);
+
+		assertEquals(4, matrix.length(slot));
+		assertEquals(BigInteger.ONE, matrix.get(slot, 0));
+		assertEquals(BigInteger.ZERO, matrix.get(slot, 2));
+		assertEquals(BigInteger.ZERO, matrix.get(slot, 3));
+	}
+
+	/**
+	 * Tests the unary operations.
+	 */
+	@Test
+	public void testUnary() {
+
+		for(int i = 0; i < 10; i++) {
+
+			Plate plate = this.randomPlate();
+			PlateMatrix matrix = new PlateMatrix(plate);
+
+			for(MathOperationUnary operation : unary) {
+				this.assertPlates(operation.plates(plate), operation.matrices(matrix).toPlate());
+			}
+		}
+	}
+
+	/**
+	 * Tests the descriptive statistics.
+	 */
+	@Test
+	public void testStatistics() {
+
+		Max max = new Max();
+		Sum sum = new Sum();
+		Mean mean = new Mean();
+		MathContext mc = MathContext.DECIMAL128;
+
+		for(int i = 0; i < 10; i++) {
+
+			Plate plate = this.randomPlate();
+			PlateMatrix matrix = new PlateMatrix(plate);
+
+			assertEquals(max.platesAggregated(plate), max.matricesAggregated(matrix));
+			assertEquals(max.platesAggregated(plate, 1, 2), max.matricesAggregated(matrix, 1, 2));
+			assertEquals(sum.platesAggregated(plate, mc), sum.matricesAggregated(matrix, mc));
+
+			Map<Well, BigDecimal> expected = mean.plate(plate, mc);
+			Map<Well, BigDecimal> result = mean.matrix(matrix, mc);
+
+			assertEquals(new ArrayList<Well>(expected.keySet()), new ArrayList<Well>(result.keySet()));
+			assertEquals(new ArrayList<BigDecimal>(expected.values()), new ArrayList<BigDecimal>(result.values()));
+		}
+	}
+
+	/**
+	 * Asserts the plates hold the same wells and values.
+	 * @param    Plate    the expected plate
+	 * @param    Plate    the result
+	 */
+	private void assertPlates(Plate expected, Plate result) {
+
+		assertEquals(expected.size(), result.size());
+
+		Iterator<Well> iter1 = expected.iterator();
+		Iterator<Well> iter2 = result.iterator();
+
+		while(iter1.hasNext()) {
+
+			Well well1 = iter1.next();
+			Well well2 = iter2.next();
+
+			assertEquals(well1.index(), well2.index());
+			assertEquals(new ArrayList<BigInteger>(well1.data()), new ArrayList<BigInteger>(well2.data()));
+		}
+	}
+
+	/**
+	 * Asserts the stacks hold the same plates, wells and values.
+	 * @param    Stack    the expected stack
+	 * @param    Stack    the result
+	 */
+	private void assertStacks(Stack expected, Stack result) {
+
+		assertEquals(expected.size(), result.size());
+
+		Iterator<Plate> iter1 = expected.iterator();
+		Iterator<Plate> iter2 = result.iterator();
+
+		while(iter1.hasNext()) {
+			this.assertPlates(iter1.next(), iter2.next());
+		}
+	}
+
+	/**
+	 * Returns a random plate holding wells of uneven length.
+	 * @return    the plate
+	 */
+	private Plate randomPlate() {
+
+		Plate plate = new Plate(rows, columns);
+
+		for(int row = 0; row < rows; row++) {
+
+			for(int column = 1; column <= columns; column++) {
+
+				if(random.nextInt(4) == 0) {
+					continue;
+				}
+
+				List<BigInteger> data = new ArrayList<BigInteger>();
+				int length = 3 + random.nextInt(3);
+
+				for(int i = 0; i < length; i++) {
+					data.add(this.randomValue());
+				}
+
+				plate.addWells(new Well(row, column, data));
+			}
+		}
+
+		return plate;
+	}
+
+	/**
+	 * Returns a random non-zero value. The value may lie outside the range of a
+	 * long or cause a long operation to overflow.
+	 * @return    the value
+	 */
+	private BigInteger randomValue() {
+
+		BigInteger value;
+
+		switch(random.nextInt(4)) {
+			case 0:  value = new BigInteger(80, random); break;
+			case 1:  value = BigInteger.valueOf(Long.MAX_VALUE - random.nextInt(3)); break;
+			default: value = BigInteger.valueOf(random.nextInt(1000));
+		}
+
+		value = random.nextBoolean() ? value : value.negate();
+
+		return value.signum() == 0 ? BigInteger.ONE : value;
+	}
+}
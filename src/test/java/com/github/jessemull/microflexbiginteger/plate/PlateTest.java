@@ -523,6 +523,71 @@ public class PlateTest {
     	
     }
     
+    /**
+     * Tests that the group well sets reflect wells added to and removed from
+     * the plate and that the returned well sets are copies.
+     */
+    @Test
+    public void testGroupIndex() {
+    	
+    	Plate plate = new Plate(Plate.PLATE_96WELL);
+    	
+    	WellIndex[] indices = new WellIndex[]{ new WellIndex(0, 1), new WellIndex(0, 2) };
+    	WellList list = new WellList(indices, "Group");
+    	
+    	plate.addGroups(list);
+    	
+    	WellSet group = plate.getGroups("Group");
+    	
+    	assertEquals(2, group.size());
+    	assertTrue(group.getWells("A1").isEmpty());
+    	assertTrue(plate.containsGroup("Group"));
+    	
+    	Well well = new Well(0, 1, new BigInteger[]{ BigInteger.ONE, BigInteger.TEN });
+    	plate.addWells(well);
+    	
+    	group = plate.getGroups("Group");
+    	
+    	assertEquals(well.data(), group.getWells("A1").data());
+    	assertEquals(group, plate.getGroups(list));
+    	assertTrue(plate.allGroups().contains(group));
+    	
+    	group.remove(group.getWells("A1"));
+    	
+    	assertEquals(1, group.size());
+    	assertEquals(2, plate.getGroups("Group").size());
+    	assertEquals(2, plate.getGroups(list).size());
+    	
+    	WellSet all = plate.allGroups().iterator().next();
+    	all.remove(all.getWells("A1"));
+    	
+    	assertEquals(1, all.size());
+    	assertEquals(2, plate.getGroups("Group").size());
+    	assertEquals(2, plate.allGroups().iterator().next().size());
+    	
+    	plate.removeWells(well);
+    	
+    	group = plate.getGroups("Group");
+    	
+    	assertEquals(2, group.size());
+    	assertTrue(group.getWells("A1").isEmpty());
+    	
+    	plate.addWells(well);
+    	plate.addWells(new Well(0, 2, new BigInteger[]{ BigInteger.ONE }));
+    	plate.retainWells(new Well(0, 2));
+    	
+    	group = plate.getGroups("Group");
+    	
+    	assertTrue(group.getWells("A1").isEmpty());
+    	assertEquals(1, group.getWells("A2").size());
+    	
+    	plate.removeGroups("Group");
+    	
+    	assertNull(plate.getGroups("Group"));
+    	assertFalse(plate.containsGroup("Group"));
+    	assertTrue(plate.allGroups().isEmpty());
+    }
+    
     /* ------------------------- Remove Group Methods ----------------------- */
 
     /**
@@ -385,6 +385,33 @@ public class StackTest {
         assertFalse(stack.getAll().isEmpty());
     }
     
+    /**
+     * Tests the constructor using a stack. Changes to the plates in the clone 
+     * must not modify the input stack.
+     */
+    @Test
+    public void testConstructorStack() {
+
+    	Stack original = new Stack(arrays.get(0), "TestLabel");
+    	Stack stack = new Stack(original);
+        
+        assertEquals(stack.label(), original.label());
+        assertEquals(stack.size(), original.size());
+        
+        Plate clonePlate = stack.getAll().iterator().next();
+        Plate originalPlate = original.getAll().iterator().next();
+        
+        Well cloneWell = clonePlate.iterator().next();
+        Well originalWell = originalPlate.getWells(cloneWell);
+        
+        List<BigInteger> values = new ArrayList<BigInteger>(originalWell.data());
+        
+        cloneWell.add(BigInteger.ONE);
+        
+        assertEquals(values, originalWell.data());
+        assertEquals(values.size() + 1, cloneWell.size());
+    }
+    
     /**
      * Tests the parse dimensions constructor helper method.
      */ 
@@ -1206,6 +1233,114 @@ public class StackTest {
 
     }
     
+    /**
+     * Tests the label index after additions, removals and retentions.
+     */
+    @Test
+    public void testLabelIndex() {
+
+    	Stack stack = new Stack(rows, columns);
+    	List<Plate> plates = new ArrayList<Plate>();
+    	
+    	for(int i = 0; i < 6; i++) {
+    		Plate plate = RandomUtil.randomPlateBigInteger(
+    				rows, columns, minValue, maxValue, minLength, maxLength, groupNumber, length, "Plate" + (i % 3));
+    		plates.add(plate);
+    		stack.add(plate);
+    	}
+    	
+    	assertTrue(stack.contains("Plate0"));
+    	assertFalse(stack.contains("Missing"));
+    	assertNull(stack.get("Missing"));
+    	assertEquals(stack.get("Plate1").label(), "Plate1");
+    	assertEquals(stack.get(Arrays.asList("Plate0", "Plate2")).size(), 4);
+    	
+    	Plate first = stack.get("Plate0");
+    	
+    	for(Plate plate : stack) {
+    		if(plate.label().equals("Plate0")) {
+    			assertEquals(first, plate);
+    			break;
+    		}
+    	}
+    	
+    	assertTrue(stack.remove("Plate0"));
+    	assertTrue(stack.contains("Plate0"));
+    	assertTrue(stack.remove("Plate0"));
+    	assertFalse(stack.contains("Plate0"));
+    	assertEquals(stack.size(), 4);
+    	
+    	Iterator<Plate> iter = stack.iterator();
+    	Plate removed = iter.next();
+    	iter.remove();
+    	
+    	assertEquals(stack.get(Arrays.asList(removed.label())).size(), 1);
+    	
+    	assertTrue(stack.retain(Arrays.asList("Plate2")));
+    	assertEquals(stack.size(), 2 - (removed.label().equals("Plate2") ? 1 : 0));
+    	assertFalse(stack.contains("Plate1"));
+    	
+    	stack.add(plates.get(1));
+    	
+    	assertTrue(stack.retain("Plate1"));
+    	assertEquals(stack.size(), 1);
+    	assertEquals(stack.get("Plate1"), plates.get(1));
+    	assertFalse(stack.contains("Plate2"));
+    	
+    	stack.clear();
+    	
+    	assertFalse(stack.contains("Plate1"));
+    }
+    
+    /**
+     * Tests the label index follows plates relabelled after they are added.
+     */
+    @Test
+    public void testRelabel() {
+
+    	Stack stack = new Stack(rows, columns);
+    	
+    	for(int i = 0; i < 20; i++) {
+    		stack.add(RandomUtil.randomPlateBigInteger(
+    				rows, columns, minValue, maxValue, minLength, maxLength, groupNumber, length, 
+    				"Plate" + (i < 10 ? "0" + i : i)));
+    	}
+    	
+    	Plate plate = stack.get("Plate05");
+    	Plate other = stack.get("Plate12");
+    	
+    	assertTrue(stack.contains("Plate05"));
+    	
+    	plate.setLabel("Zz");
+    	other.setLabel("Aa");
+    	
+    	assertFalse(stack.contains("Plate05"));
+    	assertNull(stack.get("Plate05"));
+    	assertTrue(stack.contains("Zz"));
+    	assertEquals(stack.get("Zz"), plate);
+    	assertEquals(stack.get(Arrays.asList("Plate05", "Zz")).size(), 1);
+    	
+    	assertTrue(stack.contains(plate));
+    	assertEquals(stack.first(), other);
+    	assertEquals(stack.last(), plate);
+    	
+    	Plate previous = null;
+    	
+    	for(Plate next : stack) {
+    		assertTrue(previous == null || previous.compareTo(next) < 0);
+    		previous = next;
+    	}
+    	
+    	assertTrue(stack.remove("Zz"));
+    	assertFalse(stack.contains("Zz"));
+    	assertFalse(stack.contains(plate));
+    	assertEquals(stack.size(), 19);
+    	
+    	assertTrue(stack.remove(other));
+    	assertFalse(stack.contains("Aa"));
+    	assertEquals(stack.size(), 18);
+    }
+    
     /* ------------ Tests plate dimensions and data type methods ------------ */
     
     /**
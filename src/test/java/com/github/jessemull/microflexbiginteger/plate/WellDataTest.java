@@ -0,0 +1,261 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.math.Addition;
+import com.github.jessemull.microflexbiginteger.math.Increment;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellData;
+
+/**
+ * This test case tests the hybrid long and big integer well data set.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellDataTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Random values and lists */
+
+	private BigInteger overflow = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+	private int length = 1000;
+	private Random random = new Random();
+
+	/**
+	 * Tests the data set behaves like an array list holding the same values.
+	 */
+	@Test
+	public void testListOperations() {
+
+		for(int i = 0; i < 100; i++) {
+
+			List<BigInteger> expected = new ArrayList<BigInteger>();
+			WellData data = new WellData();
+
+			for(int j = 0; j < length; j++) {
+				BigInteger value = this.randomValue();
+				expected.add(value);
+				data.add(value);
+			}
+
+			int index = random.nextInt(length);
+			BigInteger value = this.randomValue();
+
+			expected.add(index, value);
+			data.add(index, value);
+
+			index = random.nextInt(expected.size());
+			value = this.randomValue();
+
+			assertEquals(expected.set(index, value), data.set(index, value));
+
+			index = random.nextInt(expected.size());
+
+			assertEquals(expected.remove(index), data.remove(index));
+
+			int begin = random.nextInt(expected.size() / 2);
+			int end = begin + random.nextInt(expected.size() / 2);
+
+			expected.subList(begin, end).clear();
+			data.subList(begin, end).clear();
+
+			assertEquals(expected, data);
+			assertEquals(expected.hashCode(), data.hashCode());
+
+			value = expected.get(random.nextInt(expected.size()));
+
+			assertEquals(expected.indexOf(value), data.indexOf(value));
+			assertEquals(expected.lastIndexOf(value), data.lastIndexOf(value));
+
+			List<BigInteger> removed = expected.subList(0, 10);
+			List<BigInteger> copy = new ArrayList<BigInteger>(removed);
+
+			expected.removeAll(copy);
+			data.removeAll(copy);
+
+			assertEquals(expected, data);
+		}
+	}
+
+	/**
+	 * Tests slots are promoted on overflow and demoted when replaced.
+	 */
+	@Test
+	public void testPromotion() {
+
+		WellData data = new WellData();
+
+		data.addLong(1);
+		data.add(overflow);
+		data.add(BigInteger.valueOf(Long.MIN_VALUE));
+
+		assertTrue(data.isLong(0));
+		assertFalse(data.isLong(1));
+		assertTrue(data.isLong(2));
+		assertFalse(data.isCompact());
+		assertEquals(overflow, data.get(1));
+		assertEquals(Long.MIN_VALUE, data.getLong(2));
+
+		data.setLong(1, 5);
+
+		assertTrue(data.isCompact());
+		assertTrue(Arrays.equals(new long[]{ 1, 5, Long.MIN_VALUE }, data.toLongArray()));
+
+		data.set(0, overflow.negate().subtract(BigInteger.ONE));
+
+		thrown.expect(ArithmeticException.class);
+		data.toLongArray();
+	}
+
+	/**
+	 * Tests the primitive accessors throw on overflow.
+	 */
+	@Test
+	public void testGetLongOverflow() {
+		WellData data = new WellData();
+		data.add(overflow);
+		thrown.expect(ArithmeticException.class);
+		data.getLong(0);
+	}
+
+	/**
+	 * Tests null values are rejected.
+	 */
+	@Test
+	public void testNull() {
+		WellData data = new WellData();
+		thrown.expect(NullPointerException.class);
+		data.add(null);
+	}
+
+	/**
+	 * Tests the well accessors using the hybrid data set.
+	 */
+	@Test
+	public void testWell() {
+
+		Well well = new Well(1, 1);
+		well.setStorage(Well.STORAGE_HYBRID);
+
+		assertEquals(Well.STORAGE_HYBRID, well.storage());
+
+		long[] expected = new long[length];
+
+		for(int i = 0; i < length; i++) {
+			expected[i] = random.nextLong();
+			well.add(BigInteger.valueOf(expected[i]));
+		}
+
+		assertTrue(Arrays.equals(expected, well.toLongArray()));
+		assertEquals(length, well.toBigInteger().size());
+
+		Well clone = new Well(well);
+		clone.add(overflow);
+
+		assertEquals(length, well.size());
+		assertEquals(overflow, clone.data().get(length));
+
+		clone.retainRange(10, length + 1);
+
+		assertEquals(length - 9, clone.size());
+		assertEquals(well.get(10), clone.get(0));
+		assertEquals(overflow, clone.get(clone.size() - 1));
+
+		List<BigInteger> values = new ArrayList<BigInteger>(clone.data());
+		clone.setStorage(Well.STORAGE_LIST);
+
+		assertEquals(Well.STORAGE_LIST, clone.storage());
+		assertEquals(values, clone.data());
+	}
+
+	/**
+	 * Tests the math operation results use the hybrid storage mode and chained
+	 * operations read the hybrid values through the well views.
+	 */
+	@Test
+	public void testResults() {
+
+		Well well = new Well(1, 1);
+		List<BigInteger> expected = new ArrayList<BigInteger>();
+
+		for(int i = 0; i < length; i++) {
+			BigInteger value = this.randomValue();
+			well.add(value);
+			expected.add(value.add(BigInteger.TEN).add(BigInteger.ONE));
+		}
+
+		assertEquals(Well.STORAGE_LIST, well.storage());
+
+		WellSet set = new WellSet();
+		set.add(well);
+
+		WellSet sum = new Addition().sets(set, BigInteger.TEN);
+		Well result = sum.iterator().next();
+
+		assertEquals(Well.STORAGE_HYBRID, result.storage());
+		assertEquals(WellData.fitsLong(result.get(0)), WellData.isLong(result.view(), 0));
+
+		WellView view = result.view(1, length - 1);
+
+		for(int i = 0; i < view.size(); i++) {
+			if(WellData.isLong(view, i)) {
+				assertEquals(view.get(i).longValue(), WellData.getLong(view, i));
+			}
+		}
+
+		Well chained = new Increment().sets(sum).iterator().next();
+
+		assertEquals(expected, chained.data());
+	}
+
+	/**
+	 * Returns a random value, occasionally outside the range of a long.
+	 * @return    the random value
+	 */
+	private BigInteger randomValue() {
+
+		BigInteger value = BigInteger.valueOf(random.nextInt(100));
+
+		if(random.nextInt(10) == 0) {
+			value = value.add(overflow);
+		}
+
+		return value;
+	}
+}
@@ -0,0 +1,227 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import com.github.jessemull.microflexbiginteger.plate.Plate;
+import com.github.jessemull.microflexbiginteger.plate.Well;
+
+/**
+ * This test case compares the dense well grid against a tree set holding the
+ * same wells.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellGridTest {
+
+	private Random random = new Random();
+	private int rows = Plate.ROWS_384WELL;
+	private int columns = Plate.COLUMNS_384WELL;
+
+	/**
+	 * Tests the set operations and the navigation methods.
+	 */
+	@Test
+	public void testNavigation() {
+
+		for(int i = 0; i < 100; i++) {
+
+			WellGrid grid = new WellGrid(rows, columns);
+			TreeSet<Well> tree = new TreeSet<Well>();
+
+			this.fill(grid, tree);
+
+			assertEquals(tree.size(), grid.size());
+			assertEquals(new ArrayList<Well>(tree), new ArrayList<Well>(grid));
+			assertEquals(tree, grid);
+
+			for(int j = 0; j < 100; j++) {
+				Well probe = this.randomWell();
+				assertEquals(tree.contains(probe), grid.contains(probe));
+				assertSame(tree.ceiling(probe), grid.ceiling(probe));
+				assertSame(tree.floor(probe), grid.floor(probe));
+				assertSame(tree.higher(probe), grid.higher(probe));
+				assertSame(tree.lower(probe), grid.lower(probe));
+			}
+
+			if(!tree.isEmpty()) {
+				assertSame(tree.first(), grid.first());
+				assertSame(tree.last(), grid.last());
+				assertSame(tree.pollFirst(), grid.pollFirst());
+				assertSame(tree.pollLast(), grid.pollLast());
+			}
+
+			assertEquals(tree.size(), grid.size());
+		}
+	}
+
+	/**
+	 * Tests the sub set, head set, tail set and descending views.
+	 */
+	@Test
+	public void testViews() {
+
+		for(int i = 0; i < 100; i++) {
+
+			WellGrid grid = new WellGrid(rows, columns);
+			TreeSet<Well> tree = new TreeSet<Well>();
+
+			this.fill(grid, tree);
+
+			Well well1 = this.randomWell();
+			Well well2 = this.randomWell();
+
+			if(well1.compareTo(well2) > 0) {
+				Well swap = well1;
+				well1 = well2;
+				well2 = swap;
+			}
+
+			boolean inclusive1 = random.nextBoolean();
+			boolean inclusive2 = random.nextBoolean();
+
+			this.compare(tree.subSet(well1, inclusive1, well2, inclusive2),
+					     grid.subSet(well1, inclusive1, well2, inclusive2));
+			this.compare(tree.headSet(well2, inclusive2), grid.headSet(well2, inclusive2));
+			this.compare(tree.tailSet(well1, inclusive1), grid.tailSet(well1, inclusive1));
+			this.compare(tree.descendingSet(), grid.descendingSet());
+			this.compare(tree.descendingSet().subSet(well2, inclusive2, well1, inclusive1),
+					     grid.descendingSet().subSet(well2, inclusive2, well1, inclusive1));
+			this.compare(tree.descendingSet().headSet(well1, inclusive1),
+					     grid.descendingSet().headSet(well1, inclusive1));
+			this.compare(tree.descendingSet().tailSet(well2, inclusive2),
+					     grid.descendingSet().tailSet(well2, inclusive2));
+
+			/* Views are backed by the grid */
+
+			NavigableSet<Well> view = grid.tailSet(well1, true);
+			view.clear();
+
+			assertTrue(grid.tailSet(well1, true).isEmpty());
+			assertEquals(tree.headSet(well1, false).size(), grid.size());
+		}
+	}
+
+	/**
+	 * Tests removal through the iterator.
+	 */
+	@Test
+	public void testIteratorRemove() {
+
+		WellGrid grid = new WellGrid(rows, columns);
+		TreeSet<Well> tree = new TreeSet<Well>();
+
+		this.fill(grid, tree);
+
+		Iterator<Well> iter1 = tree.iterator();
+		Iterator<Well> iter2 = grid.iterator();
+
+		while(iter1.hasNext()) {
+
+			assertSame(iter1.next(), iter2.next());
+
+			if(random.nextBoolean()) {
+				iter1.remove();
+				iter2.remove();
+			}
+		}
+
+		assertFalse(iter2.hasNext());
+		assertEquals(new ArrayList<Well>(tree), new ArrayList<Well>(grid));
+	}
+
+	/**
+	 * Tests wells outside the grid are rejected.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void testOutsideGrid() {
+		new WellGrid(rows, columns).add(new Well(0, columns + 1));
+	}
+
+	/**
+	 * Compares a tree set view with a grid view.
+	 * @param    NavigableSet<Well>    the tree set view
+	 * @param    NavigableSet<Well>    the grid view
+	 */
+	private void compare(NavigableSet<Well> tree, NavigableSet<Well> grid) {
+
+		List<Well> expected = new ArrayList<Well>(tree);
+		List<Well> result = new ArrayList<Well>(grid);
+
+		assertEquals(expected, result);
+		assertEquals(tree.size(), grid.size());
+		assertEquals(new ArrayList<Well>(tree.descendingSet()), new ArrayList<Well>(grid.descendingSet()));
+
+		if(!tree.isEmpty()) {
+			assertSame(tree.first(), grid.first());
+			assertSame(tree.last(), grid.last());
+		}
+
+		for(int i = 0; i < 20; i++) {
+			Well probe = this.randomWell();
+			assertSame(tree.ceiling(probe), grid.ceiling(probe));
+			assertSame(tree.floor(probe), grid.floor(probe));
+			assertSame(tree.higher(probe), grid.higher(probe));
+			assertSame(tree.lower(probe), grid.lower(probe));
+		}
+	}
+
+	/**
+	 * Adds the same random wells to the grid and the tree set.
+	 * @param    WellGrid         the grid
+	 * @param    TreeSet<Well>    the tree set
+	 */
+	private void fill(WellGrid grid, TreeSet<Well> tree) {
+
+		int number = random.nextInt(rows * columns / 2);
+
+		for(int i = 0; i < number; i++) {
+
+			Well well = new Well(random.nextInt(rows + 1), random.nextInt(columns) + 1);
+
+			if(tree.add(well)) {
+				assertTrue(grid.add(well));
+			} else {
+				assertFalse(grid.add(well));
+			}
+		}
+	}
+
+	/**
+	 * Returns a random well which may lie outside the grid.
+	 * @return    the well
+	 */
+	private Well randomWell() {
+		return new Well(random.nextInt(rows + 3), random.nextInt(columns + 2) + 1);
+	}
+}
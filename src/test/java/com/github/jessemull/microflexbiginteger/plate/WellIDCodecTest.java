@@ -0,0 +1,177 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.plate.WellIDCodec;
+import com.github.jessemull.microflexbiginteger.plate.WellIndex;
+
+/**
+ * This test case tests the well ID codec and the well index cache.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellIDCodecTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	private Random random = new Random();
+
+	/**
+	 * Tests well IDs round trip through the codec.
+	 */
+	@Test
+	public void testRoundTrip() {
+
+		for(int i = 0; i < 10000; i++) {
+
+			int row = random.nextInt(1000);
+			int column = random.nextInt(1000) + 1;
+
+			String rowString = this.rowString(row);
+			String index = WellIDCodec.index(row, column);
+
+			assertEquals(rowString, WellIDCodec.rowString(row));
+			assertEquals(rowString + column, index);
+			assertEquals(row, WellIDCodec.parseRow(rowString));
+			assertEquals(row, WellIDCodec.parseRow(rowString.toLowerCase()));
+
+			long packed = WellIDCodec.parse(" " + index.toLowerCase() + " ");
+
+			assertEquals(row, WellIDCodec.row(packed));
+			assertEquals(column, WellIDCodec.column(packed));
+		}
+	}
+
+	/**
+	 * Tests the precomputed well IDs.
+	 */
+	@Test
+	public void testPrecomputed() {
+		assertEquals("A1", WellIDCodec.index(0, 1));
+		assertEquals("B12", WellIDCodec.index(1, 12));
+		assertEquals("AF48", WellIDCodec.index(31, 48));
+		assertEquals("AG1", WellIDCodec.index(32, 1));
+	}
+
+	/**
+	 * Tests the well index cache.
+	 */
+	@Test
+	public void testWellIndexCache() {
+
+		assertSame(WellIndex.valueOf(1, 12), WellIndex.valueOf("B12"));
+		assertSame(WellIndex.valueOf(31, 48), WellIndex.valueOf("af48"));
+		assertEquals(new WellIndex(40, 60), WellIndex.valueOf(40, 60));
+
+		Well well = new Well("C7");
+
+		assertEquals(2, well.row());
+		assertEquals(7, well.column());
+		assertEquals("C7", well.index());
+	}
+
+	/**
+	 * Tests the ordering keys sort by row and then by column.
+	 */
+	@Test
+	public void testOrderingKey() {
+
+		Random random = new Random();
+
+		for(int i = 0; i < 10000; i++) {
+
+			int row1 = random.nextInt() >> random.nextInt(32);
+			int row2 = random.nextBoolean() ? row1 : random.nextInt() >> random.nextInt(32);
+			int column1 = random.nextInt() >> random.nextInt(32);
+			int column2 = random.nextInt() >> random.nextInt(32);
+
+			int expected = row1 != row2 ? Integer.compare(row1, row2) : Integer.compare(column1, column2);
+			int actual = Long.compare(WellIDCodec.key(row1, column1), WellIDCodec.key(row2, column2));
+
+			assertEquals(Integer.signum(expected), Integer.signum(actual));
+			assertEquals(Integer.signum(expected), 
+					Integer.signum(new WellIndex(row1, column1).compareTo(new WellIndex(row2, column2))));
+		}
+
+		assertTrue(new Well(1, 48).compareTo(new Well(2, 1)) < 0);
+		assertTrue(new Well(2, 2).compareTo(new Well(2, 1)) > 0);
+		assertEquals(0, new Well(3, 3).compareTo(new Well("D3")));
+		assertEquals(new Well(3, 3).hashCode(), new Well("D3").hashCode());
+		assertFalse(WellIndex.valueOf(1, 2).hashCode() == WellIndex.valueOf(2, 1).hashCode());
+	}
+
+	/**
+	 * Tests the parser rejects well IDs in the wrong format.
+	 */
+	@Test
+	public void testInvalidWellID() {
+		thrown.expect(IllegalArgumentException.class);
+		WellIDCodec.parse("A1B");
+	}
+
+	/**
+	 * Tests the parser rejects well IDs without a column.
+	 */
+	@Test
+	public void testMissingColumn() {
+		thrown.expect(IllegalArgumentException.class);
+		WellIDCodec.parse("AB");
+	}
+
+	/**
+	 * Tests the parser rejects columns that overflow an integer.
+	 */
+	@Test
+	public void testColumnOverflow() {
+		thrown.expect(IllegalArgumentException.class);
+		WellIDCodec.parse("A99999999999");
+	}
+
+	/**
+	 * Returns the row ID for a row index.
+	 * @param    int    the row index
+	 * @return          the row ID
+	 */
+	private String rowString(int row) {
+
+		String rowString = "";
+
+		while (row >=  0) {
+			rowString = (char) (row % 26 + 65) + rowString;
+			row = (row  / 26) - 1;
+		}
+
+		return rowString;
+	}
+}
@@ -0,0 +1,245 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.plate;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.plate.Well;
+import com.github.jessemull.microflexbiginteger.plate.WellIndex;
+import com.github.jessemull.microflexbiginteger.plate.WellList;
+import com.github.jessemull.microflexbiginteger.plate.WellMask;
+import com.github.jessemull.microflexbiginteger.plate.WellSet;
+
+/**
+ * This test case tests the well mask and the bitmap backed well set and well
+ * list methods.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class WellMaskTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	private Random random = new Random();
+
+	/**
+	 * Tests the bit operations against tree sets holding the same indices.
+	 */
+	@Test
+	public void testOperations() {
+
+		for(int i = 0; i < 200; i++) {
+
+			TreeSet<WellIndex> set1 = this.randomIndices();
+			TreeSet<WellIndex> set2 = this.randomIndices();
+
+			WellMask mask1 = new WellMask(set1);
+			WellMask mask2 = new WellMask(set2);
+
+			TreeSet<WellIndex> and = new TreeSet<WellIndex>(set1);
+			and.retainAll(set2);
+
+			TreeSet<WellIndex> or = new TreeSet<WellIndex>(set1);
+			or.addAll(set2);
+
+			TreeSet<WellIndex> andNot = new TreeSet<WellIndex>(set1);
+			andNot.removeAll(set2);
+
+			TreeSet<WellIndex> xor = new TreeSet<WellIndex>(or);
+			xor.removeAll(and);
+
+			assertEquals(new WellMask(and), mask1.and(mask2));
+			assertEquals(new WellMask(or), mask1.or(mask2));
+			assertEquals(new WellMask(andNot), mask1.andNot(mask2));
+			assertEquals(new WellMask(xor), mask1.xor(mask2));
+
+			assertEquals(and.size(), mask1.and(mask2).size());
+			assertEquals(!and.isEmpty(), mask1.intersects(mask2));
+			assertEquals(set1.containsAll(set2), mask1.containsAll(mask2));
+			assertTrue(mask1.or(mask2).containsAll(mask1));
+
+			this.assertIndices(or, mask1.or(mask2));
+			this.assertIndices(andNot, mask1.andNot(mask2));
+		}
+	}
+
+	/**
+	 * Tests masks of different sizes holding the same wells.
+	 */
+	@Test
+	public void testEquality() {
+
+		WellMask mask1 = new WellMask();
+		WellMask mask2 = new WellMask(32, 200);
+
+		mask1.add(3, 12);
+		mask2.add(WellIndex.valueOf(3, 12));
+
+		assertEquals(mask1, mask2);
+		assertEquals(mask1.hashCode(), mask2.hashCode());
+
+		mask1.add(40, 130);
+
+		assertFalse(mask1.equals(mask2));
+		assertTrue(mask1.remove(40, 130));
+		assertFalse(mask1.remove(40, 130));
+
+		assertEquals(mask1, mask2);
+		assertEquals(mask1.hashCode(), mask2.hashCode());
+
+		mask1.clear();
+
+		assertTrue(mask1.isEmpty());
+		assertEquals("[D12]", mask2.toString());
+	}
+
+	/**
+	 * Tests the well set and well list methods using masks.
+	 */
+	@Test
+	public void testSetsAndLists() {
+
+		WellSet set = new WellSet();
+
+		for(int i = 0; i < 8; i++) {
+			for(int j = 1; j <= 12; j++) {
+				set.add(new Well(i, j));
+			}
+		}
+
+		WellMask mask = new WellMask();
+		mask.add(0, 1);
+		mask.add(7, 12);
+		mask.add(9, 1);
+
+		WellList list = set.wellList();
+
+		assertEquals(list.mask(), set.mask());
+		assertTrue(list.equalsSet(set));
+		assertFalse(set.contains(mask));
+		assertEquals(2, set.getWells(mask).size());
+
+		mask.remove(9, 1);
+
+		assertTrue(set.contains(mask));
+		assertTrue(set.remove(mask));
+		assertEquals(94, set.size());
+		assertFalse(set.remove(mask));
+
+		list.remove(WellIndex.valueOf(0, 1));
+		list.remove(WellIndex.valueOf(7, 12));
+
+		assertTrue(list.equalsSet(set));
+		assertEquals(list, set.wellList());
+		assertTrue(list.contains(WellIndex.valueOf(0, 2)));
+		assertFalse(list.contains(WellIndex.valueOf(0, 1)));
+
+		WellMask row = new WellMask();
+
+		for(int j = 1; j <= 12; j++) {
+			row.add(0, j);
+		}
+
+		assertTrue(set.retain(row));
+		assertEquals(11, set.size());
+		assertFalse(set.retain(row));
+	}
+
+	/**
+	 * Tests indices removed through the list iterator are removed from the mask.
+	 */
+	@Test
+	public void testListIteratorRemove() {
+
+		WellIndex a1 = WellIndex.valueOf(0, 1);
+		WellIndex b2 = WellIndex.valueOf(1, 2);
+
+		WellList list = new WellList(new WellIndex[]{ a1, b2 });
+		Iterator<WellIndex> iter = list.iterator();
+
+		assertEquals(a1, iter.next());
+		iter.remove();
+
+		assertEquals(1, list.size());
+		assertFalse(list.contains(a1));
+		assertTrue(list.contains(b2));
+		assertEquals(new WellList(new WellIndex[]{ b2 }), list);
+		assertFalse(list.mask().contains(a1));
+	}
+
+	/**
+	 * Tests the exception thrown for negative indices.
+	 */
+	@Test
+	public void testInvalidIndex() {
+		thrown.expect(IllegalArgumentException.class);
+		new WellMask().add(-1, 1);
+	}
+
+	/**
+	 * Returns random well indices.
+	 * @return    the well indices
+	 */
+	private TreeSet<WellIndex> randomIndices() {
+
+		TreeSet<WellIndex> set = new TreeSet<WellIndex>();
+
+		int rows = 1 + random.nextInt(40);
+		int columns = 1 + random.nextInt(150);
+		int size = random.nextInt(rows * columns);
+
+		for(int i = 0; i < size; i++) {
+			set.add(WellIndex.valueOf(random.nextInt(rows), 1 + random.nextInt(columns)));
+		}
+
+		return set;
+	}
+
+	/**
+	 * Asserts the mask iterates over the indices in order.
+	 * @param    TreeSet<WellIndex>    the indices
+	 * @param    WellMask              the mask
+	 */
+	private void assertIndices(TreeSet<WellIndex> indices, WellMask mask) {
+
+		Iterator<WellIndex> iter = mask.iterator();
+
+		for(WellIndex index : indices) {
+			assertEquals(index, iter.next());
+		}
+
+		assertFalse(iter.hasNext());
+	}
+
+}
@@ -23,9 +23,11 @@ import static org.junit.Assert.*;
 
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -40,7 +42,9 @@ import com.google.common.io.ByteStreams;
 
 import com.github.jessemull.microflexbiginteger.plate.Well;
 import com.github.jessemull.microflexbiginteger.plate.WellSet;
+import com.github.jessemull.microflexbiginteger.plate.WellView;
 import com.github.jessemull.microflexbiginteger.plate.WellPrecursor;
+import com.github.jessemull.microflexbiginteger.util.BigIntegerUtil;
 import com.github.jessemull.microflexbiginteger.util.RandomUtil;
 
 /**
@@ -715,6 +719,107 @@ public class WellTest {
     	}
     }
     
+    /**
+     * Tests the cached projections are discarded when the data set changes.
+     */
+    @Test
+    public void testProjectionCache() {
+
+    	for(int i = 0; i < 100; i++) {
+	    	
+    		List<BigInteger> bigIntegerList = RandomUtil.
+	    			randomBigIntegerList(minValue, maxValue, minLength, maxLength);
+	    	
+	        Well well = this.randomWell(bigIntegerList);
+	        Well clone = new Well(well);
+	        
+	        assertEquals(BigIntegerUtil.toBigDecimalList(bigIntegerList), well.toBigDecimal());
+	        assertEquals(well.toBigDecimal(), clone.toBigDecimal());
+	        
+	        well.add(BigInteger.TEN);
+	        assertEquals(BigIntegerUtil.toBigDecimalList(well.data()), well.toBigDecimal());
+	        assertEquals(BigIntegerUtil.toBigDecimalList(bigIntegerList), clone.toBigDecimal());
+	        
+	        well.data().set(0, BigInteger.ONE);
+	        assertEquals(new BigDecimal(BigInteger.ONE), well.toBigDecimalArray()[0]);
+	        
+	        Iterator<BigInteger> iter = well.iterator();
+	        iter.next();
+	        iter.remove();
+	        assertEquals(BigIntegerUtil.toBigDecimalList(well.data()), well.toBigDecimal());
+	        
+	        well.toBigDecimal().clear();
+	        assertEquals(well.size(), well.toBigDecimal().size());
+	        
+	        well.clear();
+	        assertTrue(well.toBigDecimal().isEmpty());
+	        
+	        clone.setStorage(Well.STORAGE_HYBRID);
+	        clone.replaceData(new BigInteger[]{ BigInteger.ONE, BigInteger.TEN });
+	        assertArrayEquals(new long[]{ 1, 10 }, clone.toLongArray());
+	        
+	        clone.remove(BigInteger.ONE);
+	        assertArrayEquals(new long[]{ 10 }, clone.toLongArray());
+    	}
+    }
+    
+    /**
+     * Tests the windowed well views.
+     */
+    @Test
+    public void testView() {
+
+    	for(int i = 0; i < 100; i++) {
+	    	
+    		List<BigInteger> bigIntegerList = RandomUtil.
+	    			randomBigIntegerList(minValue, maxValue, minLength, maxLength);
+	    	
+	        Well bigIntegerWell = this.randomWell(bigIntegerList);
+	        
+	        int begin = random.nextInt(bigIntegerList.size() + 1);
+	        int length = random.nextInt(bigIntegerList.size() - begin + 1);
+	        
+	        WellView view = bigIntegerWell.view(begin, length);
+	        List<BigInteger> expected = bigIntegerList.subList(begin, begin + length);
+	        
+	        assertEquals(expected, view);
+	        assertEquals(length, view.toBigDecimal().size());
+	        assertEquals(expected, bigIntegerWell.subList(begin, length).data());
+	        assertEquals(bigIntegerList, bigIntegerWell.view());
+	        
+	        if(length > 1) {
+	        	assertEquals(expected.subList(1, length), view.view(1, length - 1));
+	        	assertEquals(begin + 1, view.subList(1, length).begin());
+	        }
+    	}
+    }
+    
+    /**
+     * Tests views see writes to a well sharing its data set with a clone.
+     */
+    @Test
+    public void testViewAfterClone() {
+    	
+    	Well well = new Well(0, 1, new BigInteger[]{ BigInteger.ONE, BigInteger.TEN });
+    	Well clone = new Well(well);
+    	
+    	WellView view = well.view(0, 2);
+    	well.data().set(0, BigInteger.valueOf(7));
+    	
+    	assertEquals(BigInteger.valueOf(7), view.get(0));
+    	assertEquals(BigInteger.ONE, clone.data().get(0));
+    	assertEquals(BigInteger.ONE, clone.view(0, 1).get(0));
+    }
+    
+    /**
+     * Tests the exception thrown for a view outside the well.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testViewException() {
+    	Well well = new Well(0, 1, new BigInteger[]{ BigInteger.ONE });
+    	well.view(1, 1);
+    }
+    
     /**
      * Tests retention of a lone big integer.
      */
@@ -985,6 +1090,67 @@ public class WellTest {
     	}
     }
     
+    /**
+     * Tests that a cloned well and the original are independent after either
+     * well is modified.
+     */
+    @Test
+    public void testCloneCopyOnWrite() {
+    	
+    	List<BigInteger> bigIntegerList = RandomUtil.
+    			randomBigIntegerList(minValue, maxValue, minLength, maxLength);
+    	
+        Well original = this.randomWell(bigIntegerList);
+        Well clone = new Well(original);
+        
+        assertEquals(original.data(), clone.data());
+        
+        clone.add(BigInteger.ONE);
+        
+        assertEquals(bigIntegerList, original.data());
+        assertEquals(bigIntegerList.size() + 1, clone.size());
+        
+        Well second = new Well(original);
+        original.removeRange(0, 10);
+        
+        assertEquals(bigIntegerList, second.data());
+        assertEquals(bigIntegerList.size() - 10, original.size());
+        
+        Well third = new Well(second);
+        third.clear();
+        
+        assertTrue(third.isEmpty());
+        assertEquals(bigIntegerList, second.data());
+    }
+    
+    /**
+     * Tests that writes through the data set of a cloned well do not modify the
+     * original well.
+     */
+    @Test
+    public void testCloneCopyOnWriteData() {
+    	
+    	List<BigInteger> bigIntegerList = RandomUtil.
+    			randomBigIntegerList(minValue, maxValue, minLength, maxLength);
+    	
+        Well original = this.randomWell(bigIntegerList);
+        original.setStorage(Well.STORAGE_HYBRID);
+        
+        Well clone = new Well(original);
+        
+        clone.data().set(0, maxValue.add(BigInteger.ONE));
+        clone.data().remove(1);
+        
+        Iterator<BigInteger> iter = clone.iterator();
+        iter.next();
+        iter.remove();
+        
+        assertEquals(bigIntegerList, original.data());
+        assertEquals(bigIntegerList.size() - 2, clone.size());
+        assertEquals(Well.STORAGE_HYBRID, clone.storage());
+        assertEquals(bigIntegerList.subList(2, bigIntegerList.size()), clone.data());
+    }
+    
     /**
      * Returns a random big integer well.
      */
@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+/* -------------------------------- Package --------------------------------- */
+
+package com.github.jessemull.microflexbiginteger.stat;
+
+/* ------------------------------ Dependencies ------------------------------ */
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * This class tests the product tree against left to right products.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class ProductTreeTest {
+
+	/* Random values and list lengths */
+
+	private Random random = new Random();
+
+	private int[] lengths = new int[] { 0, 1, 2, 5, 17, 100,
+			ProductTree.PARALLEL_THRESHOLD - 1, ProductTree.PARALLEL_THRESHOLD, 2003 };
+
+	/**
+	 * Tests the products of lists below and above the parallel threshold.
+	 */
+	@Test
+	public void testProduct() {
+
+		for(int length : lengths) {
+
+			List<BigDecimal> list = this.randomList(length);
+			BigDecimal expected = BigDecimal.ONE;
+
+			for(BigDecimal value : list) {
+				expected = expected.multiply(value);
+			}
+
+			BigDecimal result = ProductTree.product(list);
+
+			assertEquals(expected, result);
+			assertEquals(expected.scale(), result.scale());
+		}
+	}
+
+	/**
+	 * Tests the prefix products of lists below and above the parallel threshold.
+	 */
+	@Test
+	public void testPrefixProducts() {
+
+		for(int length : lengths) {
+
+			List<BigDecimal> list = this.randomList(length);
+			List<BigDecimal> expected = new ArrayList<BigDecimal>();
+			BigDecimal product = BigDecimal.ONE;
+
+			for(BigDecimal value : list) {
+				product = product.multiply(value);
+				expected.add(product);
+			}
+
+			assertEquals(expected, ProductTree.prefixProducts(list));
+		}
+	}
+
+	/**
+	 * Tests the product statistics use the product tree.
+	 */
+	@Test
+	public void testStatistics() {
+
+		List<BigDecimal> list = this.randomList(1000);
+		double[] weights = new double[list.size()];
+
+		BigDecimal expected = BigDecimal.ONE;
+		BigDecimal expectedWeighted = BigDecimal.ONE;
+		List<BigDecimal> expectedCumulative = new ArrayList<BigDecimal>();
+
+		for(int i = 0; i < list.size(); i++) {
+
+			weights[i] = 1 + random.nextInt(3);
+
+			expected = expected.multiply(list.get(i));
+			expectedWeighted = expectedWeighted.multiply(
+					list.get(i).multiply(new BigDecimal(weights[i]), MathContext.DECIMAL128));
+			expectedCumulative.add(expected);
+		}
+
+		assertEquals(expected, new Product().calculate(list, MathContext.DECIMAL128));
+		assertEquals(expectedWeighted, new Product().calculate(list, weights, MathContext.DECIMAL128));
+		assertEquals(expectedCumulative, new CumulativeProduct().calculate(list, MathContext.DECIMAL128));
+	}
+
+	/**
+	 * Returns a list of random values of varying size and scale.
+	 * @param    int    the length of the list
+	 * @return          the list
+	 */
+	private List<BigDecimal> randomList(int length) {
+
+		List<BigDecimal> list = new ArrayList<BigDecimal>(length);
+
+		for(int i = 0; i < length; i++) {
+			BigInteger unscaled = new BigInteger(1 + random.nextInt(24), random).add(BigInteger.ONE);
+			unscaled = random.nextBoolean() ? unscaled : unscaled.negate();
+			list.add(new BigDecimal(unscaled, random.nextInt(3)));
+		}
+
+		return list;
+	}
+}
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.github.jessemull.microflexbiginteger.util;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.github.jessemull.microflexbiginteger.util.BigIntegerUtil;
+import com.github.jessemull.microflexbiginteger.util.OverFlowUtil;
+
+/**
+ * This test case tests the primitive conversion and bulk export methods.
+ *
+ * @author Jesse L. Mull
+ * @update Updated Oct 26, 2016
+ * @address http://www.jessemull.com
+ * @email hello@jessemull.com
+ */
+public class BigIntegerUtilTest {
+
+	/* Rule for testing exceptions */
+
+	@Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+	/* Values at and beyond the long boundaries */
+
+	private BigInteger longMax = BigInteger.valueOf(Long.MAX_VALUE);
+	private BigInteger longMin = BigInteger.valueOf(Long.MIN_VALUE);
+	private BigInteger aboveLong = longMax.add(BigInteger.ONE);
+	private BigInteger belowLong = longMin.subtract(BigInteger.ONE);
+
+	/**
+	 * Tests the overflow checks at the type boundaries.
+	 */
+	@Test
+	public void testOverflowChecks() {
+
+		assertTrue(OverFlowUtil.intOverflow(BigInteger.valueOf(Integer.MIN_VALUE)));
+		assertFalse(OverFlowUtil.intOverflow(BigInteger.valueOf(Integer.MAX_VALUE + 1L)));
+		assertTrue(OverFlowUtil.longOverflow(longMin));
+		assertFalse(OverFlowUtil.longOverflow(belowLong));
+		assertTrue(OverFlowUtil.byteOverflow(BigInteger.valueOf(-128)));
+		assertFalse(OverFlowUtil.shortOverflow(BigInteger.valueOf(Short.MAX_VALUE + 1)));
+
+		BigInteger doubleMax = new BigDecimal(Double.MAX_VALUE).toBigInteger();
+
+		assertTrue(OverFlowUtil.doubleOverflow(doubleMax));
+		assertTrue(OverFlowUtil.doubleOverflow(doubleMax.negate()));
+		assertFalse(OverFlowUtil.doubleOverflow(doubleMax.add(BigInteger.ONE)));
+		assertFalse(OverFlowUtil.doubleOverflow(BigInteger.ONE.shiftLeft(1024)));
+	}
+
+	/**
+	 * Tests the array conversions.
+	 */
+	@Test
+	public void testArrays() {
+
+		List<BigInteger> list = Arrays.asList(BigInteger.ONE, longMin, BigInteger.valueOf(-7));
+
+		assertArrayEquals(new long[]{ 1, Long.MIN_VALUE, -7 }, BigIntegerUtil.toLongArray(list));
+		assertArrayEquals(new double[]{ 1, Long.MIN_VALUE, -7 }, BigIntegerUtil.toDoubleArray(list), 0.0);
+		assertArrayEquals(new int[]{ 1, -7 },
+				BigIntegerUtil.toIntArray(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(-7))));
+		assertArrayEquals(new byte[]{ 1, -7 },
+				BigIntegerUtil.toByteArray(Arrays.asList(BigInteger.ONE, BigInteger.valueOf(-7))));
+	}
+
+	/**
+	 * Tests the saturate and report overflow policies.
+	 */
+	@Test
+	public void testPolicies() {
+
+		List<BigInteger> list = Arrays.asList(BigInteger.ONE, aboveLong, BigInteger.TEN, belowLong);
+
+		long[] saturated = new long[5];
+		int[] indices = BigIntegerUtil.toLongArray(list, saturated, 1, BigIntegerUtil.OVERFLOW_SATURATE);
+
+		assertArrayEquals(new int[]{ 1, 3 }, indices);
+		assertArrayEquals(new long[]{ 0, 1, Long.MAX_VALUE, 10, Long.MIN_VALUE }, saturated);
+
+		long[] reported = new long[]{ -1, -1, -1, -1 };
+		indices = BigIntegerUtil.toLongArray(list, reported, 0, BigIntegerUtil.OVERFLOW_REPORT);
+
+		assertArrayEquals(new int[]{ 1, 3 }, indices);
+		assertArrayEquals(new long[]{ 1, -1, 10, -1 }, reported);
+
+		int[] ints = new int[4];
+		indices = BigIntegerUtil.toIntArray(list, ints, 0, BigIntegerUtil.OVERFLOW_SATURATE);
+
+		assertArrayEquals(new int[]{ 1, 3 }, indices);
+		assertArrayEquals(new int[]{ 1, Integer.MAX_VALUE, 10, Integer.MIN_VALUE }, ints);
+
+		List<BigInteger> wide = Arrays.asList(BigInteger.ONE.shiftLeft(1100).negate(), BigInteger.ONE);
+		double[] doubles = new double[2];
+		indices = BigIntegerUtil.toDoubleArray(wide, doubles, 0, BigIntegerUtil.OVERFLOW_SATURATE);
+
+		assertArrayEquals(new int[]{ 0 }, indices);
+		assertArrayEquals(new double[]{ -Double.MAX_VALUE, 1 }, doubles, 0.0);
+	}
+
+	/**
+	 * Tests the buffer exports.
+	 */
+	@Test
+	public void testBuffers() {
+
+		List<BigInteger> list = Arrays.asList(BigInteger.ONE, aboveLong, BigInteger.TEN);
+
+		LongBuffer longs = LongBuffer.allocate(5);
+		longs.put(7);
+
+		assertArrayEquals(new int[]{ 1 },
+				BigIntegerUtil.toLongBuffer(list, longs, BigIntegerUtil.OVERFLOW_REPORT));
+		assertEquals(4, longs.position());
+		assertArrayEquals(new long[]{ 7, 1, 0, 10, 0 }, longs.array());
+
+		DoubleBuffer doubles = DoubleBuffer.allocate(3);
+
+		assertEquals(0, BigIntegerUtil.toDoubleBuffer(list, doubles, BigIntegerUtil.OVERFLOW_THROW).length);
+		assertEquals(aboveLong.doubleValue(), doubles.get(1), 0.0);
+	}
+
+	/**
+	 * Tests the exception thrown on overflow.
+	 */
+	@Test
+	public void testOverflowException() {
+		thrown.expect(ArithmeticException.class);
+		BigIntegerUtil.toLongArray(Arrays.asList(BigInteger.ONE, aboveLong));
+	}
+
+	/**
+	 * Tests the exception thrown when the values do not fit in the array.
+	 */
+	@Test
+	public void testRangeException() {
+		thrown.expect(IndexOutOfBoundsException.class);
+		BigIntegerUtil.toLongArray(Arrays.asList(BigInteger.ONE, BigInteger.TEN),
+				new long[2], 1, BigIntegerUtil.OVERFLOW_THROW);
+	}
+
+}